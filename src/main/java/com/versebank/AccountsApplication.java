@@ -1,36 +1,39 @@
 package com.versebank;
 
 import com.versebank.accounts.application.port.out.AccountRepository;
-import com.versebank.accounts.application.port.out.NotificationPort;
 import com.versebank.accounts.domain.Account;
 import com.versebank.accounts.domain.AccountId;
 import com.versebank.accounts.domain.valueobjects.AccountType;
 import com.versebank.accounts.domain.valueobjects.Balance;
-import com.versebank.accounts.infrastructure.notification.EmailNotificationAdapter;
+import com.versebank.accounts.infrastructure.events.codec.BinaryDomainEventCodec;
 import com.versebank.accounts.infrastructure.persistence.AccountJpaRepository;
 import com.versebank.accounts.infrastructure.persistence.AccountRepositoryAdapter;
+import com.versebank.accounts.infrastructure.persistence.JdbcDomainEventStore;
 
 import com.versebank.users.domain.User;
 import com.versebank.users.domain.UserId;
 import com.versebank.users.domain.Email;
 import com.versebank.users.domain.UserRepository;
 import com.versebank.users.infrastructure.persistence.UserJpaRepository;
-import com.versebank.users.infrastructure.persistence.UserRepositoryAdapter;
 
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.TypeExcludeFilter;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
+import javax.sql.DataSource;
 import java.math.BigDecimal;
 
 @SpringBootApplication
 @EnableJpaRepositories(basePackages = {"com.versebank.accounts.infrastructure.persistence", "com.versebank.users.infrastructure.persistence"})
-@ComponentScan(basePackages = {"com.versebank.accounts", "com.versebank.users"})
+@ComponentScan(basePackages = {"com.versebank.accounts", "com.versebank.users"},
+    excludeFilters = @ComponentScan.Filter(type = FilterType.CUSTOM, classes = TypeExcludeFilter.class))
 public class AccountsApplication {
 
     public static void main(String[] args) {
@@ -43,18 +46,8 @@ public class AccountsApplication {
 
         
         @Bean
-        public AccountRepository accountRepository(AccountJpaRepository jpaRepository) {
-            return new AccountRepositoryAdapter(jpaRepository);
-        }
-        
-        @Bean
-        public NotificationPort notificationPort() {
-            return new EmailNotificationAdapter();
-        }
-        
-        @Bean
-        public UserRepository userRepository(UserJpaRepository jpaRepository) {
-            return new UserRepositoryAdapter(jpaRepository);
+        public AccountRepository accountRepository(AccountJpaRepository jpaRepository, DataSource dataSource) {
+            return new AccountRepositoryAdapter(jpaRepository, new JdbcDomainEventStore(dataSource, BinaryDomainEventCodec.standard()));
         }
         
         @Bean
@@ -1,12 +1,21 @@
 package com.versebank.accounts.application;
 
+import com.versebank.accounts.application.port.in.AccountBatch;
 import com.versebank.accounts.application.port.in.AccountQueryPort;
 import com.versebank.accounts.application.port.in.AccountSummary;
 import com.versebank.accounts.application.port.out.AccountRepository;
+import com.versebank.accounts.domain.Account;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -26,24 +35,69 @@ public class AccountQueryService implements AccountQueryPort {
 
     @Override
     public Optional<AccountSummary> findByAccountId(String accountId) {
-        return accountRepository.findById(accountId)
-                .map(account -> new AccountSummary(
-                        account.getId().getValue(),
-                        account.getCustomerId(),
-                        account.getAccountType().name(),
-                        account.getBalance().getAmount()
-                ));
+        return accountRepository.findSummaryById(accountId);
     }
 
     @Override
     public List<AccountSummary> findAccountsByCustomerId(String customerId) {
         return accountRepository.findByCustomerId(customerId).stream()
-                .map(account -> new AccountSummary(
-                        account.getId().getValue(),
-                        account.getCustomerId(),
-                        account.getAccountType().name(),
-                        account.getBalance().getAmount()
-                ))
+                .map(AccountQueryService::toSummary)
                 .collect(Collectors.toList());
     }
+
+    @Override
+    public AccountBatch findByAccountIds(List<String> accountIds) {
+        if (accountIds == null) {
+            throw new IllegalArgumentException("Account ids cannot be null");
+        }
+        Set<String> requested = new LinkedHashSet<>(accountIds);
+        if (requested.isEmpty()) {
+            return new AccountBatch(List.of(), List.of());
+        }
+        return toBatch(requested, accountRepository.findSummariesById(requested));
+    }
+
+    /**
+     * Ordena las cuentas leídas según los identificadores pedidos y separa los que no existen
+     */
+    static AccountBatch toBatch(Set<String> requested, Iterable<AccountSummary> accounts) {
+        Map<String, AccountSummary> byId = new HashMap<>();
+        for (AccountSummary account : accounts) {
+            byId.put(account.getAccountId(), account);
+        }
+        List<AccountSummary> found = new ArrayList<>(byId.size());
+        List<String> missing = new ArrayList<>();
+        for (String accountId : requested) {
+            AccountSummary account = byId.get(accountId);
+            if (account != null) {
+                found.add(account);
+            } else {
+                missing.add(accountId);
+            }
+        }
+        return new AccountBatch(found, missing);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long forEachAccountByCustomerId(String customerId, Consumer<AccountSummary> action) {
+        if (customerId == null || action == null) {
+            throw new IllegalArgumentException("Customer id and action cannot be null");
+        }
+        return accountRepository.forEachSummaryByCustomerId(customerId, action);
+    }
+
+    @Override
+    public Optional<Long> findVersionByAccountId(String accountId) {
+        return accountRepository.findVersionById(accountId);
+    }
+
+    private static AccountSummary toSummary(Account account) {
+        return new AccountSummary(
+                account.getId().getValue(),
+                account.getCustomerId(),
+                account.getAccountType().name(),
+                account.getBalance().getAmount()
+        );
+    }
 }
\ No newline at end of file
@@ -0,0 +1,111 @@
+package com.versebank.accounts.application;
+
+import com.versebank.accounts.application.port.in.OperationResult;
+import com.versebank.accounts.application.template.MessageTemplate;
+import com.versebank.accounts.domain.Account;
+import com.versebank.accounts.domain.valueobjects.Transaction;
+
+import java.math.BigDecimal;
+
+/**
+ * Reglas de los movimientos de dinero sobre cuentas ya cargadas, y los textos de sus notificaciones.
+ * Las comparten el servicio bloqueante y el reactivo: solo cambia cómo se cargan y guardan las cuentas.
+ */
+final class MoneyMovements {
+
+    static final String TRANSFER_OUT_OPERATION = "TRANSFER_OUT";
+    static final String TRANSFER_IN_OPERATION = "TRANSFER_IN";
+    static final String DEPOSIT_OPERATION = "DEPOSIT";
+    static final String WITHDRAWAL_OPERATION = "WITHDRAWAL";
+
+    private static final MessageTemplate TRANSFER_OUT =
+        MessageTemplate.compile("Transfer of {amount} to account {account}", "amount", "account");
+    private static final MessageTemplate TRANSFER_OUT_WITH_FEE =
+        MessageTemplate.compile("Transfer of {amount} to account {account} (fee: {fee})", "amount", "account", "fee");
+    private static final MessageTemplate TRANSFER_IN =
+        MessageTemplate.compile("Transfer of {amount} from account {account}", "amount", "account");
+    private static final MessageTemplate DEPOSIT =
+        MessageTemplate.compile("Deposit of {amount} - {description}", "amount", "description");
+    private static final MessageTemplate WITHDRAWAL =
+        MessageTemplate.compile("Withdrawal of {amount} - {description}", "amount", "description");
+
+    // Mensajes constantes: un resultado compartido por todos los rechazos
+    private static final OperationResult TRANSFER_NOT_ALLOWED =
+        OperationResult.insufficientFunds("Insufficient funds for transfer");
+    private static final OperationResult SELF_TRANSFER =
+        OperationResult.invalidRequest("Source and target accounts must be different");
+    private static final OperationResult WITHDRAWAL_NOT_ALLOWED =
+        OperationResult.insufficientFunds("Insufficient funds for withdrawal");
+
+    private MoneyMovements() {
+    }
+
+    /**
+     * Comprueba que el destino es otra cuenta y que el origen cubre importe y comisión, sin modificar nada
+     */
+    static OperationResult checkTransfer(Account sourceAccount, Account targetAccount, BigDecimal amount) {
+        if (sourceAccount.getId().equals(targetAccount.getId())) {
+            return SELF_TRANSFER;
+        }
+        return sourceAccount.canTransferTo(targetAccount, amount) ? OperationResult.success() : TRANSFER_NOT_ALLOWED;
+    }
+
+    /**
+     * Retira el importe y la comisión del origen e ingresa el importe completo en el destino.
+     * Debe haberse comprobado antes con {@link #checkTransfer}.
+     *
+     * @return comisión cobrada
+     */
+    static BigDecimal transfer(Account sourceAccount, Account targetAccount, BigDecimal amount, String description) {
+        // Calculate transfer fee using domain logic
+        BigDecimal transferFee = sourceAccount.calculateTransferFee(amount);
+
+        Transaction sourceTransaction = Transaction.create(amount, description, Transaction.TransactionType.TRANSFER);
+
+        // Apply transfer with fee to source account
+        withdrawChecked(sourceAccount, sourceTransaction);
+        if (transferFee.compareTo(BigDecimal.ZERO) > 0) {
+            Transaction feeTransaction = Transaction.create(transferFee, "Transfer fee", Transaction.TransactionType.FEE);
+            withdrawChecked(sourceAccount, feeTransaction);
+        }
+
+        // Deposit full amount to target account (receiver gets full amount)
+        Transaction targetTransaction = Transaction.create(amount, description, Transaction.TransactionType.TRANSFER);
+        targetAccount.deposit(targetTransaction);
+        return transferFee;
+    }
+
+    static void deposit(Account account, BigDecimal amount, String description) {
+        account.deposit(Transaction.create(amount, description, Transaction.TransactionType.DEPOSIT));
+    }
+
+    static OperationResult withdraw(Account account, BigDecimal amount, String description) {
+        return account.tryWithdraw(Transaction.create(amount, description, Transaction.TransactionType.WITHDRAWAL))
+            ? OperationResult.success()
+            : WITHDRAWAL_NOT_ALLOWED;
+    }
+
+    private static void withdrawChecked(Account account, Transaction transaction) {
+        if (!account.tryWithdraw(transaction)) {
+            throw new IllegalStateException("Transfer was checked but the source account cannot cover it");
+        }
+    }
+
+    static String transferOutMessage(BigDecimal amount, String targetAccountId, BigDecimal transferFee) {
+        return transferFee.compareTo(BigDecimal.ZERO) > 0
+            ? TRANSFER_OUT_WITH_FEE.render(amount, targetAccountId, transferFee)
+            : TRANSFER_OUT.render(amount, targetAccountId);
+    }
+
+    static String transferInMessage(BigDecimal amount, String sourceAccountId) {
+        return TRANSFER_IN.render(amount, sourceAccountId);
+    }
+
+    static String depositMessage(BigDecimal amount, String description) {
+        return DEPOSIT.render(amount, description);
+    }
+
+    static String withdrawalMessage(BigDecimal amount, String description) {
+        return WITHDRAWAL.render(amount, description);
+    }
+}
@@ -0,0 +1,188 @@
+package com.versebank.accounts.application;
+
+import com.versebank.accounts.application.port.in.AccountBatch;
+import com.versebank.accounts.application.port.in.AccountSummary;
+import com.versebank.accounts.application.port.in.OperationResult;
+import com.versebank.accounts.application.port.in.ReactiveAccountQueryPort;
+import com.versebank.accounts.application.port.in.ReactiveTransferMoneyUseCase;
+import com.versebank.accounts.application.port.out.DomainEventPublisher;
+import com.versebank.accounts.application.port.out.ReactiveAccountRepository;
+import com.versebank.accounts.application.port.out.ReactiveAccountRepository.Versioned;
+import com.versebank.accounts.application.port.out.ReactiveNotificationPort;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Casos de uso de cuentas sobre el puerto reactivo, con las mismas reglas que {@link TransferMoneyService}.
+ * <p>
+ * Cada movimiento lee las cuentas, aplica {@link MoneyMovements} y guarda los saldos en una transacción
+ * reactiva, validando la versión leída. Si otra operación ha modificado alguna cuenta entre medias, se repite
+ * desde la lectura hasta {@code conflictRetries} veces. Las notificaciones se emiten dentro de la misma
+ * transacción, después de guardar, así que con la cola persistente su fila se confirma o se deshace junto con
+ * el movimiento. Los eventos de dominio se publican tras confirmar, en {@link Schedulers#boundedElastic()},
+ * porque sus implementaciones bloquean.
+ */
+public class ReactiveAccountService implements ReactiveTransferMoneyUseCase, ReactiveAccountQueryPort {
+
+    private final ReactiveAccountRepository accountRepository;
+    private final ReactiveNotificationPort notificationPort;
+    private final DomainEventPublisher eventPublisher;
+    private final TransactionalOperator transactionalOperator;
+    private final int conflictRetries;
+
+    public ReactiveAccountService(ReactiveAccountRepository accountRepository, ReactiveNotificationPort notificationPort,
+                                  DomainEventPublisher eventPublisher, TransactionalOperator transactionalOperator,
+                                  int conflictRetries) {
+        if (accountRepository == null || notificationPort == null || eventPublisher == null || transactionalOperator == null) {
+            throw new NullPointerException("Repository, notification port, event publisher and transactional operator cannot be null");
+        }
+        if (conflictRetries < 0) {
+            throw new IllegalArgumentException("Conflict retries cannot be negative");
+        }
+        this.accountRepository = accountRepository;
+        this.notificationPort = notificationPort;
+        this.eventPublisher = eventPublisher;
+        this.transactionalOperator = transactionalOperator;
+        this.conflictRetries = conflictRetries;
+    }
+
+    @Override
+    public Mono<OperationResult> transferMoney(String sourceAccountId, String targetAccountId, BigDecimal amount, String description) {
+        return execute(load(sourceAccountId)
+            .flatMap(source -> load(targetAccountId)
+                .flatMap(target -> transfer(sourceAccountId, source, targetAccountId, target, amount, description))
+                .switchIfEmpty(rejected(() -> OperationResult.accountNotFound("Target account not found: " + targetAccountId))))
+            .switchIfEmpty(rejected(() -> OperationResult.accountNotFound("Source account not found: " + sourceAccountId))));
+    }
+
+    @Override
+    public Mono<OperationResult> depositMoney(String accountId, BigDecimal amount, String description) {
+        return execute(load(accountId).flatMap(loaded -> {
+            MoneyMovements.deposit(loaded.account(), amount, description);
+            Runnable afterCommit = () -> eventPublisher.publishPending(loaded.account());
+            return accountRepository.update(loaded.account(), loaded.version())
+                .then(Mono.defer(() -> notificationPort.notifyAccountOperation(accountId, MoneyMovements.DEPOSIT_OPERATION,
+                    MoneyMovements.depositMessage(amount, description))))
+                .thenReturn(Outcome.completed(afterCommit));
+        }).switchIfEmpty(rejected(() -> OperationResult.accountNotFound("Account not found: " + accountId))));
+    }
+
+    @Override
+    public Mono<OperationResult> withdrawMoney(String accountId, BigDecimal amount, String description) {
+        return execute(load(accountId).flatMap(loaded -> {
+            OperationResult result = MoneyMovements.withdraw(loaded.account(), amount, description);
+            if (!result.isSuccess()) {
+                return Mono.just(Outcome.rejected(result));
+            }
+            Runnable afterCommit = () -> eventPublisher.publishPending(loaded.account());
+            return accountRepository.update(loaded.account(), loaded.version())
+                .then(Mono.defer(() -> notificationPort.notifyAccountOperation(accountId, MoneyMovements.WITHDRAWAL_OPERATION,
+                    MoneyMovements.withdrawalMessage(amount, description))))
+                .thenReturn(Outcome.completed(afterCommit));
+        }).switchIfEmpty(rejected(() -> OperationResult.accountNotFound("Account not found: " + accountId))));
+    }
+
+    @Override
+    public Mono<Boolean> hasSufficientBalance(String accountId, BigDecimal amount) {
+        return accountRepository.findById(accountId)
+            .map(loaded -> loaded.account().hasSufficientBalance(amount))
+            .defaultIfEmpty(false);
+    }
+
+    @Override
+    public Mono<AccountSummary> findByAccountId(String accountId) {
+        return accountRepository.findSummaryById(accountId);
+    }
+
+    @Override
+    public Flux<AccountSummary> findAccountsByCustomerId(String customerId) {
+        return accountRepository.findSummariesByCustomerId(customerId);
+    }
+
+    @Override
+    public Mono<AccountBatch> findByAccountIds(List<String> accountIds) {
+        if (accountIds == null) {
+            return Mono.error(new IllegalArgumentException("Account ids cannot be null"));
+        }
+        Set<String> requested = new LinkedHashSet<>(accountIds);
+        if (requested.isEmpty()) {
+            return Mono.just(new AccountBatch(List.of(), List.of()));
+        }
+        return accountRepository.findSummariesById(requested).collectList()
+            .map(accounts -> AccountQueryService.toBatch(requested, accounts));
+    }
+
+    @Override
+    public Mono<Long> findVersionByAccountId(String accountId) {
+        return accountRepository.findVersionById(accountId);
+    }
+
+    private Mono<Outcome> transfer(String sourceAccountId, Versioned source, String targetAccountId, Versioned target,
+                                   BigDecimal amount, String description) {
+        OperationResult check = MoneyMovements.checkTransfer(source.account(), target.account(), amount);
+        if (!check.isSuccess()) {
+            return Mono.just(Outcome.rejected(check));
+        }
+        BigDecimal transferFee = MoneyMovements.transfer(source.account(), target.account(), amount, description);
+        Runnable afterCommit = () -> {
+            eventPublisher.publishPending(source.account());
+            eventPublisher.publishPending(target.account());
+        };
+        return accountRepository.update(source.account(), source.version())
+            .then(accountRepository.update(target.account(), target.version()))
+            .then(Mono.defer(() -> notificationPort.notifyAccountOperation(sourceAccountId,
+                MoneyMovements.TRANSFER_OUT_OPERATION, MoneyMovements.transferOutMessage(amount, targetAccountId, transferFee))))
+            .then(Mono.defer(() -> notificationPort.notifyAccountOperation(targetAccountId,
+                MoneyMovements.TRANSFER_IN_OPERATION, MoneyMovements.transferInMessage(amount, sourceAccountId))))
+            .thenReturn(Outcome.completed(afterCommit));
+    }
+
+    /**
+     * Diferida para que cada reintento vuelva a leer la cuenta con su versión actual
+     */
+    private Mono<Versioned> load(String accountId) {
+        return Mono.defer(() -> accountRepository.findById(accountId));
+    }
+
+    private static Mono<Outcome> rejected(Supplier<OperationResult> result) {
+        return Mono.fromSupplier(() -> Outcome.rejected(result.get()));
+    }
+
+    /**
+     * Ejecuta la operación en una transacción, la repite ante conflictos de versión y, tras confirmar,
+     * publica los eventos fuera del hilo de la petición
+     */
+    private Mono<OperationResult> execute(Mono<Outcome> operation) {
+        return transactionalOperator.transactional(operation)
+            .retryWhen(Retry.max(conflictRetries)
+                .filter(OptimisticLockingFailureException.class::isInstance)
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+            .flatMap(outcome -> outcome.afterCommit() == null
+                ? Mono.just(outcome.result())
+                : Mono.fromRunnable(outcome.afterCommit()).subscribeOn(Schedulers.boundedElastic()).thenReturn(outcome.result()));
+    }
+
+    /**
+     * Resultado de la operación y lo que hay que ejecutar tras confirmar; un rechazo no guarda nada ni ejecuta nada
+     */
+    private record Outcome(OperationResult result, Runnable afterCommit) {
+
+        static Outcome completed(Runnable afterCommit) {
+            return new Outcome(OperationResult.success(), afterCommit);
+        }
+
+        static Outcome rejected(OperationResult result) {
+            return new Outcome(result, null);
+        }
+    }
+}
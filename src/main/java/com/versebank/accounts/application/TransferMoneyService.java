@@ -1,22 +1,24 @@
 package com.versebank.accounts.application;
 
+import com.versebank.accounts.application.port.in.OperationResult;
 import com.versebank.accounts.application.port.out.AccountRepository;
+import com.versebank.accounts.application.port.out.DomainEventPublisher;
 import com.versebank.accounts.application.port.out.NotificationPort;
 import com.versebank.accounts.domain.Account;
 
-import com.versebank.accounts.domain.valueobjects.Transaction;
-import com.versebank.accounts.domain.exceptions.InsufficientFundsException;
-import com.versebank.accounts.domain.events.DomainEvent;
-
 import java.math.BigDecimal;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Optional;
-import org.springframework.context.ApplicationEventPublisher;
+import java.util.function.Supplier;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
 
 /**
  * Servicio de aplicación que implementa los casos de uso para transferencias de dinero
+ * <p>
+ * Cada movimiento lee y guarda las cuentas en una transacción. Las notificaciones se emiten dentro de ella,
+ * tras guardar: la cola persistente escribe su fila en la misma conexión y se confirma o se deshace con el
+ * movimiento. Los eventos de dominio se publican tras confirmar, como en {@link ReactiveAccountService}: un
+ * suscriptor nunca ve un saldo que aún no está guardado.
  */
 @Service
 public class TransferMoneyService implements com.versebank.accounts.application.port.in.TransferMoneyUseCase {
@@ -24,9 +26,11 @@ public class TransferMoneyService implements com.versebank.accounts.application.
     private final AccountRepository accountRepository;
     private final NotificationPort notificationPort;
 
-    private final ApplicationEventPublisher eventPublisher;
+    private final DomainEventPublisher eventPublisher;
+    private final TransactionOperations transactions;
     
-    public TransferMoneyService(AccountRepository accountRepository, NotificationPort notificationPort, ApplicationEventPublisher eventPublisher) {
+    public TransferMoneyService(AccountRepository accountRepository, NotificationPort notificationPort, DomainEventPublisher eventPublisher,
+                                TransactionOperations transactions) {
         if (accountRepository == null) {
             throw new NullPointerException("AccountRepository cannot be null");
         }
@@ -34,112 +38,95 @@ public class TransferMoneyService implements com.versebank.accounts.application.
             throw new NullPointerException("NotificationPort cannot be null");
         }
         if (eventPublisher == null) {
-            throw new NullPointerException("ApplicationEventPublisher cannot be null");
+            throw new NullPointerException("DomainEventPublisher cannot be null");
+        }
+        if (transactions == null) {
+            throw new NullPointerException("TransactionOperations cannot be null");
         }
         this.accountRepository = accountRepository;
         this.notificationPort = notificationPort;
 
         this.eventPublisher = eventPublisher;
+        this.transactions = transactions;
     }
 
     @Override
-    public void transferMoney(String sourceAccountId, String targetAccountId, BigDecimal amount, String description) 
-            throws InsufficientFundsException {
-        
-        Optional<Account> sourceOpt = accountRepository.findById(sourceAccountId);
-        Optional<Account> targetOpt = accountRepository.findById(targetAccountId);
-        
-        if (sourceOpt.isEmpty()) {
-            throw new IllegalArgumentException("Source account not found: " + sourceAccountId);
-        }
-        if (targetOpt.isEmpty()) {
-            throw new IllegalArgumentException("Target account not found: " + targetAccountId);
-        }
-        
-        Account sourceAccount = sourceOpt.get();
-        Account targetAccount = targetOpt.get();
-        
-        // Validar transferencia usando lógica de dominio
-        if (!sourceAccount.canTransferTo(targetAccount, amount)) {
-            throw new InsufficientFundsException("Transfer not allowed: insufficient funds or invalid target");
-        }
-        
-        // Calculate transfer fee using domain logic
-        BigDecimal transferFee = sourceAccount.calculateTransferFee();
-        
-        Transaction sourceTransaction = Transaction.create(amount, description, Transaction.TransactionType.TRANSFER);
-        
-        // Apply transfer with fee to source account
-        sourceAccount.withdraw(sourceTransaction);
-        if (transferFee.compareTo(BigDecimal.ZERO) > 0) {
-            Transaction feeTransaction = Transaction.create(transferFee, "Transfer fee", Transaction.TransactionType.FEE);
-            sourceAccount.withdraw(feeTransaction);
-        }
-        
-        // Deposit full amount to target account (receiver gets full amount)
-        Transaction targetTransaction = Transaction.create(amount, description, Transaction.TransactionType.TRANSFER);
-        targetAccount.deposit(targetTransaction);
-
-        // Publicar eventos
-        publishAndClearDomainEvents(sourceAccount);
-        publishAndClearDomainEvents(targetAccount);
-
-        // Save both accounts
-        accountRepository.save(sourceAccount);
-        accountRepository.save(targetAccount);
-
-        // Send notifications
-        String sourceDescription = "Transfer of " + amount + " to account " + targetAccountId;
-        if (transferFee.compareTo(BigDecimal.ZERO) > 0) {
-            sourceDescription += " (fee: " + transferFee + ")";
-        }
-        notificationPort.notifyAccountOperation(sourceAccountId, "TRANSFER_OUT", sourceDescription);
-        notificationPort.notifyAccountOperation(targetAccountId, "TRANSFER_IN",
-            "Transfer of " + amount + " from account " + sourceAccountId);
+    public OperationResult transferMoney(String sourceAccountId, String targetAccountId, BigDecimal amount, String description) {
+        return execute(() -> {
+            Optional<Account> sourceOpt = accountRepository.findById(sourceAccountId);
+            Optional<Account> targetOpt = accountRepository.findById(targetAccountId);
+
+            if (sourceOpt.isEmpty()) {
+                return Outcome.rejected(OperationResult.accountNotFound("Source account not found: " + sourceAccountId));
+            }
+            if (targetOpt.isEmpty()) {
+                return Outcome.rejected(OperationResult.accountNotFound("Target account not found: " + targetAccountId));
+            }
+
+            Account sourceAccount = sourceOpt.get();
+            Account targetAccount = targetOpt.get();
+
+            OperationResult check = MoneyMovements.checkTransfer(sourceAccount, targetAccount, amount);
+            if (!check.isSuccess()) {
+                return Outcome.rejected(check);
+            }
+            BigDecimal transferFee = MoneyMovements.transfer(sourceAccount, targetAccount, amount, description);
+
+            // Save both accounts
+            accountRepository.save(sourceAccount);
+            accountRepository.save(targetAccount);
+
+            notificationPort.notifyAccountOperation(sourceAccountId, MoneyMovements.TRANSFER_OUT_OPERATION,
+                MoneyMovements.transferOutMessage(amount, targetAccountId, transferFee));
+            notificationPort.notifyAccountOperation(targetAccountId, MoneyMovements.TRANSFER_IN_OPERATION,
+                MoneyMovements.transferInMessage(amount, sourceAccountId));
+
+            return Outcome.completed(() -> {
+                publishAndClearDomainEvents(sourceAccount);
+                publishAndClearDomainEvents(targetAccount);
+            });
+        });
     }
 
     @Override
-    public void depositMoney(String accountId, BigDecimal amount, String description) {
-        Optional<Account> accountOpt = accountRepository.findById(accountId);
-        if (accountOpt.isEmpty()) {
-            throw new IllegalArgumentException("Account not found: " + accountId);
-        }
-
-        Account account = accountOpt.get();
-        Transaction transaction = Transaction.create(amount, description, Transaction.TransactionType.DEPOSIT);
-
-        account.deposit(transaction);
-
-        // Publicar eventos
-        publishAndClearDomainEvents(account);
-
-        accountRepository.save(account);
-
-        notificationPort.notifyAccountOperation(accountId, "DEPOSIT",
-            "Deposit of " + amount + " - " + description);
+    public OperationResult depositMoney(String accountId, BigDecimal amount, String description) {
+        return execute(() -> {
+            Optional<Account> accountOpt = accountRepository.findById(accountId);
+            if (accountOpt.isEmpty()) {
+                return Outcome.rejected(OperationResult.accountNotFound("Account not found: " + accountId));
+            }
+
+            Account account = accountOpt.get();
+            MoneyMovements.deposit(account, amount, description);
+
+            accountRepository.save(account);
+            notificationPort.notifyAccountOperation(accountId, MoneyMovements.DEPOSIT_OPERATION,
+                MoneyMovements.depositMessage(amount, description));
+
+            return Outcome.completed(() -> publishAndClearDomainEvents(account));
+        });
     }
 
     @Override
-    public void withdrawMoney(String accountId, BigDecimal amount, String description)
-            throws InsufficientFundsException {
-
-        Optional<Account> accountOpt = accountRepository.findById(accountId);
-        if (accountOpt.isEmpty()) {
-            throw new IllegalArgumentException("Account not found: " + accountId);
-        }
-
-        Account account = accountOpt.get();
-        Transaction transaction = Transaction.create(amount, description, Transaction.TransactionType.WITHDRAWAL);
-
-        account.withdraw(transaction);
-
-        // Publicar eventos
-        publishAndClearDomainEvents(account);
-
-        accountRepository.save(account);
-
-        notificationPort.notifyAccountOperation(accountId, "WITHDRAWAL",
-            "Withdrawal of " + amount + " - " + description);
+    public OperationResult withdrawMoney(String accountId, BigDecimal amount, String description) {
+        return execute(() -> {
+            Optional<Account> accountOpt = accountRepository.findById(accountId);
+            if (accountOpt.isEmpty()) {
+                return Outcome.rejected(OperationResult.accountNotFound("Account not found: " + accountId));
+            }
+
+            Account account = accountOpt.get();
+            OperationResult result = MoneyMovements.withdraw(account, amount, description);
+            if (!result.isSuccess()) {
+                return Outcome.rejected(result);
+            }
+
+            accountRepository.save(account);
+            notificationPort.notifyAccountOperation(accountId, MoneyMovements.WITHDRAWAL_OPERATION,
+                MoneyMovements.withdrawalMessage(amount, description));
+
+            return Outcome.completed(() -> publishAndClearDomainEvents(account));
+        });
     }
 
     @Override
@@ -148,12 +135,35 @@ public class TransferMoneyService implements com.versebank.accounts.application.
         return accountOpt.map(account -> account.hasSufficientBalance(amount)).orElse(false);
     }
 
+    /**
+     * Ejecuta la operación en una transacción y, tras confirmar, la acción que devuelve
+     */
+    private OperationResult execute(Supplier<Outcome> operation) {
+        Outcome outcome = transactions.execute(status -> operation.get());
+        if (outcome.afterCommit() != null) {
+            outcome.afterCommit().run();
+        }
+        return outcome.result();
+    }
+
     /**
      * Método helper para publicar y limpiar eventos de dominio (DRY)
      */
     private void publishAndClearDomainEvents(Account account) {
-        List<DomainEvent> domainEvents = new ArrayList<>(account.getDomainEvents());
-        domainEvents.forEach(eventPublisher::publishEvent);
-        account.clearDomainEvents();
+        eventPublisher.publishPending(account);
+    }
+
+    /**
+     * Resultado de la operación y lo que hay que ejecutar tras confirmar; un rechazo no guarda nada ni ejecuta nada
+     */
+    private record Outcome(OperationResult result, Runnable afterCommit) {
+
+        static Outcome completed(Runnable afterCommit) {
+            return new Outcome(OperationResult.success(), afterCommit);
+        }
+
+        static Outcome rejected(OperationResult result) {
+            return new Outcome(result, null);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,17 @@
+package com.versebank.accounts.application.port.in;
+
+import java.util.List;
+
+/**
+ * Resultado de consultar varias cuentas a la vez
+ *
+ * @param accounts   cuentas encontradas, en el orden en que se pidieron
+ * @param missingIds identificadores pedidos que no existen, también en el orden pedido
+ */
+public record AccountBatch(List<AccountSummary> accounts, List<String> missingIds) {
+
+    public AccountBatch {
+        accounts = List.copyOf(accounts);
+        missingIds = List.copyOf(missingIds);
+    }
+}
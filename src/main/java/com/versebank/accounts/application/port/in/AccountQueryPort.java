@@ -2,6 +2,7 @@ package com.versebank.accounts.application.port.in;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Puerto de consulta que permite a otros slices consultar información de cuentas
@@ -10,4 +11,23 @@ import java.util.Optional;
 public interface AccountQueryPort {
     Optional<AccountSummary> findByAccountId(String accountId);
     List<AccountSummary> findAccountsByCustomerId(String customerId);
+
+    /**
+     * Consulta varias cuentas con una sola carga. Los identificadores repetidos se devuelven una vez
+     * y los que no existen se informan en {@link AccountBatch#missingIds()}.
+     */
+    AccountBatch findByAccountIds(List<String> accountIds);
+
+    /**
+     * Recorre las cuentas del cliente por orden de identificador sin reunirlas en memoria, para respuestas en
+     * streaming. La acción se ejecuta dentro de una transacción de lectura que mantiene abierta la conexión.
+     *
+     * @return cuentas recorridas
+     */
+    long forEachAccountByCustomerId(String customerId, Consumer<AccountSummary> action);
+
+    /**
+     * Versión actual de la cuenta, para validar cachés sin cargarla
+     */
+    Optional<Long> findVersionByAccountId(String accountId);
 }
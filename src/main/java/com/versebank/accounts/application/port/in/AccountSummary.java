@@ -1,6 +1,7 @@
 package com.versebank.accounts.application.port.in;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Objects;
 
 public class AccountSummary {
@@ -8,12 +9,23 @@ public class AccountSummary {
     private final String customerId;
     private final String accountType; // Usamos String para simplificar la exportación desde el dominio
     private final BigDecimal balance;
+    private final long version;
+    private final LocalDateTime createdAt; // null si el origen no los conoce
+    private final LocalDateTime updatedAt;
 
     public AccountSummary(String accountId, String customerId, String accountType, BigDecimal balance) {
+        this(accountId, customerId, accountType, balance, 0, null, null);
+    }
+
+    public AccountSummary(String accountId, String customerId, String accountType, BigDecimal balance,
+                          long version, LocalDateTime createdAt, LocalDateTime updatedAt) {
         this.accountId = Objects.requireNonNull(accountId);
         this.customerId = Objects.requireNonNull(customerId);
         this.accountType = Objects.requireNonNull(accountType);
         this.balance = Objects.requireNonNull(balance);
+        this.version = version;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
     }
 
     // Getters
@@ -21,6 +33,9 @@ public class AccountSummary {
     public String getCustomerId() { return customerId; }
     public String getAccountType() { return accountType; }
     public BigDecimal getBalance() { return balance; }
+    public long getVersion() { return version; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
 
     @Override
     public boolean equals(Object o) {
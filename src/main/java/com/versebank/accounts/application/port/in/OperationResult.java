@@ -0,0 +1,52 @@
+package com.versebank.accounts.application.port.in;
+
+import java.util.Objects;
+
+/**
+ * Resultado de un movimiento de dinero. Los rechazos de negocio esperados se devuelven como valor en lugar de
+ * lanzarse: con tráfico fraudulento son una parte importante de las peticiones y capturar una traza de pila por
+ * cada una sería el coste dominante. Los datos de entrada no válidos siguen llegando como
+ * {@link IllegalArgumentException}, salvo la transferencia a la propia cuenta, que depende de las cuentas
+ * cargadas y se devuelve como {@code INVALID_REQUEST}.
+ *
+ * @param status  resultado de la operación
+ * @param message motivo del rechazo; {@code null} si la operación se completó
+ */
+public record OperationResult(Status status, String message) {
+
+    public enum Status {
+        SUCCESS,
+        INSUFFICIENT_FUNDS,
+        ACCOUNT_NOT_FOUND,
+        INVALID_REQUEST
+    }
+
+    private static final OperationResult SUCCESS = new OperationResult(Status.SUCCESS, null);
+
+    public OperationResult {
+        Objects.requireNonNull(status, "Status cannot be null");
+        if (status != Status.SUCCESS && message == null) {
+            throw new IllegalArgumentException("A rejected operation needs a message");
+        }
+    }
+
+    public static OperationResult success() {
+        return SUCCESS;
+    }
+
+    public static OperationResult insufficientFunds(String message) {
+        return new OperationResult(Status.INSUFFICIENT_FUNDS, message);
+    }
+
+    public static OperationResult accountNotFound(String message) {
+        return new OperationResult(Status.ACCOUNT_NOT_FOUND, message);
+    }
+
+    public static OperationResult invalidRequest(String message) {
+        return new OperationResult(Status.INVALID_REQUEST, message);
+    }
+
+    public boolean isSuccess() {
+        return status == Status.SUCCESS;
+    }
+}
@@ -0,0 +1,26 @@
+package com.versebank.accounts.application.port.in;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Variante reactiva de {@link AccountQueryPort}
+ */
+public interface ReactiveAccountQueryPort {
+
+    Mono<AccountSummary> findByAccountId(String accountId);
+
+    /**
+     * Cuentas del cliente por orden de identificador, emitidas a medida que se leen
+     */
+    Flux<AccountSummary> findAccountsByCustomerId(String customerId);
+
+    /**
+     * Mismo contrato que {@link AccountQueryPort#findByAccountIds(List)}
+     */
+    Mono<AccountBatch> findByAccountIds(List<String> accountIds);
+
+    Mono<Long> findVersionByAccountId(String accountId);
+}
@@ -0,0 +1,21 @@
+package com.versebank.accounts.application.port.in;
+
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+
+/**
+ * Casos de uso de movimientos de dinero sin bloquear el hilo que atiende la petición.
+ * Los rechazos de negocio llegan como {@link OperationResult}, igual que en {@link TransferMoneyUseCase}; la señal
+ * de error queda para datos no válidos y fallos.
+ */
+public interface ReactiveTransferMoneyUseCase {
+
+    Mono<OperationResult> transferMoney(String sourceAccountId, String targetAccountId, BigDecimal amount, String description);
+
+    Mono<OperationResult> depositMoney(String accountId, BigDecimal amount, String description);
+
+    Mono<OperationResult> withdrawMoney(String accountId, BigDecimal amount, String description);
+
+    Mono<Boolean> hasSufficientBalance(String accountId, BigDecimal amount);
+}
@@ -1,21 +1,19 @@
 package com.versebank.accounts.application.port.in;
 
-import com.versebank.accounts.domain.exceptions.InsufficientFundsException;
-
 import java.math.BigDecimal;
 
 /**
- * Puerto de entrada (Use Case) que define la interfaz para las operaciones de transferencia de dinero
+ * Puerto de entrada (Use Case) que define la interfaz para las operaciones de transferencia de dinero.
+ * Saldo insuficiente y cuenta inexistente se devuelven en el {@link OperationResult}; solo los datos de entrada
+ * no válidos se lanzan como {@link IllegalArgumentException}.
  */
 public interface TransferMoneyUseCase {
     
-    void transferMoney(String sourceAccountId, String targetAccountId, BigDecimal amount, String description) 
-        throws InsufficientFundsException;
+    OperationResult transferMoney(String sourceAccountId, String targetAccountId, BigDecimal amount, String description);
     
-    void depositMoney(String accountId, BigDecimal amount, String description);
+    OperationResult depositMoney(String accountId, BigDecimal amount, String description);
     
-    void withdrawMoney(String accountId, BigDecimal amount, String description) 
-        throws InsufficientFundsException;
+    OperationResult withdrawMoney(String accountId, BigDecimal amount, String description);
         
     boolean hasSufficientBalance(String accountId, BigDecimal amount);
 }
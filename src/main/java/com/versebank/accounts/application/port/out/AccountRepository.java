@@ -1,18 +1,27 @@
 package com.versebank.accounts.application.port.out;
 
+import com.versebank.accounts.application.port.in.AccountSummary;
 import com.versebank.accounts.domain.Account;
 import com.versebank.accounts.domain.events.DomainEvent;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Puerto de salida para operaciones de persistencia de cuentas
  */
-public interface AccountRepository {
+public interface AccountRepository extends DomainEventHistory {
     
     Optional<Account> findById(String accountId);
     
+    /**
+     * Guarda la cuenta y sus eventos pendientes
+     *
+     * @throws org.springframework.dao.OptimisticLockingFailureException si la cuenta se ha modificado desde
+     *         la versión con la que se leyó
+     */
     Account save(Account account);
     
     void deleteById(String accountId);
@@ -20,8 +29,29 @@ public interface AccountRepository {
     boolean existsById(String accountId);
     
     List<Account> findByCustomerId(String customerId);
+
+    /**
+     * Vista de lectura de la cuenta, con su versión y sus fechas almacenadas
+     */
+    Optional<AccountSummary> findSummaryById(String accountId);
+
+    /**
+     * Vistas de lectura de las cuentas existentes entre los identificadores indicados, en cualquier orden
+     */
+    List<AccountSummary> findSummariesById(Collection<String> accountIds);
+
+    /**
+     * Recorre las cuentas del cliente por orden de identificador sin reunirlas en memoria.
+     * Debe llamarse dentro de una transacción.
+     *
+     * @return cuentas recorridas
+     */
+    long forEachSummaryByCustomerId(String customerId, Consumer<AccountSummary> action);
+
+    /**
+     * Versión actual de la cuenta, sin cargarla
+     */
+    Optional<Long> findVersionById(String accountId);
     
     void saveDomainEvent(DomainEvent event);
-    
-    List<DomainEvent> getDomainEvents(String accountId);
 }
\ No newline at end of file
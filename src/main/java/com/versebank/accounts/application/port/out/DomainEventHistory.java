@@ -0,0 +1,23 @@
+package com.versebank.accounts.application.port.out;
+
+import com.versebank.accounts.domain.events.DomainEvent;
+
+import java.util.List;
+
+/**
+ * Puerto de salida para leer el histórico de eventos de dominio, agrupado por cuenta
+ */
+public interface DomainEventHistory {
+
+    /**
+     * Cuentas con eventos guardados, ordenadas por id y posteriores a la indicada
+     *
+     * @param afterAccountId última cuenta ya leída, o cadena vacía para empezar por la primera
+     */
+    List<String> findEventStreamIdsAfter(String afterAccountId, int limit);
+
+    /**
+     * Eventos de la cuenta en el orden en que se guardaron
+     */
+    List<DomainEvent> getDomainEvents(String accountId);
+}
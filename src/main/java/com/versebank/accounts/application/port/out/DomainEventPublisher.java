@@ -0,0 +1,19 @@
+package com.versebank.accounts.application.port.out;
+
+import com.versebank.accounts.domain.Account;
+import com.versebank.accounts.domain.events.DomainEvent;
+
+/**
+ * Puerto de salida para publicar eventos de dominio
+ */
+public interface DomainEventPublisher {
+
+    void publish(DomainEvent event);
+
+    /**
+     * Publica en bloque los eventos pendientes de la cuenta y vacía su buffer
+     *
+     * @return número de eventos publicados
+     */
+    int publishPending(Account account);
+}
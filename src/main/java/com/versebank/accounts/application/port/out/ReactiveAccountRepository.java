@@ -0,0 +1,42 @@
+package com.versebank.accounts.application.port.out;
+
+import com.versebank.accounts.application.port.in.AccountSummary;
+import com.versebank.accounts.domain.Account;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * Puerto de salida reactivo para la persistencia de cuentas. Las modificaciones se validan con la versión
+ * leída (bloqueo optimista) en lugar de mantener la fila bloqueada.
+ */
+public interface ReactiveAccountRepository {
+
+    /**
+     * Cuenta cargada junto con la versión con la que se leyó
+     */
+    record Versioned(Account account, long version) {}
+
+    Mono<Versioned> findById(String accountId);
+
+    /**
+     * Guarda el saldo de la cuenta si su versión sigue siendo {@code expectedVersion}.
+     * Si otra operación la ha modificado antes, termina con {@link org.springframework.dao.OptimisticLockingFailureException}.
+     */
+    Mono<Void> update(Account account, long expectedVersion);
+
+    Mono<AccountSummary> findSummaryById(String accountId);
+
+    /**
+     * Vistas de lectura de las cuentas existentes entre los identificadores indicados, en cualquier orden
+     */
+    Flux<AccountSummary> findSummariesById(Collection<String> accountIds);
+
+    /**
+     * Cuentas del cliente por orden de identificador, emitidas a medida que se leen
+     */
+    Flux<AccountSummary> findSummariesByCustomerId(String customerId);
+
+    Mono<Long> findVersionById(String accountId);
+}
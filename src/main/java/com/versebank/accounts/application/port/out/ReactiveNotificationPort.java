@@ -0,0 +1,13 @@
+package com.versebank.accounts.application.port.out;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Puerto de salida reactivo para las notificaciones de operaciones de cuenta.
+ * Se suscribe dentro de la transacción reactiva del movimiento y se une a ella: la notificación
+ * se confirma o se deshace junto con el movimiento que la origina.
+ */
+public interface ReactiveNotificationPort {
+
+    Mono<Void> notifyAccountOperation(String accountId, String operation, String details);
+}
@@ -0,0 +1,100 @@
+package com.versebank.accounts.application.template;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Plantilla de texto con marcadores {@code {nombre}}, analizada una sola vez al crearla.
+ * <p>
+ * El texto queda partido en un array de literales y otro con la posición del argumento que va entre cada
+ * par de literales, así que renderizar es recorrer los arrays añadiendo a un {@link StringBuilder}, sin
+ * buscar marcadores ni crear objetos intermedios. {@link #render(Object...)} reutiliza un builder por hilo.
+ */
+public final class MessageTemplate {
+
+    // Los builders que crecen por encima de este tamaño no se conservan en el hilo
+    private static final int MAX_RETAINED_CAPACITY = 4096;
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    private final String source;
+    private final String[] literals;
+    private final int[] slots;
+    private final int arity;
+
+    private MessageTemplate(String source, String[] literals, int[] slots, int arity) {
+        this.source = source;
+        this.literals = literals;
+        this.slots = slots;
+        this.arity = arity;
+    }
+
+    /**
+     * Analiza la plantilla. Los argumentos de renderizado se pasan en el orden de {@code parameters}.
+     *
+     * @throws IllegalArgumentException si un marcador no está cerrado o no es uno de los parámetros
+     */
+    public static MessageTemplate compile(String source, String... parameters) {
+        if (source == null) {
+            throw new NullPointerException("Template source cannot be null");
+        }
+        List<String> names = Arrays.asList(parameters);
+        List<String> literals = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        int start = 0;
+        int open;
+        while ((open = source.indexOf('{', start)) >= 0) {
+            int close = source.indexOf('}', open + 1);
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder at " + open + " in template: " + source);
+            }
+            String name = source.substring(open + 1, close);
+            int slot = names.indexOf(name);
+            if (slot < 0) {
+                throw new IllegalArgumentException("Unknown placeholder {" + name + "} in template: " + source);
+            }
+            literals.add(source.substring(start, open));
+            slots.add(slot);
+            start = close + 1;
+        }
+        literals.add(source.substring(start));
+        return new MessageTemplate(source, literals.toArray(new String[0]),
+            slots.stream().mapToInt(Integer::intValue).toArray(), parameters.length);
+    }
+
+    /**
+     * Añade el texto renderizado a {@code out}
+     */
+    public StringBuilder appendTo(StringBuilder out, Object... args) {
+        if (args.length != arity) {
+            throw new IllegalArgumentException("Template expects " + arity + " arguments but got " + args.length);
+        }
+        out.append(literals[0]);
+        for (int i = 0; i < slots.length; i++) {
+            out.append(args[slots[i]]).append(literals[i + 1]);
+        }
+        return out;
+    }
+
+    /**
+     * Renderiza sobre el builder del hilo actual y devuelve el resultado
+     */
+    public String render(Object... args) {
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        String rendered = appendTo(buffer, args).toString();
+        if (buffer.capacity() > MAX_RETAINED_CAPACITY) {
+            BUFFER.remove();
+        }
+        return rendered;
+    }
+
+    public String source() {
+        return source;
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+}
@@ -5,20 +5,47 @@ import com.versebank.accounts.domain.valueobjects.Balance;
 import com.versebank.accounts.domain.valueobjects.Transaction;
 import com.versebank.accounts.domain.exceptions.InsufficientFundsException;
 import com.versebank.accounts.domain.events.DomainEvent;
+import com.versebank.accounts.domain.events.LargeTransactionDetectedEvent;
+import com.versebank.accounts.domain.events.MoneyDepositedEvent;
+import com.versebank.accounts.domain.events.MoneyReceivedEvent;
+import com.versebank.accounts.domain.events.MoneyWithdrawnEvent;
+import com.versebank.accounts.domain.events.VelocityLimitExceededEvent;
+import com.versebank.accounts.domain.monitoring.TransactionMonitor;
+import com.versebank.accounts.domain.monitoring.TransactionMonitors;
+import com.versebank.accounts.domain.support.DomainClocks;
+import com.versebank.accounts.domain.valueobjects.MinorUnits;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 public class Account {
+    // Una operación emite uno o dos eventos (p. ej. retirada e importe de comisión)
+    private static final int EXPECTED_EVENTS_PER_OPERATION = 2;
+
+    // Sin traza ni estado mutable: se comparte entre todos los rechazos
+    private static final InsufficientFundsException INSUFFICIENT_FUNDS_FOR_WITHDRAWAL =
+        new InsufficientFundsException("Insufficient funds for withdrawal");
+
     private final AccountId id;
     private final String customerId;
     private final AccountType accountType;
     private Balance balance;
     private final List<Transaction> transactions;
     private final List<DomainEvent> domainEvents;
+    private final Long version;
 
     public Account(AccountId id, String customerId, AccountType accountType, Balance initialBalance) {
+        this(id, customerId, accountType, initialBalance, null);
+    }
+
+    /**
+     * Reconstruye una cuenta guardada con la versión con la que se leyó; al guardarla, el repositorio rechaza
+     * el cambio si la cuenta se ha modificado desde esa versión
+     */
+    public Account(AccountId id, String customerId, AccountType accountType, Balance initialBalance, Long version) {
         if (id == null) throw new IllegalArgumentException("AccountId cannot be null");
         if (customerId == null || customerId.trim().isEmpty()) {
             throw new IllegalArgumentException("CustomerId cannot be null or empty");
@@ -31,7 +58,8 @@ public class Account {
         this.accountType = accountType;
         this.balance = initialBalance;
         this.transactions = new ArrayList<>();
-        this.domainEvents = new ArrayList<>();
+        this.domainEvents = new ArrayList<>(EXPECTED_EVENTS_PER_OPERATION);
+        this.version = version;
     }
 
     public static Account create(String customerId, AccountType accountType, Balance initialBalance) {
@@ -41,26 +69,41 @@ public class Account {
     public void deposit(Transaction transaction) {
         if (transaction == null) throw new IllegalArgumentException("Transaction cannot be null");
         
-        this.balance = balance.add(Balance.of(transaction.getAmount()));
+        Balance depositBalance = Balance.of(transaction.getAmount());
+        this.balance = balance.add(depositBalance);
         this.transactions.add(transaction);
         
         // Emit domain event
-        domainEvents.add(new MoneyDepositedEvent(transaction.getAmount(), getBalance().getAmount()));
+        domainEvents.add(new MoneyDepositedEvent(id, depositBalance, balance));
+        monitor(transaction, depositBalance);
     }
 
     public void withdraw(Transaction transaction) throws InsufficientFundsException {
+        if (!tryWithdraw(transaction)) {
+            throw INSUFFICIENT_FUNDS_FOR_WITHDRAWAL;
+        }
+    }
+
+    /**
+     * Retira el importe si el saldo lo cubre
+     *
+     * @return {@code false} si no hay saldo suficiente; en ese caso la cuenta no cambia
+     */
+    public boolean tryWithdraw(Transaction transaction) {
         if (transaction == null) throw new IllegalArgumentException("Transaction cannot be null");
         
         Balance transactionBalance = Balance.of(transaction.getAmount());
         if (balance.isLessThan(transactionBalance)) {
-            throw new InsufficientFundsException("Insufficient funds for withdrawal");
+            return false;
         }
         
-        this.balance = balance.subtract(transactionBalance);
+        this.balance = Balance.of(balance.getAmount().subtract(transactionBalance.getAmount()));
         this.transactions.add(transaction);
         
         // Emit domain event
-        domainEvents.add(new MoneyWithdrawnEvent(transaction.getAmount(), getBalance().getAmount()));
+        domainEvents.add(new MoneyWithdrawnEvent(id, transactionBalance, balance));
+        monitor(transaction, transactionBalance);
+        return true;
     }
 
     public void transfer(Account targetAccount, Transaction transaction) throws InsufficientFundsException {
@@ -77,11 +120,32 @@ public class Account {
     public void receiveTransfer(Transaction transaction) {
         if (transaction == null) throw new IllegalArgumentException("Transaction cannot be null");
         
-        this.balance = balance.add(Balance.of(transaction.getAmount()));
+        Balance receivedBalance = Balance.of(transaction.getAmount());
+        this.balance = balance.add(receivedBalance);
         this.transactions.add(transaction);
         
         // Emit domain event for received money
-        domainEvents.add(new MoneyReceivedEvent(transaction.getAmount(), getBalance().getAmount()));
+        domainEvents.add(new MoneyReceivedEvent(id, receivedBalance, balance));
+        monitor(transaction, receivedBalance);
+    }
+
+    /**
+     * Evalúa la transacción contra los umbrales de vigilancia y emite las alertas que correspondan
+     */
+    private void monitor(Transaction transaction, Balance amount) {
+        TransactionMonitor monitor = TransactionMonitors.current();
+        long now = DomainClocks.currentTimeMillis();
+        int alerts = monitor.evaluate(id.getValue(), accountType, transaction.getAmountInMinorUnits(), now);
+        if (alerts == 0) {
+            return;
+        }
+        if ((alerts & TransactionMonitor.LARGE_TRANSACTION) != 0) {
+            domainEvents.add(new LargeTransactionDetectedEvent(id, amount, transaction.getType().name()));
+        }
+        if ((alerts & (TransactionMonitor.VELOCITY_COUNT | TransactionMonitor.VELOCITY_AMOUNT)) != 0) {
+            domainEvents.add(new VelocityLimitExceededEvent(id, monitor.windowCount(id.getValue(), now),
+                Balance.of(MinorUnits.toDecimal(monitor.windowAmount(id.getValue(), now))), monitor.window()));
+        }
     }
 
     public boolean hasSufficientBalance(java.math.BigDecimal amount) {
@@ -89,10 +153,10 @@ public class Account {
     }
 
     /**
-     * Calcula la comisión por transferencia basada en el tipo de cuenta
+     * Calcula la comisión por transferir el importe indicado según el tipo de cuenta
      */
-    public java.math.BigDecimal calculateTransferFee() {
-        return accountType.calculateTransferFee(balance.getAmount());
+    public java.math.BigDecimal calculateTransferFee(java.math.BigDecimal amount) {
+        return accountType.calculateTransferFee(amount);
     }
 
     /**
@@ -109,7 +173,7 @@ public class Account {
         }
         
         // Verificar saldo suficiente incluyendo comisión
-        java.math.BigDecimal totalAmount = amount.add(calculateTransferFee());
+        java.math.BigDecimal totalAmount = amount.add(calculateTransferFee(amount));
         return hasSufficientBalance(totalAmount);
     }
 
@@ -121,58 +185,46 @@ public class Account {
         return new ArrayList<>(domainEvents);
     }
 
+    /**
+     * Vista de solo lectura de los eventos pendientes, sin copiarlos. Refleja los cambios posteriores del buffer,
+     * así que debe recorrerse antes de vaciarlo.
+     */
+    public List<DomainEvent> pendingDomainEvents() {
+        return Collections.unmodifiableList(domainEvents);
+    }
+
     public void clearDomainEvents() {
         domainEvents.clear();
     }
 
-    // Getters
-    public AccountId getId() { return id; }
-    public String getCustomerId() { return customerId; }
-    public AccountType getAccountType() { return accountType; }
-    public Balance getBalance() { return balance; }
-
-    // Inner classes for domain events
-    private static class MoneyDepositedEvent extends DomainEvent {
-        private final java.math.BigDecimal amount;
-        private final java.math.BigDecimal newBalance;
-
-        public MoneyDepositedEvent(java.math.BigDecimal amount, java.math.BigDecimal newBalance) {
-            super("MoneyDeposited");
-            this.amount = amount;
-            this.newBalance = newBalance;
-        }
-
-        public java.math.BigDecimal getAmount() { return amount; }
-        public java.math.BigDecimal getNewBalance() { return newBalance; }
+    public boolean hasDomainEvents() {
+        return !domainEvents.isEmpty();
     }
 
-    private static class MoneyWithdrawnEvent extends DomainEvent {
-        private final java.math.BigDecimal amount;
-        private final java.math.BigDecimal newBalance;
+    /**
+     * Entrega los eventos pendientes al consumidor en orden de emisión y vacía el buffer, sin copias intermedias.
+     * Si el consumidor falla, los eventos se conservan para poder reintentar la entrega.
+     *
+     * @return número de eventos entregados
+     */
+    public int drainEvents(Consumer<? super DomainEvent> sink) {
+        if (sink == null) throw new IllegalArgumentException("Event sink cannot be null");
 
-        public MoneyWithdrawnEvent(java.math.BigDecimal amount, java.math.BigDecimal newBalance) {
-            super("MoneyWithdrawn");
-            this.amount = amount;
-            this.newBalance = newBalance;
+        int count = domainEvents.size();
+        for (int i = 0; i < count; i++) {
+            sink.accept(domainEvents.get(i));
         }
-
-        public java.math.BigDecimal getAmount() { return amount; }
-        public java.math.BigDecimal getNewBalance() { return newBalance; }
+        domainEvents.clear();
+        return count;
     }
 
-    private static class MoneyReceivedEvent extends DomainEvent {
-        private final java.math.BigDecimal amount;
-        private final java.math.BigDecimal newBalance;
-
-        public MoneyReceivedEvent(java.math.BigDecimal amount, java.math.BigDecimal newBalance) {
-            super("MoneyReceived");
-            this.amount = amount;
-            this.newBalance = newBalance;
-        }
-
-        public java.math.BigDecimal getAmount() { return amount; }
-        public java.math.BigDecimal getNewBalance() { return newBalance; }
-    }
+    // Getters
+    public AccountId getId() { return id; }
+    public String getCustomerId() { return customerId; }
+    public AccountType getAccountType() { return accountType; }
+    public Balance getBalance() { return balance; }
+    /** Versión con la que se leyó la cuenta; {@code null} si aún no se ha guardado */
+    public Long getVersion() { return version; }
 
     @Override
     public boolean equals(Object o) {
@@ -3,6 +3,7 @@ package com.versebank.accounts.domain;
 import com.versebank.accounts.domain.valueobjects.Balance;
 import com.versebank.accounts.domain.valueobjects.AccountType;
 import com.versebank.accounts.domain.exceptions.InsufficientFundsException;
+import com.versebank.accounts.domain.fees.FeeSchedules;
 
 /**
  * Servicio de dominio que encapsula la lógica de negocio
@@ -10,6 +11,13 @@ import com.versebank.accounts.domain.exceptions.InsufficientFundsException;
  */
 public class AccountDomainService {
     
+    /**
+     * Tipo de interés anual de las cuentas de ahorro (2%, en puntos básicos) y base de días para el devengo diario
+     */
+    public static final int SAVINGS_ANNUAL_RATE_BPS = 200;
+    public static final java.math.BigDecimal SAVINGS_ANNUAL_RATE = java.math.BigDecimal.valueOf(SAVINGS_ANNUAL_RATE_BPS, 4);
+    public static final int DAYS_PER_YEAR = 365;
+    
     /**
      * Valida si se puede crear una cuenta con los parámetros dados
      */
@@ -28,21 +36,10 @@ public class AccountDomainService {
     }
     
     /**
-     * Calcula la comisión por transferencia basada en el tipo de cuenta
+     * Calcula la comisión por transferencia según la tabla de comisiones vigente
      */
     public java.math.BigDecimal calculateTransferFee(AccountType accountType, java.math.BigDecimal amount) {
-        if (accountType == null || amount == null) {
-            return java.math.BigDecimal.ZERO;
-        }
-        
-        // Cuentas Business tienen 1% de comisión con máximo $10
-        if (accountType == AccountType.BUSINESS) {
-            java.math.BigDecimal fee = amount.multiply(java.math.BigDecimal.valueOf(0.01));
-            return fee.min(java.math.BigDecimal.valueOf(10));
-        }
-        
-        // Otros tipos no tienen comisión
-        return java.math.BigDecimal.ZERO;
+        return FeeSchedules.current().calculate(accountType, amount);
     }
     
     /**
@@ -75,7 +72,25 @@ public class AccountDomainService {
         
         // 2% de interés anual (simplificado)
         java.math.BigDecimal balance = savingsAccount.getBalance().getAmount();
-        return balance.multiply(java.math.BigDecimal.valueOf(0.02));
+        return balance.multiply(SAVINGS_ANNUAL_RATE);
+    }
+    
+    /**
+     * Calcula el interés devengado en un día sobre un saldo expresado en céntimos.
+     * Los saldos negativos no devengan interés; el redondeo es bancario (HALF_EVEN).
+     */
+    public long calculateDailyInterest(long balanceInMinorUnits) {
+        if (balanceInMinorUnits <= 0) {
+            return 0;
+        }
+        long numerator = Math.multiplyExact(balanceInMinorUnits, SAVINGS_ANNUAL_RATE_BPS);
+        long denominator = 10_000L * DAYS_PER_YEAR;
+        long quotient = numerator / denominator;
+        long twiceRemainder = (numerator % denominator) * 2;
+        if (twiceRemainder > denominator || (twiceRemainder == denominator && (quotient & 1) == 1)) {
+            quotient++;
+        }
+        return quotient;
     }
     
     /**
@@ -1,7 +1,8 @@
 package com.versebank.accounts.domain;
 
+import com.versebank.accounts.domain.support.DomainIds;
+
 import java.util.Objects;
-import java.util.UUID;
 
 public final class AccountId {
     private final String value;
@@ -14,7 +15,7 @@ public final class AccountId {
     }
 
     public static AccountId generate() {
-        return new AccountId(UUID.randomUUID().toString());
+        return new AccountId(DomainIds.nextId());
     }
 
     public static AccountId of(String value) {
@@ -0,0 +1,11 @@
+package com.versebank.accounts.domain.events;
+
+import com.versebank.accounts.domain.AccountId;
+
+/**
+ * Evento de dominio que pertenece a una cuenta concreta
+ */
+public interface AccountEvent {
+
+    AccountId getAccountId();
+}
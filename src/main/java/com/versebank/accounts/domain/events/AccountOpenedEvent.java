@@ -3,7 +3,9 @@ package com.versebank.accounts.domain.events;
 import com.versebank.accounts.domain.valueobjects.Balance;
 import com.versebank.accounts.domain.AccountId;
 
-public class AccountOpenedEvent extends DomainEvent {
+import java.time.LocalDateTime;
+
+public class AccountOpenedEvent extends DomainEvent implements AccountEvent {
     private final AccountId accountId;
     private final String customerId;
     private final Balance initialBalance;
@@ -15,6 +17,13 @@ public class AccountOpenedEvent extends DomainEvent {
         this.initialBalance = initialBalance;
     }
 
+    public AccountOpenedEvent(String eventId, LocalDateTime occurredAt, AccountId accountId, String customerId, Balance initialBalance) {
+        super(eventId, occurredAt, "AccountOpened");
+        this.accountId = accountId;
+        this.customerId = customerId;
+        this.initialBalance = initialBalance;
+    }
+
     public AccountId getAccountId() { return accountId; }
     public String getCustomerId() { return customerId; }
     public Balance getInitialBalance() { return initialBalance; }
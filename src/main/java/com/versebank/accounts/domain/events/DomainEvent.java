@@ -1,5 +1,8 @@
 package com.versebank.accounts.domain.events;
 
+import com.versebank.accounts.domain.support.DomainClocks;
+import com.versebank.accounts.domain.support.DomainIds;
+
 import java.time.LocalDateTime;
 import java.util.Objects;
 
@@ -9,8 +12,17 @@ public abstract class DomainEvent {
     private final String eventType;
 
     public DomainEvent(String eventType) {
-        this.eventId = java.util.UUID.randomUUID().toString();
-        this.occurredAt = LocalDateTime.now();
+        this.eventId = DomainIds.nextId();
+        this.occurredAt = DomainClocks.now();
+        this.eventType = eventType;
+    }
+
+    /**
+     * Reconstruye un evento ya emitido (por ejemplo, al leerlo de un almacén), conservando su id y su instante
+     */
+    protected DomainEvent(String eventId, LocalDateTime occurredAt, String eventType) {
+        this.eventId = Objects.requireNonNull(eventId, "Event id cannot be null");
+        this.occurredAt = Objects.requireNonNull(occurredAt, "Occurrence time cannot be null");
         this.eventType = eventType;
     }
 
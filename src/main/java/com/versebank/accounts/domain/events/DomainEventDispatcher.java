@@ -1,16 +1,18 @@
 package com.versebank.accounts.domain.events;
 
 import org.springframework.stereotype.Component;
-import org.springframework.context.event.EventListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Manejadores de los eventos de dominio. No se invocan en el hilo de la petición:
+ * la infraestructura los registra en el despachador asíncrono, cada uno con su propia cola.
+ */
 @Component
 public class DomainEventDispatcher {
     
     private static final Logger logger = LoggerFactory.getLogger(DomainEventDispatcher.class);
     
-    @EventListener
     public void handleMoneyDepositedEvent(MoneyDepositedEvent event) {
         logger.info("💰 Money deposited: {} to account {}, new balance: {}", 
                    event.getAmount(), event.getAccountId(), event.getNewBalance());
@@ -19,7 +21,6 @@ public class DomainEventDispatcher {
         // Por ejemplo: enviar email de confirmación, actualizar dashboards, etc.
     }
     
-    @EventListener
     public void handleMoneyWithdrawnEvent(MoneyWithdrawnEvent event) {
         logger.info("💸 Money withdrawn: {} from account {}, new balance: {}", 
                    event.getAmount(), event.getAccountId(), event.getNewBalance());
@@ -28,7 +29,11 @@ public class DomainEventDispatcher {
         // Podríamos verificar límites diarios, alertar por transacciones sospechosas, etc.
     }
     
-    @EventListener
+    public void handleMoneyReceivedEvent(MoneyReceivedEvent event) {
+        logger.info("📥 Money received: {} to account {}, new balance: {}", 
+                   event.getAmount(), event.getAccountId(), event.getNewBalance());
+    }
+    
     public void handleAccountOpenedEvent(AccountOpenedEvent event) {
         logger.info("🏦 Account opened: {} for customer {} with initial balance: {}", 
                    event.getAccountId(), event.getCustomerId(), event.getInitialBalance());
@@ -37,7 +42,6 @@ public class DomainEventDispatcher {
         // Enviar bienvenida, configurar productos, etc.
     }
     
-    @EventListener
     public void handleLargeTransactionDetectedEvent(LargeTransactionDetectedEvent event) {
         logger.info("⚠️  Large transaction detected: {} on account {} (type: {})", 
                    event.getAmount(), event.getAccountId(), event.getTransactionType());
@@ -45,4 +49,9 @@ public class DomainEventDispatcher {
         // Lógica de compliance y seguridad
         // Alertar al equipo de cumplimiento, guardar auditoría especial, etc.
     }
+    
+    public void handleVelocityLimitExceededEvent(VelocityLimitExceededEvent event) {
+        logger.info("🚨 Velocity limit exceeded on account {}: {} transactions, {} in the last {}", 
+                   event.getAccountId(), event.getTransactionCount(), event.getWindowAmount(), event.getWindow());
+    }
 }
\ No newline at end of file
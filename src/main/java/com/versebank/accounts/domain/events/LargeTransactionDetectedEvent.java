@@ -3,7 +3,9 @@ package com.versebank.accounts.domain.events;
 import com.versebank.accounts.domain.valueobjects.Balance;
 import com.versebank.accounts.domain.AccountId;
 
-public class LargeTransactionDetectedEvent extends DomainEvent {
+import java.time.LocalDateTime;
+
+public class LargeTransactionDetectedEvent extends DomainEvent implements AccountEvent {
     private final AccountId accountId;
     private final Balance amount;
     private final String transactionType;
@@ -15,6 +17,13 @@ public class LargeTransactionDetectedEvent extends DomainEvent {
         this.transactionType = transactionType;
     }
 
+    public LargeTransactionDetectedEvent(String eventId, LocalDateTime occurredAt, AccountId accountId, Balance amount, String transactionType) {
+        super(eventId, occurredAt, "LargeTransactionDetected");
+        this.accountId = accountId;
+        this.amount = amount;
+        this.transactionType = transactionType;
+    }
+
     public AccountId getAccountId() { return accountId; }
     public Balance getAmount() { return amount; }
     public String getTransactionType() { return transactionType; }
@@ -5,7 +5,7 @@ import com.versebank.accounts.domain.AccountId;
 
 import java.time.LocalDateTime;
 
-public class MoneyDepositedEvent extends DomainEvent {
+public class MoneyDepositedEvent extends DomainEvent implements MoneyMovementEvent {
     private final AccountId accountId;
     private final Balance amount;
     private final Balance newBalance;
@@ -17,6 +17,13 @@ public class MoneyDepositedEvent extends DomainEvent {
         this.newBalance = newBalance;
     }
 
+    public MoneyDepositedEvent(String eventId, LocalDateTime occurredAt, AccountId accountId, Balance amount, Balance newBalance) {
+        super(eventId, occurredAt, "MoneyDeposited");
+        this.accountId = accountId;
+        this.amount = amount;
+        this.newBalance = newBalance;
+    }
+
     public AccountId getAccountId() { return accountId; }
     public Balance getAmount() { return amount; }
     public Balance getNewBalance() { return newBalance; }
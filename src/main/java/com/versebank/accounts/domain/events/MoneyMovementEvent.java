@@ -0,0 +1,21 @@
+package com.versebank.accounts.domain.events;
+
+import com.versebank.accounts.domain.valueobjects.Balance;
+
+import java.time.LocalDateTime;
+
+/**
+ * Movimiento de dinero en una cuenta: importe movido y saldo resultante
+ */
+public interface MoneyMovementEvent extends AccountEvent {
+
+    String getEventId();
+
+    String getEventType();
+
+    LocalDateTime getOccurredAt();
+
+    Balance getAmount();
+
+    Balance getNewBalance();
+}
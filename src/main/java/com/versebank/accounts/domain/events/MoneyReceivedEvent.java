@@ -0,0 +1,30 @@
+package com.versebank.accounts.domain.events;
+
+import com.versebank.accounts.domain.valueobjects.Balance;
+import com.versebank.accounts.domain.AccountId;
+
+import java.time.LocalDateTime;
+
+public class MoneyReceivedEvent extends DomainEvent implements MoneyMovementEvent {
+    private final AccountId accountId;
+    private final Balance amount;
+    private final Balance newBalance;
+
+    public MoneyReceivedEvent(AccountId accountId, Balance amount, Balance newBalance) {
+        super("MoneyReceived");
+        this.accountId = accountId;
+        this.amount = amount;
+        this.newBalance = newBalance;
+    }
+
+    public MoneyReceivedEvent(String eventId, LocalDateTime occurredAt, AccountId accountId, Balance amount, Balance newBalance) {
+        super(eventId, occurredAt, "MoneyReceived");
+        this.accountId = accountId;
+        this.amount = amount;
+        this.newBalance = newBalance;
+    }
+
+    public AccountId getAccountId() { return accountId; }
+    public Balance getAmount() { return amount; }
+    public Balance getNewBalance() { return newBalance; }
+}
@@ -3,7 +3,9 @@ package com.versebank.accounts.domain.events;
 import com.versebank.accounts.domain.valueobjects.Balance;
 import com.versebank.accounts.domain.AccountId;
 
-public class MoneyWithdrawnEvent extends DomainEvent {
+import java.time.LocalDateTime;
+
+public class MoneyWithdrawnEvent extends DomainEvent implements MoneyMovementEvent {
     private final AccountId accountId;
     private final Balance amount;
     private final Balance newBalance;
@@ -15,6 +17,13 @@ public class MoneyWithdrawnEvent extends DomainEvent {
         this.newBalance = newBalance;
     }
 
+    public MoneyWithdrawnEvent(String eventId, LocalDateTime occurredAt, AccountId accountId, Balance amount, Balance newBalance) {
+        super(eventId, occurredAt, "MoneyWithdrawn");
+        this.accountId = accountId;
+        this.amount = amount;
+        this.newBalance = newBalance;
+    }
+
     public AccountId getAccountId() { return accountId; }
     public Balance getAmount() { return amount; }
     public Balance getNewBalance() { return newBalance; }
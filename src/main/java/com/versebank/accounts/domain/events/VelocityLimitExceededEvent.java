@@ -0,0 +1,35 @@
+package com.versebank.accounts.domain.events;
+
+import com.versebank.accounts.domain.valueobjects.Balance;
+import com.versebank.accounts.domain.AccountId;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+public class VelocityLimitExceededEvent extends DomainEvent implements AccountEvent {
+    private final AccountId accountId;
+    private final long transactionCount;
+    private final Balance windowAmount;
+    private final Duration window;
+
+    public VelocityLimitExceededEvent(AccountId accountId, long transactionCount, Balance windowAmount, Duration window) {
+        super("VelocityLimitExceeded");
+        this.accountId = accountId;
+        this.transactionCount = transactionCount;
+        this.windowAmount = windowAmount;
+        this.window = window;
+    }
+
+    public VelocityLimitExceededEvent(String eventId, LocalDateTime occurredAt, AccountId accountId, long transactionCount, Balance windowAmount, Duration window) {
+        super(eventId, occurredAt, "VelocityLimitExceeded");
+        this.accountId = accountId;
+        this.transactionCount = transactionCount;
+        this.windowAmount = windowAmount;
+        this.window = window;
+    }
+
+    public AccountId getAccountId() { return accountId; }
+    public long getTransactionCount() { return transactionCount; }
+    public Balance getWindowAmount() { return windowAmount; }
+    public Duration getWindow() { return window; }
+}
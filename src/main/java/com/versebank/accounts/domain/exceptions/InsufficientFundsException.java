@@ -1,9 +1,15 @@
 package com.versebank.accounts.domain.exceptions;
 
+/**
+ * Saldo insuficiente. Es un resultado de negocio esperado, no un fallo: se crea sin traza de pila ni excepciones
+ * suprimidas, de modo que puede preasignarse y lanzarse repetidamente sin coste. Los casos de uso devuelven
+ * {@link com.versebank.accounts.application.port.in.OperationResult}; esta excepción queda para los métodos de
+ * dominio que ya la declaraban.
+ */
 public class InsufficientFundsException extends Exception {
     
     public InsufficientFundsException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
     
     public InsufficientFundsException(String message, Throwable cause) {
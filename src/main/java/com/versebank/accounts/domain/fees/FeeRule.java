@@ -0,0 +1,30 @@
+package com.versebank.accounts.domain.fees;
+
+import java.math.BigDecimal;
+
+/**
+ * Regla de comisión tal como se configura: aplica a importes menores o iguales que {@code upTo}
+ * (sin límite si es null), cobrando un porcentaje más un fijo, acotado entre un mínimo y un máximo opcionales.
+ */
+public record FeeRule(BigDecimal upTo, BigDecimal percentage, BigDecimal flat, BigDecimal min, BigDecimal max) {
+
+    public FeeRule {
+        if (percentage != null && (percentage.signum() < 0 || percentage.compareTo(BigDecimal.valueOf(100)) > 0)) {
+            throw new IllegalArgumentException("Fee percentage must be between 0 and 100");
+        }
+        if (isNegative(upTo) || isNegative(flat) || isNegative(min) || isNegative(max)) {
+            throw new IllegalArgumentException("Fee amounts cannot be negative");
+        }
+        if (min != null && max != null && min.compareTo(max) > 0) {
+            throw new IllegalArgumentException("Minimum fee cannot exceed maximum fee");
+        }
+    }
+
+    public static FeeRule percentage(BigDecimal percentage, BigDecimal max) {
+        return new FeeRule(null, percentage, null, null, max);
+    }
+
+    private static boolean isNegative(BigDecimal value) {
+        return value != null && value.signum() < 0;
+    }
+}
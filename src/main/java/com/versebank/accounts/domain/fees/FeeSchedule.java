@@ -0,0 +1,143 @@
+package com.versebank.accounts.domain.fees;
+
+import com.versebank.accounts.domain.valueobjects.AccountType;
+import com.versebank.accounts.domain.valueobjects.MinorUnits;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tabla de comisiones compilada e inmutable. Las reglas de cada tipo de cuenta se convierten
+ * en arrays de enteros en unidades menores, de modo que evaluar una comisión no reserva memoria.
+ */
+public final class FeeSchedule {
+
+    private static final long PPM = 1_000_000L;
+    private static final long UNBOUNDED = Long.MAX_VALUE;
+    private static final BigDecimal NO_FEE = MinorUnits.toDecimal(0);
+
+    private final Tiers[] tiersByType;
+
+    private FeeSchedule(Tiers[] tiersByType) {
+        this.tiersByType = tiersByType;
+    }
+
+    /**
+     * Compila las reglas configuradas; los tipos de cuenta sin reglas no tienen comisión
+     */
+    public static FeeSchedule compile(Map<AccountType, List<FeeRule>> rulesByType) {
+        Tiers[] compiled = new Tiers[AccountType.values().length];
+        for (AccountType type : AccountType.values()) {
+            List<FeeRule> rules = rulesByType == null ? null : rulesByType.get(type);
+            compiled[type.ordinal()] = Tiers.compile(rules == null ? List.of() : rules);
+        }
+        return new FeeSchedule(compiled);
+    }
+
+    /**
+     * Tabla por defecto: cuentas Business pagan un 1% con un máximo de 10, el resto no paga comisión
+     */
+    public static FeeSchedule defaultSchedule() {
+        Map<AccountType, List<FeeRule>> rules = new EnumMap<>(AccountType.class);
+        rules.put(AccountType.BUSINESS, List.of(FeeRule.percentage(BigDecimal.ONE, BigDecimal.TEN)));
+        return compile(rules);
+    }
+
+    public BigDecimal calculate(AccountType accountType, BigDecimal amount) {
+        if (accountType == null || amount == null) {
+            return NO_FEE;
+        }
+        long fee = feeInMinorUnits(accountType, MinorUnits.of(amount));
+        return fee == 0 ? NO_FEE : MinorUnits.toDecimal(fee);
+    }
+
+    public long feeInMinorUnits(AccountType accountType, long amountInMinorUnits) {
+        return tiersByType[accountType.ordinal()].fee(amountInMinorUnits);
+    }
+
+    /**
+     * Calcula en bloque las comisiones de un lote de importes del mismo tipo de cuenta
+     */
+    public void feesInMinorUnits(AccountType accountType, long[] amounts, long[] fees, int count) {
+        if (count > amounts.length || count > fees.length) {
+            throw new IllegalArgumentException("Count exceeds array length");
+        }
+        Tiers tiers = tiersByType[accountType.ordinal()];
+        for (int i = 0; i < count; i++) {
+            fees[i] = tiers.fee(amounts[i]);
+        }
+    }
+
+    private static final class Tiers {
+        private static final Tiers NONE = new Tiers(new long[0], new long[0], new long[0], new long[0], new long[0]);
+
+        private final long[] upperBounds;
+        private final long[] ratesPpm;
+        private final long[] flats;
+        private final long[] minimums;
+        private final long[] maximums;
+
+        private Tiers(long[] upperBounds, long[] ratesPpm, long[] flats, long[] minimums, long[] maximums) {
+            this.upperBounds = upperBounds;
+            this.ratesPpm = ratesPpm;
+            this.flats = flats;
+            this.minimums = minimums;
+            this.maximums = maximums;
+        }
+
+        private static Tiers compile(List<FeeRule> rules) {
+            if (rules.isEmpty()) {
+                return NONE;
+            }
+            List<FeeRule> sorted = new ArrayList<>(rules);
+            sorted.sort(Comparator.comparingLong(Tiers::upperBound));
+            int size = sorted.size();
+            long[] upperBounds = new long[size];
+            long[] ratesPpm = new long[size];
+            long[] flats = new long[size];
+            long[] minimums = new long[size];
+            long[] maximums = new long[size];
+            for (int i = 0; i < size; i++) {
+                FeeRule rule = sorted.get(i);
+                upperBounds[i] = upperBound(rule);
+                if (i > 0 && upperBounds[i] == upperBounds[i - 1]) {
+                    throw new IllegalArgumentException("Duplicate fee tier bound: " + rule.upTo());
+                }
+                ratesPpm[i] = rule.percentage() == null ? 0 : rule.percentage().scaleByPowerOfTen(4).longValueExact();
+                flats[i] = rule.flat() == null ? 0 : MinorUnits.of(rule.flat());
+                minimums[i] = rule.min() == null ? 0 : MinorUnits.of(rule.min());
+                maximums[i] = rule.max() == null ? UNBOUNDED : MinorUnits.of(rule.max());
+            }
+            return new Tiers(upperBounds, ratesPpm, flats, minimums, maximums);
+        }
+
+        private static long upperBound(FeeRule rule) {
+            return rule.upTo() == null ? UNBOUNDED : MinorUnits.of(rule.upTo());
+        }
+
+        private long fee(long amount) {
+            if (amount <= 0) {
+                return 0;
+            }
+            for (int i = 0; i < upperBounds.length; i++) {
+                if (amount <= upperBounds[i]) {
+                    long fee = flats[i] + percentageOf(amount, ratesPpm[i]);
+                    return Math.min(Math.max(fee, minimums[i]), maximums[i]);
+                }
+            }
+            // Importes por encima del último tramo no tienen regla
+            return 0;
+        }
+
+        /**
+         * Porcentaje con redondeo HALF_UP sin desbordamiento: se separa el importe en múltiplos de un millón y resto
+         */
+        private static long percentageOf(long amount, long ratePpm) {
+            return (amount / PPM) * ratePpm + ((amount % PPM) * ratePpm + PPM / 2) / PPM;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.versebank.accounts.domain.fees;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Tabla de comisiones vigente. Se sustituye de forma atómica: las transferencias en curso
+ * terminan con la tabla que leyeron y las siguientes usan la nueva.
+ */
+public final class FeeSchedules {
+
+    private static final AtomicReference<FeeSchedule> CURRENT = new AtomicReference<>(FeeSchedule.defaultSchedule());
+
+    private FeeSchedules() {}
+
+    public static FeeSchedule current() {
+        return CURRENT.get();
+    }
+
+    public static FeeSchedule swap(FeeSchedule schedule) {
+        return CURRENT.getAndSet(Objects.requireNonNull(schedule, "FeeSchedule cannot be null"));
+    }
+}
@@ -0,0 +1,193 @@
+package com.versebank.accounts.domain.monitoring;
+
+import com.versebank.accounts.domain.valueobjects.AccountType;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Detecta transacciones grandes y ráfagas de actividad (velocidad) por cuenta.
+ * <p>
+ * Cada cuenta tiene una ventana deslizante dividida en un número fijo de intervalos, guardados en arrays
+ * circulares de primitivos con el número de transacciones y el importe de cada intervalo. Evaluar una
+ * transacción avanza la ventana como mucho tantos intervalos como tiene, así que el coste es constante
+ * y, una vez creada la ventana de la cuenta, no reserva memoria. Las ventanas de cuentas sin actividad
+ * durante una ventana completa se eliminan con {@link #evictIdle(long)}.
+ */
+public final class TransactionMonitor {
+
+    public static final int LARGE_TRANSACTION = 1;
+    public static final int VELOCITY_COUNT = 1 << 1;
+    public static final int VELOCITY_AMOUNT = 1 << 2;
+
+    private final TransactionThresholds[] thresholds;
+    private final long bucketMillis;
+    private final int buckets;
+    private final Duration window;
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+    private final Function<String, Window> newWindow;
+
+    public TransactionMonitor(Map<AccountType, TransactionThresholds> thresholds, Duration window, int buckets) {
+        if (thresholds == null || window == null) {
+            throw new IllegalArgumentException("Thresholds and window cannot be null");
+        }
+        if (buckets <= 0 || window.toMillis() < buckets) {
+            throw new IllegalArgumentException("Window must be split into at least one bucket of one millisecond");
+        }
+        this.thresholds = new TransactionThresholds[AccountType.values().length];
+        for (AccountType type : AccountType.values()) {
+            this.thresholds[type.ordinal()] = thresholds.getOrDefault(type, TransactionThresholds.NONE);
+        }
+        this.window = window;
+        this.buckets = buckets;
+        this.bucketMillis = window.toMillis() / buckets;
+        this.newWindow = accountId -> new Window(buckets);
+    }
+
+    public static TransactionMonitor disabled() {
+        return new TransactionMonitor(new EnumMap<>(AccountType.class), Duration.ofMinutes(1), 1);
+    }
+
+    /**
+     * Registra la transacción en la ventana de la cuenta y devuelve las alertas que dispara como máscara de bits.
+     * Las alertas de velocidad solo se disparan al cruzar el umbral, no en cada transacción posterior.
+     */
+    public int evaluate(String accountId, AccountType accountType, long amountInMinorUnits, long nowMillis) {
+        TransactionThresholds limits = thresholds[accountType.ordinal()];
+        int alerts = amountInMinorUnits >= limits.largeTransaction() ? LARGE_TRANSACTION : 0;
+        if (limits.maxCount() == Long.MAX_VALUE && limits.maxAmount() == Long.MAX_VALUE) {
+            return alerts;
+        }
+
+        Window accountWindow = windows.get(accountId);
+        if (accountWindow == null) {
+            accountWindow = windows.computeIfAbsent(accountId, newWindow);
+        }
+        synchronized (accountWindow) {
+            accountWindow.advance(nowMillis / bucketMillis);
+            long previousCount = accountWindow.count;
+            long previousAmount = accountWindow.amount;
+            accountWindow.add(amountInMinorUnits);
+            if (previousCount <= limits.maxCount() && accountWindow.count > limits.maxCount()) {
+                alerts |= VELOCITY_COUNT;
+            }
+            if (previousAmount <= limits.maxAmount() && accountWindow.amount > limits.maxAmount()) {
+                alerts |= VELOCITY_AMOUNT;
+            }
+        }
+        return alerts;
+    }
+
+    /**
+     * Transacciones de la cuenta dentro de la ventana
+     */
+    public long windowCount(String accountId, long nowMillis) {
+        Window accountWindow = windows.get(accountId);
+        if (accountWindow == null) {
+            return 0;
+        }
+        synchronized (accountWindow) {
+            accountWindow.advance(nowMillis / bucketMillis);
+            return accountWindow.count;
+        }
+    }
+
+    /**
+     * Importe acumulado de la cuenta dentro de la ventana, en céntimos
+     */
+    public long windowAmount(String accountId, long nowMillis) {
+        Window accountWindow = windows.get(accountId);
+        if (accountWindow == null) {
+            return 0;
+        }
+        synchronized (accountWindow) {
+            accountWindow.advance(nowMillis / bucketMillis);
+            return accountWindow.amount;
+        }
+    }
+
+    /**
+     * Elimina las ventanas de las cuentas sin transacciones durante una ventana completa
+     *
+     * @return número de ventanas eliminadas
+     */
+    public int evictIdle(long nowMillis) {
+        long currentBucket = nowMillis / bucketMillis;
+        int evicted = 0;
+        for (Map.Entry<String, Window> entry : windows.entrySet()) {
+            Window accountWindow = entry.getValue();
+            boolean idle;
+            synchronized (accountWindow) {
+                idle = currentBucket - accountWindow.lastBucket >= buckets;
+            }
+            // Si la cuenta vuelve a operar justo ahora, su siguiente transacción crea una ventana nueva
+            if (idle && windows.remove(entry.getKey(), accountWindow)) {
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    public int trackedAccounts() {
+        return windows.size();
+    }
+
+    public Duration window() {
+        return window;
+    }
+
+    /**
+     * Ventana deslizante de una cuenta. Protegida por su propio monitor.
+     */
+    private static final class Window {
+        private final long[] counts;
+        private final long[] amounts;
+        private long count;
+        private long amount;
+        private long lastBucket = Long.MIN_VALUE;
+
+        Window(int buckets) {
+            this.counts = new long[buckets];
+            this.amounts = new long[buckets];
+        }
+
+        void advance(long bucket) {
+            if (bucket <= lastBucket) {
+                return;
+            }
+            long steps = bucket - lastBucket;
+            if (lastBucket == Long.MIN_VALUE || steps >= counts.length) {
+                Arrays.fill(counts, 0);
+                Arrays.fill(amounts, 0);
+                count = 0;
+                amount = 0;
+            } else {
+                for (long b = lastBucket + 1; b <= bucket; b++) {
+                    int index = (int) Math.floorMod(b, (long) counts.length);
+                    count -= counts[index];
+                    amount -= amounts[index];
+                    counts[index] = 0;
+                    amounts[index] = 0;
+                }
+            }
+            lastBucket = bucket;
+        }
+
+        void add(long amountInMinorUnits) {
+            int index = (int) Math.floorMod(lastBucket, (long) counts.length);
+            counts[index]++;
+            amounts[index] = saturatedAdd(amounts[index], amountInMinorUnits);
+            count++;
+            amount = saturatedAdd(amount, amountInMinorUnits);
+        }
+
+        private static long saturatedAdd(long a, long b) {
+            long sum = a + b;
+            return ((a ^ sum) & (b ^ sum)) < 0 ? Long.MAX_VALUE : sum;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.versebank.accounts.domain.monitoring;
+
+import java.util.Objects;
+
+/**
+ * Monitor de transacciones vigente. Por defecto no vigila nada; la infraestructura instala el configurado.
+ */
+public final class TransactionMonitors {
+
+    private static volatile TransactionMonitor current = TransactionMonitor.disabled();
+
+    private TransactionMonitors() {}
+
+    public static TransactionMonitor current() {
+        return current;
+    }
+
+    public static void use(TransactionMonitor monitor) {
+        current = Objects.requireNonNull(monitor, "TransactionMonitor cannot be null");
+    }
+}
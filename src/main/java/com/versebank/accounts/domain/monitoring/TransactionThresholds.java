@@ -0,0 +1,19 @@
+package com.versebank.accounts.domain.monitoring;
+
+/**
+ * Umbrales de vigilancia de un tipo de cuenta, en céntimos. {@link Long#MAX_VALUE} desactiva un umbral.
+ *
+ * @param largeTransaction importe a partir del cual una transacción se considera grande
+ * @param maxCount         transacciones admitidas dentro de la ventana
+ * @param maxAmount        importe acumulado admitido dentro de la ventana
+ */
+public record TransactionThresholds(long largeTransaction, long maxCount, long maxAmount) {
+
+    public static final TransactionThresholds NONE = new TransactionThresholds(Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE);
+
+    public TransactionThresholds {
+        if (largeTransaction <= 0 || maxCount <= 0 || maxAmount <= 0) {
+            throw new IllegalArgumentException("Thresholds must be positive");
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.versebank.accounts.domain.support;
+
+import java.time.LocalDateTime;
+
+/**
+ * Puerto de dominio para obtener la hora actual de los sellos de tiempo de transacciones y eventos
+ */
+public interface DomainClock {
+
+    LocalDateTime now();
+
+    long currentTimeMillis();
+}
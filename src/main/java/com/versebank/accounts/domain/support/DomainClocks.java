@@ -0,0 +1,31 @@
+package com.versebank.accounts.domain.support;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Punto de acceso al reloj usado por las factorías del dominio.
+ * Por defecto consulta el reloj del sistema; la infraestructura instala un reloj de grano grueso en arranque.
+ */
+public final class DomainClocks {
+
+    private static volatile DomainClock clock = new SystemDomainClock();
+
+    private DomainClocks() {}
+
+    public static LocalDateTime now() {
+        return clock.now();
+    }
+
+    public static long currentTimeMillis() {
+        return clock.currentTimeMillis();
+    }
+
+    public static DomainClock current() {
+        return clock;
+    }
+
+    public static void use(DomainClock domainClock) {
+        clock = Objects.requireNonNull(domainClock, "DomainClock cannot be null");
+    }
+}
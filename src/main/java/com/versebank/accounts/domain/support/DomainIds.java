@@ -0,0 +1,26 @@
+package com.versebank.accounts.domain.support;
+
+import java.util.Objects;
+
+/**
+ * Punto de acceso al generador de identificadores usado por las factorías del dominio.
+ * Por defecto usa identificadores ordenados por tiempo; puede sustituirse en arranque o en tests.
+ */
+public final class DomainIds {
+
+    private static volatile IdGenerator generator = new TimeOrderedIdGenerator();
+
+    private DomainIds() {}
+
+    public static String nextId() {
+        return generator.nextId();
+    }
+
+    public static IdGenerator current() {
+        return generator;
+    }
+
+    public static void use(IdGenerator idGenerator) {
+        generator = Objects.requireNonNull(idGenerator, "IdGenerator cannot be null");
+    }
+}
@@ -0,0 +1,9 @@
+package com.versebank.accounts.domain.support;
+
+/**
+ * Puerto de dominio para la generación de identificadores de transacciones, eventos y cuentas
+ */
+public interface IdGenerator {
+
+    String nextId();
+}
@@ -0,0 +1,36 @@
+package com.versebank.accounts.domain.support;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Objects;
+
+/**
+ * Reloj determinista para tests: solo avanza cuando se le indica. Los milisegundos se calculan en UTC
+ */
+public final class ManualDomainClock implements DomainClock {
+
+    private volatile LocalDateTime now;
+
+    public ManualDomainClock(LocalDateTime start) {
+        this.now = Objects.requireNonNull(start, "Start time cannot be null");
+    }
+
+    @Override
+    public LocalDateTime now() {
+        return now;
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return now.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    public void set(LocalDateTime time) {
+        this.now = Objects.requireNonNull(time, "Time cannot be null");
+    }
+
+    public void advance(Duration duration) {
+        this.now = now.plus(duration);
+    }
+}
@@ -0,0 +1,19 @@
+package com.versebank.accounts.domain.support;
+
+import java.time.LocalDateTime;
+
+/**
+ * Reloj que consulta el reloj del sistema en cada llamada
+ */
+public final class SystemDomainClock implements DomainClock {
+
+    @Override
+    public LocalDateTime now() {
+        return LocalDateTime.now();
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,79 @@
+package com.versebank.accounts.domain.support;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generador de identificadores de 128 bits ordenados por tiempo con el formato de UUID versión 7.
+ * Los 48 bits altos son milisegundos desde epoch, seguidos de una secuencia de 12 bits que garantiza
+ * monotonía dentro del mismo hilo y 62 bits aleatorios. Cada hilo mantiene su propio estado,
+ * por lo que no hay contención ni dependencia de SecureRandom.
+ */
+public final class TimeOrderedIdGenerator implements IdGenerator {
+
+    private static final int MAX_SEQUENCE = 0xFFF;
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private static final ThreadLocal<State> STATE = ThreadLocal.withInitial(State::new);
+
+    @Override
+    public String nextId() {
+        State state = nextState();
+        return format(state.mostSignificantBits(), state.leastSignificantBits);
+    }
+
+    public UUID nextUuid() {
+        State state = nextState();
+        return new UUID(state.mostSignificantBits(), state.leastSignificantBits);
+    }
+
+    private static State nextState() {
+        State state = STATE.get();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long now = System.currentTimeMillis();
+
+        if (now > state.lastMillis) {
+            state.lastMillis = now;
+            // Empezar en la mitad inferior deja margen para incrementos dentro del mismo milisegundo
+            state.sequence = random.nextInt(MAX_SEQUENCE >> 1);
+        } else if (++state.sequence > MAX_SEQUENCE) {
+            // Secuencia agotada o reloj hacia atrás: avanzar el milisegundo lógico para seguir siendo monótonos
+            state.lastMillis++;
+            state.sequence = 0;
+        }
+        state.leastSignificantBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return state;
+    }
+
+    static String format(long msb, long lsb) {
+        byte[] buffer = new byte[36];
+        writeHex(buffer, 0, msb >>> 32, 8);
+        buffer[8] = '-';
+        writeHex(buffer, 9, msb >>> 16, 4);
+        buffer[13] = '-';
+        writeHex(buffer, 14, msb, 4);
+        buffer[18] = '-';
+        writeHex(buffer, 19, lsb >>> 48, 4);
+        buffer[23] = '-';
+        writeHex(buffer, 24, lsb, 12);
+        return new String(buffer, StandardCharsets.ISO_8859_1);
+    }
+
+    private static void writeHex(byte[] buffer, int offset, long value, int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            buffer[i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+
+    private static final class State {
+        private long lastMillis = -1L;
+        private int sequence;
+        private long leastSignificantBits;
+
+        private long mostSignificantBits() {
+            return (lastMillis << 16) | 0x7000L | sequence;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.versebank.accounts.domain.valueobjects;
 
+import com.versebank.accounts.domain.fees.FeeSchedules;
+
 public enum AccountType {
     CHECKING("Checking"),
     SAVINGS("Savings"),
@@ -18,21 +20,10 @@ public enum AccountType {
     }
 
     /**
-     * Calcula la comisión por transferencia basada en el tipo de cuenta
+     * Calcula la comisión por transferencia según la tabla de comisiones vigente
      */
     public java.math.BigDecimal calculateTransferFee(java.math.BigDecimal amount) {
-        if (amount == null) {
-            return java.math.BigDecimal.ZERO;
-        }
-        
-        // Cuentas Business tienen 1% de comisión con máximo $10
-        if (this == BUSINESS) {
-            java.math.BigDecimal fee = amount.multiply(java.math.BigDecimal.valueOf(0.01));
-            return fee.min(java.math.BigDecimal.valueOf(10));
-        }
-        
-        // Otros tipos no tienen comisión
-        return java.math.BigDecimal.ZERO;
+        return FeeSchedules.current().calculate(this, amount);
     }
 
     @Override
@@ -0,0 +1,39 @@
+package com.versebank.accounts.domain.valueobjects;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Conversión entre importes decimales y unidades menores (céntimos) para cálculos en aritmética entera
+ */
+public final class MinorUnits {
+
+    public static final int SCALE = 2;
+
+    private static final BigDecimal MAX = BigDecimal.valueOf(Long.MAX_VALUE);
+    private static final BigDecimal MIN = BigDecimal.valueOf(Long.MIN_VALUE);
+
+    private MinorUnits() {}
+
+    public static long of(BigDecimal amount) {
+        return amount.setScale(SCALE, RoundingMode.HALF_UP).scaleByPowerOfTen(SCALE).longValueExact();
+    }
+
+    /**
+     * Como {@link #of(BigDecimal)}, pero los importes fuera del rango de {@code long} se saturan en lugar de fallar
+     */
+    public static long saturatedOf(BigDecimal amount) {
+        BigDecimal scaled = amount.setScale(SCALE, RoundingMode.HALF_UP).scaleByPowerOfTen(SCALE);
+        if (scaled.compareTo(MAX) >= 0) {
+            return Long.MAX_VALUE;
+        }
+        if (scaled.compareTo(MIN) <= 0) {
+            return Long.MIN_VALUE;
+        }
+        return scaled.longValue();
+    }
+
+    public static BigDecimal toDecimal(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+}
@@ -1,9 +1,11 @@
 package com.versebank.accounts.domain.valueobjects;
 
+import com.versebank.accounts.domain.support.DomainClocks;
+import com.versebank.accounts.domain.support.DomainIds;
+
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Objects;
-import java.util.UUID;
 
 public final class Transaction {
     private final String transactionId;
@@ -11,6 +13,8 @@ public final class Transaction {
     private final BigDecimal amount;
     private final String description;
     private final TransactionType type;
+    // Importe en céntimos, calculado una vez para las evaluaciones en aritmética entera
+    private final long amountInMinorUnits;
 
     private Transaction(String transactionId, LocalDateTime timestamp, BigDecimal amount, 
                       String description, TransactionType type) {
@@ -35,12 +39,13 @@ public final class Transaction {
         this.amount = amount;
         this.description = description;
         this.type = type;
+        this.amountInMinorUnits = MinorUnits.saturatedOf(amount);
     }
 
     public static Transaction create(BigDecimal amount, String description, TransactionType type) {
         return new Transaction(
-            UUID.randomUUID().toString(),
-            LocalDateTime.now(),
+            DomainIds.nextId(),
+            DomainClocks.now(),
             amount,
             description,
             type
@@ -57,6 +62,7 @@ public final class Transaction {
     public BigDecimal getAmount() { return amount; }
     public String getDescription() { return description; }
     public TransactionType getType() { return type; }
+    public long getAmountInMinorUnits() { return amountInMinorUnits; }
 
     public boolean isDeposit() {
         return type == TransactionType.DEPOSIT;
@@ -0,0 +1,64 @@
+package com.versebank.accounts.infrastructure.batch;
+
+import com.versebank.accounts.domain.events.AccountOpenedEvent;
+import com.versebank.accounts.domain.events.DomainEvent;
+import com.versebank.accounts.domain.events.MoneyMovementEvent;
+import com.versebank.accounts.domain.valueobjects.Balance;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+
+/**
+ * Proyección con el saldo de cada cuenta según su histórico de eventos, en {@code account_event_balances}.
+ * <p>
+ * Cada apertura o movimiento deja el saldo que lleva el evento, así que aplicar de nuevo los eventos de una cuenta
+ * en orden deja el mismo resultado. Comparada con {@code accounts}, muestra las cuentas cuyo saldo no cuadra con
+ * sus movimientos; los abonos de intereses también son movimientos y se reflejan aquí.
+ */
+public class AccountBalanceProjection implements EventProjection {
+
+    static final String NAME = "account-event-balances";
+
+    private static final String DELETE_ALL = "DELETE FROM account_event_balances";
+    private static final String UPDATE =
+        "UPDATE account_event_balances SET balance = ?, last_event_id = ?, last_event_at = ? WHERE account_id = ?";
+    private static final String INSERT =
+        "INSERT INTO account_event_balances (account_id, balance, last_event_id, last_event_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AccountBalanceProjection(DataSource dataSource) {
+        if (dataSource == null) {
+            throw new NullPointerException("DataSource cannot be null");
+        }
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void reset() {
+        jdbcTemplate.update(DELETE_ALL);
+    }
+
+    @Override
+    public void apply(String accountId, DomainEvent event) {
+        Balance balance;
+        if (event instanceof MoneyMovementEvent movement) {
+            balance = movement.getNewBalance();
+        } else if (event instanceof AccountOpenedEvent opened) {
+            balance = opened.getInitialBalance();
+        } else {
+            return;
+        }
+        Timestamp occurredAt = Timestamp.valueOf(event.getOccurredAt());
+        // Los eventos de una cuenta se aplican en serie, así que no hay carrera entre la actualización y la inserción
+        if (jdbcTemplate.update(UPDATE, balance.getAmount(), event.getEventId(), occurredAt, accountId) == 0) {
+            jdbcTemplate.update(INSERT, accountId, balance.getAmount(), event.getEventId(), occurredAt);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.versebank.accounts.infrastructure.batch;
+
+import com.versebank.accounts.domain.events.DomainEvent;
+
+/**
+ * Modelo de lectura que se puede reconstruir a partir del histórico de eventos.
+ * <p>
+ * Durante una reconstrucción {@link #apply(String, DomainEvent)} se invoca en paralelo para cuentas distintas,
+ * pero siempre en serie y en orden para los eventos de una misma cuenta. Al reanudar una reconstrucción
+ * interrumpida pueden volver a aplicarse los eventos de las cuentas posteriores al punto de control.
+ */
+public interface EventProjection {
+
+    String name();
+
+    /**
+     * Descarta el estado actual antes de reconstruir desde el principio
+     */
+    void reset();
+
+    void apply(String accountId, DomainEvent event);
+}
@@ -0,0 +1,32 @@
+package com.versebank.accounts.infrastructure.batch;
+
+import com.versebank.accounts.application.port.out.DomainEventHistory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Configura la reconstrucción de proyecciones desde el histórico de eventos (prefijo {@code versebank.batch.replay})
+ */
+@Configuration
+public class EventReplayConfiguration {
+
+    @Bean
+    public AccountBalanceProjection accountBalanceProjection(DataSource dataSource) {
+        return new AccountBalanceProjection(dataSource);
+    }
+
+    @Bean
+    public EventReplayJob eventReplayJob(DomainEventHistory history,
+                                         ObjectProvider<EventProjection> projections,
+                                         DataSource dataSource,
+                                         @Value("${versebank.batch.replay.chunk-size:1000}") int chunkSize,
+                                         @Value("${versebank.batch.replay.workers:0}") int workers,
+                                         @Value("${versebank.batch.replay.lane-capacity:1024}") int laneCapacity) {
+        int threads = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        return new EventReplayJob(history, projections.orderedStream().toList(), dataSource, chunkSize, threads, laneCapacity);
+    }
+}
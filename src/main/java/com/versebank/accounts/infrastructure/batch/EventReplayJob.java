@@ -0,0 +1,269 @@
+package com.versebank.accounts.infrastructure.batch;
+
+import com.versebank.accounts.application.port.out.DomainEventHistory;
+import com.versebank.accounts.domain.events.DomainEvent;
+import com.versebank.accounts.domain.support.DomainClocks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reconstruye las proyecciones registradas reproduciendo el histórico de eventos de dominio.
+ * <p>
+ * Las cuentas se leen por bloques ordenados por id y cada una se asigna a un trabajador según su id, de modo
+ * que los eventos de una cuenta se aplican siempre en el mismo hilo y en su orden original, mientras que
+ * cuentas distintas se reproducen en paralelo. Cada trabajador tiene una cola acotada, así que la lectura
+ * no se adelanta más de lo que los trabajadores pueden absorber. El punto de control avanza en orden de
+ * lectura cuando un bloque está aplicado entero; una ejecución interrumpida se reanuda tras el último
+ * bloque contiguo confirmado, y una ejecución tras otra completada reconstruye desde cero.
+ */
+public class EventReplayJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventReplayJob.class);
+
+    static final String JOB_NAME = "event-replay";
+    static final String STATUS_RUNNING = "RUNNING";
+    static final String STATUS_COMPLETED = "COMPLETED";
+    static final String STATUS_FAILED = "FAILED";
+
+    private static final String SELECT_CHECKPOINT =
+        "SELECT last_key, processed, status FROM batch_checkpoint WHERE id = ?";
+    private static final String INSERT_CHECKPOINT =
+        "INSERT INTO batch_checkpoint (id, last_key, processed, status, updated_at) VALUES (?, ?, 0, ?, ?)";
+    private static final String UPDATE_CHECKPOINT =
+        "UPDATE batch_checkpoint SET last_key = ?, processed = ?, status = ?, updated_at = ? WHERE id = ?";
+    private static final String UPDATE_CHECKPOINT_STATUS =
+        "UPDATE batch_checkpoint SET status = ?, updated_at = ? WHERE id = ?";
+
+    private final DomainEventHistory history;
+    private final EventProjection[] projections;
+    private final JdbcTemplate jdbcTemplate;
+    private final int chunkSize;
+    private final int workers;
+    private final int laneCapacity;
+
+    public EventReplayJob(DomainEventHistory history, List<? extends EventProjection> projections, DataSource dataSource,
+                          int chunkSize, int workers, int laneCapacity) {
+        if (history == null || projections == null || dataSource == null) {
+            throw new NullPointerException("Event history, projections and DataSource cannot be null");
+        }
+        if (chunkSize <= 0 || workers <= 0 || laneCapacity <= 0) {
+            throw new IllegalArgumentException("Chunk size, workers and lane capacity must be positive");
+        }
+        this.history = history;
+        this.projections = projections.toArray(new EventProjection[0]);
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.chunkSize = chunkSize;
+        this.workers = workers;
+        this.laneCapacity = laneCapacity;
+    }
+
+    /**
+     * Reproduce el histórico sobre las proyecciones, reanudando una ejecución interrumpida si la hay
+     */
+    public EventReplayReport run() {
+        Checkpoint checkpoint = loadCheckpoint();
+        String resumedFrom = null;
+        String cursor = "";
+        long processed = 0;
+        if (checkpoint != null && !STATUS_COMPLETED.equals(checkpoint.status())) {
+            cursor = checkpoint.lastKey();
+            processed = checkpoint.processed();
+            resumedFrom = cursor.isEmpty() ? null : cursor;
+            jdbcTemplate.update(UPDATE_CHECKPOINT_STATUS, STATUS_RUNNING, now(), JOB_NAME);
+            if (resumedFrom != null) {
+                logger.info("Resuming event replay after account {}", resumedFrom);
+            }
+        } else {
+            for (EventProjection projection : projections) {
+                projection.reset();
+            }
+            if (checkpoint == null) {
+                jdbcTemplate.update(INSERT_CHECKPOINT, JOB_NAME, "", STATUS_RUNNING, now());
+            } else {
+                jdbcTemplate.update(UPDATE_CHECKPOINT, "", 0, STATUS_RUNNING, now(), JOB_NAME);
+            }
+        }
+
+        long start = System.nanoTime();
+        long accounts = 0;
+        long events = 0;
+        int chunks = 0;
+        Lane[] lanes = new Lane[workers];
+        ExecutorService pool = Executors.newFixedThreadPool(workers, daemonThreads());
+        for (int i = 0; i < workers; i++) {
+            lanes[i] = new Lane(laneCapacity);
+            pool.execute(lanes[i]);
+        }
+        Deque<ChunkTracker> inFlight = new ArrayDeque<>();
+        try {
+            List<String> accountIds;
+            while (!(accountIds = history.findEventStreamIdsAfter(cursor, chunkSize)).isEmpty()) {
+                cursor = accountIds.get(accountIds.size() - 1);
+                ChunkTracker chunk = new ChunkTracker(cursor, accountIds.size());
+                inFlight.add(chunk);
+                for (String accountId : accountIds) {
+                    lanes[Math.floorMod(accountId.hashCode(), workers)].put(new Replay(accountId, chunk));
+                }
+                while (!inFlight.isEmpty() && (inFlight.size() >= workers * 2 || inFlight.peek().result.isDone())) {
+                    ChunkResult result = complete(inFlight.poll(), processed);
+                    processed += result.accounts();
+                    accounts += result.accounts();
+                    events += result.events();
+                    chunks++;
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                ChunkResult result = complete(inFlight.poll(), processed);
+                processed += result.accounts();
+                accounts += result.accounts();
+                events += result.events();
+                chunks++;
+            }
+            jdbcTemplate.update(UPDATE_CHECKPOINT_STATUS, STATUS_COMPLETED, now(), JOB_NAME);
+        } catch (RuntimeException e) {
+            jdbcTemplate.update(UPDATE_CHECKPOINT_STATUS, STATUS_FAILED, now(), JOB_NAME);
+            logger.error("Event replay failed after {} accounts", processed, e);
+            throw e;
+        } finally {
+            pool.shutdownNow();
+        }
+
+        EventReplayReport report = new EventReplayReport(accounts, events, chunks, workers,
+            Duration.ofNanos(System.nanoTime() - start), resumedFrom);
+        logger.info("{}", report);
+        return report;
+    }
+
+    /**
+     * Espera a que el bloque esté aplicado y avanza el punto de control. Se invoca en orden de lectura.
+     */
+    private ChunkResult complete(ChunkTracker chunk, long processedBefore) {
+        ChunkResult result;
+        try {
+            result = chunk.result.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException runtime ? runtime : new IllegalStateException(e.getCause());
+        }
+        jdbcTemplate.update(UPDATE_CHECKPOINT, result.lastKey(), processedBefore + result.accounts(), STATUS_RUNNING, now(), JOB_NAME);
+        return result;
+    }
+
+    private Checkpoint loadCheckpoint() {
+        List<Checkpoint> rows = jdbcTemplate.query(SELECT_CHECKPOINT,
+            (rs, rowNum) -> new Checkpoint(rs.getString(1) == null ? "" : rs.getString(1), rs.getLong(2), rs.getString(3)),
+            JOB_NAME);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    private static Timestamp now() {
+        return Timestamp.valueOf(DomainClocks.now());
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger index = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "event-replay-" + index.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Cola de cuentas de un trabajador; las cuentas se reproducen en el orden en que se encolan
+     */
+    private final class Lane implements Runnable {
+
+        private final BlockingQueue<Replay> queue;
+
+        Lane(int capacity) {
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+
+        void put(Replay replay) {
+            try {
+                queue.put(replay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while queueing account " + replay.accountId(), e);
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    Replay replay = queue.take();
+                    try {
+                        replay.chunk().applied(replay(replay.accountId()));
+                    } catch (RuntimeException e) {
+                        replay.chunk().failed(new IllegalStateException("Replay failed for account " + replay.accountId(), e));
+                    }
+                }
+            } catch (InterruptedException e) {
+                // Fin de la ejecución
+            }
+        }
+
+        private int replay(String accountId) {
+            List<DomainEvent> accountEvents = history.getDomainEvents(accountId);
+            for (DomainEvent event : accountEvents) {
+                for (EventProjection projection : projections) {
+                    projection.apply(accountId, event);
+                }
+            }
+            return accountEvents.size();
+        }
+    }
+
+    /**
+     * Cuentas pendientes de un bloque y eventos aplicados; se completa cuando se han aplicado todas
+     */
+    private static final class ChunkTracker {
+
+        private final String lastKey;
+        private final int size;
+        private final AtomicInteger remaining;
+        private final AtomicLong events = new AtomicLong();
+        private final CompletableFuture<ChunkResult> result = new CompletableFuture<>();
+
+        ChunkTracker(String lastKey, int size) {
+            this.lastKey = lastKey;
+            this.size = size;
+            this.remaining = new AtomicInteger(size);
+        }
+
+        void applied(int accountEvents) {
+            events.addAndGet(accountEvents);
+            if (remaining.decrementAndGet() == 0) {
+                result.complete(new ChunkResult(lastKey, size, events.get()));
+            }
+        }
+
+        void failed(RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    private record Replay(String accountId, ChunkTracker chunk) {}
+
+    private record ChunkResult(String lastKey, int accounts, long events) {}
+
+    private record Checkpoint(String lastKey, long processed, String status) {}
+}
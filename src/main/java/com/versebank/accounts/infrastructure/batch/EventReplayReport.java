@@ -0,0 +1,34 @@
+package com.versebank.accounts.infrastructure.batch;
+
+import java.time.Duration;
+
+/**
+ * Resultado de una reconstrucción de proyecciones
+ *
+ * @param accountsReplayed cuentas cuyo histórico se ha aplicado en esta ejecución
+ * @param eventsReplayed   eventos aplicados en esta ejecución
+ * @param resumedFrom      última cuenta confirmada por una ejecución anterior, o {@code null} si empezó desde cero
+ */
+public record EventReplayReport(long accountsReplayed,
+                                long eventsReplayed,
+                                int chunks,
+                                int workers,
+                                Duration elapsed,
+                                String resumedFrom) {
+
+    public double eventsPerSecond() {
+        long nanos = elapsed.toNanos();
+        return nanos == 0 ? 0 : eventsReplayed * 1_000_000_000d / nanos;
+    }
+
+    public boolean resumed() {
+        return resumedFrom != null;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("EventReplayReport{accounts=%d, events=%d, chunks=%d, workers=%d, elapsed=%dms, %.1f events/s%s}",
+            accountsReplayed, eventsReplayed, chunks, workers, elapsed.toMillis(), eventsPerSecond(),
+            resumed() ? ", resumed after " + resumedFrom : "");
+    }
+}
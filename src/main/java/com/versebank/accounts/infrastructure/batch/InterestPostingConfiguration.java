@@ -0,0 +1,30 @@
+package com.versebank.accounts.infrastructure.batch;
+
+import com.versebank.accounts.application.port.out.DomainEventPublisher;
+import com.versebank.accounts.domain.AccountDomainService;
+import com.versebank.accounts.infrastructure.events.codec.BinaryDomainEventCodec;
+import com.versebank.accounts.infrastructure.persistence.JdbcDomainEventStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+
+/**
+ * Configura el proceso de interés de fin de día (prefijo {@code versebank.batch.interest})
+ */
+@Configuration
+public class InterestPostingConfiguration {
+
+    @Bean
+    public InterestPostingJob interestPostingJob(DataSource dataSource,
+                                                 PlatformTransactionManager transactionManager,
+                                                 DomainEventPublisher eventPublisher,
+                                                 @Value("${versebank.batch.interest.chunk-size:500}") int chunkSize,
+                                                 @Value("${versebank.batch.interest.parallelism:0}") int parallelism) {
+        int workers = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        return new InterestPostingJob(dataSource, transactionManager, new AccountDomainService(),
+            new JdbcDomainEventStore(dataSource, BinaryDomainEventCodec.standard()), eventPublisher, chunkSize, workers);
+    }
+}
@@ -0,0 +1,329 @@
+package com.versebank.accounts.infrastructure.batch;
+
+import com.versebank.accounts.application.port.out.DomainEventPublisher;
+import com.versebank.accounts.domain.AccountDomainService;
+import com.versebank.accounts.domain.AccountId;
+import com.versebank.accounts.domain.events.InterestPostedEvent;
+import com.versebank.accounts.domain.support.DomainClocks;
+import com.versebank.accounts.domain.support.DomainIds;
+import com.versebank.accounts.domain.valueobjects.AccountType;
+import com.versebank.accounts.domain.valueobjects.Balance;
+import com.versebank.accounts.domain.valueobjects.MinorUnits;
+import org.slf4j.Logger;
+import com.versebank.accounts.infrastructure.persistence.JdbcDomainEventStore;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Proceso de fin de día que abona el interés diario a las cuentas de ahorro.
+ * <p>
+ * Las cuentas se leen por bloques ordenados por id (paginación por clave) y cada bloque se procesa en un
+ * {@link ForkJoinPool}: el devengo se calcula en paralelo y el abono de saldos y los apuntes del libro de
+ * intereses se escriben con JDBC por lotes en una única transacción por bloque. En esa misma transacción cada
+ * abono deja un {@link InterestPostedEvent} en el histórico de la cuenta, de modo que la reconstrucción desde
+ * los eventos incluye los intereses; tras confirmar el bloque se publican para que cachés y suscriptores los
+ * vean como cualquier otro movimiento. El punto de control avanza
+ * en orden de lectura, de modo que una ejecución interrumpida se reanuda tras el último bloque contiguo
+ * confirmado. La restricción única del libro por cuenta y fecha, y el filtro de lectura sobre ella,
+ * garantizan que ningún bloque confirmado fuera de orden se abone dos veces.
+ */
+public class InterestPostingJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(InterestPostingJob.class);
+
+    static final String JOB_NAME = "interest-posting";
+    static final String STATUS_RUNNING = "RUNNING";
+    static final String STATUS_COMPLETED = "COMPLETED";
+    static final String STATUS_FAILED = "FAILED";
+
+    private static final int ACCRUAL_THRESHOLD = 256;
+
+    private static final String SELECT_CHUNK =
+        "SELECT a.id, a.balance FROM accounts a " +
+        "WHERE a.account_type = ? AND a.id > ? " +
+        "AND NOT EXISTS (SELECT 1 FROM interest_ledger l WHERE l.account_id = a.id AND l.posting_date = ?) " +
+        "ORDER BY a.id FETCH FIRST ? ROWS ONLY";
+    private static final String UPDATE_BALANCE =
+        "UPDATE accounts SET balance = balance + ?, updated_at = ?, version = version + 1 WHERE id = ?";
+    private static final String INSERT_LEDGER =
+        "INSERT INTO interest_ledger (id, account_id, posting_date, amount, created_at) VALUES (?, ?, ?, ?, ?)";
+    private static final String SELECT_BALANCES = "SELECT id, balance FROM accounts WHERE id IN (%s) ORDER BY id";
+    private static final String SELECT_CHECKPOINT =
+        "SELECT last_key, processed, status FROM batch_checkpoint WHERE id = ?";
+    private static final String INSERT_CHECKPOINT =
+        "INSERT INTO batch_checkpoint (id, last_key, processed, status, updated_at) VALUES (?, ?, 0, ?, ?)";
+    private static final String UPDATE_CHECKPOINT =
+        "UPDATE batch_checkpoint SET last_key = ?, processed = ?, status = ?, updated_at = ? WHERE id = ?";
+    private static final String UPDATE_CHECKPOINT_STATUS =
+        "UPDATE batch_checkpoint SET status = ?, updated_at = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AccountDomainService accountDomainService;
+    private final JdbcDomainEventStore eventStore;
+    private final DomainEventPublisher eventPublisher;
+    private final int chunkSize;
+    private final int parallelism;
+
+    public InterestPostingJob(DataSource dataSource, PlatformTransactionManager transactionManager,
+                              AccountDomainService accountDomainService, JdbcDomainEventStore eventStore,
+                              DomainEventPublisher eventPublisher, int chunkSize, int parallelism) {
+        if (dataSource == null || transactionManager == null || accountDomainService == null
+            || eventStore == null || eventPublisher == null) {
+            throw new NullPointerException("DataSource, transaction manager, domain service and event store/publisher cannot be null");
+        }
+        if (chunkSize <= 0 || parallelism <= 0) {
+            throw new IllegalArgumentException("Chunk size and parallelism must be positive");
+        }
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(chunkSize);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.accountDomainService = accountDomainService;
+        this.eventStore = eventStore;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Abona el interés del día indicado. Es idempotente: repetir la ejecución de una fecha ya
+     * completada no abona nada y una ejecución interrumpida continúa donde se quedó.
+     */
+    public InterestPostingReport run(LocalDate postingDate) {
+        if (postingDate == null) {
+            throw new IllegalArgumentException("Posting date cannot be null");
+        }
+        String checkpointId = JOB_NAME + ":" + postingDate;
+        Checkpoint checkpoint = loadCheckpoint(checkpointId);
+        if (checkpoint != null && STATUS_COMPLETED.equals(checkpoint.status())) {
+            logger.info("Interest for {} already posted, skipping", postingDate);
+            return new InterestPostingReport(postingDate, 0, 0, BigDecimal.ZERO.setScale(MinorUnits.SCALE), 0, Duration.ZERO, checkpoint.lastKey());
+        }
+        if (checkpoint == null) {
+            checkpoint = new Checkpoint("", 0, STATUS_RUNNING);
+            jdbcTemplate.update(INSERT_CHECKPOINT, checkpointId, checkpoint.lastKey(), STATUS_RUNNING, now());
+        }
+        String resumedFrom = checkpoint.lastKey().isEmpty() ? null : checkpoint.lastKey();
+        if (resumedFrom != null) {
+            logger.info("Resuming interest posting for {} after account {}", postingDate, resumedFrom);
+        }
+
+        long start = System.nanoTime();
+        Progress progress = new Progress(checkpoint.processed());
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        Deque<ForkJoinTask<ChunkResult>> inFlight = new ArrayDeque<>();
+        try {
+            String cursor = checkpoint.lastKey();
+            Chunk chunk;
+            while ((chunk = readChunk(cursor, postingDate)).size > 0) {
+                cursor = chunk.lastKey();
+                inFlight.add(pool.submit(new PostChunkTask(chunk, postingDate)));
+                // Se acota el trabajo pendiente para leer en streaming sin cargar toda la cartera
+                while (!inFlight.isEmpty() && (inFlight.size() >= parallelism * 2 || inFlight.peek().isDone())) {
+                    complete(checkpointId, inFlight.poll().join(), progress);
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                complete(checkpointId, inFlight.poll().join(), progress);
+            }
+            jdbcTemplate.update(UPDATE_CHECKPOINT_STATUS, STATUS_COMPLETED, now(), checkpointId);
+        } catch (RuntimeException e) {
+            // Los bloques aún en vuelo se confirman o se deshacen enteros; el punto de control queda en el último contiguo
+            inFlight.forEach(task -> task.cancel(false));
+            jdbcTemplate.update(UPDATE_CHECKPOINT_STATUS, STATUS_FAILED, now(), checkpointId);
+            logger.error("Interest posting for {} failed after {} accounts", postingDate, progress.processed, e);
+            throw e;
+        } finally {
+            pool.shutdown();
+        }
+
+        InterestPostingReport report = new InterestPostingReport(postingDate, progress.scanned, progress.posted,
+            MinorUnits.toDecimal(progress.interest), progress.chunks, Duration.ofNanos(System.nanoTime() - start), resumedFrom);
+        logger.info("{}", report);
+        return report;
+    }
+
+    private Chunk readChunk(String afterKey, LocalDate postingDate) {
+        Chunk chunk = new Chunk(chunkSize);
+        jdbcTemplate.query(SELECT_CHUNK, rs -> {
+            chunk.add(rs.getString(1), MinorUnits.of(rs.getBigDecimal(2)));
+        }, AccountType.SAVINGS.name(), afterKey, Date.valueOf(postingDate), chunkSize);
+        return chunk;
+    }
+
+    private Checkpoint loadCheckpoint(String checkpointId) {
+        List<Checkpoint> rows = jdbcTemplate.query(SELECT_CHECKPOINT,
+            (rs, rowNum) -> new Checkpoint(rs.getString(1) == null ? "" : rs.getString(1), rs.getLong(2), rs.getString(3)),
+            checkpointId);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    /**
+     * Acumula un bloque confirmado y avanza el punto de control. Se invoca en orden de lectura.
+     */
+    private void complete(String checkpointId, ChunkResult result, Progress progress) {
+        progress.add(result);
+        jdbcTemplate.update(UPDATE_CHECKPOINT, result.lastKey(), progress.processed, STATUS_RUNNING, now(), checkpointId);
+    }
+
+    private static Timestamp now() {
+        return Timestamp.valueOf(DomainClocks.now());
+    }
+
+    /**
+     * Calcula el devengo de un bloque en paralelo y lo confirma en una única transacción
+     */
+    private final class PostChunkTask extends RecursiveTask<ChunkResult> {
+
+        private final Chunk chunk;
+        private final LocalDate postingDate;
+
+        PostChunkTask(Chunk chunk, LocalDate postingDate) {
+            this.chunk = chunk;
+            this.postingDate = postingDate;
+        }
+
+        @Override
+        protected ChunkResult compute() {
+            new AccrualTask(chunk, 0, chunk.size).invoke();
+
+            List<Object[]> balanceUpdates = new ArrayList<>(chunk.size);
+            List<Object[]> ledgerEntries = new ArrayList<>(chunk.size);
+            Map<String, BigDecimal> credited = new HashMap<>();
+            Timestamp postedAt = now();
+            Date date = Date.valueOf(postingDate);
+            long total = 0;
+            for (int i = 0; i < chunk.size; i++) {
+                long accrued = chunk.interest[i];
+                if (accrued == 0) {
+                    continue;
+                }
+                BigDecimal amount = MinorUnits.toDecimal(accrued);
+                balanceUpdates.add(new Object[] {amount, postedAt, chunk.ids[i]});
+                ledgerEntries.add(new Object[] {DomainIds.nextId(), chunk.ids[i], date, amount, postedAt});
+                credited.put(chunk.ids[i], amount);
+                total += accrued;
+            }
+            if (!ledgerEntries.isEmpty()) {
+                List<InterestPostedEvent> events = transactionTemplate.execute(status -> {
+                    jdbcTemplate.batchUpdate(INSERT_LEDGER, ledgerEntries);
+                    jdbcTemplate.batchUpdate(UPDATE_BALANCE, balanceUpdates);
+                    List<InterestPostedEvent> posted = interestEvents(credited);
+                    eventStore.appendAll(posted);
+                    return posted;
+                });
+                events.forEach(eventPublisher::publish);
+            }
+            return new ChunkResult(chunk.lastKey(), chunk.size, ledgerEntries.size(), total);
+        }
+    }
+
+    /**
+     * Crea los eventos de los abonos con el saldo resultante, leído con las filas ya bloqueadas por la actualización
+     */
+    private List<InterestPostedEvent> interestEvents(Map<String, BigDecimal> credited) {
+        String placeholders = String.join(", ", Collections.nCopies(credited.size(), "?"));
+        return jdbcTemplate.query(String.format(SELECT_BALANCES, placeholders),
+            (rs, rowNum) -> new InterestPostedEvent(AccountId.of(rs.getString(1)),
+                Balance.of(credited.get(rs.getString(1))), Balance.of(rs.getBigDecimal(2))),
+            credited.keySet().toArray());
+    }
+
+    /**
+     * Divide el cálculo del devengo de un bloque hasta un umbral y lo resuelve por mitades
+     */
+    private final class AccrualTask extends RecursiveAction {
+
+        private final Chunk chunk;
+        private final int from;
+        private final int to;
+
+        AccrualTask(Chunk chunk, int from, int to) {
+            this.chunk = chunk;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= ACCRUAL_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    chunk.interest[i] = accountDomainService.calculateDailyInterest(chunk.balances[i]);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new AccrualTask(chunk, from, middle), new AccrualTask(chunk, middle, to));
+        }
+    }
+
+    /**
+     * Bloque de cuentas leído de la base de datos, en arrays paralelos
+     */
+    private static final class Chunk {
+        final String[] ids;
+        final long[] balances;
+        final long[] interest;
+        int size;
+
+        Chunk(int capacity) {
+            this.ids = new String[capacity];
+            this.balances = new long[capacity];
+            this.interest = new long[capacity];
+        }
+
+        void add(String id, long balance) {
+            ids[size] = id;
+            balances[size] = balance;
+            size++;
+        }
+
+        String lastKey() {
+            return ids[size - 1];
+        }
+    }
+
+    private static final class Progress {
+        long processed;
+        long scanned;
+        long posted;
+        long interest;
+        int chunks;
+
+        Progress(long processed) {
+            this.processed = processed;
+        }
+
+        void add(ChunkResult result) {
+            processed += result.scanned();
+            scanned += result.scanned();
+            posted += result.posted();
+            interest += result.interest();
+            chunks++;
+        }
+    }
+
+    private record ChunkResult(String lastKey, int scanned, int posted, long interest) {}
+
+    private record Checkpoint(String lastKey, long processed, String status) {}
+}
@@ -0,0 +1,37 @@
+package com.versebank.accounts.infrastructure.batch;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+
+/**
+ * Resultado de una ejecución del proceso de interés
+ *
+ * @param accountsScanned cuentas de ahorro leídas en esta ejecución
+ * @param accountsPosted  cuentas a las que se ha abonado interés
+ * @param resumedFrom     última cuenta confirmada por una ejecución anterior, o {@code null} si empezó desde cero
+ */
+public record InterestPostingReport(LocalDate postingDate,
+                                    long accountsScanned,
+                                    long accountsPosted,
+                                    BigDecimal totalInterest,
+                                    int chunks,
+                                    Duration elapsed,
+                                    String resumedFrom) {
+
+    public double accountsPerSecond() {
+        long nanos = elapsed.toNanos();
+        return nanos == 0 ? 0 : accountsScanned * 1_000_000_000d / nanos;
+    }
+
+    public boolean resumed() {
+        return resumedFrom != null;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("InterestPostingReport{date=%s, scanned=%d, posted=%d, interest=%s, chunks=%d, elapsed=%dms, %.1f accounts/s%s}",
+            postingDate, accountsScanned, accountsPosted, totalInterest, chunks, elapsed.toMillis(), accountsPerSecond(),
+            resumed() ? ", resumed after " + resumedFrom : "");
+    }
+}
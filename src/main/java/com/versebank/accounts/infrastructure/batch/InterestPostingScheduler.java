@@ -0,0 +1,28 @@
+package com.versebank.accounts.infrastructure.batch;
+
+import com.versebank.accounts.domain.support.DomainClocks;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Lanza el proceso de interés al cierre del día, abonando el día que acaba de terminar.
+ * Solo se activa con {@code versebank.batch.interest.enabled=true}.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "versebank.batch.interest", name = "enabled", havingValue = "true")
+public class InterestPostingScheduler {
+
+    private final InterestPostingJob job;
+
+    public InterestPostingScheduler(InterestPostingJob job) {
+        this.job = job;
+    }
+
+    @Scheduled(cron = "${versebank.batch.interest.cron:0 5 0 * * *}")
+    public void postEndOfDayInterest() {
+        job.run(DomainClocks.now().toLocalDate().minusDays(1));
+    }
+}
@@ -0,0 +1,48 @@
+package com.versebank.accounts.infrastructure.config;
+
+import com.versebank.accounts.domain.fees.FeeRule;
+import com.versebank.accounts.domain.fees.FeeSchedule;
+import com.versebank.accounts.domain.fees.FeeSchedules;
+import com.versebank.accounts.domain.valueobjects.AccountType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import jakarta.annotation.PostConstruct;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compila la tabla de comisiones configurada y la instala en el dominio.
+ * {@link #reload(Map)} permite sustituirla en caliente sin reiniciar.
+ */
+@Configuration
+@EnableConfigurationProperties(FeeScheduleProperties.class)
+public class FeeScheduleConfiguration {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeeScheduleConfiguration.class);
+
+    private final FeeScheduleProperties properties;
+
+    public FeeScheduleConfiguration(FeeScheduleProperties properties) {
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    void install() {
+        if (properties.getSchedules().isEmpty()) {
+            logger.info("No fee schedule configured, keeping default schedule");
+            return;
+        }
+        reload(properties.toRules());
+    }
+
+    public FeeSchedule reload(Map<AccountType, List<FeeRule>> rules) {
+        // Se compila antes de publicar: una configuración inválida nunca sustituye a la vigente
+        FeeSchedule schedule = FeeSchedule.compile(rules);
+        FeeSchedules.swap(schedule);
+        logger.info("Fee schedule installed for account types {}", rules.keySet());
+        return schedule;
+    }
+}
@@ -0,0 +1,56 @@
+package com.versebank.accounts.infrastructure.config;
+
+import com.versebank.accounts.domain.fees.FeeRule;
+import com.versebank.accounts.domain.valueobjects.AccountType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reglas de comisión por tipo de cuenta (prefijo {@code versebank.fees})
+ */
+@ConfigurationProperties(prefix = "versebank.fees")
+public class FeeScheduleProperties {
+
+    private Map<AccountType, List<Tier>> schedules = new EnumMap<>(AccountType.class);
+
+    public Map<AccountType, List<Tier>> getSchedules() { return schedules; }
+    public void setSchedules(Map<AccountType, List<Tier>> schedules) { this.schedules = schedules; }
+
+    public Map<AccountType, List<FeeRule>> toRules() {
+        Map<AccountType, List<FeeRule>> rules = new EnumMap<>(AccountType.class);
+        schedules.forEach((type, tiers) -> {
+            List<FeeRule> typeRules = new ArrayList<>(tiers.size());
+            tiers.forEach(tier -> typeRules.add(tier.toRule()));
+            rules.put(type, typeRules);
+        });
+        return rules;
+    }
+
+    public static class Tier {
+        private BigDecimal upTo;
+        private BigDecimal percentage;
+        private BigDecimal flat;
+        private BigDecimal min;
+        private BigDecimal max;
+
+        public BigDecimal getUpTo() { return upTo; }
+        public void setUpTo(BigDecimal upTo) { this.upTo = upTo; }
+        public BigDecimal getPercentage() { return percentage; }
+        public void setPercentage(BigDecimal percentage) { this.percentage = percentage; }
+        public BigDecimal getFlat() { return flat; }
+        public void setFlat(BigDecimal flat) { this.flat = flat; }
+        public BigDecimal getMin() { return min; }
+        public void setMin(BigDecimal min) { this.min = min; }
+        public BigDecimal getMax() { return max; }
+        public void setMax(BigDecimal max) { this.max = max; }
+
+        FeeRule toRule() {
+            return new FeeRule(upTo, percentage, flat, min, max);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.versebank.accounts.infrastructure.config;
+
+import com.versebank.accounts.application.ReactiveAccountService;
+import com.versebank.accounts.application.port.out.DomainEventPublisher;
+import com.versebank.accounts.application.port.out.ReactiveNotificationPort;
+import com.versebank.accounts.infrastructure.notification.AsyncNotificationDispatcher;
+import com.versebank.accounts.infrastructure.notification.NotificationOutbox;
+import com.versebank.accounts.infrastructure.notification.ReactiveNotificationAdapter;
+import com.versebank.accounts.infrastructure.notification.ReactiveNotificationOutbox;
+import com.versebank.accounts.infrastructure.persistence.ReactiveAccountRepositoryAdapter;
+import com.versebank.accounts.infrastructure.web.ReactiveAccountHandler;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+/**
+ * Pila reactiva de cuentas (perfil {@code reactive}): R2DBC sobre la base de datos que crea JPA y rutas WebFlux.
+ * <p>
+ * Ni la {@code ConnectionFactory} ni el gestor de transacciones R2DBC se registran como beans: con la primera
+ * Spring Boot dejaría de configurar el {@code DataSource} de JPA, y con el segundo {@code @Transactional} dejaría
+ * de resolver sin ambigüedad al gestor de JPA.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveAccountsConfiguration {
+
+    /**
+     * Netty en lugar del Tomcat que trae la pila MVC, que Spring Boot elegiría primero: pocos hilos de E/S
+     * atienden todas las conexiones
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean
+    public DatabaseClient databaseClient(
+            @Value("${versebank.reactive.r2dbc-url:r2dbc:h2:mem:///versebankdb}") String url,
+            @Value("${spring.datasource.username:sa}") String username,
+            @Value("${spring.datasource.password:}") String password) {
+        return DatabaseClient.create(ConnectionFactories.get(ConnectionFactoryOptions.parse(url).mutate()
+            .option(ConnectionFactoryOptions.USER, username)
+            .option(ConnectionFactoryOptions.PASSWORD, password)
+            .build()));
+    }
+
+    @Bean
+    public TransactionalOperator reactiveTransactionalOperator(DatabaseClient databaseClient) {
+        return TransactionalOperator.create(new R2dbcTransactionManager(databaseClient.getConnectionFactory()));
+    }
+
+    /**
+     * Con la cola persistente activa, la fila de {@code notification_outbox} se inserta en la transacción R2DBC
+     * del movimiento; si no, se entrega en memoria al confirmarla
+     */
+    @Bean
+    public ReactiveNotificationPort reactiveNotificationPort(DatabaseClient databaseClient,
+                                                             ObjectProvider<NotificationOutbox> outbox,
+                                                             AsyncNotificationDispatcher dispatcher) {
+        NotificationOutbox durable = outbox.getIfAvailable();
+        return durable != null
+            ? new ReactiveNotificationOutbox(databaseClient, durable)
+            : new ReactiveNotificationAdapter(dispatcher);
+    }
+
+    @Bean
+    public ReactiveAccountService reactiveAccountService(
+            DatabaseClient databaseClient,
+            ReactiveNotificationPort reactiveNotificationPort,
+            DomainEventPublisher eventPublisher,
+            TransactionalOperator reactiveTransactionalOperator,
+            @Value("${versebank.reactive.conflict-retries:3}") int conflictRetries) {
+        return new ReactiveAccountService(new ReactiveAccountRepositoryAdapter(databaseClient), reactiveNotificationPort,
+            eventPublisher, reactiveTransactionalOperator, conflictRetries);
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> accountRoutes(ReactiveAccountService reactiveAccountService) {
+        return new ReactiveAccountHandler(reactiveAccountService, reactiveAccountService).routes();
+    }
+}
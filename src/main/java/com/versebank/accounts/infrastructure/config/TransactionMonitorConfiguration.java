@@ -0,0 +1,65 @@
+package com.versebank.accounts.infrastructure.config;
+
+import com.versebank.accounts.domain.monitoring.TransactionMonitor;
+import com.versebank.accounts.domain.monitoring.TransactionMonitors;
+import com.versebank.accounts.domain.support.DomainClocks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Instala en el dominio el monitor de transacciones configurado y elimina periódicamente las ventanas inactivas
+ */
+@Configuration
+@EnableConfigurationProperties(TransactionMonitorProperties.class)
+public class TransactionMonitorConfiguration {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransactionMonitorConfiguration.class);
+
+    private final TransactionMonitorProperties properties;
+    private ScheduledExecutorService evictor;
+
+    public TransactionMonitorConfiguration(TransactionMonitorProperties properties) {
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    void install() {
+        if (properties.getThresholds().isEmpty()) {
+            logger.info("No transaction thresholds configured, transaction monitoring disabled");
+            return;
+        }
+        TransactionMonitor monitor = new TransactionMonitor(properties.toThresholds(), properties.getWindow(), properties.getBuckets());
+        TransactionMonitors.use(monitor);
+
+        long intervalMillis = properties.getEvictionInterval().toMillis();
+        evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "transaction-monitor-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        evictor.scheduleWithFixedDelay(() -> {
+            int evicted = monitor.evictIdle(DomainClocks.currentTimeMillis());
+            if (evicted > 0) {
+                logger.debug("Evicted {} idle transaction windows, {} still tracked", evicted, monitor.trackedAccounts());
+            }
+        }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        logger.info("Transaction monitoring installed for account types {} over a {} window",
+            properties.getThresholds().keySet(), properties.getWindow());
+    }
+
+    @PreDestroy
+    void uninstall() {
+        if (evictor != null) {
+            evictor.shutdownNow();
+            TransactionMonitors.use(TransactionMonitor.disabled());
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.versebank.accounts.infrastructure.config;
+
+import com.versebank.accounts.domain.monitoring.TransactionThresholds;
+import com.versebank.accounts.domain.valueobjects.AccountType;
+import com.versebank.accounts.domain.valueobjects.MinorUnits;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Umbrales de vigilancia de transacciones por tipo de cuenta (prefijo {@code versebank.monitoring}).
+ * Un umbral sin valor queda desactivado.
+ */
+@ConfigurationProperties(prefix = "versebank.monitoring")
+public class TransactionMonitorProperties {
+
+    private Duration window = Duration.ofMinutes(10);
+    private int buckets = 60;
+    private Duration evictionInterval = Duration.ofMinutes(1);
+    private Map<AccountType, Limits> thresholds = new EnumMap<>(AccountType.class);
+
+    public Duration getWindow() { return window; }
+    public void setWindow(Duration window) { this.window = window; }
+    public int getBuckets() { return buckets; }
+    public void setBuckets(int buckets) { this.buckets = buckets; }
+    public Duration getEvictionInterval() { return evictionInterval; }
+    public void setEvictionInterval(Duration evictionInterval) { this.evictionInterval = evictionInterval; }
+    public Map<AccountType, Limits> getThresholds() { return thresholds; }
+    public void setThresholds(Map<AccountType, Limits> thresholds) { this.thresholds = thresholds; }
+
+    public Map<AccountType, TransactionThresholds> toThresholds() {
+        Map<AccountType, TransactionThresholds> result = new EnumMap<>(AccountType.class);
+        thresholds.forEach((type, limits) -> result.put(type, limits.toThresholds()));
+        return result;
+    }
+
+    public static class Limits {
+        private BigDecimal largeTransaction;
+        private Long maxCount;
+        private BigDecimal maxAmount;
+
+        public BigDecimal getLargeTransaction() { return largeTransaction; }
+        public void setLargeTransaction(BigDecimal largeTransaction) { this.largeTransaction = largeTransaction; }
+        public Long getMaxCount() { return maxCount; }
+        public void setMaxCount(Long maxCount) { this.maxCount = maxCount; }
+        public BigDecimal getMaxAmount() { return maxAmount; }
+        public void setMaxAmount(BigDecimal maxAmount) { this.maxAmount = maxAmount; }
+
+        TransactionThresholds toThresholds() {
+            return new TransactionThresholds(
+                largeTransaction != null ? MinorUnits.of(largeTransaction) : Long.MAX_VALUE,
+                maxCount != null ? maxCount : Long.MAX_VALUE,
+                maxAmount != null ? MinorUnits.of(maxAmount) : Long.MAX_VALUE);
+        }
+    }
+}
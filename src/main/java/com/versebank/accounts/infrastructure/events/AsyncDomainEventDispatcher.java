@@ -0,0 +1,249 @@
+package com.versebank.accounts.infrastructure.events;
+
+import com.versebank.accounts.domain.events.DomainEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Entrega los eventos de dominio a sus manejadores fuera del hilo que los publica.
+ * <p>
+ * Cada manejador tiene su propia cola acotada y se ejecuta en serie (respetando el orden de publicación)
+ * sobre un pool de hilos de tamaño fijo compartido. Un manejador lento solo llena su propia cola; cuando
+ * está llena se aplica su {@link BackpressurePolicy}; por defecto se descarta el evento más antiguo, de modo que
+ * el publicador nunca espera a un manejador. Se publican métricas de profundidad de cola,
+ * latencia de manejo, descartes, ejecuciones en el hilo del publicador y fallos por manejador.
+ */
+public class AsyncDomainEventDispatcher implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncDomainEventDispatcher.class);
+
+    // Eventos que un manejador procesa antes de ceder el hilo a otro manejador
+    private static final int DRAIN_BATCH = 64;
+
+    private final ThreadPoolExecutor executor;
+    private final MeterRegistry meterRegistry;
+    private final List<HandlerLane<?>> lanes = new CopyOnWriteArrayList<>();
+    private volatile boolean closed;
+
+    public AsyncDomainEventDispatcher(int threads, MeterRegistry meterRegistry) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Dispatcher threads must be positive");
+        }
+        if (meterRegistry == null) {
+            throw new NullPointerException("MeterRegistry cannot be null");
+        }
+        this.meterRegistry = meterRegistry;
+        AtomicInteger threadIndex = new AtomicInteger();
+        // Cada manejador tiene como mucho una tarea pendiente, así que la cola del pool queda acotada por el número de manejadores
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "domain-events-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Registra un manejador para los eventos del tipo indicado (y sus subtipos)
+     */
+    public <E extends DomainEvent> void register(String name, Class<E> eventType, Consumer<? super E> handler,
+                                                 int queueCapacity, BackpressurePolicy policy) {
+        if (name == null || eventType == null || handler == null || policy == null) {
+            throw new NullPointerException("Handler name, event type, handler and policy cannot be null");
+        }
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("Queue capacity must be positive");
+        }
+        lanes.add(new HandlerLane<>(name, eventType, handler, queueCapacity, policy));
+    }
+
+    /**
+     * Encola el evento en cada manejador interesado. Solo bloquea si un manejador con política BLOCK tiene la cola llena.
+     */
+    @EventListener
+    public void dispatch(DomainEvent event) {
+        if (closed) {
+            logger.warn("Dispatcher closed, discarding event {} ({})", event.getEventType(), event.getEventId());
+            return;
+        }
+        for (HandlerLane<?> lane : lanes) {
+            lane.offer(event);
+        }
+    }
+
+    public int queueDepth(String handlerName) {
+        for (HandlerLane<?> lane : lanes) {
+            if (lane.name.equals(handlerName)) {
+                return lane.queue.size();
+            }
+        }
+        throw new IllegalArgumentException("Unknown handler: " + handlerName);
+    }
+
+    /**
+     * Deja de aceptar eventos y espera a que se vacíen las colas; lo que quede al agotar el plazo se procesa en el hilo que cierra.
+     * Antes de eso se interrumpe a los manejadores en curso y se espera a que terminen, para no ejecutar un manejador
+     * a la vez en dos hilos ni desordenar sus eventos. Si alguno no termina, su cola se abandona.
+     */
+    public void close(Duration timeout) {
+        closed = true;
+        executor.shutdown();
+        boolean terminated = awaitWorkers(timeout);
+        if (!terminated) {
+            // Las tareas que no llegaron a empezar no tienen ningún hilo procesando su cola
+            for (Runnable pending : executor.shutdownNow()) {
+                ((HandlerLane<?>) pending).scheduled.set(false);
+            }
+            terminated = awaitWorkers(timeout);
+        }
+        for (HandlerLane<?> lane : lanes) {
+            if (terminated || !lane.scheduled.get()) {
+                lane.drainInline();
+            } else {
+                logger.warn("Handler {} did not stop, abandoning {} queued events", lane.name, lane.queue.size());
+            }
+        }
+    }
+
+    private boolean awaitWorkers(Duration timeout) {
+        try {
+            return executor.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return executor.isTerminated();
+        }
+    }
+
+    @Override
+    public void close() {
+        close(Duration.ofSeconds(10));
+    }
+
+    /**
+     * Cola y estado de ejecución de un manejador
+     */
+    private final class HandlerLane<E extends DomainEvent> implements Runnable {
+
+        private final String name;
+        private final Class<E> eventType;
+        private final Consumer<? super E> handler;
+        private final BlockingQueue<E> queue;
+        private final BackpressurePolicy policy;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final Timer latency;
+        private final Counter dropped;
+        private final Counter callerRuns;
+        private final Counter failures;
+
+        HandlerLane(String name, Class<E> eventType, Consumer<? super E> handler, int capacity, BackpressurePolicy policy) {
+            this.name = name;
+            this.eventType = eventType;
+            this.handler = handler;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.policy = policy;
+            this.latency = Timer.builder("versebank.events.handler.latency").tag("handler", name).register(meterRegistry);
+            this.dropped = Counter.builder("versebank.events.dropped").tag("handler", name).register(meterRegistry);
+            this.callerRuns = Counter.builder("versebank.events.caller.runs").tag("handler", name).register(meterRegistry);
+            this.failures = Counter.builder("versebank.events.handler.failures").tag("handler", name).register(meterRegistry);
+            Gauge.builder("versebank.events.queue.depth", queue, BlockingQueue::size).tag("handler", name).register(meterRegistry);
+        }
+
+        void offer(DomainEvent event) {
+            if (!eventType.isInstance(event)) {
+                return;
+            }
+            E typed = eventType.cast(event);
+            switch (policy) {
+                case BLOCK -> {
+                    try {
+                        queue.put(typed);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        dropped.increment();
+                        return;
+                    }
+                }
+                case DROP_OLDEST -> {
+                    while (!queue.offer(typed)) {
+                        if (queue.poll() != null) {
+                            dropped.increment();
+                        }
+                    }
+                }
+                case CALLER_RUNS -> {
+                    if (!queue.offer(typed)) {
+                        // Se pierde el orden respecto a lo encolado, pero el evento no se descarta
+                        callerRuns.increment();
+                        handle(typed);
+                        return;
+                    }
+                }
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this);
+                } catch (RejectedExecutionException e) {
+                    // Pool cerrado: close() procesará lo pendiente
+                    scheduled.set(false);
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                E event;
+                int processed = 0;
+                while (processed++ < DRAIN_BATCH && (event = queue.poll()) != null) {
+                    handle(event);
+                }
+            } finally {
+                scheduled.set(false);
+            }
+            if (!queue.isEmpty()) {
+                schedule();
+            }
+        }
+
+        void drainInline() {
+            E event;
+            while ((event = queue.poll()) != null) {
+                handle(event);
+            }
+        }
+
+        private void handle(E event) {
+            long start = System.nanoTime();
+            try {
+                handler.accept(event);
+            } catch (RuntimeException e) {
+                failures.increment();
+                logger.error("Handler {} failed for event {} ({})", name, event.getEventType(), event.getEventId(), e);
+            } finally {
+                latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.versebank.accounts.infrastructure.events;
+
+/**
+ * Qué hacer cuando la cola de un manejador está llena
+ */
+public enum BackpressurePolicy {
+    /** El publicador espera a que haya hueco en la cola */
+    BLOCK,
+    /** Se descarta el evento más antiguo de la cola para encolar el nuevo */
+    DROP_OLDEST,
+    /** El publicador ejecuta el manejador en su propio hilo */
+    CALLER_RUNS
+}
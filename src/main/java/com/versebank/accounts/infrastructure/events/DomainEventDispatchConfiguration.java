@@ -0,0 +1,43 @@
+package com.versebank.accounts.infrastructure.events;
+
+import com.versebank.accounts.domain.events.AccountOpenedEvent;
+import com.versebank.accounts.domain.events.DomainEvent;
+import com.versebank.accounts.domain.events.DomainEventDispatcher;
+import com.versebank.accounts.domain.events.LargeTransactionDetectedEvent;
+import com.versebank.accounts.domain.events.MoneyDepositedEvent;
+import com.versebank.accounts.domain.events.MoneyReceivedEvent;
+import com.versebank.accounts.domain.events.MoneyWithdrawnEvent;
+import com.versebank.accounts.domain.events.VelocityLimitExceededEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.function.Consumer;
+
+/**
+ * Registra los manejadores de eventos de dominio en el despachador asíncrono
+ */
+@Configuration
+@EnableConfigurationProperties(DomainEventDispatchProperties.class)
+public class DomainEventDispatchConfiguration {
+
+    @Bean
+    public AsyncDomainEventDispatcher asyncDomainEventDispatcher(DomainEventDispatchProperties properties,
+                                                                 DomainEventDispatcher handlers,
+                                                                 MeterRegistry meterRegistry) {
+        AsyncDomainEventDispatcher dispatcher = new AsyncDomainEventDispatcher(properties.getThreads(), meterRegistry);
+        register(dispatcher, properties, "money-deposited", MoneyDepositedEvent.class, handlers::handleMoneyDepositedEvent);
+        register(dispatcher, properties, "money-withdrawn", MoneyWithdrawnEvent.class, handlers::handleMoneyWithdrawnEvent);
+        register(dispatcher, properties, "money-received", MoneyReceivedEvent.class, handlers::handleMoneyReceivedEvent);
+        register(dispatcher, properties, "account-opened", AccountOpenedEvent.class, handlers::handleAccountOpenedEvent);
+        register(dispatcher, properties, "large-transaction", LargeTransactionDetectedEvent.class, handlers::handleLargeTransactionDetectedEvent);
+        register(dispatcher, properties, "velocity-limit", VelocityLimitExceededEvent.class, handlers::handleVelocityLimitExceededEvent);
+        return dispatcher;
+    }
+
+    private static <E extends DomainEvent> void register(AsyncDomainEventDispatcher dispatcher, DomainEventDispatchProperties properties,
+                                                         String name, Class<E> eventType, Consumer<? super E> handler) {
+        dispatcher.register(name, eventType, handler, properties.queueCapacityFor(name), properties.backpressureFor(name));
+    }
+}
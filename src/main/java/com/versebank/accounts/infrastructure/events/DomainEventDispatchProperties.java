@@ -0,0 +1,48 @@
+package com.versebank.accounts.infrastructure.events;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuración del despacho asíncrono de eventos (prefijo {@code versebank.events.dispatch}).
+ * Los valores por defecto se pueden sobrescribir por manejador en {@code handlers.<nombre>}.
+ */
+@ConfigurationProperties(prefix = "versebank.events.dispatch")
+public class DomainEventDispatchProperties {
+
+    private int threads = 2;
+    private int queueCapacity = 1024;
+    private BackpressurePolicy backpressure = BackpressurePolicy.DROP_OLDEST;
+    private Map<String, Handler> handlers = new HashMap<>();
+
+    public int getThreads() { return threads; }
+    public void setThreads(int threads) { this.threads = threads; }
+    public int getQueueCapacity() { return queueCapacity; }
+    public void setQueueCapacity(int queueCapacity) { this.queueCapacity = queueCapacity; }
+    public BackpressurePolicy getBackpressure() { return backpressure; }
+    public void setBackpressure(BackpressurePolicy backpressure) { this.backpressure = backpressure; }
+    public Map<String, Handler> getHandlers() { return handlers; }
+    public void setHandlers(Map<String, Handler> handlers) { this.handlers = handlers; }
+
+    public int queueCapacityFor(String handlerName) {
+        Handler handler = handlers.get(handlerName);
+        return handler != null && handler.getQueueCapacity() != null ? handler.getQueueCapacity() : queueCapacity;
+    }
+
+    public BackpressurePolicy backpressureFor(String handlerName) {
+        Handler handler = handlers.get(handlerName);
+        return handler != null && handler.getBackpressure() != null ? handler.getBackpressure() : backpressure;
+    }
+
+    public static class Handler {
+        private Integer queueCapacity;
+        private BackpressurePolicy backpressure;
+
+        public Integer getQueueCapacity() { return queueCapacity; }
+        public void setQueueCapacity(Integer queueCapacity) { this.queueCapacity = queueCapacity; }
+        public BackpressurePolicy getBackpressure() { return backpressure; }
+        public void setBackpressure(BackpressurePolicy backpressure) { this.backpressure = backpressure; }
+    }
+}
@@ -0,0 +1,76 @@
+package com.versebank.accounts.infrastructure.events;
+
+import com.versebank.accounts.domain.events.DomainEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Instala en el {@link TypedEventBus} los métodos {@code @EventListener} de los beans que reciben un evento de dominio.
+ * <p>
+ * Los eventos de dominio solo se publican por el bus, que no evalúa {@code condition} ni {@code classes}. Un listener
+ * de eventos de dominio que use cualquiera de los dos nunca recibiría nada, así que el arranque falla si existe.
+ */
+public class EventListenerRegistrar implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventListenerRegistrar.class);
+
+    private final TypedEventBus eventBus;
+    private final ConfigurableListableBeanFactory beanFactory;
+
+    public EventListenerRegistrar(TypedEventBus eventBus, ConfigurableListableBeanFactory beanFactory) {
+        this.eventBus = eventBus;
+        this.beanFactory = beanFactory;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        List<TypedEventBus.EventHandler> handlers = new ArrayList<>();
+        for (String beanName : beanFactory.getBeanNamesForType(Object.class, false, false)) {
+            Class<?> beanType = beanFactory.getType(beanName);
+            if (beanType == null) {
+                continue;
+            }
+            Map<Method, EventListener> listeners = MethodIntrospector.selectMethods(ClassUtils.getUserClass(beanType),
+                (MethodIntrospector.MetadataLookup<EventListener>) method ->
+                    AnnotatedElementUtils.findMergedAnnotation(method, EventListener.class));
+            listeners.forEach((method, annotation) -> {
+                if (!isDomainEventListener(method, annotation)) {
+                    return;
+                }
+                if (!annotation.condition().isEmpty() || annotation.classes().length > 0) {
+                    throw new IllegalStateException("Domain event listeners cannot use condition or classes, " +
+                        "the typed event bus does not evaluate them: " + method);
+                }
+                Object bean = beanFactory.getBean(beanName);
+                handlers.add(TypedEventBus.handler(bean, AopUtils.selectInvocableMethod(method, bean.getClass())));
+            });
+        }
+        eventBus.install(handlers);
+        logger.info("Typed event bus installed with {} handlers: {}", handlers.size(),
+            handlers.stream().map(TypedEventBus.EventHandler::name).toList());
+    }
+
+    private static boolean isDomainEventListener(Method method, EventListener annotation) {
+        if (method.getParameterCount() == 1 && DomainEvent.class.isAssignableFrom(method.getParameterTypes()[0])) {
+            return true;
+        }
+        for (Class<?> eventClass : annotation.classes()) {
+            if (DomainEvent.class.isAssignableFrom(eventClass)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
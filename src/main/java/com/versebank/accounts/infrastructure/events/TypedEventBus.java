@@ -0,0 +1,184 @@
+package com.versebank.accounts.infrastructure.events;
+
+import com.versebank.accounts.application.port.out.DomainEventPublisher;
+import com.versebank.accounts.domain.Account;
+import com.versebank.accounts.domain.events.DomainEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Bus de eventos de dominio en proceso con tabla de despacho precalculada.
+ * <p>
+ * Al instalar los manejadores se construye una tabla inmutable clase de evento → array de manejadores,
+ * y cada manejador es un {@link MethodHandle} ya enlazado a su instancia con tipo {@code (DomainEvent)void}.
+ * Publicar es una búsqueda en un mapa y una llamada directa por manejador, sin resolución por tipo ni
+ * reflexión. Las subclases que no tienen entrada propia se resuelven una vez y se cachean.
+ * <p>
+ * Un manejador que falla no afecta al resto: el error se registra y se cuenta en
+ * {@code versebank.events.bus.failures} por manejador, y el evento sigue entregándose a los demás. Quien publica
+ * lo hace tras confirmar el cambio, así que un fallo aquí no debe convertir una operación ya hecha en un error.
+ */
+public class TypedEventBus implements DomainEventPublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(TypedEventBus.class);
+
+    private static final MethodType HANDLER_TYPE = MethodType.methodType(void.class, DomainEvent.class);
+    private static final MethodHandle CONSUMER_ACCEPT;
+
+    static {
+        try {
+            CONSUMER_ACCEPT = MethodHandles.publicLookup()
+                .findVirtual(Consumer.class, "accept", MethodType.methodType(void.class, Object.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final MeterRegistry meterRegistry;
+    private volatile DispatchTable table;
+    private final Consumer<DomainEvent> sink = this::publish;
+
+    public TypedEventBus() {
+        this(new SimpleMeterRegistry());
+    }
+
+    public TypedEventBus(MeterRegistry meterRegistry) {
+        if (meterRegistry == null) {
+            throw new NullPointerException("MeterRegistry cannot be null");
+        }
+        this.meterRegistry = meterRegistry;
+        this.table = new DispatchTable(List.of(), meterRegistry);
+    }
+
+    /**
+     * Manejador de un tipo de evento (y sus subtipos)
+     */
+    public record EventHandler(String name, Class<? extends DomainEvent> eventType, MethodHandle handle) {}
+
+    public static <E extends DomainEvent> EventHandler handler(String name, Class<E> eventType, Consumer<? super E> consumer) {
+        if (name == null || eventType == null || consumer == null) {
+            throw new NullPointerException("Handler name, event type and consumer cannot be null");
+        }
+        return new EventHandler(name, eventType, CONSUMER_ACCEPT.bindTo(consumer).asType(HANDLER_TYPE));
+    }
+
+    /**
+     * Crea un manejador a partir de un método de un solo parámetro de tipo evento de dominio
+     */
+    public static EventHandler handler(Object target, Method method) {
+        if (method.getParameterCount() != 1 || !DomainEvent.class.isAssignableFrom(method.getParameterTypes()[0])) {
+            throw new IllegalArgumentException("Handler method must take a single DomainEvent parameter: " + method);
+        }
+        try {
+            method.setAccessible(true);
+            MethodHandle handle = MethodHandles.lookup().unreflect(method).bindTo(target)
+                .asType(MethodType.methodType(void.class, method.getParameterTypes()[0]))
+                .asType(HANDLER_TYPE);
+            @SuppressWarnings("unchecked")
+            Class<? extends DomainEvent> eventType = (Class<? extends DomainEvent>) method.getParameterTypes()[0];
+            return new EventHandler(method.getDeclaringClass().getSimpleName() + "." + method.getName(), eventType, handle);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Handler method is not accessible: " + method, e);
+        }
+    }
+
+    /**
+     * Sustituye los manejadores instalados construyendo una nueva tabla de despacho
+     */
+    public void install(List<EventHandler> handlers) {
+        this.table = new DispatchTable(List.copyOf(handlers), meterRegistry);
+    }
+
+    public List<EventHandler> handlers() {
+        return table.handlers;
+    }
+
+    @Override
+    public void publish(DomainEvent event) {
+        Target[] targets = table.targetsFor(event.getClass());
+        for (Target target : targets) {
+            invoke(target, event);
+        }
+    }
+
+    @Override
+    public int publishPending(Account account) {
+        return account.drainEvents(sink);
+    }
+
+    private static void invoke(Target target, DomainEvent event) {
+        try {
+            target.handle().invokeExact(event);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            target.failures().increment();
+            logger.error("Event handler {} failed for event {} ({})", target.name(), event.getEventType(), event.getEventId(), e);
+        }
+    }
+
+    /**
+     * Manejador ya preparado para despachar, con su contador de fallos
+     */
+    private record Target(String name, MethodHandle handle, Counter failures) {}
+
+    /**
+     * Tabla inmutable de despacho. Las clases registradas se resuelven al construirla;
+     * el resto de subclases, en su primera publicación.
+     */
+    private static final class DispatchTable {
+
+        private final List<EventHandler> handlers;
+        private final List<Target> targets;
+        private final Map<Class<?>, Target[]> byEventClass;
+        private final ClassValue<Target[]> resolved = new ClassValue<>() {
+            @Override
+            protected Target[] computeValue(Class<?> eventClass) {
+                return resolve(eventClass);
+            }
+        };
+
+        DispatchTable(List<EventHandler> handlers, MeterRegistry meterRegistry) {
+            this.handlers = handlers;
+            List<Target> prepared = new ArrayList<>(handlers.size());
+            for (EventHandler handler : handlers) {
+                prepared.add(new Target(handler.name(), handler.handle(),
+                    Counter.builder("versebank.events.bus.failures").tag("handler", handler.name()).register(meterRegistry)));
+            }
+            this.targets = prepared;
+            Map<Class<?>, Target[]> table = new HashMap<>();
+            for (EventHandler handler : handlers) {
+                table.computeIfAbsent(handler.eventType(), this::resolve);
+            }
+            this.byEventClass = Map.copyOf(table);
+        }
+
+        Target[] targetsFor(Class<?> eventClass) {
+            Target[] exact = byEventClass.get(eventClass);
+            return exact != null ? exact : resolved.get(eventClass);
+        }
+
+        private Target[] resolve(Class<?> eventClass) {
+            List<Target> matching = new ArrayList<>();
+            for (int i = 0; i < handlers.size(); i++) {
+                if (handlers.get(i).eventType().isAssignableFrom(eventClass)) {
+                    matching.add(targets.get(i));
+                }
+            }
+            return matching.toArray(new Target[0]);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.versebank.accounts.infrastructure.events;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Publica los eventos de dominio a través del bus tipado en lugar del {@code ApplicationEventPublisher} de Spring
+ */
+@Configuration
+public class TypedEventBusConfiguration {
+
+    @Bean
+    public TypedEventBus domainEventPublisher(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new TypedEventBus(meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    @Bean
+    public EventListenerRegistrar eventListenerRegistrar(TypedEventBus domainEventPublisher,
+                                                         ConfigurableListableBeanFactory beanFactory) {
+        return new EventListenerRegistrar(domainEventPublisher, beanFactory);
+    }
+}
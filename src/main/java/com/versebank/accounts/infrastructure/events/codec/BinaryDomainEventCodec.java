@@ -0,0 +1,173 @@
+package com.versebank.accounts.infrastructure.events.codec;
+
+import com.versebank.accounts.domain.AccountId;
+import com.versebank.accounts.domain.events.AccountOpenedEvent;
+import com.versebank.accounts.domain.events.DomainEvent;
+import com.versebank.accounts.domain.events.InterestPostedEvent;
+import com.versebank.accounts.domain.events.LargeTransactionDetectedEvent;
+import com.versebank.accounts.domain.events.MoneyDepositedEvent;
+import com.versebank.accounts.domain.events.MoneyReceivedEvent;
+import com.versebank.accounts.domain.events.MoneyWithdrawnEvent;
+import com.versebank.accounts.domain.events.VelocityLimitExceededEvent;
+import com.versebank.accounts.domain.valueobjects.Balance;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.versebank.accounts.infrastructure.events.codec.BinaryFields.*;
+
+/**
+ * Códec binario compacto y versionado para los eventos de dominio.
+ * <p>
+ * Formato de un evento: versión (1 byte), etiqueta de tipo (1 byte), id del evento, instante y los campos
+ * propios del tipo (ver {@link BinaryFields}). Codifica y decodifica directamente sobre el {@link ByteBuffer}
+ * del llamante, que puede reutilizarse entre eventos; la única memoria que se reserva al decodificar es la
+ * del propio evento y sus valores. Es inmutable y seguro entre hilos.
+ */
+public final class BinaryDomainEventCodec {
+
+    public static final byte VERSION = 1;
+
+    // Cabecera fija: versión, etiqueta e instante (8 + 4)
+    private static final int HEADER_SIZE = 2 + 12;
+
+    private static final List<EventType<?>> STANDARD_TYPES = List.of(
+        new EventType<>(1, AccountOpenedEvent.class,
+            (event, out) -> {
+                writeId(out, event.getAccountId().getValue());
+                writeString(out, event.getCustomerId());
+                writeDecimal(out, event.getInitialBalance().getAmount());
+            },
+            (eventId, occurredAt, in) -> new AccountOpenedEvent(eventId, occurredAt,
+                AccountId.of(readId(in)), readString(in), Balance.of(readDecimal(in))),
+            event -> idSize(event.getAccountId().getValue()) + stringSize(event.getCustomerId())
+                + decimalSize(event.getInitialBalance().getAmount())),
+        new EventType<>(2, MoneyDepositedEvent.class,
+            (event, out) -> writeMovement(out, event.getAccountId(), event.getAmount(), event.getNewBalance()),
+            (eventId, occurredAt, in) -> new MoneyDepositedEvent(eventId, occurredAt,
+                AccountId.of(readId(in)), Balance.of(readDecimal(in)), Balance.of(readDecimal(in))),
+            event -> movementSize(event.getAccountId(), event.getAmount(), event.getNewBalance())),
+        new EventType<>(3, MoneyWithdrawnEvent.class,
+            (event, out) -> writeMovement(out, event.getAccountId(), event.getAmount(), event.getNewBalance()),
+            (eventId, occurredAt, in) -> new MoneyWithdrawnEvent(eventId, occurredAt,
+                AccountId.of(readId(in)), Balance.of(readDecimal(in)), Balance.of(readDecimal(in))),
+            event -> movementSize(event.getAccountId(), event.getAmount(), event.getNewBalance())),
+        new EventType<>(4, MoneyReceivedEvent.class,
+            (event, out) -> writeMovement(out, event.getAccountId(), event.getAmount(), event.getNewBalance()),
+            (eventId, occurredAt, in) -> new MoneyReceivedEvent(eventId, occurredAt,
+                AccountId.of(readId(in)), Balance.of(readDecimal(in)), Balance.of(readDecimal(in))),
+            event -> movementSize(event.getAccountId(), event.getAmount(), event.getNewBalance())),
+        new EventType<>(5, LargeTransactionDetectedEvent.class,
+            (event, out) -> {
+                writeId(out, event.getAccountId().getValue());
+                writeDecimal(out, event.getAmount().getAmount());
+                writeString(out, event.getTransactionType());
+            },
+            (eventId, occurredAt, in) -> new LargeTransactionDetectedEvent(eventId, occurredAt,
+                AccountId.of(readId(in)), Balance.of(readDecimal(in)), readString(in)),
+            event -> idSize(event.getAccountId().getValue()) + decimalSize(event.getAmount().getAmount())
+                + stringSize(event.getTransactionType())),
+        new EventType<>(6, VelocityLimitExceededEvent.class,
+            (event, out) -> {
+                writeId(out, event.getAccountId().getValue());
+                out.putLong(event.getTransactionCount());
+                writeDecimal(out, event.getWindowAmount().getAmount());
+                writeDuration(out, event.getWindow());
+            },
+            (eventId, occurredAt, in) -> new VelocityLimitExceededEvent(eventId, occurredAt,
+                AccountId.of(readId(in)), in.getLong(), Balance.of(readDecimal(in)), readDuration(in)),
+            event -> idSize(event.getAccountId().getValue()) + 8 + decimalSize(event.getWindowAmount().getAmount()) + 12),
+        new EventType<>(7, InterestPostedEvent.class,
+            (event, out) -> writeMovement(out, event.getAccountId(), event.getAmount(), event.getNewBalance()),
+            (eventId, occurredAt, in) -> new InterestPostedEvent(eventId, occurredAt,
+                AccountId.of(readId(in)), Balance.of(readDecimal(in)), Balance.of(readDecimal(in))),
+            event -> movementSize(event.getAccountId(), event.getAmount(), event.getNewBalance()))
+    );
+
+    private final Map<Class<?>, EventType<?>> byClass;
+    private final EventType<?>[] byTag = new EventType<?>[256];
+
+    public BinaryDomainEventCodec(List<EventType<?>> types) {
+        Map<Class<?>, EventType<?>> classes = new HashMap<>();
+        for (EventType<?> type : types) {
+            if (byTag[type.tag()] != null || classes.containsKey(type.eventClass())) {
+                throw new IllegalArgumentException("Duplicate event type registration: " + type.eventClass().getSimpleName()
+                    + " (tag " + type.tag() + ")");
+            }
+            byTag[type.tag()] = type;
+            classes.put(type.eventClass(), type);
+        }
+        this.byClass = Map.copyOf(classes);
+    }
+
+    /**
+     * Códec con todos los eventos de dominio de la aplicación
+     */
+    public static BinaryDomainEventCodec standard() {
+        return new BinaryDomainEventCodec(STANDARD_TYPES);
+    }
+
+    /**
+     * Escribe el evento a partir de la posición actual del buffer y la avanza
+     *
+     * @throws java.nio.BufferOverflowException si no cabe; {@link #encodedSize(DomainEvent)} indica el tamaño necesario
+     */
+    public void encode(DomainEvent event, ByteBuffer out) {
+        EventType<DomainEvent> type = typeOf(event);
+        out.put(VERSION);
+        out.put((byte) type.tag());
+        writeId(out, event.getEventId());
+        writeDateTime(out, event.getOccurredAt());
+        type.writer().write(event, out);
+    }
+
+    /**
+     * Lee un evento a partir de la posición actual del buffer y la avanza hasta el final del evento
+     */
+    public DomainEvent decode(ByteBuffer in) {
+        try {
+            byte version = in.get();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported event encoding version: " + version);
+            }
+            int tag = in.get() & 0xFF;
+            EventType<?> type = byTag[tag];
+            if (type == null) {
+                throw new IllegalArgumentException("Unknown event type tag: " + tag);
+            }
+            String eventId = readId(in);
+            LocalDateTime occurredAt = readDateTime(in);
+            return type.reader().read(eventId, occurredAt, in);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated event", e);
+        }
+    }
+
+    public int encodedSize(DomainEvent event) {
+        EventType<DomainEvent> type = typeOf(event);
+        return HEADER_SIZE + idSize(event.getEventId()) + type.sizer().size(event);
+    }
+
+    @SuppressWarnings("unchecked")
+    private EventType<DomainEvent> typeOf(DomainEvent event) {
+        EventType<?> type = byClass.get(event.getClass());
+        if (type == null) {
+            throw new IllegalArgumentException("No binary encoding registered for " + event.getClass().getName());
+        }
+        return (EventType<DomainEvent>) type;
+    }
+
+    private static void writeMovement(ByteBuffer out, AccountId accountId, Balance amount, Balance newBalance) {
+        writeId(out, accountId.getValue());
+        writeDecimal(out, amount.getAmount());
+        writeDecimal(out, newBalance.getAmount());
+    }
+
+    private static int movementSize(AccountId accountId, Balance amount, Balance newBalance) {
+        return idSize(accountId.getValue()) + decimalSize(amount.getAmount()) + decimalSize(newBalance.getAmount());
+    }
+}
@@ -0,0 +1,275 @@
+package com.versebank.accounts.infrastructure.events.codec;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Lectura y escritura de los campos del formato binario de eventos directamente sobre un {@link ByteBuffer}.
+ * <p>
+ * Enteros de longitud variable (varint LEB128), identificadores con formato UUID en 16 bytes, instantes como
+ * segundos y nanosegundos de ancho fijo, importes como escala y valor sin escala de 8 bytes y cadenas como
+ * longitud varint seguida de UTF-8 escrito carácter a carácter, sin arrays intermedios.
+ */
+public final class BinaryFields {
+
+    private static final byte ID_UUID = 0;
+    private static final byte ID_TEXT = 1;
+    private static final byte DECIMAL_COMPACT = 0;
+    private static final byte DECIMAL_WIDE = 1;
+    private static final int UUID_LENGTH = 36;
+
+    private static final ThreadLocal<byte[]> SCRATCH = ThreadLocal.withInitial(() -> new byte[256]);
+
+    private BinaryFields() {}
+
+    // ---- Enteros de longitud variable
+
+    public static void writeVarInt(ByteBuffer out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    public static int readVarInt(ByteBuffer in) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = in.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    public static int varIntSize(int value) {
+        int size = 1;
+        while ((value & ~0x7F) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    // ---- Identificadores: 16 bytes si tienen formato UUID, texto en otro caso
+
+    public static void writeId(ByteBuffer out, String id) {
+        if (isUuid(id)) {
+            out.put(ID_UUID);
+            out.putLong(hexToLong(id, 0, 8) << 32 | hexToLong(id, 9, 4) << 16 | hexToLong(id, 14, 4));
+            out.putLong(hexToLong(id, 19, 4) << 48 | hexToLong(id, 24, 12));
+        } else {
+            out.put(ID_TEXT);
+            writeString(out, id);
+        }
+    }
+
+    public static String readId(ByteBuffer in) {
+        byte kind = in.get();
+        if (kind == ID_UUID) {
+            long msb = in.getLong();
+            long lsb = in.getLong();
+            char[] chars = new char[UUID_LENGTH];
+            longToHex(chars, 0, msb >>> 32, 8);
+            chars[8] = '-';
+            longToHex(chars, 9, msb >>> 16, 4);
+            chars[13] = '-';
+            longToHex(chars, 14, msb, 4);
+            chars[18] = '-';
+            longToHex(chars, 19, lsb >>> 48, 4);
+            chars[23] = '-';
+            longToHex(chars, 24, lsb, 12);
+            return new String(chars);
+        }
+        if (kind == ID_TEXT) {
+            return readString(in);
+        }
+        throw new IllegalArgumentException("Unknown id encoding: " + kind);
+    }
+
+    public static int idSize(String id) {
+        return isUuid(id) ? 17 : 1 + stringSize(id);
+    }
+
+    /**
+     * Solo se aceptan UUID canónicos en minúsculas, para que la reconstrucción devuelva exactamente el mismo texto
+     */
+    static boolean isUuid(String id) {
+        if (id.length() != UUID_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < UUID_LENGTH; i++) {
+            char c = id.charAt(i);
+            boolean dash = i == 8 || i == 13 || i == 18 || i == 23;
+            if (dash ? c != '-' : !((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f'))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long hexToLong(String text, int offset, int digits) {
+        long value = 0;
+        for (int i = offset; i < offset + digits; i++) {
+            char c = text.charAt(i);
+            value = (value << 4) | (c <= '9' ? c - '0' : c - 'a' + 10);
+        }
+        return value;
+    }
+
+    private static void longToHex(char[] chars, int offset, long value, int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            int nibble = (int) (value & 0xF);
+            chars[i] = (char) (nibble < 10 ? '0' + nibble : 'a' + nibble - 10);
+            value >>>= 4;
+        }
+    }
+
+    // ---- Instantes y duraciones: 8 bytes de segundos y 4 de nanosegundos
+
+    public static void writeDateTime(ByteBuffer out, LocalDateTime dateTime) {
+        out.putLong(dateTime.toEpochSecond(ZoneOffset.UTC));
+        out.putInt(dateTime.getNano());
+    }
+
+    public static LocalDateTime readDateTime(ByteBuffer in) {
+        long seconds = in.getLong();
+        int nanos = in.getInt();
+        return LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+    }
+
+    public static void writeDuration(ByteBuffer out, Duration duration) {
+        out.putLong(duration.getSeconds());
+        out.putInt(duration.getNano());
+    }
+
+    public static Duration readDuration(ByteBuffer in) {
+        long seconds = in.getLong();
+        int nanos = in.getInt();
+        return Duration.ofSeconds(seconds, nanos);
+    }
+
+    // ---- Importes: escala de 1 byte y valor sin escala de 8 bytes; si no caben, forma extendida
+
+    public static void writeDecimal(ByteBuffer out, BigDecimal value) {
+        int scale = value.scale();
+        if (value.unscaledValue().bitLength() <= 63 && scale >= Byte.MIN_VALUE && scale <= Byte.MAX_VALUE) {
+            out.put(DECIMAL_COMPACT);
+            out.put((byte) scale);
+            out.putLong(value.unscaledValue().longValue());
+        } else {
+            byte[] unscaled = value.unscaledValue().toByteArray();
+            out.put(DECIMAL_WIDE);
+            out.putInt(scale);
+            writeVarInt(out, unscaled.length);
+            out.put(unscaled);
+        }
+    }
+
+    public static BigDecimal readDecimal(ByteBuffer in) {
+        byte kind = in.get();
+        if (kind == DECIMAL_COMPACT) {
+            int scale = in.get();
+            return BigDecimal.valueOf(in.getLong(), scale);
+        }
+        if (kind == DECIMAL_WIDE) {
+            int scale = in.getInt();
+            byte[] unscaled = new byte[readVarInt(in)];
+            in.get(unscaled);
+            return new BigDecimal(new BigInteger(unscaled), scale);
+        }
+        throw new IllegalArgumentException("Unknown decimal encoding: " + kind);
+    }
+
+    public static int decimalSize(BigDecimal value) {
+        int scale = value.scale();
+        int bits = value.unscaledValue().bitLength();
+        if (bits <= 63 && scale >= Byte.MIN_VALUE && scale <= Byte.MAX_VALUE) {
+            return 10;
+        }
+        int length = bits / 8 + 1;
+        return 5 + varIntSize(length) + length;
+    }
+
+    // ---- Cadenas: longitud varint en bytes y UTF-8
+
+    public static void writeString(ByteBuffer out, String value) {
+        int length = value.length();
+        writeVarInt(out, utf8Length(value));
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                out.put((byte) c);
+            } else if (c < 0x800) {
+                out.put((byte) (0xC0 | c >> 6));
+                out.put((byte) (0x80 | c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                out.put((byte) (0xF0 | codePoint >> 18));
+                out.put((byte) (0x80 | codePoint >> 12 & 0x3F));
+                out.put((byte) (0x80 | codePoint >> 6 & 0x3F));
+                out.put((byte) (0x80 | codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // Sustituto suelto: se codifica como '?', igual que hace String.getBytes
+                out.put((byte) '?');
+            } else {
+                out.put((byte) (0xE0 | c >> 12));
+                out.put((byte) (0x80 | c >> 6 & 0x3F));
+                out.put((byte) (0x80 | c & 0x3F));
+            }
+        }
+    }
+
+    public static String readString(ByteBuffer in) {
+        int length = readVarInt(in);
+        if (length > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        String value;
+        if (in.hasArray()) {
+            value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+            in.position(in.position() + length);
+        } else {
+            byte[] scratch = SCRATCH.get();
+            if (scratch.length < length) {
+                scratch = new byte[Math.max(length, scratch.length * 2)];
+                SCRATCH.set(scratch);
+            }
+            in.get(scratch, 0, length);
+            value = new String(scratch, 0, length, StandardCharsets.UTF_8);
+        }
+        return value;
+    }
+
+    public static int stringSize(String value) {
+        int bytes = utf8Length(value);
+        return varIntSize(bytes) + bytes;
+    }
+
+    private static int utf8Length(String value) {
+        int length = value.length();
+        int bytes = length;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x80) {
+                if (c < 0x800) {
+                    bytes++;
+                } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    bytes += 2;
+                    i++;
+                } else if (!Character.isSurrogate(c)) {
+                    bytes += 2;
+                }
+            }
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,38 @@
+package com.versebank.accounts.infrastructure.events.codec;
+
+import com.versebank.accounts.domain.events.DomainEvent;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+
+/**
+ * Entrada del registro de tipos del códec: etiqueta estable en el formato, clase del evento y cómo
+ * escribir y leer los campos propios del evento. La etiqueta no debe cambiar ni reutilizarse.
+ */
+public record EventType<E extends DomainEvent>(int tag, Class<E> eventClass, BodyWriter<E> writer, BodyReader<E> reader,
+                                               BodySizer<E> sizer) {
+
+    public EventType {
+        if (tag <= 0 || tag > 0xFF) {
+            throw new IllegalArgumentException("Event type tag must be between 1 and 255");
+        }
+        if (eventClass == null || writer == null || reader == null || sizer == null) {
+            throw new NullPointerException("Event class, writer, reader and sizer cannot be null");
+        }
+    }
+
+    @FunctionalInterface
+    public interface BodyWriter<E> {
+        void write(E event, ByteBuffer out);
+    }
+
+    @FunctionalInterface
+    public interface BodyReader<E> {
+        E read(String eventId, LocalDateTime occurredAt, ByteBuffer in);
+    }
+
+    @FunctionalInterface
+    public interface BodySizer<E> {
+        int size(E event);
+    }
+}
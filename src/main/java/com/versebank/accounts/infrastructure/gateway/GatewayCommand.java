@@ -0,0 +1,35 @@
+package com.versebank.accounts.infrastructure.gateway;
+
+import java.math.BigDecimal;
+
+/**
+ * Orden decodificada y, tras ejecutarse, su resultado. Cada conexión reserva un número fijo de ellas y las
+ * reutiliza, de modo que el número de órdenes en vuelo por conexión está acotado.
+ */
+class GatewayCommand {
+
+    long requestId;
+    byte opcode;
+    String accountId;
+    String targetAccountId;
+    BigDecimal amount;
+    String description;
+    byte status;
+    String message;
+
+    void complete(byte status, String message) {
+        this.status = status;
+        this.message = message;
+    }
+
+    void clear() {
+        requestId = 0;
+        opcode = 0;
+        accountId = null;
+        targetAccountId = null;
+        amount = null;
+        description = null;
+        status = GatewayFrames.OK;
+        message = null;
+    }
+}
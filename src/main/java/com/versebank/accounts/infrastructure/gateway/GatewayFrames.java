@@ -0,0 +1,140 @@
+package com.versebank.accounts.infrastructure.gateway;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+
+import static com.versebank.accounts.infrastructure.events.codec.BinaryFields.*;
+
+/**
+ * Formato de las tramas del gateway TCP de movimientos.
+ * <p>
+ * Cada trama empieza por su longitud en 4 bytes (sin contarse a sí misma) seguida del identificador de la
+ * petición (8 bytes), que el cliente elige y la respuesta repite. Una orden lleva después su código de 1 byte y
+ * sus campos: transferencia con cuenta de origen, cuenta de destino, importe y descripción; depósito y retirada
+ * con cuenta, importe y descripción. Una respuesta lleva un estado de 1 byte y un mensaje, vacío si todo fue bien.
+ * Los campos usan la codificación de {@link com.versebank.accounts.infrastructure.events.codec.BinaryFields}.
+ */
+public final class GatewayFrames {
+
+    public static final byte TRANSFER = 1;
+    public static final byte DEPOSIT = 2;
+    public static final byte WITHDRAW = 3;
+
+    public static final byte OK = 0;
+    public static final byte INSUFFICIENT_FUNDS = 1;
+    public static final byte INVALID_REQUEST = 2;
+    public static final byte CONFLICT = 3;
+    public static final byte OVERLOADED = 4;
+    public static final byte FAILED = 5;
+    public static final byte ACCOUNT_NOT_FOUND = 6;
+
+    public static final int LENGTH_SIZE = 4;
+
+    // Identificador y código de orden
+    static final int MIN_COMMAND_SIZE = 9;
+
+    static final int MAX_MESSAGE_LENGTH = 200;
+
+    // Longitud, identificador, estado y el mensaje más largo: hasta 4 bytes UTF-8 por carácter y su longitud varint
+    static final int MAX_RESPONSE_SIZE = LENGTH_SIZE + 9 + 2 + 4 * MAX_MESSAGE_LENGTH;
+
+    private GatewayFrames() {}
+
+    // ---- Lado cliente
+
+    public static void writeTransfer(ByteBuffer out, long requestId, String sourceAccountId, String targetAccountId,
+                                     BigDecimal amount, String description) {
+        int start = beginFrame(out, requestId);
+        out.put(TRANSFER);
+        writeId(out, sourceAccountId);
+        writeId(out, targetAccountId);
+        writeDecimal(out, amount);
+        writeString(out, description);
+        endFrame(out, start);
+    }
+
+    public static void writeDeposit(ByteBuffer out, long requestId, String accountId, BigDecimal amount, String description) {
+        writeMovement(out, requestId, DEPOSIT, accountId, amount, description);
+    }
+
+    public static void writeWithdraw(ByteBuffer out, long requestId, String accountId, BigDecimal amount, String description) {
+        writeMovement(out, requestId, WITHDRAW, accountId, amount, description);
+    }
+
+    /**
+     * Lee una respuesta completa; {@code frame} debe empezar tras la longitud y terminar con la trama
+     */
+    public static Response readResponse(ByteBuffer frame) {
+        long requestId = frame.getLong();
+        byte status = frame.get();
+        return new Response(requestId, status, readString(frame));
+    }
+
+    public record Response(long requestId, byte status, String message) {
+
+        public boolean isOk() {
+            return status == OK;
+        }
+    }
+
+    // ---- Lado servidor
+
+    /**
+     * Decodifica una orden sobre {@code command}; el identificador se asigna antes de validar el resto, para
+     * poder responder a una orden mal formada
+     *
+     * @throws IllegalArgumentException si el código es desconocido o sobran bytes
+     */
+    static void readCommand(ByteBuffer frame, GatewayCommand command) {
+        command.requestId = frame.getLong();
+        command.opcode = frame.get();
+        switch (command.opcode) {
+            case TRANSFER -> {
+                command.accountId = readId(frame);
+                command.targetAccountId = readId(frame);
+            }
+            case DEPOSIT, WITHDRAW -> command.accountId = readId(frame);
+            default -> throw new IllegalArgumentException("Unknown command: " + command.opcode);
+        }
+        command.amount = readDecimal(frame);
+        command.description = readString(frame);
+        if (frame.hasRemaining()) {
+            throw new IllegalArgumentException("Unexpected trailing bytes in command " + command.requestId);
+        }
+    }
+
+    /**
+     * Escribe una respuesta; el llamante garantiza {@link #MAX_RESPONSE_SIZE} bytes libres
+     */
+    static void writeResponse(ByteBuffer out, long requestId, byte status, String message) {
+        int start = beginFrame(out, requestId);
+        out.put(status);
+        if (message == null) {
+            writeString(out, "");
+        } else {
+            writeString(out, message.length() > MAX_MESSAGE_LENGTH ? message.substring(0, MAX_MESSAGE_LENGTH) : message);
+        }
+        endFrame(out, start);
+    }
+
+    private static void writeMovement(ByteBuffer out, long requestId, byte opcode, String accountId, BigDecimal amount,
+                                      String description) {
+        int start = beginFrame(out, requestId);
+        out.put(opcode);
+        writeId(out, accountId);
+        writeDecimal(out, amount);
+        writeString(out, description);
+        endFrame(out, start);
+    }
+
+    private static int beginFrame(ByteBuffer out, long requestId) {
+        int start = out.position();
+        out.putInt(0);
+        out.putLong(requestId);
+        return start;
+    }
+
+    private static void endFrame(ByteBuffer out, int start) {
+        out.putInt(start, out.position() - start - LENGTH_SIZE);
+    }
+}
@@ -0,0 +1,367 @@
+package com.versebank.accounts.infrastructure.gateway;
+
+import com.versebank.accounts.application.port.in.OperationResult;
+import com.versebank.accounts.application.port.in.TransferMoneyUseCase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Gateway TCP para órdenes de movimiento en binario (ver {@link GatewayFrames}).
+ * <p>
+ * Un único hilo con un {@link Selector} acepta conexiones, lee y escribe; las órdenes se ejecutan contra
+ * {@link TransferMoneyUseCase} en un pool acotado. Cada conexión admite varias órdenes en vuelo y las respuestas
+ * salen según terminan, con el identificador de su petición. Cada conexión tiene un buffer directo de entrada,
+ * otro de salida y un juego fijo de órdenes reutilizables: al agotarlas deja de leer hasta que alguna termina,
+ * así que un cliente que no recoge respuestas no acumula memoria en el servidor. Si el pool está lleno la orden
+ * se responde con {@link GatewayFrames#OVERLOADED} sin ejecutarse.
+ */
+public class TcpCommandGateway implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(TcpCommandGateway.class);
+
+    static final int BUFFER_SIZE = 64 * 1024;
+
+    private final TransferMoneyUseCase transferMoneyUseCase;
+    private final int maxInFlight;
+    private final int maxFrameSize;
+    private final ServerSocketChannel serverChannel;
+    private final Selector selector;
+    private final ThreadPoolExecutor workers;
+    private final Thread selectorThread;
+    private final Queue<Connection> readyConnections = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean wakeupPending = new AtomicBoolean();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final Counter commands;
+    private final Counter rejected;
+    private volatile boolean running = true;
+
+    public TcpCommandGateway(TransferMoneyUseCase transferMoneyUseCase, InetSocketAddress address, int workerThreads,
+                             int queueCapacity, int maxInFlight, int maxFrameSize, MeterRegistry meterRegistry) {
+        if (transferMoneyUseCase == null || address == null || meterRegistry == null) {
+            throw new NullPointerException("Use case, address and meter registry cannot be null");
+        }
+        if (workerThreads <= 0 || queueCapacity <= 0 || maxInFlight <= 0) {
+            throw new IllegalArgumentException("Worker threads, queue capacity and in-flight limit must be positive");
+        }
+        if (maxFrameSize < GatewayFrames.MIN_COMMAND_SIZE || maxFrameSize > BUFFER_SIZE - GatewayFrames.LENGTH_SIZE) {
+            throw new IllegalArgumentException("Max frame size must be between " + GatewayFrames.MIN_COMMAND_SIZE
+                + " and " + (BUFFER_SIZE - GatewayFrames.LENGTH_SIZE));
+        }
+        this.transferMoneyUseCase = transferMoneyUseCase;
+        this.maxInFlight = maxInFlight;
+        this.maxFrameSize = maxFrameSize;
+        this.workers = new ThreadPoolExecutor(workerThreads, workerThreads, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), daemonThreads("tcp-gateway-worker-"));
+        this.commands = Counter.builder("versebank.gateway.commands").register(meterRegistry);
+        this.rejected = Counter.builder("versebank.gateway.rejected").register(meterRegistry);
+        Gauge.builder("versebank.gateway.connections", connections, AtomicInteger::get).register(meterRegistry);
+        try {
+            this.selector = Selector.open();
+            this.serverChannel = ServerSocketChannel.open();
+            serverChannel.bind(address);
+            serverChannel.configureBlocking(false);
+            serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        } catch (IOException e) {
+            workers.shutdownNow();
+            throw new UncheckedIOException("Cannot open TCP gateway on " + address, e);
+        }
+        this.selectorThread = daemonThreads("tcp-gateway-selector").newThread(this::selectLoop);
+        selectorThread.start();
+        logger.info("TCP command gateway listening on port {}", getPort());
+    }
+
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        selector.wakeup();
+        try {
+            selectorThread.join(TimeUnit.SECONDS.toMillis(5));
+            workers.shutdown();
+            workers.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void selectLoop() {
+        while (running) {
+            try {
+                selector.select(this::handle);
+                wakeupPending.set(false);
+                Connection ready;
+                while ((ready = readyConnections.poll()) != null) {
+                    try {
+                        ready.flush();
+                    } catch (IOException e) {
+                        logger.debug("Closing gateway connection: {}", e.getMessage());
+                        closeQuietly(ready.key);
+                    }
+                }
+            } catch (IOException e) {
+                logger.warn("TCP gateway selector failed: {}", e.getMessage());
+            }
+        }
+        for (SelectionKey key : selector.keys()) {
+            closeQuietly(key);
+        }
+        try {
+            selector.close();
+            serverChannel.close();
+        } catch (IOException e) {
+            logger.warn("Error closing TCP gateway: {}", e.getMessage());
+        }
+    }
+
+    private void handle(SelectionKey key) {
+        if (!key.isValid()) {
+            return;
+        }
+        if (key.isAcceptable()) {
+            try {
+                accept();
+            } catch (IOException e) {
+                logger.warn("Cannot accept gateway connection: {}", e.getMessage());
+            }
+            return;
+        }
+        try {
+            Connection connection = (Connection) key.attachment();
+            if (key.isReadable()) {
+                connection.read();
+            }
+            if (key.isValid() && key.isWritable()) {
+                connection.flush();
+            }
+        } catch (IOException e) {
+            logger.debug("Closing gateway connection: {}", e.getMessage());
+            closeQuietly(key);
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel = serverChannel.accept();
+        if (channel == null) {
+            return;
+        }
+        channel.configureBlocking(false);
+        channel.socket().setTcpNoDelay(true);
+        Connection connection = new Connection(channel);
+        connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+        connections.incrementAndGet();
+    }
+
+    private void closeQuietly(SelectionKey key) {
+        key.cancel();
+        if (key.attachment() instanceof Connection connection && !connection.closed) {
+            connection.closed = true;
+            connections.decrementAndGet();
+        }
+        try {
+            key.channel().close();
+        } catch (IOException e) {
+            logger.debug("Error closing gateway channel: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Ejecuta la orden en un hilo del pool y deja el resultado en la propia orden
+     */
+    private void execute(GatewayCommand command) {
+        try {
+            OperationResult result = switch (command.opcode) {
+                case GatewayFrames.TRANSFER -> transferMoneyUseCase.transferMoney(
+                    command.accountId, command.targetAccountId, command.amount, command.description);
+                case GatewayFrames.DEPOSIT -> transferMoneyUseCase.depositMoney(
+                    command.accountId, command.amount, command.description);
+                case GatewayFrames.WITHDRAW -> transferMoneyUseCase.withdrawMoney(
+                    command.accountId, command.amount, command.description);
+                default -> throw new IllegalStateException("Unexpected command " + command.opcode);
+            };
+            command.complete(statusOf(result), result.message());
+        } catch (IllegalArgumentException e) {
+            command.complete(GatewayFrames.INVALID_REQUEST, e.getMessage());
+        } catch (OptimisticLockingFailureException e) {
+            command.complete(GatewayFrames.CONFLICT, "Account was modified concurrently");
+        } catch (RuntimeException e) {
+            logger.error("Gateway command {} failed", command.requestId, e);
+            command.complete(GatewayFrames.FAILED, "Internal error");
+        }
+    }
+
+    private static byte statusOf(OperationResult result) {
+        return switch (result.status()) {
+            case SUCCESS -> GatewayFrames.OK;
+            case INSUFFICIENT_FUNDS -> GatewayFrames.INSUFFICIENT_FUNDS;
+            case ACCOUNT_NOT_FOUND -> GatewayFrames.ACCOUNT_NOT_FOUND;
+            case INVALID_REQUEST -> GatewayFrames.INVALID_REQUEST;
+        };
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Estado de una conexión. Los buffers, las órdenes libres y el interés del selector solo los toca el hilo
+     * del selector; los hilos del pool únicamente dejan órdenes terminadas en {@code completed}.
+     */
+    private final class Connection {
+
+        private final SocketChannel channel;
+        private final ByteBuffer in = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        private final ByteBuffer out = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        private final ArrayDeque<PendingCommand> free = new ArrayDeque<>(maxInFlight);
+        private final ArrayBlockingQueue<PendingCommand> completed = new ArrayBlockingQueue<>(maxInFlight);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private SelectionKey key;
+        private volatile boolean closed;
+
+        Connection(SocketChannel channel) {
+            this.channel = channel;
+            for (int i = 0; i < maxInFlight; i++) {
+                free.push(new PendingCommand(this));
+            }
+        }
+
+        void read() throws IOException {
+            if (channel.read(in) < 0) {
+                throw new IOException("Connection closed by peer");
+            }
+            processFrames();
+        }
+
+        /**
+         * Despacha las tramas completas del buffer de entrada mientras queden órdenes libres
+         */
+        private void processFrames() throws IOException {
+            in.flip();
+            while (!free.isEmpty() && in.remaining() >= GatewayFrames.LENGTH_SIZE) {
+                int length = in.getInt(in.position());
+                if (length < GatewayFrames.MIN_COMMAND_SIZE || length > maxFrameSize) {
+                    throw new IOException("Invalid frame length " + length);
+                }
+                if (in.remaining() < GatewayFrames.LENGTH_SIZE + length) {
+                    break;
+                }
+                int frameEnd = in.position() + GatewayFrames.LENGTH_SIZE + length;
+                int limit = in.limit();
+                in.position(in.position() + GatewayFrames.LENGTH_SIZE).limit(frameEnd);
+                dispatch(free.pop());
+                in.limit(limit).position(frameEnd);
+            }
+            in.compact();
+            int interest = key.interestOps();
+            key.interestOps(free.isEmpty() ? interest & ~SelectionKey.OP_READ : interest | SelectionKey.OP_READ);
+        }
+
+        private void dispatch(PendingCommand command) {
+            commands.increment();
+            try {
+                GatewayFrames.readCommand(in, command);
+            } catch (IllegalArgumentException | BufferUnderflowException e) {
+                command.complete(GatewayFrames.INVALID_REQUEST,
+                    e instanceof IllegalArgumentException ? e.getMessage() : "Malformed command " + command.requestId);
+                completed(command);
+                return;
+            }
+            try {
+                workers.execute(command);
+            } catch (RejectedExecutionException e) {
+                rejected.increment();
+                command.complete(GatewayFrames.OVERLOADED, "Gateway overloaded");
+                completed(command);
+            }
+        }
+
+        /**
+         * Llamado desde cualquier hilo: encola la respuesta y avisa al selector si la conexión no estaba ya avisada
+         */
+        void completed(PendingCommand command) {
+            completed.add(command);
+            if (scheduled.compareAndSet(false, true)) {
+                readyConnections.add(this);
+                if (wakeupPending.compareAndSet(false, true)) {
+                    selector.wakeup();
+                }
+            }
+        }
+
+        /**
+         * Escribe las respuestas terminadas; si el socket no admite más, espera a {@code OP_WRITE}
+         */
+        void flush() throws IOException {
+            scheduled.set(false);
+            if (closed) {
+                return;
+            }
+            PendingCommand command;
+            do {
+                while (out.remaining() >= GatewayFrames.MAX_RESPONSE_SIZE && (command = completed.poll()) != null) {
+                    GatewayFrames.writeResponse(out, command.requestId, command.status, command.message);
+                    command.clear();
+                    free.push(command);
+                }
+                out.flip();
+                channel.write(out);
+                out.compact();
+            } while (out.position() == 0 && !completed.isEmpty());
+            int interest = key.interestOps();
+            key.interestOps(out.position() > 0 ? interest | SelectionKey.OP_WRITE : interest & ~SelectionKey.OP_WRITE);
+            if ((interest & SelectionKey.OP_READ) == 0 && !free.isEmpty()) {
+                // Estaba en pausa por falta de órdenes libres: puede haber tramas completas ya leídas
+                processFrames();
+            }
+        }
+    }
+
+    /**
+     * Orden reutilizable que se ejecuta a sí misma en el pool, sin reservar una tarea por trama
+     */
+    private final class PendingCommand extends GatewayCommand implements Runnable {
+
+        private final Connection connection;
+
+        PendingCommand(Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public void run() {
+            execute(this);
+            connection.completed(this);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.versebank.accounts.infrastructure.gateway;
+
+import com.versebank.accounts.application.port.in.TransferMoneyUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.InetSocketAddress;
+
+/**
+ * Abre el gateway TCP de movimientos solo si se activa {@code versebank.gateway.tcp.enabled}
+ */
+@Configuration
+@EnableConfigurationProperties(TcpGatewayProperties.class)
+@ConditionalOnProperty(prefix = "versebank.gateway.tcp", name = "enabled", havingValue = "true")
+public class TcpGatewayConfiguration {
+
+    @Bean
+    public TcpCommandGateway tcpCommandGateway(TransferMoneyUseCase transferMoneyUseCase, TcpGatewayProperties properties,
+                                               MeterRegistry meterRegistry) {
+        return new TcpCommandGateway(transferMoneyUseCase, new InetSocketAddress(properties.getHost(), properties.getPort()),
+            properties.getWorkerThreads(), properties.getQueueCapacity(), properties.getMaxInFlight(),
+            properties.getMaxFrameSize(), meterRegistry);
+    }
+}
@@ -0,0 +1,33 @@
+package com.versebank.accounts.infrastructure.gateway;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Gateway TCP binario de movimientos (prefijo {@code versebank.gateway.tcp})
+ */
+@ConfigurationProperties(prefix = "versebank.gateway.tcp")
+public class TcpGatewayProperties {
+
+    private boolean enabled = false;
+    private String host = "0.0.0.0";
+    private int port = 9090;
+    private int workerThreads = 16;
+    private int queueCapacity = 1024;
+    private int maxInFlight = 128;
+    private int maxFrameSize = 4096;
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+    public String getHost() { return host; }
+    public void setHost(String host) { this.host = host; }
+    public int getPort() { return port; }
+    public void setPort(int port) { this.port = port; }
+    public int getWorkerThreads() { return workerThreads; }
+    public void setWorkerThreads(int workerThreads) { this.workerThreads = workerThreads; }
+    public int getQueueCapacity() { return queueCapacity; }
+    public void setQueueCapacity(int queueCapacity) { this.queueCapacity = queueCapacity; }
+    public int getMaxInFlight() { return maxInFlight; }
+    public void setMaxInFlight(int maxInFlight) { this.maxInFlight = maxInFlight; }
+    public int getMaxFrameSize() { return maxFrameSize; }
+    public void setMaxFrameSize(int maxFrameSize) { this.maxFrameSize = maxFrameSize; }
+}
@@ -0,0 +1,225 @@
+package com.versebank.accounts.infrastructure.notification;
+
+import com.versebank.accounts.application.port.out.NotificationPort;
+import com.versebank.accounts.domain.events.DomainEvent;
+import com.versebank.accounts.infrastructure.events.BackpressurePolicy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link NotificationPort} que encola las notificaciones y vuelve inmediatamente.
+ * <p>
+ * La cola es acotada y compartida; unos pocos hilos la vacían por lotes y entregan cada lote al canal
+ * con {@link NotificationChannel#deliver(List)}. Con un solo hilo se respeta el orden de encolado. Si la cola
+ * se llena se aplica la {@link BackpressurePolicy} configurada. Lo que llega dentro de una transacción se
+ * encola solo cuando se confirma. Al cerrar se entregan las notificaciones
+ * pendientes y se cierra el canal; las que lleguen después se entregan en el hilo que llama. Publica métricas de profundidad
+ * de cola, tamaño de lote, latencia de entrega (desde el encolado), descartes, entregas en el hilo
+ * llamante y fallos.
+ */
+public class AsyncNotificationDispatcher implements NotificationPort, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncNotificationDispatcher.class);
+
+    // Espera de un hilo sin trabajo antes de comprobar si el despachador se ha cerrado
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final NotificationChannel channel;
+    private final BlockingQueue<Notification> queue;
+    private final int batchSize;
+    private final BackpressurePolicy overflow;
+    private final Thread[] workers;
+    private final CountDownLatch stopped;
+    private final DistributionSummary batchSizes;
+    private final Timer latency;
+    private final Counter dropped;
+    private final Counter callerRuns;
+    private final Counter failures;
+    private volatile boolean closed;
+
+    public AsyncNotificationDispatcher(NotificationChannel channel, int queueCapacity, int batchSize, int workerThreads,
+                                       BackpressurePolicy overflow, MeterRegistry meterRegistry) {
+        if (channel == null || overflow == null || meterRegistry == null) {
+            throw new NullPointerException("Channel, overflow policy and MeterRegistry cannot be null");
+        }
+        if (queueCapacity <= 0 || batchSize <= 0 || workerThreads <= 0) {
+            throw new IllegalArgumentException("Queue capacity, batch size and worker threads must be positive");
+        }
+        this.channel = channel;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.overflow = overflow;
+        this.batchSizes = DistributionSummary.builder("versebank.notifications.batch.size").register(meterRegistry);
+        this.latency = Timer.builder("versebank.notifications.delivery.latency").register(meterRegistry);
+        this.dropped = Counter.builder("versebank.notifications.dropped").register(meterRegistry);
+        this.callerRuns = Counter.builder("versebank.notifications.caller.runs").register(meterRegistry);
+        this.failures = Counter.builder("versebank.notifications.failures").register(meterRegistry);
+        Gauge.builder("versebank.notifications.queue.depth", queue, BlockingQueue::size).register(meterRegistry);
+
+        this.stopped = new CountDownLatch(workerThreads);
+        this.workers = new Thread[workerThreads];
+        for (int i = 0; i < workerThreads; i++) {
+            workers[i] = new Thread(this::drainLoop, "notifications-" + (i + 1));
+            workers[i].setDaemon(true);
+            workers[i].start();
+        }
+    }
+
+    @Override
+    public void sendNotification(String recipient, String subject, String message) {
+        enqueue(Notification.notification(recipient, subject, message));
+    }
+
+    @Override
+    public void sendEmail(String email, String subject, String message) {
+        enqueue(Notification.email(email, subject, message));
+    }
+
+    @Override
+    public void sendSms(String phoneNumber, String message) {
+        enqueue(Notification.sms(phoneNumber, message));
+    }
+
+    @Override
+    public void notifyAccountOperation(String accountId, String operation, String details) {
+        enqueue(Notification.accountOperation(accountId, operation, details));
+    }
+
+    @Override
+    public void broadcastEvent(DomainEvent event) {
+        enqueue(Notification.broadcast(event));
+    }
+
+    public int queueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Dentro de una transacción se encola al confirmarse: si se deshace, no se notifica nada
+     */
+    private void enqueue(Notification notification) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    offer(notification);
+                }
+            });
+            return;
+        }
+        offer(notification);
+    }
+
+    private void offer(Notification notification) {
+        if (closed) {
+            deliverInline(notification);
+            return;
+        }
+        switch (overflow) {
+            case BLOCK -> {
+                try {
+                    queue.put(notification);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    dropped.increment();
+                }
+            }
+            case DROP_OLDEST -> {
+                while (!queue.offer(notification)) {
+                    if (queue.poll() != null) {
+                        dropped.increment();
+                    }
+                }
+            }
+            case CALLER_RUNS -> {
+                if (!queue.offer(notification)) {
+                    deliverInline(notification);
+                }
+            }
+        }
+    }
+
+    private void deliverInline(Notification notification) {
+        callerRuns.increment();
+        deliver(List.of(notification));
+    }
+
+    private void drainLoop() {
+        List<Notification> batch = new ArrayList<>(batchSize);
+        try {
+            while (!closed || !queue.isEmpty()) {
+                Notification first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                deliver(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            stopped.countDown();
+        }
+    }
+
+    private void deliver(List<Notification> batch) {
+        batchSizes.record(batch.size());
+        try {
+            channel.deliver(batch);
+        } catch (RuntimeException e) {
+            failures.increment(batch.size());
+            logger.error("Failed to deliver a batch of {} notifications", batch.size(), e);
+            return;
+        }
+        long now = System.nanoTime();
+        for (Notification notification : batch) {
+            latency.record(now - notification.enqueuedAtNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Deja de aceptar notificaciones en la cola y espera a que los hilos entreguen lo pendiente;
+     * lo que quede al agotar el plazo se entrega en el hilo que cierra
+     */
+    public void close(Duration timeout) {
+        closed = true;
+        try {
+            if (!stopped.await(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                for (Thread worker : workers) {
+                    worker.interrupt();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<Notification> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            logger.warn("Delivering {} pending notifications on shutdown", remaining.size());
+            deliver(remaining);
+        }
+        channel.close();
+    }
+
+    @Override
+    public void close() {
+        close(Duration.ofSeconds(10));
+    }
+}
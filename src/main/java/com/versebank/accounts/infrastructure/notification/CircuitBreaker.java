@@ -0,0 +1,66 @@
+package com.versebank.accounts.infrastructure.notification;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Cortocircuito de un canal: tras {@code failureThreshold} fallos seguidos se abre y rechaza las entregas
+ * durante {@code openDuration}; después deja pasar una sola de prueba, que lo cierra si va bien o lo vuelve
+ * a abrir si falla.
+ */
+final class CircuitBreaker {
+
+    enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long openedAt;
+
+    CircuitBreaker(int failureThreshold, Duration openDuration, LongSupplier nanoClock) {
+        if (openDuration == null || nanoClock == null) {
+            throw new NullPointerException("Open duration and clock cannot be null");
+        }
+        if (failureThreshold <= 0 || openDuration.isNegative()) {
+            throw new IllegalArgumentException("Failure threshold must be positive and open duration cannot be negative");
+        }
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Indica si se puede intentar una entrega; con el circuito abierto solo pasa la prueba, y una sola vez
+     */
+    boolean tryAcquire() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        return current == State.OPEN && nanoClock.getAsLong() - openedAt >= openNanos
+            && state.compareAndSet(State.OPEN, State.HALF_OPEN);
+    }
+
+    void onSuccess() {
+        consecutiveFailures.set(0);
+        state.set(State.CLOSED);
+    }
+
+    void onFailure() {
+        if (state.get() == State.HALF_OPEN || consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            openedAt = nanoClock.getAsLong();
+            consecutiveFailures.set(0);
+            state.set(State.OPEN);
+        }
+    }
+
+    State state() {
+        return state.get();
+    }
+}
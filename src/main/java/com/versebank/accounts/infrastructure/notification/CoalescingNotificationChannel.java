@@ -0,0 +1,220 @@
+package com.versebank.accounts.infrastructure.notification;
+
+import com.versebank.accounts.domain.events.DomainEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Canal que agrupa las notificaciones de operaciones de una misma cuenta en un único resumen.
+ * <p>
+ * Las operaciones de cuenta se retienen por id de cuenta (cada instancia envuelve un canal, así que la clave
+ * efectiva es cuenta y canal). Se entregan cuando pasa la ventana sin operaciones nuevas para esa cuenta o,
+ * en una ráfaga continua, al cumplirse el retraso máximo desde la primera retenida. Si solo hay una se entrega
+ * tal cual; si hay varias, como un {@link NotificationDigest}. El resto de notificaciones pasan sin retener.
+ */
+public class CoalescingNotificationChannel implements NotificationChannel {
+
+    private static final Logger logger = LoggerFactory.getLogger(CoalescingNotificationChannel.class);
+
+    private final NotificationChannel delegate;
+    private final long windowNanos;
+    private final long maxDelayNanos;
+    private final LongSupplier nanoClock;
+    private final Map<String, Pending> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService ticker;
+    private final Counter coalesced;
+    private final Counter digests;
+    private volatile boolean closed;
+
+    public CoalescingNotificationChannel(NotificationChannel delegate, Duration window, Duration maxDelay, MeterRegistry meterRegistry) {
+        this(delegate, window, maxDelay, meterRegistry, System::nanoTime, true);
+    }
+
+    CoalescingNotificationChannel(NotificationChannel delegate, Duration window, Duration maxDelay, MeterRegistry meterRegistry,
+                                  LongSupplier nanoClock, boolean startTicker) {
+        if (delegate == null || window == null || maxDelay == null || meterRegistry == null || nanoClock == null) {
+            throw new NullPointerException("Delegate, window, max delay, MeterRegistry and clock cannot be null");
+        }
+        if (window.isNegative() || window.isZero() || maxDelay.compareTo(window) < 0) {
+            throw new IllegalArgumentException("Window must be positive and max delay cannot be shorter than the window");
+        }
+        this.delegate = delegate;
+        this.windowNanos = window.toNanos();
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.nanoClock = nanoClock;
+        this.coalesced = Counter.builder("versebank.notifications.coalesced").register(meterRegistry);
+        this.digests = Counter.builder("versebank.notifications.digests").register(meterRegistry);
+        Gauge.builder("versebank.notifications.coalescing.pending", pending, Map::size).register(meterRegistry);
+        if (startTicker) {
+            // Se revisa varias veces por ventana para que el retraso añadido sobre la ventana sea pequeño
+            long tickNanos = Math.max(TimeUnit.MILLISECONDS.toNanos(10), windowNanos / 4);
+            this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "notification-coalescer");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.ticker.scheduleWithFixedDelay(this::flushDueSafely, tickNanos, tickNanos, TimeUnit.NANOSECONDS);
+        } else {
+            this.ticker = null;
+        }
+    }
+
+    @Override
+    public void deliver(List<Notification> batch) {
+        if (closed) {
+            delegate.deliver(batch);
+            return;
+        }
+        List<Notification> passThrough = null;
+        long now = nanoClock.getAsLong();
+        for (Notification notification : batch) {
+            if (notification.kind() == Notification.Kind.ACCOUNT_OPERATION) {
+                pending.compute(notification.recipient(), (accountId, accountPending) -> {
+                    Pending target = accountPending != null ? accountPending : new Pending(now);
+                    target.add(notification, now);
+                    return target;
+                });
+            } else {
+                if (passThrough == null) {
+                    passThrough = new ArrayList<>(batch.size());
+                }
+                passThrough.add(notification);
+            }
+        }
+        if (passThrough != null) {
+            delegate.deliver(passThrough);
+        }
+    }
+
+    /**
+     * Entrega las cuentas cuya ventana ha vencido o que han alcanzado el retraso máximo
+     *
+     * @return número de mensajes entregados
+     */
+    int flushDue() {
+        long now = nanoClock.getAsLong();
+        List<Notification> ready = new ArrayList<>();
+        for (String accountId : pending.keySet()) {
+            pending.computeIfPresent(accountId, (id, accountPending) -> {
+                if (now - accountPending.lastAtNanos >= windowNanos || now - accountPending.firstAtNanos >= maxDelayNanos) {
+                    ready.add(toMessage(id, accountPending));
+                    return null;
+                }
+                return accountPending;
+            });
+        }
+        if (!ready.isEmpty()) {
+            delegate.deliver(ready);
+        }
+        return ready.size();
+    }
+
+    int pendingAccounts() {
+        return pending.size();
+    }
+
+    private void flushDueSafely() {
+        try {
+            flushDue();
+        } catch (RuntimeException e) {
+            logger.error("Failed to deliver coalesced notifications", e);
+        }
+    }
+
+    private Notification toMessage(String accountId, Pending accountPending) {
+        int count = accountPending.operations.size();
+        if (count > 1) {
+            coalesced.increment(count - 1);
+            digests.increment();
+        }
+        return NotificationDigest.of(accountId, accountPending.operations);
+    }
+
+    @Override
+    public String name() {
+        return delegate.name();
+    }
+
+    @Override
+    public boolean supports(Notification.Kind kind) {
+        return delegate.supports(kind);
+    }
+
+    @Override
+    public void sendNotification(String recipient, String subject, String message) {
+        deliver(List.of(Notification.notification(recipient, subject, message)));
+    }
+
+    @Override
+    public void sendEmail(String email, String subject, String message) {
+        deliver(List.of(Notification.email(email, subject, message)));
+    }
+
+    @Override
+    public void sendSms(String phoneNumber, String message) {
+        deliver(List.of(Notification.sms(phoneNumber, message)));
+    }
+
+    @Override
+    public void notifyAccountOperation(String accountId, String operation, String details) {
+        deliver(List.of(Notification.accountOperation(accountId, operation, details)));
+    }
+
+    @Override
+    public void broadcastEvent(DomainEvent event) {
+        deliver(List.of(Notification.broadcast(event)));
+    }
+
+    /**
+     * Entrega todo lo retenido sin esperar a que venza y cierra el canal envuelto
+     */
+    @Override
+    public void close() {
+        closed = true;
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+        List<Notification> remaining = new ArrayList<>();
+        for (String accountId : pending.keySet()) {
+            Pending accountPending = pending.remove(accountId);
+            if (accountPending != null) {
+                remaining.add(toMessage(accountId, accountPending));
+            }
+        }
+        if (!remaining.isEmpty()) {
+            delegate.deliver(remaining);
+        }
+        delegate.close();
+    }
+
+    /**
+     * Operaciones retenidas de una cuenta. Solo se modifica dentro de {@code compute} sobre su entrada.
+     */
+    private static final class Pending {
+        final long firstAtNanos;
+        long lastAtNanos;
+        final List<Notification> operations = new ArrayList<>(4);
+
+        Pending(long firstAtNanos) {
+            this.firstAtNanos = firstAtNanos;
+        }
+
+        void add(Notification notification, long now) {
+            operations.add(notification);
+            lastAtNanos = now;
+        }
+    }
+}
@@ -1,55 +1,131 @@
 package com.versebank.accounts.infrastructure.notification;
 
-import com.versebank.accounts.application.port.out.NotificationPort;
 import com.versebank.accounts.domain.events.DomainEvent;
-import org.springframework.context.annotation.Primary;
-import org.springframework.context.annotation.Profile;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
-@Primary
-@Profile("!sms")
-public class EmailNotificationAdapter implements NotificationPort {
+public class EmailNotificationAdapter implements NotificationChannel {
+
+    static final String CHANNEL = "email";
+    private static final String NL = System.lineSeparator();
+    private static final String ACCOUNT_OPERATION_SUBJECT = "Account Operation Notification";
+
+    private final NotificationTemplates templates;
+
+    public EmailNotificationAdapter() {
+        this(NotificationTemplates.defaults());
+    }
+
+    @Autowired
+    public EmailNotificationAdapter(NotificationTemplates templates) {
+        if (templates == null) {
+            throw new NullPointerException("NotificationTemplates cannot be null");
+        }
+        this.templates = templates;
+    }
+
+    @Override
+    public String name() {
+        return CHANNEL;
+    }
     
     @Override
     public void sendNotification(String recipient, String subject, String message) {
-        System.out.println("EMAIL NOTIFICATION");
-        System.out.println("To: " + recipient);
-        System.out.println("Subject: " + subject);
-        System.out.println("Message: " + message);
-        System.out.println("------------------------");
+        StringBuilder out = new StringBuilder(128);
+        appendNotification(out, recipient, subject, message);
+        System.out.print(out);
     }
     
     @Override
     public void sendEmail(String email, String subject, String message) {
-        System.out.println("EMAIL SENT");
-        System.out.println("Email: " + email);
-        System.out.println("Subject: " + subject);
-        System.out.println("Message: " + message);
-        System.out.println("------------------------");
+        StringBuilder out = new StringBuilder(128);
+        appendEmail(out, email, subject, message);
+        System.out.print(out);
     }
     
     @Override
     public void sendSms(String phoneNumber, String message) {
-        System.out.println("SMS NOTIFICATION");
-        System.out.println("Phone: " + phoneNumber);
-        System.out.println("Message: " + message);
-        System.out.println("------------------------");
+        StringBuilder out = new StringBuilder(128);
+        appendSms(out, phoneNumber, message);
+        System.out.print(out);
     }
     
     @Override
     public void notifyAccountOperation(String accountId, String operation, String details) {
-        String subject = "Account Operation Notification";
-        String message = "Account: " + accountId + " | Operation: " + operation + " | Details: " + details;
-        sendNotification(accountId, subject, message);
+        StringBuilder out = new StringBuilder(192);
+        appendAccountOperation(out, accountId, operation, details);
+        System.out.print(out);
     }
     
     @Override
     public void broadcastEvent(DomainEvent event) {
-        System.out.println("DOMAIN EVENT BROADCASTED");
-        System.out.println("Event: " + event.getEventType());
-        System.out.println("ID: " + event.getEventId());
-        System.out.println("Timestamp: " + event.getOccurredAt());
-        System.out.println("------------------------");
+        StringBuilder out = new StringBuilder(128);
+        appendBroadcast(out, event);
+        System.out.print(out);
+    }
+
+    /**
+     * Escribe todo el lote en la consola de una vez, en lugar de varias líneas por notificación
+     */
+    @Override
+    public void deliver(List<Notification> batch) {
+        StringBuilder out = new StringBuilder(128 * batch.size());
+        for (Notification n : batch) {
+            switch (n.kind()) {
+                case NOTIFICATION -> appendNotification(out, n.recipient(), n.subject(), n.message());
+                case EMAIL -> appendEmail(out, n.recipient(), n.subject(), n.message());
+                case SMS -> appendSms(out, n.recipient(), n.message());
+                case ACCOUNT_OPERATION -> appendAccountOperation(out, n.recipient(), n.subject(), n.message());
+                case BROADCAST -> appendBroadcast(out, n.event());
+            }
+        }
+        System.out.print(out);
+    }
+
+    private static void appendNotification(StringBuilder out, String recipient, String subject, String message) {
+        out.append("EMAIL NOTIFICATION").append(NL)
+            .append("To: ").append(recipient).append(NL)
+            .append("Subject: ").append(subject).append(NL)
+            .append("Message: ").append(message).append(NL)
+            .append("------------------------").append(NL);
+    }
+
+    /**
+     * Mismo formato que {@link #appendNotification}, con el mensaje renderizado directamente en {@code out}
+     */
+    private void appendAccountOperation(StringBuilder out, String accountId, String operation, String details) {
+        out.append("EMAIL NOTIFICATION").append(NL)
+            .append("To: ").append(accountId).append(NL)
+            .append("Subject: ").append(ACCOUNT_OPERATION_SUBJECT).append(NL)
+            .append("Message: ");
+        templates.appendAccountOperation(out, CHANNEL, accountId, operation, details)
+            .append(NL)
+            .append("------------------------").append(NL);
+    }
+
+    private static void appendEmail(StringBuilder out, String email, String subject, String message) {
+        out.append("EMAIL SENT").append(NL)
+            .append("Email: ").append(email).append(NL)
+            .append("Subject: ").append(subject).append(NL)
+            .append("Message: ").append(message).append(NL)
+            .append("------------------------").append(NL);
+    }
+
+    private static void appendSms(StringBuilder out, String phoneNumber, String message) {
+        out.append("SMS NOTIFICATION").append(NL)
+            .append("Phone: ").append(phoneNumber).append(NL)
+            .append("Message: ").append(message).append(NL)
+            .append("------------------------").append(NL);
+    }
+
+    private static void appendBroadcast(StringBuilder out, DomainEvent event) {
+        out.append("DOMAIN EVENT BROADCASTED").append(NL)
+            .append("Event: ").append(event.getEventType()).append(NL)
+            .append("ID: ").append(event.getEventId()).append(NL)
+            .append("Timestamp: ").append(event.getOccurredAt()).append(NL)
+            .append("------------------------").append(NL);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,437 @@
+package com.versebank.accounts.infrastructure.notification;
+
+import com.versebank.accounts.domain.events.DomainEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Reparte cada lote entre varios canales en paralelo.
+ * <p>
+ * Cada canal tiene su propio hilo y una cola acotada, así que entrega en orden y sin esperar a los demás.
+ * El lote se encola en todos los canales y se vuelve sin esperar a ninguno: es la propia tarea de cada canal
+ * la que anota el resultado en su {@link CircuitBreaker}. Un canal que no termina dentro de su plazo, falla
+ * o tiene la cola llena cuenta como fallo, y con el circuito abierto sus lotes se descartan sin llegar a
+ * encolarse. Una entrega que se pasa de plazo no se interrumpe: termina igualmente. A cada canal solo le
+ * llegan los tipos de notificación que admite. Se publican latencia, fallos, descartes y estado del circuito
+ * por canal.
+ * <p>
+ * Cada canal puede tener su propio {@link RateLimitingNotificationChannel} delante de la cola, así que el límite es
+ * por destinatario y canal. {@link #deliver(List)} pasa por él; {@link #deliver(List, Set)} no, y quien la usa pide
+ * antes las fichas con {@link #tryAcquire(String, Notification)}.
+ */
+public class FanOutNotificationChannel implements NotificationChannel {
+
+    private static final Logger logger = LoggerFactory.getLogger(FanOutNotificationChannel.class);
+
+    // Canal sin nada que entregar: no cuenta como éxito ni como fallo
+    private static final CompletableFuture<Boolean> SKIPPED = CompletableFuture.completedFuture(true);
+    private static final CompletableFuture<Boolean> NOT_ACCEPTED = CompletableFuture.completedFuture(false);
+
+    private final Lane[] lanes;
+    // Plazos de las entregas en curso; vencer uno no interrumpe la entrega
+    private final ScheduledThreadPoolExecutor timer;
+    private volatile boolean closed;
+
+    /**
+     * @param timeouts plazo por nombre de canal; los que no aparecen usan {@code timeout}
+     */
+    public FanOutNotificationChannel(List<NotificationChannel> channels, Duration timeout, Map<String, Duration> timeouts,
+                                     int queueCapacity, int failureThreshold, Duration openDuration, MeterRegistry meterRegistry) {
+        this(channels, timeout, timeouts, queueCapacity, failureThreshold, openDuration, channel -> null, meterRegistry, System::nanoTime);
+    }
+
+    /**
+     * @param rateLimits crea el límite de un canal a partir del canal que encola en su hilo; {@code null} para no limitarlo
+     */
+    public FanOutNotificationChannel(List<NotificationChannel> channels, Duration timeout, Map<String, Duration> timeouts,
+                                     int queueCapacity, int failureThreshold, Duration openDuration,
+                                     Function<NotificationChannel, RateLimitingNotificationChannel> rateLimits,
+                                     MeterRegistry meterRegistry) {
+        this(channels, timeout, timeouts, queueCapacity, failureThreshold, openDuration, rateLimits, meterRegistry, System::nanoTime);
+    }
+
+    FanOutNotificationChannel(List<NotificationChannel> channels, Duration timeout, Map<String, Duration> timeouts,
+                              int queueCapacity, int failureThreshold, Duration openDuration,
+                              Function<NotificationChannel, RateLimitingNotificationChannel> rateLimits,
+                              MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        if (channels == null || timeout == null || timeouts == null || openDuration == null || rateLimits == null
+            || meterRegistry == null) {
+            throw new NullPointerException("Channels, timeouts, open duration, rate limits and MeterRegistry cannot be null");
+        }
+        if (channels.isEmpty() || queueCapacity <= 0) {
+            throw new IllegalArgumentException("At least one channel and a positive queue capacity are required");
+        }
+        this.timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "notification-fan-out-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.timer.setRemoveOnCancelPolicy(true);
+        this.lanes = new Lane[channels.size()];
+        for (int i = 0; i < lanes.length; i++) {
+            NotificationChannel channel = channels.get(i);
+            Duration channelTimeout = timeouts.getOrDefault(channel.name(), timeout);
+            lanes[i] = new Lane(channel, channelTimeout, queueCapacity,
+                new CircuitBreaker(failureThreshold, openDuration, nanoClock), timer, rateLimits, meterRegistry);
+        }
+    }
+
+    @Override
+    public String name() {
+        return "fan-out";
+    }
+
+    /**
+     * Encola el lote en todos los canales, pasando por el límite de cada uno, y vuelve sin esperar a que lo entreguen
+     */
+    @Override
+    public void deliver(List<Notification> batch) {
+        if (closed) {
+            logger.warn("Fan-out closed, discarding {} notifications", batch.size());
+            return;
+        }
+        for (Lane lane : lanes) {
+            lane.offer(batch);
+        }
+    }
+
+    /**
+     * Encola el lote en todos los canales salvo los indicados y vuelve sin esperar a que lo entreguen. No pasa por
+     * los límites de los canales: quien llama ya ha obtenido las fichas.
+     *
+     * @return canales que no lo han entregado (fallo, plazo agotado, cola llena o circuito abierto), cuando
+     * todos han terminado o agotado su plazo
+     */
+    public CompletableFuture<Set<String>> deliver(List<Notification> batch, Set<String> skipChannels) {
+        if (closed) {
+            logger.warn("Fan-out closed, discarding {} notifications", batch.size());
+            return CompletableFuture.completedFuture(Set.copyOf(channelNames()));
+        }
+        List<CompletableFuture<Boolean>> outcomes = new ArrayList<>(lanes.length);
+        for (Lane lane : lanes) {
+            outcomes.add(skipChannels.contains(lane.channel.name()) ? SKIPPED : lane.submit(batch));
+        }
+        return CompletableFuture.allOf(outcomes.toArray(CompletableFuture[]::new)).thenApply(ignored -> {
+            Set<String> failed = null;
+            for (int i = 0; i < lanes.length; i++) {
+                if (!outcomes.get(i).join()) {
+                    if (failed == null) {
+                        failed = new HashSet<>();
+                    }
+                    failed.add(lanes[i].channel.name());
+                }
+            }
+            return failed == null ? Set.of() : failed;
+        });
+    }
+
+    /**
+     * Consume una ficha del destinatario en el límite del canal, sin retener nada si no la hay
+     *
+     * @return si el canal puede entregarla ya; siempre si no la admite o no tiene límite
+     */
+    public boolean tryAcquire(String channel, Notification notification) {
+        for (Lane lane : lanes) {
+            if (lane.channel.name().equals(channel)) {
+                return lane.limiter == null || !lane.channel.supports(notification.kind())
+                    || lane.limiter.tryAcquire(notification.recipient());
+            }
+        }
+        throw new IllegalArgumentException("Unknown channel: " + channel);
+    }
+
+    public List<String> channelNames() {
+        List<String> names = new ArrayList<>(lanes.length);
+        for (Lane lane : lanes) {
+            names.add(lane.channel.name());
+        }
+        return names;
+    }
+
+    CircuitBreaker.State circuitState(String channel) {
+        for (Lane lane : lanes) {
+            if (lane.channel.name().equals(channel)) {
+                return lane.breaker.state();
+            }
+        }
+        throw new IllegalArgumentException("Unknown channel: " + channel);
+    }
+
+    @Override
+    public void sendNotification(String recipient, String subject, String message) {
+        deliver(List.of(Notification.notification(recipient, subject, message)));
+    }
+
+    @Override
+    public void sendEmail(String email, String subject, String message) {
+        deliver(List.of(Notification.email(email, subject, message)));
+    }
+
+    @Override
+    public void sendSms(String phoneNumber, String message) {
+        deliver(List.of(Notification.sms(phoneNumber, message)));
+    }
+
+    @Override
+    public void notifyAccountOperation(String accountId, String operation, String details) {
+        deliver(List.of(Notification.accountOperation(accountId, operation, details)));
+    }
+
+    @Override
+    public void broadcastEvent(DomainEvent event) {
+        deliver(List.of(Notification.broadcast(event)));
+    }
+
+    /**
+     * Espera a que cada canal termine lo encolado (como mucho su plazo) y lo cierra
+     */
+    @Override
+    public void close() {
+        closed = true;
+        // Lo retenido por los límites se encola antes de cerrar las colas
+        for (Lane lane : lanes) {
+            if (lane.limiter != null) {
+                try {
+                    lane.limiter.close();
+                } catch (RuntimeException e) {
+                    logger.error("Failed to release rate-limited notifications for channel {}", lane.channel.name(), e);
+                }
+            }
+        }
+        for (Lane lane : lanes) {
+            lane.executor.shutdown();
+        }
+        for (Lane lane : lanes) {
+            try {
+                if (!lane.executor.awaitTermination(lane.timeoutNanos, TimeUnit.NANOSECONDS)) {
+                    logger.warn("Channel {} did not finish pending deliveries in time, discarding {} queued batches",
+                        lane.channel.name(), lane.executor.shutdownNow().size());
+                }
+            } catch (InterruptedException e) {
+                lane.executor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+            try {
+                lane.channel.close();
+            } catch (RuntimeException e) {
+                logger.error("Failed to close channel {}", lane.channel.name(), e);
+            }
+        }
+        timer.shutdownNow();
+    }
+
+    /**
+     * Hilo, cola, plazo, cortocircuito, límite y métricas de un canal
+     */
+    private static final class Lane {
+
+        private final NotificationChannel channel;
+        private final RateLimitingNotificationChannel limiter;
+        private final long timeoutNanos;
+        private final ThreadPoolExecutor executor;
+        private final ScheduledExecutorService timer;
+        private final CircuitBreaker breaker;
+        private final Timer latency;
+        private final Counter errors;
+        private final Counter timeouts;
+        private final Counter rejected;
+        private final Counter shortCircuited;
+
+        Lane(NotificationChannel channel, Duration timeout, int queueCapacity, CircuitBreaker breaker, ScheduledExecutorService timer,
+             Function<NotificationChannel, RateLimitingNotificationChannel> rateLimits, MeterRegistry meterRegistry) {
+            String name = channel.name();
+            this.channel = channel;
+            this.timeoutNanos = timeout.toNanos();
+            this.breaker = breaker;
+            this.timer = timer;
+            this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                Thread thread = new Thread(runnable, "notification-" + name);
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.latency = Timer.builder("versebank.notifications.channel.latency").tag("channel", name).register(meterRegistry);
+            this.errors = failures(meterRegistry, name, "error");
+            this.timeouts = failures(meterRegistry, name, "timeout");
+            this.rejected = failures(meterRegistry, name, "rejected");
+            this.shortCircuited = Counter.builder("versebank.notifications.channel.short.circuited").tag("channel", name).register(meterRegistry);
+            Gauge.builder("versebank.notifications.channel.circuit.state", breaker, b -> b.state().ordinal())
+                .tag("channel", name).register(meterRegistry);
+            this.limiter = rateLimits.apply(new Queued());
+        }
+
+        /**
+         * Entrega por el límite del canal, si lo tiene, o directamente a su cola
+         */
+        void offer(List<Notification> batch) {
+            if (limiter == null) {
+                submit(batch);
+                return;
+            }
+            List<Notification> supported = supported(batch);
+            if (!supported.isEmpty()) {
+                limiter.deliver(supported);
+            }
+        }
+
+        private static Counter failures(MeterRegistry meterRegistry, String channel, String reason) {
+            return Counter.builder("versebank.notifications.channel.failures")
+                .tag("channel", channel).tag("reason", reason).register(meterRegistry);
+        }
+
+        /**
+         * Encola la parte del lote que admite el canal. El plazo cuenta desde aquí; la tarea anota en el
+         * cortocircuito el éxito o el error y, si vence antes, lo anota el temporizador como plazo agotado.
+         *
+         * @return si el canal ha entregado su parte a tiempo; {@code SKIPPED} si no hay nada que entregar
+         */
+        CompletableFuture<Boolean> submit(List<Notification> batch) {
+            List<Notification> supported = supported(batch);
+            if (supported.isEmpty()) {
+                return SKIPPED;
+            }
+            if (!breaker.tryAcquire()) {
+                shortCircuited.increment(supported.size());
+                return NOT_ACCEPTED;
+            }
+            CompletableFuture<Boolean> outcome = new CompletableFuture<>();
+            AtomicBoolean settled = new AtomicBoolean();
+            ScheduledFuture<?> deadline = null;
+            try {
+                deadline = timer.schedule(() -> {
+                    if (settled.compareAndSet(false, true)) {
+                        timeouts.increment();
+                        breaker.onFailure();
+                        logger.warn("Channel {} timed out after {} ms", channel.name(), TimeUnit.NANOSECONDS.toMillis(timeoutNanos));
+                        outcome.complete(false);
+                    }
+                }, timeoutNanos, TimeUnit.NANOSECONDS);
+                ScheduledFuture<?> scheduled = deadline;
+                executor.execute(() -> deliver(supported, settled, scheduled, outcome));
+            } catch (RejectedExecutionException e) {
+                if (deadline != null) {
+                    deadline.cancel(false);
+                }
+                rejected.increment();
+                breaker.onFailure();
+                return NOT_ACCEPTED;
+            }
+            return outcome;
+        }
+
+        /**
+         * Entrega en el hilo del canal y, si el plazo no se ha agotado antes, anota el resultado
+         */
+        private void deliver(List<Notification> supported, AtomicBoolean settled, ScheduledFuture<?> deadline,
+                             CompletableFuture<Boolean> outcome) {
+            long start = System.nanoTime();
+            boolean delivered = false;
+            try {
+                channel.deliver(supported);
+                delivered = true;
+            } catch (RuntimeException e) {
+                logger.error("Channel {} failed to deliver notifications", channel.name(), e);
+            } finally {
+                latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+            if (!settled.compareAndSet(false, true)) {
+                logger.debug("Channel {} finished {} notifications after its timeout", channel.name(), supported.size());
+                return;
+            }
+            deadline.cancel(false);
+            if (delivered) {
+                breaker.onSuccess();
+            } else {
+                errors.increment();
+                breaker.onFailure();
+            }
+            outcome.complete(delivered);
+        }
+
+        /**
+         * Lo que deja pasar el límite, incluido lo que libera más tarde, entra en la cola del canal
+         */
+        private final class Queued implements NotificationChannel {
+
+            @Override
+            public String name() {
+                return channel.name();
+            }
+
+            @Override
+            public boolean supports(Notification.Kind kind) {
+                return channel.supports(kind);
+            }
+
+            @Override
+            public void deliver(List<Notification> batch) {
+                submit(batch);
+            }
+
+            @Override
+            public void sendNotification(String recipient, String subject, String message) {
+                deliver(List.of(Notification.notification(recipient, subject, message)));
+            }
+
+            @Override
+            public void sendEmail(String email, String subject, String message) {
+                deliver(List.of(Notification.email(email, subject, message)));
+            }
+
+            @Override
+            public void sendSms(String phoneNumber, String message) {
+                deliver(List.of(Notification.sms(phoneNumber, message)));
+            }
+
+            @Override
+            public void notifyAccountOperation(String accountId, String operation, String details) {
+                deliver(List.of(Notification.accountOperation(accountId, operation, details)));
+            }
+
+            @Override
+            public void broadcastEvent(DomainEvent event) {
+                deliver(List.of(Notification.broadcast(event)));
+            }
+        }
+
+        private List<Notification> supported(List<Notification> batch) {
+            int count = 0;
+            for (Notification notification : batch) {
+                if (channel.supports(notification.kind())) {
+                    count++;
+                }
+            }
+            if (count == batch.size()) {
+                return batch;
+            }
+            List<Notification> supported = new ArrayList<>(count);
+            for (Notification notification : batch) {
+                if (channel.supports(notification.kind())) {
+                    supported.add(notification);
+                }
+            }
+            return supported;
+        }
+    }
+}
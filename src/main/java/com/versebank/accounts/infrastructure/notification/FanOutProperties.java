@@ -0,0 +1,36 @@
+package com.versebank.accounts.infrastructure.notification;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Canales activos y reparto entre ellos (prefijo {@code versebank.notifications.fan-out})
+ */
+@ConfigurationProperties(prefix = "versebank.notifications.fan-out")
+public class FanOutProperties {
+
+    private List<String> channels = new ArrayList<>(List.of("email"));
+    private Duration timeout = Duration.ofSeconds(2);
+    private Map<String, Duration> timeouts = new HashMap<>();
+    private int queueCapacity = 256;
+    private int failureThreshold = 5;
+    private Duration openDuration = Duration.ofSeconds(30);
+
+    public List<String> getChannels() { return channels; }
+    public void setChannels(List<String> channels) { this.channels = channels; }
+    public Duration getTimeout() { return timeout; }
+    public void setTimeout(Duration timeout) { this.timeout = timeout; }
+    public Map<String, Duration> getTimeouts() { return timeouts; }
+    public void setTimeouts(Map<String, Duration> timeouts) { this.timeouts = timeouts; }
+    public int getQueueCapacity() { return queueCapacity; }
+    public void setQueueCapacity(int queueCapacity) { this.queueCapacity = queueCapacity; }
+    public int getFailureThreshold() { return failureThreshold; }
+    public void setFailureThreshold(int failureThreshold) { this.failureThreshold = failureThreshold; }
+    public Duration getOpenDuration() { return openDuration; }
+    public void setOpenDuration(Duration openDuration) { this.openDuration = openDuration; }
+}
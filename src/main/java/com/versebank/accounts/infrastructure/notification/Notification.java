@@ -0,0 +1,52 @@
+package com.versebank.accounts.infrastructure.notification;
+
+import com.versebank.accounts.application.port.out.NotificationPort;
+import com.versebank.accounts.domain.events.DomainEvent;
+
+/**
+ * Llamada a {@link NotificationPort} pendiente de entregar
+ *
+ * @param enqueuedAtNanos instante de encolado ({@link System#nanoTime()}) para medir la latencia de entrega
+ */
+public record Notification(Kind kind, String recipient, String subject, String message, DomainEvent event, long enqueuedAtNanos) {
+
+    public enum Kind {
+        NOTIFICATION, EMAIL, SMS, ACCOUNT_OPERATION, BROADCAST
+    }
+
+    public static Notification notification(String recipient, String subject, String message) {
+        return new Notification(Kind.NOTIFICATION, recipient, subject, message, null, System.nanoTime());
+    }
+
+    public static Notification email(String email, String subject, String message) {
+        return new Notification(Kind.EMAIL, email, subject, message, null, System.nanoTime());
+    }
+
+    public static Notification sms(String phoneNumber, String message) {
+        return new Notification(Kind.SMS, phoneNumber, null, message, null, System.nanoTime());
+    }
+
+    /**
+     * Para una operación de cuenta el destinatario es la cuenta, el asunto la operación y el mensaje los detalles
+     */
+    public static Notification accountOperation(String accountId, String operation, String details) {
+        return new Notification(Kind.ACCOUNT_OPERATION, accountId, operation, details, null, System.nanoTime());
+    }
+
+    public static Notification broadcast(DomainEvent event) {
+        return new Notification(Kind.BROADCAST, null, null, null, event, System.nanoTime());
+    }
+
+    /**
+     * Entrega la notificación invocando el método del puerto que la originó
+     */
+    public void deliverTo(NotificationPort port) {
+        switch (kind) {
+            case NOTIFICATION -> port.sendNotification(recipient, subject, message);
+            case EMAIL -> port.sendEmail(recipient, subject, message);
+            case SMS -> port.sendSms(recipient, message);
+            case ACCOUNT_OPERATION -> port.notifyAccountOperation(recipient, subject, message);
+            case BROADCAST -> port.broadcastEvent(event);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.versebank.accounts.infrastructure.notification;
+
+import com.versebank.accounts.application.port.out.NotificationPort;
+
+import java.util.List;
+
+/**
+ * Adaptador que entrega físicamente las notificaciones por un canal (email, SMS...).
+ * La aplicación no lo usa directamente: recibe el {@link NotificationPort} asíncrono que lo envuelve.
+ */
+public interface NotificationChannel extends NotificationPort, AutoCloseable {
+
+    /**
+     * Nombre del canal en la configuración y en las métricas
+     */
+    default String name() {
+        return getClass().getSimpleName();
+    }
+
+    /**
+     * Indica si el canal sabe entregar este tipo de notificación; al repartir, solo recibe las que admite
+     */
+    default boolean supports(Notification.Kind kind) {
+        return true;
+    }
+
+    /**
+     * Entrega un lote de notificaciones. Por defecto, una a una; un canal puede agruparlas en una sola escritura.
+     */
+    default void deliver(List<Notification> batch) {
+        for (Notification notification : batch) {
+            notification.deliverTo(this);
+        }
+    }
+
+    /**
+     * Entrega lo que el canal tenga retenido y libera sus recursos. El despachador lo invoca al cerrar.
+     */
+    @Override
+    default void close() {}
+}
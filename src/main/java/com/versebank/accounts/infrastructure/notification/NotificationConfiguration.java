@@ -0,0 +1,114 @@
+package com.versebank.accounts.infrastructure.notification;
+
+import com.versebank.accounts.application.port.out.NotificationPort;
+import com.versebank.accounts.infrastructure.events.BackpressurePolicy;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Expone como {@code NotificationPort} la cola persistente de notificaciones (o, si está desactivada, el
+ * despachador asíncrono) sobre los canales activos, con agrupación de operaciones por cuenta, límite por
+ * destinatario y canal, reparto en paralelo y las plantillas de los canales (prefijo {@code versebank.notifications})
+ */
+@Configuration
+@EnableConfigurationProperties({NotificationTemplateProperties.class, FanOutProperties.class, RateLimitProperties.class})
+public class NotificationConfiguration {
+
+    @Bean
+    public NotificationTemplates notificationTemplates(NotificationTemplateProperties properties) {
+        return NotificationTemplates.of(properties.getTemplates());
+    }
+
+    /**
+     * Reparto entre los canales activos, cada uno con su límite por destinatario. El despachador entrega a través
+     * de los límites; el relé solo les pide fichas, para que lo que los supera se reprograme en la tabla y no quede
+     * retenido en memoria. Lo cierra el despachador.
+     */
+    @Bean(destroyMethod = "")
+    public FanOutNotificationChannel notificationFanOut(List<NotificationChannel> channels,
+                                                        FanOutProperties fanOut,
+                                                        RateLimitProperties rateLimit,
+                                                        MeterRegistry meterRegistry) {
+        List<NotificationChannel> active = new ArrayList<>();
+        for (String name : fanOut.getChannels()) {
+            active.add(channels.stream()
+                .filter(candidate -> candidate.name().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown notification channel: " + name)));
+        }
+        return new FanOutNotificationChannel(active, fanOut.getTimeout(), fanOut.getTimeouts(),
+            fanOut.getQueueCapacity(), fanOut.getFailureThreshold(), fanOut.getOpenDuration(),
+            channel -> rateLimit.isEnabled()
+                ? new RateLimitingNotificationChannel(channel, rateLimit.burstFor(channel.name()), rateLimit.perSecondFor(channel.name()),
+                    rateLimit.getOverLimit(), rateLimit.getMaxDeferred(), rateLimit.getIdleEviction(), meterRegistry)
+                : null,
+            meterRegistry);
+    }
+
+    /**
+     * Entrega en memoria: despachador → agrupación por cuenta → reparto → límite por destinatario de cada canal → canal
+     */
+    @Bean
+    public AsyncNotificationDispatcher notificationDispatcher(FanOutNotificationChannel fanOut,
+                                                              MeterRegistry meterRegistry,
+                                                              @Value("${versebank.notifications.async.queue-capacity:4096}") int queueCapacity,
+                                                              @Value("${versebank.notifications.async.batch-size:64}") int batchSize,
+                                                              @Value("${versebank.notifications.async.workers:1}") int workers,
+                                                              @Value("${versebank.notifications.async.overflow:BLOCK}") BackpressurePolicy overflow,
+                                                              @Value("${versebank.notifications.coalescing.enabled:true}") boolean coalescing,
+                                                              @Value("${versebank.notifications.coalescing.window:2s}") Duration window,
+                                                              @Value("${versebank.notifications.coalescing.max-delay:10s}") Duration maxDelay) {
+        NotificationChannel delivery = fanOut;
+        if (coalescing) {
+            delivery = new CoalescingNotificationChannel(delivery, window, maxDelay, meterRegistry);
+        }
+        return new AsyncNotificationDispatcher(delivery, queueCapacity, batchSize, workers, overflow, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "versebank.notifications.outbox.enabled", havingValue = "true", matchIfMissing = true)
+    public NotificationOutbox notificationOutbox(DataSource dataSource,
+                                                 PlatformTransactionManager transactionManager,
+                                                 AsyncNotificationDispatcher dispatcher,
+                                                 MeterRegistry meterRegistry) {
+        return new NotificationOutbox(dataSource, transactionManager, dispatcher, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnBean(NotificationOutbox.class)
+    public NotificationRelay notificationRelay(NotificationOutbox outbox,
+                                               FanOutNotificationChannel fanOut,
+                                               MeterRegistry meterRegistry,
+                                               @Value("${versebank.notifications.outbox.claim-size:256}") int claimSize,
+                                               @Value("${versebank.notifications.outbox.poll-interval:1s}") Duration pollInterval,
+                                               @Value("${versebank.notifications.outbox.max-attempts:8}") int maxAttempts,
+                                               @Value("${versebank.notifications.outbox.initial-backoff:1s}") Duration initialBackoff,
+                                               @Value("${versebank.notifications.outbox.max-backoff:5m}") Duration maxBackoff) {
+        return new NotificationRelay(outbox, fanOut, claimSize, pollInterval, maxAttempts, initialBackoff, maxBackoff, meterRegistry);
+    }
+
+    /**
+     * Puerto que usa la aplicación: la cola persistente si está activa y, si no, el despachador en memoria.
+     * Cada uno se cierra como su propio bean.
+     */
+    @Bean(destroyMethod = "")
+    @Primary
+    public NotificationPort notificationPort(AsyncNotificationDispatcher dispatcher, ObjectProvider<NotificationOutbox> outbox) {
+        NotificationOutbox durable = outbox.getIfAvailable();
+        return durable != null ? durable : dispatcher;
+    }
+}
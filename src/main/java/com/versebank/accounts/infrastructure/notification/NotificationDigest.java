@@ -0,0 +1,42 @@
+package com.versebank.accounts.infrastructure.notification;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resumen de varias operaciones de una cuenta en una sola notificación
+ */
+public final class NotificationDigest {
+
+    public static final String OPERATION = "DIGEST";
+
+    private NotificationDigest() {}
+
+    /**
+     * Devuelve la operación tal cual si es una sola; si son varias, una operación {@value #OPERATION} con el
+     * recuento por tipo y los detalles de la última. La latencia se mide desde la primera.
+     */
+    public static Notification of(String accountId, List<Notification> operations) {
+        int count = operations.size();
+        if (count == 1) {
+            return operations.get(0);
+        }
+        Map<String, Integer> countByOperation = new LinkedHashMap<>(4);
+        for (Notification operation : operations) {
+            countByOperation.merge(operation.subject(), 1, Integer::sum);
+        }
+        StringBuilder details = new StringBuilder(64).append(count).append(" operations: ");
+        boolean first = true;
+        for (Map.Entry<String, Integer> byOperation : countByOperation.entrySet()) {
+            if (!first) {
+                details.append(", ");
+            }
+            details.append(byOperation.getKey()).append(" x").append(byOperation.getValue());
+            first = false;
+        }
+        details.append(" | last: ").append(operations.get(count - 1).message());
+        return new Notification(Notification.Kind.ACCOUNT_OPERATION, accountId, OPERATION, details.toString(), null,
+            operations.get(0).enqueuedAtNanos());
+    }
+}
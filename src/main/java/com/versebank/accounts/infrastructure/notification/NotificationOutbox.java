@@ -0,0 +1,235 @@
+package com.versebank.accounts.infrastructure.notification;
+
+import com.versebank.accounts.application.port.out.NotificationPort;
+import com.versebank.accounts.domain.events.DomainEvent;
+import com.versebank.accounts.domain.support.DomainClocks;
+import com.versebank.accounts.domain.support.DomainIds;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Cola persistente de notificaciones en la tabla {@code notification_outbox}.
+ * <p>
+ * Cada llamada al puerto inserta su fila en el hilo y la conexión de quien llama: si hay una transacción
+ * activa se une a ella, de modo que la notificación se confirma o se deshace junto con el movimiento que
+ * la origina; si no, se confirma en ese mismo insert. No hay segunda conexión ni hilo escritor que esperar.
+ * Si la escritura falla fuera de una transacción, la notificación se entrega por el puerto de respaldo en
+ * memoria; dentro de una, el error se propaga y la transacción no se confirma. Los eventos de dominio no se
+ * persisten y van siempre por el respaldo. {@link NotificationRelay} entrega las filas pendientes.
+ */
+public class NotificationOutbox implements NotificationPort, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationOutbox.class);
+
+    static final String STATUS_PENDING = "PENDING";
+    static final String STATUS_DEAD = "DEAD";
+
+    private static final String INSERT =
+        "INSERT INTO notification_outbox (id, kind, recipient, subject, message, status, attempts, next_attempt_at, " +
+        "delivered_channels, created_at, updated_at) VALUES (?, ?, ?, ?, ?, '" + STATUS_PENDING + "', 0, ?, '', ?, ?)";
+    private static final String SELECT_DUE =
+        "SELECT id, kind, recipient, subject, message, attempts, delivered_channels FROM notification_outbox " +
+        "WHERE status = '" + STATUS_PENDING + "' AND next_attempt_at <= ? ORDER BY id LIMIT ?";
+    private static final String DELETE = "DELETE FROM notification_outbox WHERE id = ?";
+    private static final String UPDATE =
+        "UPDATE notification_outbox SET status = ?, attempts = ?, next_attempt_at = ?, delivered_channels = ?, " +
+        "last_error = ?, updated_at = ? WHERE id = ?";
+    private static final String COUNT = "SELECT COUNT(*) FROM notification_outbox WHERE status = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final NotificationPort fallback;
+    private final Timer appendLatency;
+    private final Counter fallbacks;
+    private volatile Runnable onCommit = () -> {};
+    private volatile boolean closed;
+
+    /**
+     * Fila pendiente leída de la tabla
+     */
+    public record OutboxEntry(String id, Notification notification, int attempts, Set<String> deliveredChannels) {}
+
+    /**
+     * Nuevo estado de una fila tras un intento fallido
+     */
+    public record OutboxUpdate(String id, int attempts, LocalDateTime nextAttemptAt, Set<String> deliveredChannels, String error) {}
+
+    public NotificationOutbox(DataSource dataSource, PlatformTransactionManager transactionManager, NotificationPort fallback,
+                              MeterRegistry meterRegistry) {
+        if (dataSource == null || transactionManager == null || fallback == null || meterRegistry == null) {
+            throw new NullPointerException("DataSource, transaction manager, fallback and MeterRegistry cannot be null");
+        }
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.fallback = fallback;
+        this.appendLatency = Timer.builder("versebank.notifications.outbox.append.latency").register(meterRegistry);
+        this.fallbacks = Counter.builder("versebank.notifications.outbox.fallbacks").register(meterRegistry);
+    }
+
+    /**
+     * Acción que se ejecuta tras confirmar cada fila, para que el relé no espere a su siguiente sondeo
+     */
+    void onCommit(Runnable listener) {
+        this.onCommit = listener;
+    }
+
+    /**
+     * Avisa de una fila confirmada por otra vía, como {@link ReactiveNotificationOutbox}
+     */
+    void committed() {
+        onCommit.run();
+    }
+
+    @Override
+    public void sendNotification(String recipient, String subject, String message) {
+        append(Notification.notification(recipient, subject, message));
+    }
+
+    @Override
+    public void sendEmail(String email, String subject, String message) {
+        append(Notification.email(email, subject, message));
+    }
+
+    @Override
+    public void sendSms(String phoneNumber, String message) {
+        append(Notification.sms(phoneNumber, message));
+    }
+
+    @Override
+    public void notifyAccountOperation(String accountId, String operation, String details) {
+        append(Notification.accountOperation(accountId, operation, details));
+    }
+
+    @Override
+    public void broadcastEvent(DomainEvent event) {
+        fallback.broadcastEvent(event);
+    }
+
+    /**
+     * Guarda la notificación en la conexión de quien llama, dentro de su transacción si la hay
+     */
+    void append(Notification notification) {
+        if (closed) {
+            deliverInMemory(notification, "outbox closed");
+            return;
+        }
+        long start = System.nanoTime();
+        boolean inTransaction = TransactionSynchronizationManager.isSynchronizationActive();
+        Timestamp now = Timestamp.valueOf(DomainClocks.now());
+        try {
+            jdbcTemplate.update(INSERT, DomainIds.nextId(), notification.kind().name(), notification.recipient(),
+                notification.subject(), notification.message(), now, now, now);
+        } catch (RuntimeException e) {
+            if (inTransaction) {
+                throw e;
+            }
+            deliverInMemory(notification, e.getMessage());
+            return;
+        }
+        appendLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (inTransaction) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    onCommit.run();
+                }
+            });
+        } else {
+            onCommit.run();
+        }
+    }
+
+    private void deliverInMemory(Notification notification, String reason) {
+        fallbacks.increment();
+        logger.warn("Notification to {} not persisted ({}), delivering in memory", notification.recipient(), reason);
+        notification.deliverTo(fallback);
+    }
+
+    /**
+     * Filas pendientes cuyo siguiente intento ya ha vencido, en orden de llegada
+     */
+    List<OutboxEntry> due(int limit) {
+        return jdbcTemplate.query(SELECT_DUE, (rs, rowNum) -> new OutboxEntry(
+            rs.getString("id"),
+            new Notification(Notification.Kind.valueOf(rs.getString("kind")), rs.getString("recipient"),
+                rs.getString("subject"), rs.getString("message"), null, System.nanoTime()),
+            rs.getInt("attempts"),
+            parseChannels(rs.getString("delivered_channels"))),
+            Timestamp.valueOf(DomainClocks.now()), limit);
+    }
+
+    /**
+     * Borra las filas entregadas: una vez confirmadas, no se vuelven a enviar
+     */
+    void acknowledge(List<String> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(ids.size());
+        ids.forEach(id -> rows.add(new Object[] {id}));
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(DELETE, rows));
+    }
+
+    void reschedule(List<OutboxUpdate> updates) {
+        update(STATUS_PENDING, updates);
+    }
+
+    void deadLetter(List<OutboxUpdate> updates) {
+        update(STATUS_DEAD, updates);
+    }
+
+    private void update(String status, List<OutboxUpdate> updates) {
+        if (updates.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(DomainClocks.now());
+        List<Object[]> rows = new ArrayList<>(updates.size());
+        for (OutboxUpdate u : updates) {
+            rows.add(new Object[] {status, u.attempts(), Timestamp.valueOf(u.nextAttemptAt()),
+                String.join(",", u.deliveredChannels()), truncate(u.error()), now, u.id()});
+        }
+        transactionTemplate.executeWithoutResult(tx -> jdbcTemplate.batchUpdate(UPDATE, rows));
+    }
+
+    long count(String status) {
+        Long count = jdbcTemplate.queryForObject(COUNT, Long.class, status);
+        return count != null ? count : 0;
+    }
+
+    private static Set<String> parseChannels(String channels) {
+        if (channels == null || channels.isEmpty()) {
+            return Set.of();
+        }
+        return Arrays.stream(channels.split(",")).collect(Collectors.toUnmodifiableSet());
+    }
+
+    private static String truncate(String error) {
+        return error == null || error.length() <= 1000 ? error : error.substring(0, 1000);
+    }
+
+    /**
+     * Deja de aceptar notificaciones: lo que llegue después va por el respaldo en memoria
+     */
+    @Override
+    public void close() {
+        closed = true;
+    }
+}
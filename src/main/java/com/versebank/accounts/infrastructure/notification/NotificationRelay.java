@@ -0,0 +1,279 @@
+package com.versebank.accounts.infrastructure.notification;
+
+import com.versebank.accounts.domain.support.DomainClocks;
+import com.versebank.accounts.infrastructure.notification.NotificationOutbox.OutboxEntry;
+import com.versebank.accounts.infrastructure.notification.NotificationOutbox.OutboxUpdate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entrega las filas pendientes de {@link NotificationOutbox} a través del reparto entre canales.
+ * <p>
+ * Un único hilo lee las filas vencidas en orden de llegada, las entrega y confirma el resultado con
+ * actualizaciones por lotes. Una fila entregada se borra; si algún canal falla, se guardan los canales que
+ * sí la entregaron (para no repetírsela) y se reprograma con espera exponencial, y al agotar los intentos
+ * pasa a {@code DEAD}. Las operaciones de una misma cuenta leídas juntas salen como un único resumen.
+ * El límite por destinatario es de cada canal: a los canales sin ficha no se les entrega la fila en esta
+ * vuelta, y la fila se reprograma en la tabla tras la espera inicial sin gastar intento, con los canales que
+ * sí la entregaron, en lugar de quedar retenida solo en memoria.
+ * Tras un reinicio continúa con lo pendiente: la entrega es al menos una vez, nunca de filas ya confirmadas.
+ * Debe haber un solo relé por base de datos.
+ */
+public class NotificationRelay implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationRelay.class);
+
+    private final NotificationOutbox outbox;
+    private final FanOutNotificationChannel fanOut;
+    private final int claimSize;
+    private final long pollIntervalNanos;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Semaphore wakeUp = new Semaphore(0);
+    private final Thread worker;
+    private final Counter delivered;
+    private final Counter retried;
+    private final Counter deadLettered;
+    private final Counter throttled;
+    private volatile boolean closed;
+
+    public NotificationRelay(NotificationOutbox outbox, FanOutNotificationChannel fanOut, int claimSize, Duration pollInterval,
+                             int maxAttempts, Duration initialBackoff, Duration maxBackoff, MeterRegistry meterRegistry) {
+        this(outbox, fanOut, claimSize, pollInterval, maxAttempts, initialBackoff, maxBackoff, meterRegistry, true);
+    }
+
+    NotificationRelay(NotificationOutbox outbox, FanOutNotificationChannel fanOut, int claimSize, Duration pollInterval, int maxAttempts, Duration initialBackoff, Duration maxBackoff,
+                      MeterRegistry meterRegistry, boolean start) {
+        if (outbox == null || fanOut == null || pollInterval == null || initialBackoff == null || maxBackoff == null || meterRegistry == null) {
+            throw new NullPointerException("Outbox, fan-out, intervals and MeterRegistry cannot be null");
+        }
+        if (claimSize <= 0 || maxAttempts <= 0) {
+            throw new IllegalArgumentException("Claim size and max attempts must be positive");
+        }
+        this.outbox = outbox;
+        this.fanOut = fanOut;
+        this.claimSize = claimSize;
+        this.pollIntervalNanos = pollInterval.toNanos();
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.delivered = Counter.builder("versebank.notifications.outbox.delivered").register(meterRegistry);
+        this.retried = Counter.builder("versebank.notifications.outbox.retried").register(meterRegistry);
+        this.deadLettered = Counter.builder("versebank.notifications.outbox.dead.letters").register(meterRegistry);
+        this.throttled = Counter.builder("versebank.notifications.outbox.throttled").register(meterRegistry);
+        this.worker = new Thread(this::relayLoop, "notification-outbox-relay");
+        this.worker.setDaemon(true);
+        if (start) {
+            outbox.onCommit(wakeUp::release);
+            this.worker.start();
+        }
+    }
+
+    /**
+     * Entrega un lote de filas vencidas
+     *
+     * @return filas leídas
+     */
+    int relayOnce() {
+        List<OutboxEntry> due = outbox.due(claimSize);
+        if (due.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = DomainClocks.now();
+        List<String> channels = fanOut.channelNames();
+        List<OutboxUpdate> postponed = new ArrayList<>();
+        // Las operaciones de una cuenta salen en un solo resumen, así que comparten ficha en cada canal
+        Map<String, Boolean> digestAdmitted = new HashMap<>();
+        // Las filas con los mismos canales ya entregados y sin ficha se envían juntas
+        Map<Route, List<OutboxEntry>> groups = new LinkedHashMap<>();
+        for (OutboxEntry entry : due) {
+            Set<String> throttledChannels = throttledChannels(entry, channels, digestAdmitted);
+            if (!throttledChannels.isEmpty() && throttledChannels.size() == pendingChannels(entry, channels)) {
+                postponed.add(new OutboxUpdate(entry.id(), entry.attempts(), now.plus(initialBackoff),
+                    entry.deliveredChannels(), rateLimited(throttledChannels)));
+                continue;
+            }
+            groups.computeIfAbsent(new Route(entry.deliveredChannels(), throttledChannels), route -> new ArrayList<>()).add(entry);
+        }
+        List<String> acknowledged = new ArrayList<>();
+        List<OutboxUpdate> retries = new ArrayList<>();
+        List<OutboxUpdate> deadLetters = new ArrayList<>();
+        // Todos los grupos se encolan antes de esperar a ninguno
+        Map<Route, CompletableFuture<Set<String>>> outcomes = new LinkedHashMap<>();
+        groups.forEach((route, entries) -> outcomes.put(route, fanOut.deliver(toBatch(entries), route.skipped())));
+        for (Map.Entry<Route, List<OutboxEntry>> group : groups.entrySet()) {
+            Route route = group.getKey();
+            Set<String> failed = outcomes.get(route).join();
+            if (failed.isEmpty() && route.throttled().isEmpty()) {
+                group.getValue().forEach(entry -> acknowledged.add(entry.id()));
+                continue;
+            }
+            Set<String> deliveredChannels = new HashSet<>(route.delivered());
+            channels.stream().filter(name -> !failed.contains(name) && !route.throttled().contains(name)).forEach(deliveredChannels::add);
+            if (failed.isEmpty()) {
+                // Solo faltan canales sin ficha: se reprograma sin gastar intento
+                for (OutboxEntry entry : group.getValue()) {
+                    postponed.add(new OutboxUpdate(entry.id(), entry.attempts(), now.plus(initialBackoff),
+                        deliveredChannels, rateLimited(route.throttled())));
+                }
+                continue;
+            }
+            String error = "Failed channels: " + String.join(",", failed);
+            for (OutboxEntry entry : group.getValue()) {
+                int attempts = entry.attempts() + 1;
+                OutboxUpdate update = new OutboxUpdate(entry.id(), attempts, now.plus(backoff(attempts)), deliveredChannels, error);
+                (attempts >= maxAttempts ? deadLetters : retries).add(update);
+            }
+        }
+        outbox.acknowledge(acknowledged);
+        retries.addAll(postponed);
+        outbox.reschedule(retries);
+        outbox.deadLetter(deadLetters);
+        delivered.increment(acknowledged.size());
+        retried.increment(retries.size() - postponed.size());
+        throttled.increment(postponed.size());
+        deadLettered.increment(deadLetters.size());
+        if (!deadLetters.isEmpty()) {
+            logger.warn("{} notifications moved to dead letter after {} attempts", deadLetters.size(), maxAttempts);
+        }
+        return due.size();
+    }
+
+    /**
+     * Canales que aún no han entregado la fila y no tienen ficha para su destinatario
+     */
+    private Set<String> throttledChannels(OutboxEntry entry, List<String> channels, Map<String, Boolean> digestAdmitted) {
+        Set<String> throttledChannels = null;
+        for (String channel : channels) {
+            if (entry.deliveredChannels().contains(channel) || admitted(channel, entry.notification(), digestAdmitted)) {
+                continue;
+            }
+            if (throttledChannels == null) {
+                throttledChannels = new HashSet<>();
+            }
+            throttledChannels.add(channel);
+        }
+        return throttledChannels == null ? Set.of() : throttledChannels;
+    }
+
+    private boolean admitted(String channel, Notification notification, Map<String, Boolean> digestAdmitted) {
+        if (notification.kind() == Notification.Kind.ACCOUNT_OPERATION) {
+            return digestAdmitted.computeIfAbsent(channel + ":" + notification.recipient(),
+                key -> fanOut.tryAcquire(channel, notification));
+        }
+        return fanOut.tryAcquire(channel, notification);
+    }
+
+    private static int pendingChannels(OutboxEntry entry, List<String> channels) {
+        int pending = 0;
+        for (String channel : channels) {
+            if (!entry.deliveredChannels().contains(channel)) {
+                pending++;
+            }
+        }
+        return pending;
+    }
+
+    private static String rateLimited(Set<String> channels) {
+        return "Rate limited: " + String.join(",", channels);
+    }
+
+    /**
+     * Espera antes del intento {@code attempts + 1}: {@code initialBackoff * 2^(attempts - 1)}, con tope
+     */
+    Duration backoff(int attempts) {
+        int shift = Math.min(attempts - 1, 30);
+        Duration backoff = initialBackoff.multipliedBy(1L << shift);
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    /**
+     * Las operaciones de cuenta de una misma cuenta salen como un resumen en la posición de la primera
+     */
+    private static List<Notification> toBatch(List<OutboxEntry> entries) {
+        List<Notification> batch = new ArrayList<>(entries.size());
+        Map<String, List<Notification>> operations = new LinkedHashMap<>();
+        Map<String, Integer> positions = new LinkedHashMap<>();
+        for (OutboxEntry entry : entries) {
+            Notification notification = entry.notification();
+            if (notification.kind() != Notification.Kind.ACCOUNT_OPERATION) {
+                batch.add(notification);
+                continue;
+            }
+            operations.computeIfAbsent(notification.recipient(), accountId -> {
+                positions.put(accountId, batch.size());
+                batch.add(null);
+                return new ArrayList<>();
+            }).add(notification);
+        }
+        operations.forEach((accountId, accountOperations) ->
+            batch.set(positions.get(accountId), NotificationDigest.of(accountId, accountOperations)));
+        return batch;
+    }
+
+    /**
+     * Canales que ya entregaron las filas y canales sin ficha en esta vuelta; a ninguno se le vuelven a enviar
+     */
+    private record Route(Set<String> delivered, Set<String> throttled) {
+
+        Set<String> skipped() {
+            if (throttled.isEmpty()) {
+                return delivered;
+            }
+            Set<String> skipped = new HashSet<>(delivered);
+            skipped.addAll(throttled);
+            return skipped;
+        }
+    }
+
+    private void relayLoop() {
+        while (!closed) {
+            try {
+                if (relayOnce() >= claimSize) {
+                    continue;
+                }
+            } catch (RuntimeException e) {
+                logger.error("Failed to relay pending notifications", e);
+            }
+            try {
+                wakeUp.tryAcquire(pollIntervalNanos, TimeUnit.NANOSECONDS);
+                wakeUp.drainPermits();
+            } catch (InterruptedException e) {
+                if (!closed) {
+                    Thread.currentThread().interrupt();
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Detiene el relé; lo que quede pendiente se entrega en el siguiente arranque
+     */
+    @Override
+    public void close() {
+        closed = true;
+        wakeUp.release();
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.versebank.accounts.infrastructure.notification;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Plantillas de notificación por canal y operación (prefijo {@code versebank.notifications.templates})
+ */
+@ConfigurationProperties(prefix = "versebank.notifications")
+public class NotificationTemplateProperties {
+
+    private Map<String, Map<String, String>> templates = new HashMap<>();
+
+    public Map<String, Map<String, String>> getTemplates() { return templates; }
+    public void setTemplates(Map<String, Map<String, String>> templates) { this.templates = templates; }
+}
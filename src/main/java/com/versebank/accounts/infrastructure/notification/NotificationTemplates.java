@@ -0,0 +1,90 @@
+package com.versebank.accounts.infrastructure.notification;
+
+import com.versebank.accounts.application.template.MessageTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Plantillas del cuerpo de las notificaciones de operaciones de cuenta, por canal y operación.
+ * <p>
+ * Se compilan todas al construir la tabla. El orden de búsqueda es: operación del canal, plantilla por defecto
+ * del canal, operación del canal {@value #DEFAULT} y plantilla por defecto global. Las entradas compartidas se
+ * resuelven al construir, así que elegir plantilla son como mucho dos búsquedas en un mapa.
+ * Los marcadores disponibles son {@code {accountId}}, {@code {operation}} y {@code {details}}.
+ */
+public final class NotificationTemplates {
+
+    public static final String DEFAULT = "default";
+    public static final String ACCOUNT_OPERATION = "Account: {accountId} | Operation: {operation} | Details: {details}";
+
+    private static final String[] PARAMETERS = {"accountId", "operation", "details"};
+
+    private final Map<String, Channel> channels;
+    private final Channel defaultChannel;
+
+    private NotificationTemplates(Map<String, Map<String, String>> sources) {
+        Map<String, String> shared = sources.getOrDefault(DEFAULT, Map.of());
+        MessageTemplate fallback = MessageTemplate.compile(shared.getOrDefault(DEFAULT, ACCOUNT_OPERATION), PARAMETERS);
+        this.defaultChannel = new Channel(Map.copyOf(compileAll(shared)), fallback);
+        Map<String, Channel> compiled = new HashMap<>();
+        sources.forEach((channel, templates) -> {
+            if (DEFAULT.equals(channel)) {
+                return;
+            }
+            Map<String, MessageTemplate> own = compileAll(templates);
+            MessageTemplate channelDefault = own.get(DEFAULT);
+            if (channelDefault != null) {
+                compiled.put(channel, new Channel(Map.copyOf(own), channelDefault));
+                return;
+            }
+            Map<String, MessageTemplate> merged = new HashMap<>(defaultChannel.byOperation);
+            merged.putAll(own);
+            compiled.put(channel, new Channel(Map.copyOf(merged), fallback));
+        });
+        this.channels = Map.copyOf(compiled);
+    }
+
+    /**
+     * Tabla con el formato {@value #ACCOUNT_OPERATION} para todos los canales y operaciones
+     */
+    public static NotificationTemplates defaults() {
+        return new NotificationTemplates(Map.of());
+    }
+
+    /**
+     * @param sources canal → operación → plantilla; la clave {@value #DEFAULT} sirve de respaldo en ambos niveles
+     * @throws IllegalArgumentException si alguna plantilla no es válida
+     */
+    public static NotificationTemplates of(Map<String, Map<String, String>> sources) {
+        if (sources == null) {
+            throw new NullPointerException("Template sources cannot be null");
+        }
+        return new NotificationTemplates(sources);
+    }
+
+    public MessageTemplate accountOperation(String channel, String operation) {
+        Channel templates = channels.getOrDefault(channel, defaultChannel);
+        MessageTemplate template = templates.byOperation.get(operation);
+        return template != null ? template : templates.fallback;
+    }
+
+    /**
+     * Añade a {@code out} el cuerpo de la operación según la plantilla del canal
+     */
+    public StringBuilder appendAccountOperation(StringBuilder out, String channel, String accountId, String operation, String details) {
+        return accountOperation(channel, operation).appendTo(out, accountId, operation, details);
+    }
+
+    public String renderAccountOperation(String channel, String accountId, String operation, String details) {
+        return accountOperation(channel, operation).render(accountId, operation, details);
+    }
+
+    private static Map<String, MessageTemplate> compileAll(Map<String, String> sources) {
+        Map<String, MessageTemplate> compiled = new HashMap<>();
+        sources.forEach((operation, source) -> compiled.put(operation, MessageTemplate.compile(source, PARAMETERS)));
+        return compiled;
+    }
+
+    private record Channel(Map<String, MessageTemplate> byOperation, MessageTemplate fallback) {}
+}
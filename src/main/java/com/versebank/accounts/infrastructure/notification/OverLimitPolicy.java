@@ -0,0 +1,11 @@
+package com.versebank.accounts.infrastructure.notification;
+
+/**
+ * Qué hacer con una notificación que supera el límite de su destinatario
+ */
+public enum OverLimitPolicy {
+    /** Se retiene y se entrega cuando el destinatario recupera cupo; las operaciones de cuenta retenidas salen como resumen */
+    DEFER,
+    /** Se descarta */
+    DROP
+}
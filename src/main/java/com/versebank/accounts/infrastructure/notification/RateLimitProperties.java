@@ -0,0 +1,58 @@
+package com.versebank.accounts.infrastructure.notification;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Límite por destinatario de cada canal (prefijo {@code versebank.notifications.rate-limit}).
+ * La cadencia se puede sobrescribir por canal en {@code channels.<nombre>}.
+ */
+@ConfigurationProperties(prefix = "versebank.notifications.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private int burst = 5;
+    private double perSecond = 1.0;
+    private OverLimitPolicy overLimit = OverLimitPolicy.DEFER;
+    private int maxDeferred = 10_000;
+    private Duration idleEviction = Duration.ofMinutes(10);
+    private Map<String, Channel> channels = new HashMap<>();
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+    public int getBurst() { return burst; }
+    public void setBurst(int burst) { this.burst = burst; }
+    public double getPerSecond() { return perSecond; }
+    public void setPerSecond(double perSecond) { this.perSecond = perSecond; }
+    public OverLimitPolicy getOverLimit() { return overLimit; }
+    public void setOverLimit(OverLimitPolicy overLimit) { this.overLimit = overLimit; }
+    public int getMaxDeferred() { return maxDeferred; }
+    public void setMaxDeferred(int maxDeferred) { this.maxDeferred = maxDeferred; }
+    public Duration getIdleEviction() { return idleEviction; }
+    public void setIdleEviction(Duration idleEviction) { this.idleEviction = idleEviction; }
+    public Map<String, Channel> getChannels() { return channels; }
+    public void setChannels(Map<String, Channel> channels) { this.channels = channels; }
+
+    public int burstFor(String channelName) {
+        Channel channel = channels.get(channelName);
+        return channel != null && channel.getBurst() != null ? channel.getBurst() : burst;
+    }
+
+    public double perSecondFor(String channelName) {
+        Channel channel = channels.get(channelName);
+        return channel != null && channel.getPerSecond() != null ? channel.getPerSecond() : perSecond;
+    }
+
+    public static class Channel {
+        private Integer burst;
+        private Double perSecond;
+
+        public Integer getBurst() { return burst; }
+        public void setBurst(Integer burst) { this.burst = burst; }
+        public Double getPerSecond() { return perSecond; }
+        public void setPerSecond(Double perSecond) { this.perSecond = perSecond; }
+    }
+}
@@ -0,0 +1,312 @@
+package com.versebank.accounts.infrastructure.notification;
+
+import com.versebank.accounts.domain.events.DomainEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Canal que limita las notificaciones por destinatario con un cubo de fichas.
+ * <p>
+ * Cada destinatario tiene un cubo representado por un único {@link AtomicLong} con el instante teórico en
+ * que el cubo vuelve a estar lleno (algoritmo GCRA): consumir una ficha es un CAS que recalcula la recarga
+ * de forma perezosa, sin temporizadores por cubo ni bloqueos. Cada instancia envuelve un canal (el reparto
+ * crea una por canal), así que los límites son por destinatario y canal. Lo que supera el límite se descarta o se retiene según la
+ * {@link OverLimitPolicy}; lo retenido se libera en orden cuando hay fichas y, si son operaciones de cuenta,
+ * como un único {@link NotificationDigest}. Los cubos llenos y sin nada retenido se eliminan pasado un
+ * tiempo de inactividad: un cubo lleno equivale a uno nuevo.
+ */
+public class RateLimitingNotificationChannel implements NotificationChannel {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitingNotificationChannel.class);
+
+    private final NotificationChannel delegate;
+    private final long intervalNanos;
+    private final long burstToleranceNanos;
+    private final long idleNanos;
+    private final OverLimitPolicy overLimit;
+    private final int maxDeferred;
+    private final LongSupplier nanoClock;
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicInteger deferred = new AtomicInteger();
+    private final ScheduledExecutorService ticker;
+    private final Counter throttledDeferred;
+    private final Counter throttledDropped;
+    private final Counter released;
+    private volatile boolean closed;
+
+    public RateLimitingNotificationChannel(NotificationChannel delegate, int burst, double perSecond, OverLimitPolicy overLimit,
+                                           int maxDeferred, Duration idleEviction, MeterRegistry meterRegistry) {
+        this(delegate, burst, perSecond, overLimit, maxDeferred, idleEviction, meterRegistry, System::nanoTime, true);
+    }
+
+    RateLimitingNotificationChannel(NotificationChannel delegate, int burst, double perSecond, OverLimitPolicy overLimit,
+                                    int maxDeferred, Duration idleEviction, MeterRegistry meterRegistry,
+                                    LongSupplier nanoClock, boolean startTicker) {
+        if (delegate == null || overLimit == null || idleEviction == null || meterRegistry == null || nanoClock == null) {
+            throw new NullPointerException("Delegate, over-limit policy, idle eviction, MeterRegistry and clock cannot be null");
+        }
+        if (burst <= 0 || perSecond <= 0 || maxDeferred < 0) {
+            throw new IllegalArgumentException("Burst and rate must be positive and max deferred cannot be negative");
+        }
+        this.delegate = delegate;
+        this.intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / perSecond));
+        this.burstToleranceNanos = (burst - 1) * intervalNanos;
+        this.idleNanos = idleEviction.toNanos();
+        this.overLimit = overLimit;
+        this.maxDeferred = maxDeferred;
+        this.nanoClock = nanoClock;
+        String channel = delegate.name();
+        this.throttledDeferred = Counter.builder("versebank.notifications.throttled")
+            .tag("channel", channel).tag("outcome", "deferred").register(meterRegistry);
+        this.throttledDropped = Counter.builder("versebank.notifications.throttled")
+            .tag("channel", channel).tag("outcome", "dropped").register(meterRegistry);
+        this.released = Counter.builder("versebank.notifications.throttled.released").tag("channel", channel).register(meterRegistry);
+        Gauge.builder("versebank.notifications.rate.buckets", buckets, Map::size).tag("channel", channel).register(meterRegistry);
+        Gauge.builder("versebank.notifications.throttled.pending", deferred, AtomicInteger::get).tag("channel", channel).register(meterRegistry);
+        if (startTicker) {
+            long tickNanos = Math.max(TimeUnit.MILLISECONDS.toNanos(10), Math.min(intervalNanos, TimeUnit.SECONDS.toNanos(1)));
+            this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "notification-rate-limiter-" + channel);
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.ticker.scheduleWithFixedDelay(this::tick, tickNanos, tickNanos, TimeUnit.NANOSECONDS);
+        } else {
+            this.ticker = null;
+        }
+    }
+
+    @Override
+    public void deliver(List<Notification> batch) {
+        if (closed) {
+            delegate.deliver(batch);
+            return;
+        }
+        long now = nanoClock.getAsLong();
+        List<Notification> allowed = new ArrayList<>(batch.size());
+        for (Notification notification : batch) {
+            String recipient = notification.recipient();
+            if (recipient == null) {
+                allowed.add(notification);
+                continue;
+            }
+            Bucket bucket = buckets.get(recipient);
+            if (bucket == null) {
+                bucket = buckets.computeIfAbsent(recipient, key -> new Bucket());
+            }
+            // Con algo retenido, lo nuevo espera detrás para no adelantarlo
+            if (bucket.pending.isEmpty() && bucket.tryAcquire(now)) {
+                allowed.add(notification);
+            } else {
+                throttle(recipient, bucket, notification);
+            }
+        }
+        if (!allowed.isEmpty()) {
+            delegate.deliver(allowed);
+        }
+    }
+
+    /**
+     * Consume una ficha del destinatario sin retener nada si no la hay. Para quien guarda su propia copia
+     * (la cola persistente) y la reprograma: lo retenido aquí solo vive en memoria.
+     *
+     * @return si puede entregarse ya; sin destinatario o con el canal cerrado, siempre
+     */
+    public boolean tryAcquire(String recipient) {
+        if (closed || recipient == null) {
+            return true;
+        }
+        Bucket bucket = buckets.get(recipient);
+        if (bucket == null) {
+            bucket = buckets.computeIfAbsent(recipient, key -> new Bucket());
+        }
+        return bucket.pending.isEmpty() && bucket.tryAcquire(nanoClock.getAsLong());
+    }
+
+    private void throttle(String recipient, Bucket bucket, Notification notification) {
+        if (overLimit == OverLimitPolicy.DEFER && deferred.incrementAndGet() <= maxDeferred) {
+            bucket.pending.add(notification);
+            throttledDeferred.increment();
+            // Si el cubo se desalojó mientras se usaba, lo retenido pasa al registrado para que no quede huérfano
+            Bucket current = buckets.putIfAbsent(recipient, bucket);
+            if (current != null && current != bucket) {
+                Notification moved;
+                while ((moved = bucket.pending.poll()) != null) {
+                    current.pending.add(moved);
+                }
+            }
+            return;
+        }
+        if (overLimit == OverLimitPolicy.DEFER) {
+            deferred.decrementAndGet();
+        }
+        throttledDropped.increment();
+        logger.debug("Notification {} to {} dropped by rate limit", notification.kind(), notification.recipient());
+    }
+
+    /**
+     * Libera lo retenido de los destinatarios con fichas disponibles y elimina los cubos inactivos
+     *
+     * @return número de mensajes liberados
+     */
+    int releaseDeferred() {
+        long now = nanoClock.getAsLong();
+        List<Notification> ready = new ArrayList<>();
+        for (Map.Entry<String, Bucket> entry : buckets.entrySet()) {
+            Bucket bucket = entry.getValue();
+            if (bucket.pending.isEmpty()) {
+                if (bucket.idleSince(now) >= idleNanos && bucket.pending.isEmpty()) {
+                    // Si otro hilo lo está usando ahora, como mucho consume de un cubo ya desligado: una ficha de más
+                    buckets.remove(entry.getKey(), bucket);
+                }
+                continue;
+            }
+            synchronized (bucket.pending) {
+                while (!bucket.pending.isEmpty() && bucket.tryAcquire(now)) {
+                    ready.add(nextRelease(entry.getKey(), bucket.pending));
+                }
+            }
+        }
+        if (!ready.isEmpty()) {
+            delegate.deliver(ready);
+        }
+        return ready.size();
+    }
+
+    /**
+     * Siguiente mensaje retenido; las operaciones de cuenta consecutivas salen juntas en un resumen por una sola ficha
+     */
+    private Notification nextRelease(String recipient, Queue<Notification> pending) {
+        Notification head = pending.poll();
+        int taken = 1;
+        Notification message = head;
+        if (head.kind() == Notification.Kind.ACCOUNT_OPERATION) {
+            List<Notification> operations = new ArrayList<>();
+            operations.add(head);
+            Notification next;
+            while ((next = pending.peek()) != null && next.kind() == Notification.Kind.ACCOUNT_OPERATION) {
+                operations.add(pending.poll());
+            }
+            taken = operations.size();
+            message = NotificationDigest.of(recipient, operations);
+        }
+        deferred.addAndGet(-taken);
+        released.increment(taken);
+        return message;
+    }
+
+    int trackedRecipients() {
+        return buckets.size();
+    }
+
+    private void tick() {
+        try {
+            releaseDeferred();
+        } catch (RuntimeException e) {
+            logger.error("Failed to release rate-limited notifications", e);
+        }
+    }
+
+    @Override
+    public String name() {
+        return delegate.name();
+    }
+
+    @Override
+    public boolean supports(Notification.Kind kind) {
+        return delegate.supports(kind);
+    }
+
+    @Override
+    public void sendNotification(String recipient, String subject, String message) {
+        deliver(List.of(Notification.notification(recipient, subject, message)));
+    }
+
+    @Override
+    public void sendEmail(String email, String subject, String message) {
+        deliver(List.of(Notification.email(email, subject, message)));
+    }
+
+    @Override
+    public void sendSms(String phoneNumber, String message) {
+        deliver(List.of(Notification.sms(phoneNumber, message)));
+    }
+
+    @Override
+    public void notifyAccountOperation(String accountId, String operation, String details) {
+        deliver(List.of(Notification.accountOperation(accountId, operation, details)));
+    }
+
+    @Override
+    public void broadcastEvent(DomainEvent event) {
+        deliver(List.of(Notification.broadcast(event)));
+    }
+
+    /**
+     * Entrega todo lo retenido sin esperar cupo, agrupando las operaciones de cuenta, y cierra el canal envuelto
+     */
+    @Override
+    public void close() {
+        closed = true;
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+        List<Notification> remaining = new ArrayList<>();
+        for (Map.Entry<String, Bucket> entry : buckets.entrySet()) {
+            Queue<Notification> pending = entry.getValue().pending;
+            synchronized (pending) {
+                while (!pending.isEmpty()) {
+                    remaining.add(nextRelease(entry.getKey(), pending));
+                }
+            }
+        }
+        if (!remaining.isEmpty()) {
+            delegate.deliver(remaining);
+        }
+        delegate.close();
+    }
+
+    /**
+     * Cubo de un destinatario: instante teórico de llegada (GCRA) y mensajes retenidos
+     */
+    private final class Bucket {
+        // Instante en que el cubo vuelve a estar lleno; en el pasado significa lleno
+        private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+        private final Queue<Notification> pending = new ConcurrentLinkedQueue<>();
+
+        boolean tryAcquire(long now) {
+            while (true) {
+                long tat = theoreticalArrival.get();
+                long base = tat == Long.MIN_VALUE || tat - now < 0 ? now : tat;
+                if (base - now > burstToleranceNanos) {
+                    return false;
+                }
+                if (theoreticalArrival.compareAndSet(tat, base + intervalNanos)) {
+                    return true;
+                }
+            }
+        }
+
+        long idleSince(long now) {
+            long tat = theoreticalArrival.get();
+            return tat == Long.MIN_VALUE ? Long.MAX_VALUE : now - tat;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.versebank.accounts.infrastructure.notification;
+
+import com.versebank.accounts.application.port.out.NotificationPort;
+import com.versebank.accounts.application.port.out.ReactiveNotificationPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Puerto reactivo sobre un {@link NotificationPort} en memoria, para cuando la cola persistente está desactivada.
+ * <p>
+ * La notificación se entrega al confirmarse la transacción reactiva en curso, en
+ * {@link Schedulers#boundedElastic()} porque el puerto puede bloquear: si se deshace, no se notifica nada.
+ */
+public class ReactiveNotificationAdapter implements ReactiveNotificationPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveNotificationAdapter.class);
+
+    private final NotificationPort delegate;
+
+    public ReactiveNotificationAdapter(NotificationPort delegate) {
+        if (delegate == null) {
+            throw new NullPointerException("Notification port cannot be null");
+        }
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Mono<Void> notifyAccountOperation(String accountId, String operation, String details) {
+        return afterCommit(() -> delegate.notifyAccountOperation(accountId, operation, details));
+    }
+
+    /**
+     * Ejecuta la acción al confirmarse la transacción reactiva en curso o, si no hay ninguna, al suscribirse.
+     * Un fallo se registra sin afectar a la operación ya confirmada.
+     */
+    static Mono<Void> afterCommit(Runnable action) {
+        Mono<Void> run = Mono.fromRunnable(action)
+            .subscribeOn(Schedulers.boundedElastic())
+            .onErrorResume(e -> {
+                logger.error("Post-commit notification action failed", e);
+                return Mono.empty();
+            })
+            .then();
+        return TransactionSynchronizationManager.forCurrentTransaction()
+            .flatMap(manager -> {
+                if (!manager.isSynchronizationActive()) {
+                    return run;
+                }
+                manager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public Mono<Void> afterCommit() {
+                        return run;
+                    }
+                });
+                return Mono.<Void>empty();
+            })
+            .onErrorResume(NoTransactionException.class, e -> run);
+    }
+}
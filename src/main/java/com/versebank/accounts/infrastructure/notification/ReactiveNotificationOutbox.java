@@ -0,0 +1,53 @@
+package com.versebank.accounts.infrastructure.notification;
+
+import com.versebank.accounts.application.port.out.ReactiveNotificationPort;
+import com.versebank.accounts.domain.support.DomainClocks;
+import com.versebank.accounts.domain.support.DomainIds;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Escritura reactiva en la tabla {@code notification_outbox} de {@link NotificationOutbox}.
+ * <p>
+ * La fila se inserta con {@link DatabaseClient} en la conexión de la transacción reactiva en curso, así que
+ * se confirma o se deshace junto con el movimiento; un fallo del insert se propaga y la transacción no se
+ * confirma. Tras confirmar se despierta a {@link NotificationRelay}, que entrega la fila como cualquier otra.
+ */
+public class ReactiveNotificationOutbox implements ReactiveNotificationPort {
+
+    private static final String INSERT =
+        "INSERT INTO notification_outbox (id, kind, recipient, subject, message, status, attempts, next_attempt_at, " +
+        "delivered_channels, created_at, updated_at) VALUES (:id, :kind, :recipient, :subject, :message, '" +
+        NotificationOutbox.STATUS_PENDING + "', 0, :now, '', :now, :now)";
+
+    private final DatabaseClient databaseClient;
+    private final NotificationOutbox outbox;
+
+    public ReactiveNotificationOutbox(DatabaseClient databaseClient, NotificationOutbox outbox) {
+        if (databaseClient == null || outbox == null) {
+            throw new NullPointerException("DatabaseClient and outbox cannot be null");
+        }
+        this.databaseClient = databaseClient;
+        this.outbox = outbox;
+    }
+
+    @Override
+    public Mono<Void> notifyAccountOperation(String accountId, String operation, String details) {
+        Notification notification = Notification.accountOperation(accountId, operation, details);
+        return Mono.defer(() -> {
+                LocalDateTime now = DomainClocks.now();
+                return databaseClient.sql(INSERT)
+                    .bind("id", DomainIds.nextId())
+                    .bind("kind", notification.kind().name())
+                    .bind("recipient", notification.recipient())
+                    .bind("subject", notification.subject())
+                    .bind("message", notification.message())
+                    .bind("now", now)
+                    .fetch()
+                    .rowsUpdated();
+            })
+            .then(ReactiveNotificationAdapter.afterCommit(outbox::committed));
+    }
+}
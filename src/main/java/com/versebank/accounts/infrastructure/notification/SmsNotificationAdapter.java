@@ -1,14 +1,40 @@
 package com.versebank.accounts.infrastructure.notification;
 
-import com.versebank.accounts.application.port.out.NotificationPort;
 import com.versebank.accounts.domain.events.DomainEvent;
-import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.context.annotation.Profile;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 @Component
-@Profile("sms")
-public class SmsNotificationAdapter implements NotificationPort {
+public class SmsNotificationAdapter implements NotificationChannel {
+
+    static final String CHANNEL = "sms";
+
+    private final NotificationTemplates templates;
+
+    public SmsNotificationAdapter() {
+        this(NotificationTemplates.defaults());
+    }
+
+    @Autowired
+    public SmsNotificationAdapter(NotificationTemplates templates) {
+        if (templates == null) {
+            throw new NullPointerException("NotificationTemplates cannot be null");
+        }
+        this.templates = templates;
+    }
+
+    @Override
+    public String name() {
+        return CHANNEL;
+    }
+
+    /**
+     * El canal SMS no entrega emails
+     */
+    @Override
+    public boolean supports(Notification.Kind kind) {
+        return kind != Notification.Kind.EMAIL;
+    }
     
     @Override
     public void sendNotification(String recipient, String subject, String message) {
@@ -33,8 +59,7 @@ public class SmsNotificationAdapter implements NotificationPort {
     
     @Override
     public void notifyAccountOperation(String accountId, String operation, String details) {
-        String message = "Account: " + accountId + " | Operation: " + operation + " | Details: " + details;
-        sendSms(accountId, message);
+        sendSms(accountId, templates.renderAccountOperation(CHANNEL, accountId, operation, details));
     }
     
     @Override
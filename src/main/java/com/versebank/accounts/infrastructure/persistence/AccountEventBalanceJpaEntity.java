@@ -0,0 +1,36 @@
+package com.versebank.accounts.infrastructure.persistence;
+
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Saldo de una cuenta según su histórico de eventos. La tabla la reconstruye la proyección de saldos mediante
+ * JDBC al reproducir {@code domain_events}; la entidad solo define el esquema.
+ */
+@Entity
+@Table(name = "account_event_balances")
+public class AccountEventBalanceJpaEntity {
+
+    @Id
+    @Column(name = "account_id")
+    private String accountId;
+
+    @Column(name = "balance", nullable = false)
+    private BigDecimal balance;
+
+    @Column(name = "last_event_id", nullable = false)
+    private String lastEventId;
+
+    @Column(name = "last_event_at", nullable = false)
+    private LocalDateTime lastEventAt;
+
+    protected AccountEventBalanceJpaEntity() {}
+
+    // Getters
+    public String getAccountId() { return accountId; }
+    public BigDecimal getBalance() { return balance; }
+    public String getLastEventId() { return lastEventId; }
+    public LocalDateTime getLastEventAt() { return lastEventAt; }
+}
@@ -7,7 +7,7 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "accounts")
+@Table(name = "accounts", indexes = @Index(name = "idx_accounts_type_id", columnList = "account_type, id"))
 public class AccountJpaEntity {
     
     @Id
@@ -29,6 +29,11 @@ public class AccountJpaEntity {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    // Se incrementa en cada modificación; de ella sale el ETag de las lecturas
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     protected AccountJpaEntity() {}
 
     public AccountJpaEntity(String id, String customerId, AccountType accountType, 
@@ -48,6 +53,7 @@ public class AccountJpaEntity {
     public BigDecimal getBalance() { return balance; }
     public LocalDateTime getCreatedAt() { return createdAt; }
     public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public Long getVersion() { return version; }
 
     // Setters
     public void setId(String id) { this.id = id; }
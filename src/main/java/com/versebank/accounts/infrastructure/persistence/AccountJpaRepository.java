@@ -1,10 +1,16 @@
 package com.versebank.accounts.infrastructure.persistence;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface AccountJpaRepository extends JpaRepository<AccountJpaEntity, String> {
@@ -12,6 +18,22 @@ public interface AccountJpaRepository extends JpaRepository<AccountJpaEntity, St
     Optional<AccountJpaEntity> findById(String id);
     
     List<AccountJpaEntity> findByCustomerId(String customerId);
+
+    /**
+     * Cuentas del cliente leídas con un cursor, de {@code fetch size} en {@code fetch size} filas.
+     * Debe consumirse y cerrarse dentro de una transacción.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "256"))
+    @Query("select new com.versebank.accounts.infrastructure.persistence.AccountRow(" +
+           "a.id, a.customerId, a.accountType, a.balance, a.version, a.createdAt, a.updatedAt) " +
+           "from AccountJpaEntity a where a.customerId = :customerId order by a.id")
+    Stream<AccountRow> streamByCustomerId(@Param("customerId") String customerId);
     
     boolean existsById(String id);
+
+    /**
+     * Solo la versión: una lectura por clave primaria sin cargar ni mapear la entidad
+     */
+    @Query("select a.version from AccountJpaEntity a where a.id = :id")
+    Optional<Long> findVersionById(@Param("id") String id);
 }
\ No newline at end of file
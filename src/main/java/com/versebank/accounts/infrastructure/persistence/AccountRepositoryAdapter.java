@@ -5,26 +5,35 @@ import com.versebank.accounts.application.port.out.AccountRepository;
 import com.versebank.accounts.domain.Account;
 import com.versebank.accounts.domain.events.DomainEvent;
 import com.versebank.accounts.infrastructure.persistence.mappers.AccountMapper;
+import org.springframework.dao.OptimisticLockingFailureException;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
-import java.util.Collections;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
- * Adaptador que implementa el puerto AccountRepository usando JPA
+ * Adaptador que implementa el puerto AccountRepository usando JPA; el histórico de eventos de dominio se guarda
+ * en {@link JdbcDomainEventStore}
  */
 public class AccountRepositoryAdapter implements AccountRepository {
 
+    // Identificadores por consulta IN: por debajo del límite de parámetros de cualquier base de datos soportada
+    static final int IN_CHUNK_SIZE = 1000;
+
     private final AccountJpaRepository jpaRepository;
-    // Simulación en memoria para persistencia de eventos de dominio
-    private final Map<String, List<DomainEvent>> domainEventsStore = new ConcurrentHashMap<>();
+    private final JdbcDomainEventStore eventStore;
 
-    public AccountRepositoryAdapter(AccountJpaRepository jpaRepository) {
+    public AccountRepositoryAdapter(AccountJpaRepository jpaRepository, JdbcDomainEventStore eventStore) {
+        if (jpaRepository == null || eventStore == null) {
+            throw new NullPointerException("AccountJpaRepository and event store cannot be null");
+        }
         this.jpaRepository = jpaRepository;
+        this.eventStore = eventStore;
     }
 
     @Override
@@ -37,13 +46,18 @@ public class AccountRepositoryAdapter implements AccountRepository {
     public Account save(Account account) {
         Optional<AccountJpaEntity> existingEntity = jpaRepository.findById(account.getId().getValue());
 
-        // Guardar eventos de dominio antes de modificar la cuenta
-        // Esto es una simulación. En un sistema real, esto podría ser parte de una Unit of Work
-        // o un mecanismo de Outbox.
-        List<DomainEvent> eventsToSave = new ArrayList<>(account.getDomainEvents());
-        if (!eventsToSave.isEmpty()) {
-            saveDomainEvents(account.getId().getValue(), eventsToSave);
-            account.clearDomainEvents(); // Limpiar después de guardar
+        // El saldo se calculó sobre la versión leída: si la cuenta ha cambiado desde entonces, se rechaza.
+        // Desde aquí hasta el volcado lo cubre @Version
+        if (existingEntity.isPresent() && account.getVersion() != null
+                && !account.getVersion().equals(existingEntity.get().getVersion())) {
+            throw new OptimisticLockingFailureException("Account " + account.getId().getValue()
+                + " was modified since version " + account.getVersion());
+        }
+
+        // Los eventos pendientes se guardan en la transacción del saldo; la cuenta los conserva para publicarlos
+        // tras confirmar
+        if (account.hasDomainEvents()) {
+            eventStore.append(account.getId().getValue(), account.pendingDomainEvents());
         }
 
         if (existingEntity.isPresent()) {
@@ -78,31 +92,54 @@ public class AccountRepositoryAdapter implements AccountRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public Optional<AccountSummary> findSummaryById(String accountId) {
+        return jpaRepository.findById(accountId)
+                .map(AccountMapper::toSummary);
+    }
 
+    /**
+     * Una consulta {@code IN} por cada bloque de {@link #IN_CHUNK_SIZE} identificadores
+     */
+    @Override
+    public List<AccountSummary> findSummariesById(Collection<String> accountIds) {
+        List<String> ids = List.copyOf(accountIds);
+        List<AccountSummary> accounts = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += IN_CHUNK_SIZE) {
+            List<String> chunk = ids.subList(from, Math.min(from + IN_CHUNK_SIZE, ids.size()));
+            jpaRepository.findAllById(chunk).forEach(entity -> accounts.add(AccountMapper.toSummary(entity)));
+        }
+        return accounts;
+    }
 
-    // Implementación simulada para persistencia de eventos de dominio
-    private void saveDomainEvents(String accountId, List<DomainEvent> events) {
-        // En una aplicación real, esto interactuaría con una base de datos o un bus de mensajes.
-        // Aquí, solo los almacenamos en un mapa en memoria y los imprimimos.
-        String key = accountId != null ? accountId : "global";
-        domainEventsStore.computeIfAbsent(key, k -> new ArrayList<>()).addAll(events);
-        System.out.println("--- SIMULATED DOMAIN EVENT PERSISTENCE ---");
-        for (DomainEvent event : events) {
-            System.out.println("Account " + key + " - Saved Event: " + event.getEventType() + " (ID: " + event.getEventId() + ")");
+    @Override
+    public long forEachSummaryByCustomerId(String customerId, Consumer<AccountSummary> action) {
+        long count = 0;
+        try (Stream<AccountRow> rows = jpaRepository.streamByCustomerId(customerId)) {
+            for (Iterator<AccountRow> it = rows.iterator(); it.hasNext(); count++) {
+                action.accept(AccountMapper.toSummary(it.next()));
+            }
         }
-        System.out.println("-----------------------------------------");
+        return count;
+    }
+
+    @Override
+    public Optional<Long> findVersionById(String accountId) {
+        return jpaRepository.findVersionById(accountId);
     }
 
     @Override
     public void saveDomainEvent(DomainEvent event) {
-        // Este método se llamaría si se quisiera guardar un evento individualmente.
-        // En nuestro flujo actual, usamos saveDomainEvents para lotes.
-        saveDomainEvents("global", Collections.singletonList(event)); // Simulación
+        eventStore.append(event);
     }
 
     @Override
     public List<DomainEvent> getDomainEvents(String accountId) {
-        // Recupera eventos de la tienda en memoria (simulación)
-        return domainEventsStore.getOrDefault(accountId, Collections.emptyList());
+        return eventStore.getDomainEvents(accountId);
+    }
+
+    @Override
+    public List<String> findEventStreamIdsAfter(String afterAccountId, int limit) {
+        return eventStore.findEventStreamIdsAfter(afterAccountId, limit);
     }
 }
@@ -0,0 +1,13 @@
+package com.versebank.accounts.infrastructure.persistence;
+
+import com.versebank.accounts.domain.valueobjects.AccountType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Fila de cuenta leída por proyección: no es una entidad gestionada, así que recorrer muchas no hace crecer
+ * el contexto de persistencia
+ */
+public record AccountRow(String id, String customerId, AccountType accountType, BigDecimal balance,
+                         Long version, LocalDateTime createdAt, LocalDateTime updatedAt) {}
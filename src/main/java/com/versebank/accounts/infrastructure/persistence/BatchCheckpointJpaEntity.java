@@ -0,0 +1,37 @@
+package com.versebank.accounts.infrastructure.persistence;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Punto de control de un proceso por lotes: última clave confirmada y estado de la ejecución
+ */
+@Entity
+@Table(name = "batch_checkpoint")
+public class BatchCheckpointJpaEntity {
+
+    @Id
+    private String id;
+
+    @Column(name = "last_key")
+    private String lastKey;
+
+    @Column(name = "processed", nullable = false)
+    private long processed;
+
+    @Column(name = "status", nullable = false)
+    private String status;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    protected BatchCheckpointJpaEntity() {}
+
+    // Getters
+    public String getId() { return id; }
+    public String getLastKey() { return lastKey; }
+    public long getProcessed() { return processed; }
+    public String getStatus() { return status; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+}
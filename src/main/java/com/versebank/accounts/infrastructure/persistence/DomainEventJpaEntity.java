@@ -0,0 +1,45 @@
+package com.versebank.accounts.infrastructure.persistence;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento de dominio guardado, codificado con el códec binario. La tabla la escriben los adaptadores de cuentas
+ * mediante JDBC en la misma transacción que el saldo; la entidad solo define el esquema. {@code id} da el orden
+ * de escritura, que es el de reproducción dentro de cada cuenta.
+ */
+@Entity
+@Table(name = "domain_events",
+       indexes = @Index(name = "ix_domain_events_account", columnList = "account_id, id"))
+public class DomainEventJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "account_id", nullable = false)
+    private String accountId;
+
+    @Column(name = "event_id", nullable = false)
+    private String eventId;
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    @Column(name = "payload", nullable = false, length = 1024)
+    private byte[] payload;
+
+    protected DomainEventJpaEntity() {}
+
+    // Getters
+    public Long getId() { return id; }
+    public String getAccountId() { return accountId; }
+    public String getEventId() { return eventId; }
+    public String getEventType() { return eventType; }
+    public LocalDateTime getOccurredAt() { return occurredAt; }
+    public byte[] getPayload() { return payload; }
+}
@@ -0,0 +1,41 @@
+package com.versebank.accounts.infrastructure.persistence;
+
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Apunte de interés devengado. La restricción única por cuenta y fecha impide contabilizar dos veces el mismo día.
+ * La tabla la escribe el proceso de interés mediante JDBC por lotes; la entidad solo define el esquema.
+ */
+@Entity
+@Table(name = "interest_ledger",
+       uniqueConstraints = @UniqueConstraint(name = "uk_interest_ledger_account_date", columnNames = {"account_id", "posting_date"}))
+public class InterestLedgerJpaEntity {
+
+    @Id
+    private String id;
+
+    @Column(name = "account_id", nullable = false)
+    private String accountId;
+
+    @Column(name = "posting_date", nullable = false)
+    private LocalDate postingDate;
+
+    @Column(name = "amount", nullable = false)
+    private BigDecimal amount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    protected InterestLedgerJpaEntity() {}
+
+    // Getters
+    public String getId() { return id; }
+    public String getAccountId() { return accountId; }
+    public LocalDate getPostingDate() { return postingDate; }
+    public BigDecimal getAmount() { return amount; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
@@ -0,0 +1,100 @@
+package com.versebank.accounts.infrastructure.persistence;
+
+import com.versebank.accounts.application.port.out.DomainEventHistory;
+import com.versebank.accounts.domain.events.AccountEvent;
+import com.versebank.accounts.domain.events.DomainEvent;
+import com.versebank.accounts.infrastructure.events.codec.BinaryDomainEventCodec;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Histórico de eventos de dominio en la tabla {@code domain_events} (ver {@link DomainEventJpaEntity}).
+ * <p>
+ * Los eventos se guardan codificados con {@link BinaryDomainEventCodec} en una inserción por lotes que participa
+ * en la transacción en curso, de modo que se confirman o se descartan junto con el saldo que los produjo.
+ * Los de una cuenta se leen en el orden en que se escribieron.
+ */
+public class JdbcDomainEventStore implements DomainEventHistory {
+
+    // Eventos que no pertenecen a una cuenta
+    static final String GLOBAL_STREAM = "global";
+
+    static final String INSERT =
+        "INSERT INTO domain_events (account_id, event_id, event_type, occurred_at, payload) VALUES (?, ?, ?, ?, ?)";
+    private static final String SELECT_BY_ACCOUNT = "SELECT payload FROM domain_events WHERE account_id = ? ORDER BY id";
+    private static final String SELECT_STREAM_IDS =
+        "SELECT DISTINCT account_id FROM domain_events WHERE account_id > ? ORDER BY account_id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BinaryDomainEventCodec codec;
+
+    public JdbcDomainEventStore(DataSource dataSource, BinaryDomainEventCodec codec) {
+        if (dataSource == null || codec == null) {
+            throw new NullPointerException("DataSource and codec cannot be null");
+        }
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.codec = codec;
+    }
+
+    /**
+     * Añade los eventos al histórico de la cuenta en la transacción del llamante
+     */
+    public void append(String accountId, List<DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(events.size());
+        for (DomainEvent event : events) {
+            rows.add(new Object[] {accountId, event.getEventId(), event.getEventType(),
+                Timestamp.valueOf(event.getOccurredAt()), encode(codec, event)});
+        }
+        jdbcTemplate.batchUpdate(INSERT, rows);
+    }
+
+    /**
+     * Añade un evento suelto al histórico de su cuenta, o al global si no pertenece a ninguna
+     */
+    public void append(DomainEvent event) {
+        append(streamOf(event), List.of(event));
+    }
+
+    /**
+     * Añade eventos de varias cuentas, cada uno a su histórico, en una sola inserción por lotes
+     */
+    public void appendAll(List<? extends DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(events.size());
+        for (DomainEvent event : events) {
+            rows.add(new Object[] {streamOf(event), event.getEventId(), event.getEventType(),
+                Timestamp.valueOf(event.getOccurredAt()), encode(codec, event)});
+        }
+        jdbcTemplate.batchUpdate(INSERT, rows);
+    }
+
+    @Override
+    public List<DomainEvent> getDomainEvents(String accountId) {
+        return jdbcTemplate.query(SELECT_BY_ACCOUNT, (rs, rowNum) -> codec.decode(ByteBuffer.wrap(rs.getBytes(1))), accountId);
+    }
+
+    @Override
+    public List<String> findEventStreamIdsAfter(String afterAccountId, int limit) {
+        return jdbcTemplate.queryForList(SELECT_STREAM_IDS, String.class, afterAccountId, limit);
+    }
+
+    static String streamOf(DomainEvent event) {
+        return event instanceof AccountEvent accountEvent ? accountEvent.getAccountId().getValue() : GLOBAL_STREAM;
+    }
+
+    static byte[] encode(BinaryDomainEventCodec codec, DomainEvent event) {
+        ByteBuffer buffer = ByteBuffer.allocate(codec.encodedSize(event));
+        codec.encode(event, buffer);
+        return buffer.array();
+    }
+}
@@ -0,0 +1,67 @@
+package com.versebank.accounts.infrastructure.persistence;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Notificación pendiente de entregar. La tabla la escriben la cola persistente y su relé mediante JDBC por lotes;
+ * la entidad solo define el esquema. Las entregadas se borran y las que agotan sus intentos quedan como {@code DEAD}.
+ */
+@Entity
+@Table(name = "notification_outbox",
+       indexes = @Index(name = "ix_notification_outbox_due", columnList = "status, next_attempt_at"))
+public class NotificationOutboxJpaEntity {
+
+    @Id
+    private String id;
+
+    @Column(name = "kind", nullable = false)
+    private String kind;
+
+    @Column(name = "recipient")
+    private String recipient;
+
+    @Column(name = "subject")
+    private String subject;
+
+    @Column(name = "message", length = 4000)
+    private String message;
+
+    @Column(name = "status", nullable = false)
+    private String status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "delivered_channels", nullable = false)
+    private String deliveredChannels;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    protected NotificationOutboxJpaEntity() {}
+
+    // Getters
+    public String getId() { return id; }
+    public String getKind() { return kind; }
+    public String getRecipient() { return recipient; }
+    public String getSubject() { return subject; }
+    public String getMessage() { return message; }
+    public String getStatus() { return status; }
+    public int getAttempts() { return attempts; }
+    public LocalDateTime getNextAttemptAt() { return nextAttemptAt; }
+    public String getDeliveredChannels() { return deliveredChannels; }
+    public String getLastError() { return lastError; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+}
@@ -0,0 +1,152 @@
+package com.versebank.accounts.infrastructure.persistence;
+
+import com.versebank.accounts.application.port.in.AccountSummary;
+import com.versebank.accounts.application.port.out.ReactiveAccountRepository;
+import com.versebank.accounts.domain.Account;
+import com.versebank.accounts.domain.AccountId;
+import com.versebank.accounts.domain.events.DomainEvent;
+import com.versebank.accounts.domain.support.DomainClocks;
+import com.versebank.accounts.domain.valueobjects.AccountType;
+import com.versebank.accounts.domain.valueobjects.Balance;
+import com.versebank.accounts.infrastructure.events.codec.BinaryDomainEventCodec;
+import io.r2dbc.spi.Readable;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Adaptador que implementa el puerto ReactiveAccountRepository con R2DBC sobre la tabla {@code accounts}
+ * que define {@link AccountJpaEntity}. Las modificaciones incrementan {@code version} como lo hace JPA,
+ * así que ambas pilas pueden escribir en la misma base de datos, y guardan los eventos pendientes de la cuenta
+ * en {@code domain_events} igual que {@link JdbcDomainEventStore}.
+ */
+public class ReactiveAccountRepositoryAdapter implements ReactiveAccountRepository {
+
+    private static final String COLUMNS = "id, customer_id, account_type, balance, version, created_at, updated_at";
+    private static final String SELECT_BY_ID = "SELECT " + COLUMNS + " FROM accounts WHERE id = :id";
+    private static final String SELECT_BY_IDS = "SELECT " + COLUMNS + " FROM accounts WHERE id IN (:ids)";
+    private static final String SELECT_BY_CUSTOMER =
+        "SELECT " + COLUMNS + " FROM accounts WHERE customer_id = :customerId ORDER BY id";
+    private static final String SELECT_VERSION = "SELECT version FROM accounts WHERE id = :id";
+    private static final String UPDATE =
+        "UPDATE accounts SET balance = :balance, updated_at = :updatedAt, version = version + 1 " +
+        "WHERE id = :id AND version = :version";
+    private static final String INSERT_EVENT =
+        "INSERT INTO domain_events (account_id, event_id, event_type, occurred_at, payload) " +
+        "VALUES (:accountId, :eventId, :eventType, :occurredAt, :payload)";
+
+    private final DatabaseClient databaseClient;
+    private final BinaryDomainEventCodec codec = BinaryDomainEventCodec.standard();
+
+    public ReactiveAccountRepositoryAdapter(DatabaseClient databaseClient) {
+        if (databaseClient == null) {
+            throw new NullPointerException("DatabaseClient cannot be null");
+        }
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Mono<Versioned> findById(String accountId) {
+        return databaseClient.sql(SELECT_BY_ID)
+            .bind("id", accountId)
+            .map(row -> new Versioned(toAccount(row), version(row)))
+            .one();
+    }
+
+    @Override
+    public Mono<Void> update(Account account, long expectedVersion) {
+        String accountId = account.getId().getValue();
+        return databaseClient.sql(UPDATE)
+            .bind("balance", account.getBalance().getAmount())
+            .bind("updatedAt", DomainClocks.now())
+            .bind("id", accountId)
+            .bind("version", expectedVersion)
+            .fetch()
+            .rowsUpdated()
+            .flatMap(updated -> updated == 0
+                ? Mono.error(new OptimisticLockingFailureException(
+                    "Account " + accountId + " was modified or removed since version " + expectedVersion))
+                : Mono.<Void>empty())
+            .then(Flux.fromIterable(account.pendingDomainEvents()).concatMap(event -> append(accountId, event)).then());
+    }
+
+    private Mono<Long> append(String accountId, DomainEvent event) {
+        return databaseClient.sql(INSERT_EVENT)
+            .bind("accountId", accountId)
+            .bind("eventId", event.getEventId())
+            .bind("eventType", event.getEventType())
+            .bind("occurredAt", event.getOccurredAt())
+            .bind("payload", JdbcDomainEventStore.encode(codec, event))
+            .fetch()
+            .rowsUpdated();
+    }
+
+    @Override
+    public Mono<AccountSummary> findSummaryById(String accountId) {
+        return databaseClient.sql(SELECT_BY_ID)
+            .bind("id", accountId)
+            .map(ReactiveAccountRepositoryAdapter::toSummary)
+            .one();
+    }
+
+    /**
+     * Una consulta {@code IN} por cada bloque de {@link AccountRepositoryAdapter#IN_CHUNK_SIZE} identificadores
+     */
+    @Override
+    public Flux<AccountSummary> findSummariesById(Collection<String> accountIds) {
+        return Flux.fromIterable(accountIds)
+            .buffer(AccountRepositoryAdapter.IN_CHUNK_SIZE)
+            .concatMap(chunk -> databaseClient.sql(SELECT_BY_IDS)
+                .bind("ids", chunk)
+                .map(ReactiveAccountRepositoryAdapter::toSummary)
+                .all());
+    }
+
+    @Override
+    public Flux<AccountSummary> findSummariesByCustomerId(String customerId) {
+        return databaseClient.sql(SELECT_BY_CUSTOMER)
+            .bind("customerId", customerId)
+            .map(ReactiveAccountRepositoryAdapter::toSummary)
+            .all();
+    }
+
+    @Override
+    public Mono<Long> findVersionById(String accountId) {
+        return databaseClient.sql(SELECT_VERSION)
+            .bind("id", accountId)
+            .map(ReactiveAccountRepositoryAdapter::version)
+            .one();
+    }
+
+    private static Account toAccount(Readable row) {
+        return new Account(
+            AccountId.of(row.get("id", String.class)),
+            row.get("customer_id", String.class),
+            AccountType.valueOf(row.get("account_type", String.class)),
+            Balance.of(row.get("balance", BigDecimal.class)),
+            version(row)
+        );
+    }
+
+    private static AccountSummary toSummary(Readable row) {
+        return new AccountSummary(
+            row.get("id", String.class),
+            row.get("customer_id", String.class),
+            row.get("account_type", String.class),
+            row.get("balance", BigDecimal.class),
+            version(row),
+            row.get("created_at", LocalDateTime.class),
+            row.get("updated_at", LocalDateTime.class)
+        );
+    }
+
+    private static long version(Readable row) {
+        Long version = row.get("version", Long.class);
+        return version != null ? version : 0;
+    }
+}
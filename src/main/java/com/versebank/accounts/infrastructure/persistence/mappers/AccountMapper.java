@@ -3,9 +3,11 @@ package com.versebank.accounts.infrastructure.persistence.mappers;
 import com.versebank.accounts.application.port.in.AccountSummary;
 import com.versebank.accounts.domain.Account;
 import com.versebank.accounts.domain.AccountId;
+import com.versebank.accounts.domain.support.DomainClocks;
 import com.versebank.accounts.domain.valueobjects.AccountType;
 import com.versebank.accounts.domain.valueobjects.Balance;
 import com.versebank.accounts.infrastructure.persistence.AccountJpaEntity;
+import com.versebank.accounts.infrastructure.persistence.AccountRow;
 
 import java.time.LocalDateTime;
 
@@ -23,7 +25,8 @@ public class AccountMapper {
             accountId,
             jpaEntity.getCustomerId(),
             jpaEntity.getAccountType(),
-            balance
+            balance,
+            jpaEntity.getVersion()
         );
     }
     
@@ -32,7 +35,7 @@ public class AccountMapper {
             return null;
         }
         
-        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime now = DomainClocks.now();
         
         return new AccountJpaEntity(
             domain.getId().getValue(),
@@ -52,7 +55,7 @@ public class AccountMapper {
         jpaEntity.setCustomerId(domain.getCustomerId());
         jpaEntity.setAccountType(domain.getAccountType());
         jpaEntity.setBalance(domain.getBalance().getAmount());
-        jpaEntity.setUpdatedAt(LocalDateTime.now());
+        jpaEntity.setUpdatedAt(DomainClocks.now());
     }
     
     /**
@@ -67,7 +70,22 @@ public class AccountMapper {
             jpaEntity.getId(),
             jpaEntity.getCustomerId(),
             jpaEntity.getAccountType().name(),
-            jpaEntity.getBalance()
+            jpaEntity.getBalance(),
+            jpaEntity.getVersion() != null ? jpaEntity.getVersion() : 0,
+            jpaEntity.getCreatedAt(),
+            jpaEntity.getUpdatedAt()
+        );
+    }
+
+    public static AccountSummary toSummary(AccountRow row) {
+        return new AccountSummary(
+            row.id(),
+            row.customerId(),
+            row.accountType().name(),
+            row.balance(),
+            row.version() != null ? row.version() : 0,
+            row.createdAt(),
+            row.updatedAt()
         );
     }
 }
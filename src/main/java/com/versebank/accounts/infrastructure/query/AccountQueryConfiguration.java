@@ -0,0 +1,28 @@
+package com.versebank.accounts.infrastructure.query;
+
+import com.versebank.accounts.application.AccountQueryService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+
+/**
+ * Agrupa las lecturas concurrentes de una misma cuenta delante de {@link AccountQueryService}
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "versebank.accounts.query.coalescing", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AccountQueryConfiguration {
+
+    @Bean
+    @Primary
+    public SingleFlightAccountQueryPort singleFlightAccountQueryPort(
+            AccountQueryService accountQueryService,
+            @Value("${versebank.accounts.query.coalescing.window:0ms}") Duration window,
+            MeterRegistry meterRegistry) {
+        return new SingleFlightAccountQueryPort(accountQueryService, window, meterRegistry);
+    }
+}
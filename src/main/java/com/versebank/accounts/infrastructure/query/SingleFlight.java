@@ -0,0 +1,116 @@
+package com.versebank.accounts.infrastructure.query;
+
+import io.micrometer.core.instrument.Counter;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Agrupa cargas concurrentes de la misma clave en una sola ejecución.
+ * <p>
+ * La primera llamada para una clave ejecuta la carga; las que llegan mientras está en curso esperan y reciben
+ * el mismo resultado o la misma excepción. Con una ventana mayor que cero, el resultado ya cargado también se
+ * reutiliza durante ese tiempo tras completarse. Los fallos no se reutilizan: la siguiente llamada vuelve a
+ * cargar. {@link #forget(Object)} descarta la carga de una clave para que las llamadas posteriores no la vean.
+ */
+final class SingleFlight<K, V> {
+
+    // Entradas a partir de las cuales se purgan las cargas terminadas con la ventana vencida
+    static final int SWEEP_THRESHOLD = 4096;
+
+    private final Map<K, Flight<V>> flights = new ConcurrentHashMap<>();
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+    private final Counter executed;
+    private final Counter coalesced;
+
+    SingleFlight(long windowNanos, LongSupplier nanoClock, Counter executed, Counter coalesced) {
+        if (nanoClock == null || executed == null || coalesced == null) {
+            throw new NullPointerException("Clock and counters cannot be null");
+        }
+        if (windowNanos < 0) {
+            throw new IllegalArgumentException("Window cannot be negative");
+        }
+        this.windowNanos = windowNanos;
+        this.nanoClock = nanoClock;
+        this.executed = executed;
+        this.coalesced = coalesced;
+    }
+
+    V load(K key, Function<? super K, ? extends V> loader) {
+        long now = nanoClock.getAsLong();
+        Flight<V> current = flights.get(key);
+        if (current == null || !current.joinable(now, windowNanos)) {
+            Flight<V> mine = new Flight<>();
+            current = flights.compute(key, (k, existing) ->
+                existing != null && existing.joinable(now, windowNanos) ? existing : mine);
+            if (current == mine) {
+                return execute(key, mine, loader);
+            }
+        }
+        coalesced.increment();
+        return current.await();
+    }
+
+    private V execute(K key, Flight<V> flight, Function<? super K, ? extends V> loader) {
+        executed.increment();
+        V value;
+        try {
+            value = loader.apply(key);
+        } catch (RuntimeException | Error e) {
+            flights.remove(key, flight);
+            flight.result.completeExceptionally(e);
+            throw e;
+        }
+        flight.completedAt = nanoClock.getAsLong();
+        flight.done = true;
+        flight.result.complete(value);
+        if (windowNanos == 0) {
+            flights.remove(key, flight);
+        } else if (flights.size() > SWEEP_THRESHOLD) {
+            long now = nanoClock.getAsLong();
+            flights.values().removeIf(f -> !f.joinable(now, windowNanos));
+        }
+        return value;
+    }
+
+    /**
+     * Las llamadas posteriores no se unen a la carga en curso ni reutilizan la terminada; quien ya espera sí
+     * recibe su resultado
+     */
+    void forget(K key) {
+        flights.remove(key);
+    }
+
+    int size() {
+        return flights.size();
+    }
+
+    private static final class Flight<V> {
+        final CompletableFuture<V> result = new CompletableFuture<>();
+        long completedAt;
+        volatile boolean done;
+
+        boolean joinable(long now, long windowNanos) {
+            return !done || now - completedAt <= windowNanos;
+        }
+
+        V await() {
+            try {
+                return result.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw e;
+            }
+        }
+    }
+}
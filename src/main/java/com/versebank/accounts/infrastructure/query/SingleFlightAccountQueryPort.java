@@ -0,0 +1,112 @@
+package com.versebank.accounts.infrastructure.query;
+
+import com.versebank.accounts.application.port.in.AccountBatch;
+import com.versebank.accounts.application.port.in.AccountQueryPort;
+import com.versebank.accounts.application.port.in.AccountSummary;
+import com.versebank.accounts.domain.events.DomainEvent;
+import com.versebank.accounts.domain.events.MoneyMovementEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Decorador de {@link AccountQueryPort} que agrupa las lecturas concurrentes de una misma cuenta.
+ * <p>
+ * Las consultas por identificador y las de versión (las de las lecturas condicionales) comparten una sola
+ * lectura en curso por cuenta, y opcionalmente su resultado durante la ventana configurada. Un movimiento de
+ * dinero en la cuenta descarta lo agrupado una vez confirmado, para que las lecturas posteriores no devuelvan
+ * el saldo anterior. El resto de consultas se delegan sin cambios. Las métricas
+ * {@code versebank.accounts.query.executed} y {@code versebank.accounts.query.coalesced} muestran las lecturas
+ * hechas y las ahorradas.
+ */
+public class SingleFlightAccountQueryPort implements AccountQueryPort {
+
+    private final AccountQueryPort delegate;
+    private final SingleFlight<String, Optional<AccountSummary>> accounts;
+    private final SingleFlight<String, Optional<Long>> versions;
+
+    public SingleFlightAccountQueryPort(AccountQueryPort delegate, Duration window, MeterRegistry meterRegistry) {
+        this(delegate, window, meterRegistry, System::nanoTime);
+    }
+
+    SingleFlightAccountQueryPort(AccountQueryPort delegate, Duration window, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        if (delegate == null || window == null || meterRegistry == null) {
+            throw new NullPointerException("Delegate, window and MeterRegistry cannot be null");
+        }
+        this.delegate = delegate;
+        this.accounts = singleFlight("account", window, meterRegistry, nanoClock);
+        this.versions = singleFlight("version", window, meterRegistry, nanoClock);
+    }
+
+    private static <V> SingleFlight<String, V> singleFlight(String operation, Duration window, MeterRegistry meterRegistry,
+                                                           LongSupplier nanoClock) {
+        SingleFlight<String, V> singleFlight = new SingleFlight<>(window.toNanos(), nanoClock,
+            Counter.builder("versebank.accounts.query.executed").tag("operation", operation).register(meterRegistry),
+            Counter.builder("versebank.accounts.query.coalesced").tag("operation", operation).register(meterRegistry));
+        Gauge.builder("versebank.accounts.query.in.flight", singleFlight, SingleFlight::size)
+            .tag("operation", operation)
+            .register(meterRegistry);
+        return singleFlight;
+    }
+
+    @Override
+    public Optional<AccountSummary> findByAccountId(String accountId) {
+        return accounts.load(accountId, delegate::findByAccountId);
+    }
+
+    @Override
+    public Optional<Long> findVersionByAccountId(String accountId) {
+        return versions.load(accountId, delegate::findVersionByAccountId);
+    }
+
+    @Override
+    public List<AccountSummary> findAccountsByCustomerId(String customerId) {
+        return delegate.findAccountsByCustomerId(customerId);
+    }
+
+    @Override
+    public AccountBatch findByAccountIds(List<String> accountIds) {
+        return delegate.findByAccountIds(accountIds);
+    }
+
+    @Override
+    public long forEachAccountByCustomerId(String customerId, Consumer<AccountSummary> action) {
+        return delegate.forEachAccountByCustomerId(customerId, action);
+    }
+
+    /**
+     * Tras un movimiento, la siguiente lectura de la cuenta vuelve a la base de datos. Los servicios publican
+     * tras confirmar; si el evento llega dentro de una transacción, se descarta al terminarla, porque una lectura
+     * anterior a la confirmación volvería a guardar el saldo anterior durante la ventana.
+     */
+    @EventListener
+    public void onDomainEvent(DomainEvent event) {
+        if (event instanceof MoneyMovementEvent movement) {
+            String accountId = movement.getAccountId().getValue();
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        forget(accountId);
+                    }
+                });
+            } else {
+                forget(accountId);
+            }
+        }
+    }
+
+    private void forget(String accountId) {
+        accounts.forget(accountId);
+        versions.forget(accountId);
+    }
+}
@@ -0,0 +1,22 @@
+package com.versebank.accounts.infrastructure.time;
+
+import com.versebank.accounts.domain.support.DomainClocks;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configura el reloj de grano grueso y lo instala como reloj del dominio
+ */
+@Configuration
+public class ClockConfiguration {
+
+    @Bean
+    public CoarseDomainClock domainClock(@Value("${versebank.clock.tick-millis:1}") long tickMillis) {
+        CoarseDomainClock clock = new CoarseDomainClock(Duration.ofMillis(tickMillis));
+        DomainClocks.use(clock);
+        return clock;
+    }
+}
@@ -0,0 +1,71 @@
+package com.versebank.accounts.infrastructure.time;
+
+import com.versebank.accounts.domain.support.DomainClock;
+import com.versebank.accounts.domain.support.DomainClocks;
+import com.versebank.accounts.domain.support.SystemDomainClock;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reloj de grano grueso: un hilo de fondo refresca la hora cada tick y las lecturas
+ * se reducen a leer un campo volatile, sin consultar el reloj del sistema ni las reglas de zona horaria.
+ */
+public class CoarseDomainClock implements DomainClock, AutoCloseable {
+
+    private final Clock source;
+    private final ScheduledExecutorService ticker;
+
+    private volatile LocalDateTime now;
+    private volatile long millis;
+
+    public CoarseDomainClock(Duration tick) {
+        this(Clock.systemDefaultZone(), tick);
+    }
+
+    CoarseDomainClock(Clock source, Duration tick) {
+        if (tick == null || tick.isNegative() || tick.isZero()) {
+            throw new IllegalArgumentException("Tick must be positive");
+        }
+        this.source = source;
+        refresh();
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "domain-clock-ticker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long tickNanos = tick.toNanos();
+        ticker.scheduleAtFixedRate(this::refresh, tickNanos, tickNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public LocalDateTime now() {
+        return now;
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return millis;
+    }
+
+    final void refresh() {
+        long current = source.millis();
+        if (current != millis || now == null) {
+            millis = current;
+            now = LocalDateTime.now(source);
+        }
+    }
+
+    @Override
+    public void close() {
+        ticker.shutdownNow();
+        // Un reloj parado no debe quedar instalado en el dominio
+        if (DomainClocks.current() == this) {
+            DomainClocks.use(new SystemDomainClock());
+        }
+    }
+}
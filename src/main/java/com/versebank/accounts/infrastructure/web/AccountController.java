@@ -1,23 +1,39 @@
 package com.versebank.accounts.infrastructure.web;
 
 import com.versebank.accounts.application.port.in.TransferMoneyUseCase;
+import com.versebank.accounts.application.port.in.AccountBatch;
 import com.versebank.accounts.application.port.in.AccountQueryPort;
 import com.versebank.accounts.application.port.in.AccountSummary;
-import com.versebank.accounts.domain.exceptions.InsufficientFundsException;
+import com.versebank.accounts.application.port.in.OperationResult;
+import com.versebank.accounts.infrastructure.web.dto.AccountBatchRequest;
+import com.versebank.accounts.infrastructure.web.dto.AccountBatchResponse;
+import com.versebank.accounts.infrastructure.web.dto.ErrorResponse;
 import com.versebank.accounts.infrastructure.web.dto.TransferRequest;
 import com.versebank.accounts.infrastructure.web.dto.AccountResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Controlador REST para operaciones de cuentas
  */
 @RestController
 @RequestMapping("/api/accounts")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class AccountController {
+
+    // Identificadores por petición de consulta múltiple
+    static final int MAX_BATCH_IDS = 5000;
+
     
     private final TransferMoneyUseCase transferMoneyUseCase;
     private final AccountQueryPort accountQueryPort;
@@ -28,70 +44,118 @@ public class AccountController {
     }
 
     @PostMapping("/transfer")
-    public ResponseEntity<String> transferMoney(@RequestBody TransferRequest request) {
-        try {
-            transferMoneyUseCase.transferMoney(
-                request.getSourceAccountId(),
-                request.getTargetAccountId(),
-                request.getAmount(),
-                request.getDescription()
-            );
-            return ResponseEntity.ok("Transfer completed successfully");
-        } catch (InsufficientFundsException e) {
-            return ResponseEntity.badRequest().body("Insufficient funds: " + e.getMessage());
-        } catch (IllegalArgumentException e) {
-            return ResponseEntity.badRequest().body("Invalid request: " + e.getMessage());
-        }
+    public ResponseEntity<?> transferMoney(@RequestBody TransferRequest request) {
+        return respond("Transfer completed successfully", () -> transferMoneyUseCase.transferMoney(
+            request.getSourceAccountId(),
+            request.getTargetAccountId(),
+            request.getAmount(),
+            request.getDescription()
+        ));
     }
 
     @PostMapping("/{accountId}/deposit")
-    public ResponseEntity<String> depositMoney(@PathVariable String accountId,
-                                              @RequestParam BigDecimal amount,
-                                              @RequestParam String description) {
-        try {
-            transferMoneyUseCase.depositMoney(accountId, amount, description);
-            return ResponseEntity.ok("Deposit completed successfully");
-        } catch (IllegalArgumentException e) {
-            return ResponseEntity.badRequest().body("Invalid request: " + e.getMessage());
-        }
+    public ResponseEntity<?> depositMoney(@PathVariable String accountId,
+                                          @RequestParam BigDecimal amount,
+                                          @RequestParam String description) {
+        return respond("Deposit completed successfully",
+            () -> transferMoneyUseCase.depositMoney(accountId, amount, description));
     }
 
     @PostMapping("/{accountId}/withdraw")
-    public ResponseEntity<String> withdrawMoney(@PathVariable String accountId,
-                                              @RequestParam BigDecimal amount,
-                                              @RequestParam String description) {
+    public ResponseEntity<?> withdrawMoney(@PathVariable String accountId,
+                                           @RequestParam BigDecimal amount,
+                                           @RequestParam String description) {
+        return respond("Withdrawal completed successfully",
+            () -> transferMoneyUseCase.withdrawMoney(accountId, amount, description));
+    }
+
+    /**
+     * Texto de éxito o {@link ErrorResponse} con el estado que corresponde al rechazo; los datos no válidos
+     * responden 400 y un conflicto de versión, 409
+     */
+    private static ResponseEntity<?> respond(String successMessage, Supplier<OperationResult> operation) {
         try {
-            transferMoneyUseCase.withdrawMoney(accountId, amount, description);
-            return ResponseEntity.ok("Withdrawal completed successfully");
-        } catch (InsufficientFundsException e) {
-            return ResponseEntity.badRequest().body("Insufficient funds: " + e.getMessage());
+            OperationResult result = operation.get();
+            if (result.isSuccess()) {
+                return ResponseEntity.ok(successMessage);
+            }
+            return ResponseEntity.status(ErrorResponses.status(result)).body(ErrorResponses.of(result));
         } catch (IllegalArgumentException e) {
-            return ResponseEntity.badRequest().body("Invalid request: " + e.getMessage());
+            return ResponseEntity.badRequest().body(ErrorResponses.invalidRequest(e.getMessage()));
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(ErrorResponses.concurrentModification(e.getMessage()));
         }
     }
 
+    /**
+     * Lectura condicional: con {@code If-None-Match} vigente responde 304 tras consultar solo la versión
+     */
     @GetMapping("/{accountId}")
-    public ResponseEntity<AccountResponse> getAccount(@PathVariable String accountId) {
-        Optional<AccountSummary> accountOpt = accountQueryPort.findByAccountId(accountId);
-        
-        return accountOpt.map(account -> new AccountResponse(
-                    account.getAccountId(),
-                    account.getCustomerId(),
-                    com.versebank.accounts.domain.valueobjects.AccountType.valueOf(account.getAccountType()),
-                    account.getBalance(),
-                    java.time.LocalDateTime.now(),
-                    java.time.LocalDateTime.now()
-                ))
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<AccountResponse> getAccount(@PathVariable String accountId,
+                                                      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return conditionalGet(accountId, ifNoneMatch, AccountController::toResponse);
+    }
+
+    /**
+     * Varias cuentas en una sola petición: {@code GET /api/accounts?ids=a,b,c}
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<AccountBatchResponse> getAccounts(@RequestParam List<String> ids) {
+        return findAccounts(ids);
+    }
+
+    /**
+     * Variante para conjuntos de identificadores que no caben en la URL
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<AccountBatchResponse> getAccounts(@RequestBody AccountBatchRequest request) {
+        return findAccounts(request.getIds());
+    }
+
+    private ResponseEntity<AccountBatchResponse> findAccounts(List<String> ids) {
+        if (ids == null || ids.size() > MAX_BATCH_IDS) {
+            return ResponseEntity.badRequest().build();
+        }
+        List<String> requested = ids.stream().map(String::trim).filter(id -> !id.isEmpty()).toList();
+        AccountBatch batch = accountQueryPort.findByAccountIds(requested);
+        List<AccountResponse> accounts = batch.accounts().stream().map(AccountController::toResponse).toList();
+        return ResponseEntity.ok(new AccountBatchResponse(accounts, batch.missingIds()));
+    }
+
+    static AccountResponse toResponse(AccountSummary account) {
+        return new AccountResponse(
+            account.getAccountId(),
+            account.getCustomerId(),
+            com.versebank.accounts.domain.valueobjects.AccountType.valueOf(account.getAccountType()),
+            account.getBalance(),
+            account.getCreatedAt(),
+            account.getUpdatedAt()
+        );
     }
 
     @GetMapping("/{accountId}/balance")
-    public ResponseEntity<BigDecimal> getBalance(@PathVariable String accountId) {
-        Optional<BigDecimal> balanceOpt = accountQueryPort.findByAccountId(accountId)
-                .map(AccountSummary::getBalance);
-        
-        return balanceOpt.map(ResponseEntity::ok)
+    public ResponseEntity<BigDecimal> getBalance(@PathVariable String accountId,
+                                                 @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return conditionalGet(accountId, ifNoneMatch, AccountSummary::getBalance);
+    }
+
+    private <T> ResponseEntity<T> conditionalGet(String accountId, String ifNoneMatch, Function<AccountSummary, T> body) {
+        if (ifNoneMatch != null) {
+            Optional<Long> version = accountQueryPort.findVersionByAccountId(accountId);
+            if (version.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            String etag = EntityTags.of(version.get());
+            if (EntityTags.matches(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(EntityTags.ACCOUNT_CACHE_CONTROL).build();
+            }
+        }
+        // El ETag sale de la cuenta cargada, no de la versión consultada antes, por si ha cambiado entre medias
+        return accountQueryPort.findByAccountId(accountId)
+                .map(account -> ResponseEntity.ok()
+                        .eTag(EntityTags.of(account.getVersion()))
+                        .cacheControl(EntityTags.ACCOUNT_CACHE_CONTROL)
+                        .body(body.apply(account)))
                 .orElse(ResponseEntity.notFound().build());
     }
 
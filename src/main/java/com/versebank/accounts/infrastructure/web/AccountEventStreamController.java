@@ -0,0 +1,51 @@
+package com.versebank.accounts.infrastructure.web;
+
+import com.versebank.accounts.application.port.in.AccountQueryPort;
+import com.versebank.accounts.application.port.in.AccountSummary;
+import com.versebank.accounts.infrastructure.web.dto.AccountStreamEvent;
+import com.versebank.accounts.infrastructure.web.stream.AccountEventStreamHub;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Optional;
+
+/**
+ * Stream Server-Sent Events con los movimientos de una cuenta, alternativa a consultar el saldo periódicamente
+ */
+@RestController
+@RequestMapping("/api/accounts")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class AccountEventStreamController {
+
+    private final AccountQueryPort accountQueryPort;
+    private final AccountEventStreamHub streamHub;
+
+    public AccountEventStreamController(AccountQueryPort accountQueryPort, AccountEventStreamHub streamHub) {
+        this.accountQueryPort = accountQueryPort;
+        this.streamHub = streamHub;
+    }
+
+    @GetMapping(path = "/{accountId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamEvents(@PathVariable String accountId) {
+        Optional<AccountSummary> accountOpt = accountQueryPort.findByAccountId(accountId);
+        if (accountOpt.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        AccountStreamEvent snapshot = new AccountStreamEvent(null, AccountStreamEvent.BALANCE_SNAPSHOT, accountId,
+            null, accountOpt.get().getBalance(), null, 0);
+        return streamHub.open(accountId, snapshot)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, "5")
+                        .build());
+    }
+}
@@ -0,0 +1,38 @@
+package com.versebank.accounts.infrastructure.web;
+
+import org.springframework.http.CacheControl;
+
+/**
+ * ETags de las lecturas de cuentas, compartidos por los controladores MVC y los manejadores WebFlux
+ */
+public final class EntityTags {
+
+    // Saldos: el cliente puede guardarlos, pero debe revalidarlos en cada uso y nunca en cachés compartidas
+    public static final CacheControl ACCOUNT_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private EntityTags() {
+    }
+
+    public static String of(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Comparación débil de {@code If-None-Match} (RFC 9110): vale cualquier etiqueta de la lista, con o sin {@code W/}
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
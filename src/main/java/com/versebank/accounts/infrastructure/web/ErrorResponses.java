@@ -0,0 +1,42 @@
+package com.versebank.accounts.infrastructure.web;
+
+import com.versebank.accounts.application.port.in.OperationResult;
+import com.versebank.accounts.infrastructure.web.dto.ErrorResponse;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Códigos y estados HTTP de los errores de movimientos, compartidos por los controladores MVC y los manejadores WebFlux
+ */
+final class ErrorResponses {
+
+    static final String INVALID_REQUEST = "INVALID_REQUEST";
+    static final String CONCURRENT_MODIFICATION = "CONCURRENT_MODIFICATION";
+
+    private ErrorResponses() {
+    }
+
+    /**
+     * Saldo insuficiente es una petición bien formada que el negocio rechaza (422); una cuenta inexistente, 404;
+     * una transferencia a la propia cuenta, 400
+     */
+    static HttpStatus status(OperationResult result) {
+        return switch (result.status()) {
+            case SUCCESS -> HttpStatus.OK;
+            case INSUFFICIENT_FUNDS -> HttpStatus.UNPROCESSABLE_ENTITY;
+            case ACCOUNT_NOT_FOUND -> HttpStatus.NOT_FOUND;
+            case INVALID_REQUEST -> HttpStatus.BAD_REQUEST;
+        };
+    }
+
+    static ErrorResponse of(OperationResult result) {
+        return new ErrorResponse(result.status().name(), result.message());
+    }
+
+    static ErrorResponse invalidRequest(String message) {
+        return new ErrorResponse(INVALID_REQUEST, message);
+    }
+
+    static ErrorResponse concurrentModification(String message) {
+        return new ErrorResponse(CONCURRENT_MODIFICATION, message);
+    }
+}
@@ -0,0 +1,179 @@
+package com.versebank.accounts.infrastructure.web;
+
+import com.versebank.accounts.application.port.in.AccountSummary;
+import com.versebank.accounts.application.port.in.OperationResult;
+import com.versebank.accounts.application.port.in.ReactiveAccountQueryPort;
+import com.versebank.accounts.application.port.in.ReactiveTransferMoneyUseCase;
+import com.versebank.accounts.infrastructure.web.dto.AccountBatchRequest;
+import com.versebank.accounts.infrastructure.web.dto.AccountBatchResponse;
+import com.versebank.accounts.infrastructure.web.dto.AccountResponse;
+import com.versebank.accounts.infrastructure.web.dto.ErrorResponse;
+import com.versebank.accounts.infrastructure.web.dto.TransferRequest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.RequestPredicates;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Manejadores WebFlux con las mismas rutas, respuestas y mensajes de error que {@link AccountController}.
+ * Ninguno bloquea el hilo de la petición: las cuentas se leen y guardan con los puertos reactivos.
+ */
+public class ReactiveAccountHandler {
+
+    private static final String BASE_PATH = "/api/accounts";
+
+    private final ReactiveTransferMoneyUseCase transferMoneyUseCase;
+    private final ReactiveAccountQueryPort accountQueryPort;
+
+    public ReactiveAccountHandler(ReactiveTransferMoneyUseCase transferMoneyUseCase, ReactiveAccountQueryPort accountQueryPort) {
+        if (transferMoneyUseCase == null || accountQueryPort == null) {
+            throw new NullPointerException("Transfer use case and account query port cannot be null");
+        }
+        this.transferMoneyUseCase = transferMoneyUseCase;
+        this.accountQueryPort = accountQueryPort;
+    }
+
+    public RouterFunction<ServerResponse> routes() {
+        return RouterFunctions.route()
+            .POST(BASE_PATH + "/transfer", this::transferMoney)
+            .POST(BASE_PATH + "/batch", this::getAccountsInBody)
+            .POST(BASE_PATH + "/{accountId}/deposit", this::depositMoney)
+            .POST(BASE_PATH + "/{accountId}/withdraw", this::withdrawMoney)
+            .GET(BASE_PATH, RequestPredicates.queryParam("ids", ids -> true), this::getAccounts)
+            .GET(BASE_PATH + "/{accountId}", request -> conditionalGet(request, AccountController::toResponse))
+            .GET(BASE_PATH + "/{accountId}/balance", request -> conditionalGet(request, AccountSummary::getBalance))
+            .GET(BASE_PATH + "/{accountId}/has-sufficient-balance", this::hasSufficientBalance)
+            .build();
+    }
+
+    Mono<ServerResponse> transferMoney(ServerRequest request) {
+        return request.bodyToMono(TransferRequest.class)
+            .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("Request body is required")))
+            .flatMap(body -> transferMoneyUseCase.transferMoney(
+                body.getSourceAccountId(),
+                body.getTargetAccountId(),
+                body.getAmount(),
+                body.getDescription()))
+            .flatMap(result -> respond(result, "Transfer completed successfully"))
+            .onErrorResume(ReactiveAccountHandler::isClientError, ReactiveAccountHandler::toErrorResponse);
+    }
+
+    Mono<ServerResponse> depositMoney(ServerRequest request) {
+        return Mono.defer(() -> transferMoneyUseCase.depositMoney(request.pathVariable("accountId"),
+                new BigDecimal(requiredParam(request, "amount")), requiredParam(request, "description")))
+            .flatMap(result -> respond(result, "Deposit completed successfully"))
+            .onErrorResume(ReactiveAccountHandler::isClientError, ReactiveAccountHandler::toErrorResponse);
+    }
+
+    Mono<ServerResponse> withdrawMoney(ServerRequest request) {
+        return Mono.defer(() -> transferMoneyUseCase.withdrawMoney(request.pathVariable("accountId"),
+                new BigDecimal(requiredParam(request, "amount")), requiredParam(request, "description")))
+            .flatMap(result -> respond(result, "Withdrawal completed successfully"))
+            .onErrorResume(ReactiveAccountHandler::isClientError, ReactiveAccountHandler::toErrorResponse);
+    }
+
+    /**
+     * {@code GET /api/accounts?ids=a,b,c}; admite también el parámetro repetido
+     */
+    Mono<ServerResponse> getAccounts(ServerRequest request) {
+        List<String> ids = request.queryParams().getOrDefault("ids", List.of()).stream()
+            .flatMap(value -> Arrays.stream(value.split(",")))
+            .toList();
+        return findAccounts(ids);
+    }
+
+    Mono<ServerResponse> getAccountsInBody(ServerRequest request) {
+        return request.bodyToMono(AccountBatchRequest.class)
+            .flatMap(body -> findAccounts(body.getIds()))
+            .switchIfEmpty(ServerResponse.badRequest().build());
+    }
+
+    private Mono<ServerResponse> findAccounts(List<String> ids) {
+        if (ids == null || ids.size() > AccountController.MAX_BATCH_IDS) {
+            return ServerResponse.badRequest().build();
+        }
+        List<String> requested = ids.stream().map(String::trim).filter(id -> !id.isEmpty()).toList();
+        return accountQueryPort.findByAccountIds(requested)
+            .flatMap(batch -> {
+                List<AccountResponse> accounts = batch.accounts().stream().map(AccountController::toResponse).toList();
+                return ServerResponse.ok().contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(new AccountBatchResponse(accounts, batch.missingIds()));
+            });
+    }
+
+    /**
+     * Lectura condicional: con {@code If-None-Match} vigente responde 304 tras consultar solo la versión
+     */
+    private <T> Mono<ServerResponse> conditionalGet(ServerRequest request, Function<AccountSummary, T> body) {
+        String accountId = request.pathVariable("accountId");
+        String ifNoneMatch = request.headers().firstHeader(HttpHeaders.IF_NONE_MATCH);
+        // El ETag sale de la cuenta cargada, no de la versión consultada antes, por si ha cambiado entre medias
+        Mono<ServerResponse> full = Mono.defer(() -> accountQueryPort.findByAccountId(accountId))
+            .flatMap(account -> ServerResponse.ok()
+                .eTag(EntityTags.of(account.getVersion()))
+                .cacheControl(EntityTags.ACCOUNT_CACHE_CONTROL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body.apply(account)))
+            .switchIfEmpty(Mono.defer(() -> ServerResponse.notFound().build()));
+        if (ifNoneMatch == null) {
+            return full;
+        }
+        return accountQueryPort.findVersionByAccountId(accountId)
+            .flatMap(version -> {
+                String etag = EntityTags.of(version);
+                if (EntityTags.matches(ifNoneMatch, etag)) {
+                    return ServerResponse.status(HttpStatus.NOT_MODIFIED).eTag(etag)
+                        .cacheControl(EntityTags.ACCOUNT_CACHE_CONTROL).build();
+                }
+                return full;
+            })
+            .switchIfEmpty(Mono.defer(() -> ServerResponse.notFound().build()));
+    }
+
+    Mono<ServerResponse> hasSufficientBalance(ServerRequest request) {
+        return Mono.defer(() -> transferMoneyUseCase.hasSufficientBalance(request.pathVariable("accountId"),
+                new BigDecimal(requiredParam(request, "amount"))))
+            .flatMap(sufficient -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(sufficient))
+            .onErrorResume(ReactiveAccountHandler::isClientError, ReactiveAccountHandler::toErrorResponse);
+    }
+
+    private static String requiredParam(ServerRequest request, String name) {
+        return request.queryParam(name)
+            .orElseThrow(() -> new IllegalArgumentException("Required parameter '" + name + "' is not present"));
+    }
+
+    private static Mono<ServerResponse> respond(OperationResult result, String successMessage) {
+        if (result.isSuccess()) {
+            return ServerResponse.ok().contentType(MediaType.TEXT_PLAIN).bodyValue(successMessage);
+        }
+        return error(ErrorResponses.status(result), ErrorResponses.of(result));
+    }
+
+    private static boolean isClientError(Throwable error) {
+        return error instanceof IllegalArgumentException
+            || error instanceof OptimisticLockingFailureException;
+    }
+
+    private static Mono<ServerResponse> toErrorResponse(Throwable error) {
+        if (error instanceof OptimisticLockingFailureException) {
+            // Se agotaron los reintentos: la cuenta está recibiendo demasiadas escrituras a la vez
+            return error(HttpStatus.CONFLICT, ErrorResponses.concurrentModification(error.getMessage()));
+        }
+        return error(HttpStatus.BAD_REQUEST, ErrorResponses.invalidRequest(error.getMessage()));
+    }
+
+    private static Mono<ServerResponse> error(HttpStatus status, ErrorResponse body) {
+        return ServerResponse.status(status).contentType(MediaType.APPLICATION_JSON).bodyValue(body);
+    }
+}
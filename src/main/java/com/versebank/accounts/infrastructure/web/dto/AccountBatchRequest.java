@@ -0,0 +1,23 @@
+package com.versebank.accounts.infrastructure.web.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+public class AccountBatchRequest {
+
+    @NotNull(message = "Account ids are required")
+    private List<String> ids;
+
+    protected AccountBatchRequest() {}
+
+    public AccountBatchRequest(List<String> ids) {
+        this.ids = ids;
+    }
+
+    // Getters
+    public List<String> getIds() { return ids; }
+
+    // Setters
+    public void setIds(List<String> ids) { this.ids = ids; }
+}
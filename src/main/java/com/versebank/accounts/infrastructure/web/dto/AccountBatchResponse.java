@@ -0,0 +1,26 @@
+package com.versebank.accounts.infrastructure.web.dto;
+
+import java.util.List;
+
+/**
+ * Cuentas encontradas en el orden pedido y los identificadores que no existen
+ */
+public class AccountBatchResponse {
+    private List<AccountResponse> accounts;
+    private List<String> missing;
+
+    protected AccountBatchResponse() {}
+
+    public AccountBatchResponse(List<AccountResponse> accounts, List<String> missing) {
+        this.accounts = accounts;
+        this.missing = missing;
+    }
+
+    // Getters
+    public List<AccountResponse> getAccounts() { return accounts; }
+    public List<String> getMissing() { return missing; }
+
+    // Setters
+    public void setAccounts(List<AccountResponse> accounts) { this.accounts = accounts; }
+    public void setMissing(List<String> missing) { this.missing = missing; }
+}
@@ -0,0 +1,40 @@
+package com.versebank.accounts.infrastructure.web.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Mensaje del stream de eventos de una cuenta. Los de tipo {@code BalanceSnapshot} solo informan del saldo:
+ * el inicial al suscribirse y el que sustituye a los movimientos agrupados de un consumidor lento.
+ */
+public class AccountStreamEvent {
+    public static final String BALANCE_SNAPSHOT = "BalanceSnapshot";
+
+    private final String eventId;
+    private final String type;
+    private final String accountId;
+    private final BigDecimal amount;
+    private final BigDecimal balance;
+    private final LocalDateTime occurredAt;
+    private final int coalesced;
+
+    public AccountStreamEvent(String eventId, String type, String accountId, BigDecimal amount,
+                              BigDecimal balance, LocalDateTime occurredAt, int coalesced) {
+        this.eventId = eventId;
+        this.type = type;
+        this.accountId = accountId;
+        this.amount = amount;
+        this.balance = balance;
+        this.occurredAt = occurredAt;
+        this.coalesced = coalesced;
+    }
+
+    // Getters
+    public String getEventId() { return eventId; }
+    public String getType() { return type; }
+    public String getAccountId() { return accountId; }
+    public BigDecimal getAmount() { return amount; }
+    public BigDecimal getBalance() { return balance; }
+    public LocalDateTime getOccurredAt() { return occurredAt; }
+    public int getCoalesced() { return coalesced; }
+}
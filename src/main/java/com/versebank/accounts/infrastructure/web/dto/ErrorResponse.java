@@ -0,0 +1,24 @@
+package com.versebank.accounts.infrastructure.web.dto;
+
+/**
+ * Error de una operación: un código estable para los clientes y el motivo legible
+ */
+public class ErrorResponse {
+    private String code;
+    private String message;
+
+    protected ErrorResponse() {}
+
+    public ErrorResponse(String code, String message) {
+        this.code = code;
+        this.message = message;
+    }
+
+    // Getters
+    public String getCode() { return code; }
+    public String getMessage() { return message; }
+
+    // Setters
+    public void setCode(String code) { this.code = code; }
+    public void setMessage(String message) { this.message = message; }
+}
@@ -0,0 +1,106 @@
+package com.versebank.accounts.infrastructure.web.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Límite de peticiones simultáneas que se ajusta según la latencia observada (algoritmo de gradiente).
+ * <p>
+ * Compara una latencia de referencia a largo plazo (media exponencial) con la de cada muestra. Mientras la
+ * latencia se mantiene dentro de la tolerancia, el límite crece poco a poco (una cola de raíz cuadrada del
+ * límite); cuando sube, el límite se reduce en proporción, como mucho a la mitad por muestra. Si el límite no
+ * se está usando ni a la mitad, no crece: sin demanda no hay información sobre la capacidad. Si la latencia
+ * baja de forma sostenida, la referencia se acerca a ella para que el límite se recupere tras un episodio lento.
+ * Admitir una petición es un CAS sobre el contador de peticiones en curso; solo las muestras se sincronizan.
+ */
+public final class AdaptiveConcurrencyLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final double longRttFactor;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+    // Protegidos por this
+    private double estimatedLimit;
+    private double longRtt;
+
+    /**
+     * @param tolerance  cuánto puede superar la latencia a la de referencia antes de reducir el límite (1.5 = 50 %)
+     * @param smoothing  peso de cada ajuste sobre el límite actual, entre 0 y 1
+     * @param longWindow muestras de la media de referencia
+     */
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double tolerance, double smoothing,
+                                    int longWindow) {
+        if (minLimit <= 0 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 0 < min <= initial <= max");
+        }
+        if (tolerance < 1.0 || smoothing <= 0 || smoothing > 1.0 || longWindow <= 0) {
+            throw new IllegalArgumentException("Tolerance must be at least 1, smoothing in (0, 1] and window positive");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.longRttFactor = 2.0 / (longWindow + 1);
+        this.estimatedLimit = initialLimit;
+        this.limit = initialLimit;
+    }
+
+    /**
+     * Reserva un hueco si hay menos peticiones en curso que el límite
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Libera el hueco y, si la petición es una muestra válida, ajusta el límite con su latencia
+     */
+    public void release(long rttNanos, boolean sample) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        if (sample && rttNanos > 0) {
+            onSample(rttNanos, inFlightBefore);
+        }
+    }
+
+    synchronized void onSample(long rttNanos, int inFlightAtSample) {
+        double shortRtt = rttNanos;
+        longRtt = longRtt == 0 ? shortRtt : longRtt + (shortRtt - longRtt) * longRttFactor;
+        // Tras un periodo lento la referencia queda alta: se acerca a la latencia actual para poder recuperarse
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+        if (inFlightAtSample < estimatedLimit / 2) {
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRtt / shortRtt));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Todas las plazas están ocupadas
+     */
+    public boolean saturated() {
+        return inFlight.get() >= limit;
+    }
+}
@@ -0,0 +1,156 @@
+package com.versebank.accounts.infrastructure.web.limit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+/**
+ * Limita las peticiones simultáneas a las APIs de cuentas y usuarios y rechaza el exceso con 503.
+ * <p>
+ * Las lecturas y los movimientos de dinero tienen cada uno su {@link AdaptiveConcurrencyLimit}, de modo que
+ * una avalancha de consultas no ocupa las plazas de las transferencias. Los movimientos tienen prioridad:
+ * mientras su límite está completo, también se rechazan las lecturas nuevas para liberar la base de datos.
+ * Un rechazo responde al momento con {@code 503} y {@code Retry-After}, en lugar de esperar en la cola de
+ * Tomcat. Las respuestas 5xx y las excepciones no cuentan como muestras de latencia. Una respuesta asíncrona
+ * (en streaming) libera su plaza al completarse, no al volver la cadena de filtros. Los streams de eventos
+ * no se limitan: una conexión larga ocuparía una plaza indefinidamente.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final Pattern MONEY_MOVEMENT = Pattern.compile("^/api/accounts/(transfer|[^/]+/(deposit|withdraw))$");
+    private static final Pattern EVENT_STREAM = Pattern.compile("^/api/accounts/[^/]+/events$");
+
+    private final AdaptiveConcurrencyLimit reads;
+    private final AdaptiveConcurrencyLimit writes;
+    private final String retryAfterSeconds;
+    private final Counter readsAdmitted;
+    private final Counter readsRejected;
+    private final Counter writesAdmitted;
+    private final Counter writesRejected;
+
+    public ConcurrencyLimitFilter(AdaptiveConcurrencyLimit reads, AdaptiveConcurrencyLimit writes, Duration retryAfter,
+                                  MeterRegistry meterRegistry) {
+        if (reads == null || writes == null || retryAfter == null || meterRegistry == null) {
+            throw new NullPointerException("Limits, retry-after and MeterRegistry cannot be null");
+        }
+        this.reads = reads;
+        this.writes = writes;
+        this.retryAfterSeconds = Long.toString(Math.max(1, retryAfter.toSeconds()));
+        this.readsAdmitted = counter("admitted", "read", meterRegistry);
+        this.readsRejected = counter("rejected", "read", meterRegistry);
+        this.writesAdmitted = counter("admitted", "write", meterRegistry);
+        this.writesRejected = counter("rejected", "write", meterRegistry);
+        gauges("read", reads, meterRegistry);
+        gauges("write", writes, meterRegistry);
+    }
+
+    private static Counter counter(String name, String traffic, MeterRegistry meterRegistry) {
+        return Counter.builder("versebank.web.concurrency." + name).tag("traffic", traffic).register(meterRegistry);
+    }
+
+    private static void gauges(String traffic, AdaptiveConcurrencyLimit limit, MeterRegistry meterRegistry) {
+        Gauge.builder("versebank.web.concurrency.limit", limit, AdaptiveConcurrencyLimit::limit)
+            .tag("traffic", traffic).register(meterRegistry);
+        Gauge.builder("versebank.web.concurrency.in.flight", limit, AdaptiveConcurrencyLimit::inFlight)
+            .tag("traffic", traffic).register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return EVENT_STREAM.matcher(path(request)).matches();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        boolean write = isMoneyMovement(request);
+        AdaptiveConcurrencyLimit limit = write ? writes : reads;
+        boolean admitted = write ? writes.tryAcquire() : !writes.saturated() && reads.tryAcquire();
+        if (!admitted) {
+            (write ? writesRejected : readsRejected).increment();
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+            return;
+        }
+        (write ? writesAdmitted : readsAdmitted).increment();
+        long start = System.nanoTime();
+        boolean completed = false;
+        try {
+            chain.doFilter(request, response);
+            completed = true;
+        } finally {
+            if (request.isAsyncStarted()) {
+                // Respuesta en streaming: la plaza sigue ocupada hasta que termina de escribirse
+                request.getAsyncContext().addListener(new ReleaseOnAsyncCompletion(limit, start));
+            } else {
+                limit.release(System.nanoTime() - start, completed && response.getStatus() < 500);
+            }
+        }
+    }
+
+    static boolean isMoneyMovement(HttpServletRequest request) {
+        return "POST".equals(request.getMethod()) && MONEY_MOVEMENT.matcher(path(request)).matches();
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    /**
+     * Libera la plaza de una petición asíncrona una sola vez, al terminar; el plazo agotado y el error no
+     * cuentan como muestras de latencia
+     */
+    private static final class ReleaseOnAsyncCompletion implements AsyncListener {
+
+        private final AdaptiveConcurrencyLimit limit;
+        private final long start;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        ReleaseOnAsyncCompletion(AdaptiveConcurrencyLimit limit, long start) {
+            this.limit = limit;
+            this.start = start;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            ServletResponse response = event.getSuppliedResponse();
+            release(!(response instanceof HttpServletResponse http) || http.getStatus() < 500);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release(false);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release(false);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Un nuevo ciclo asíncrono descarta los oyentes registrados
+            event.getAsyncContext().addListener(this);
+        }
+
+        private void release(boolean sample) {
+            if (released.compareAndSet(false, true)) {
+                limit.release(System.nanoTime() - start, sample);
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.versebank.accounts.infrastructure.web.limit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Límites adaptativos de peticiones simultáneas (prefijo {@code versebank.web.concurrency-limit})
+ */
+@ConfigurationProperties(prefix = "versebank.web.concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled = true;
+    private Duration retryAfter = Duration.ofSeconds(1);
+    private double tolerance = 1.5;
+    private double smoothing = 0.2;
+    private int longWindow = 600;
+    private Traffic reads = new Traffic(100, 10, 500);
+    private Traffic writes = new Traffic(40, 5, 200);
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+    public Duration getRetryAfter() { return retryAfter; }
+    public void setRetryAfter(Duration retryAfter) { this.retryAfter = retryAfter; }
+    public double getTolerance() { return tolerance; }
+    public void setTolerance(double tolerance) { this.tolerance = tolerance; }
+    public double getSmoothing() { return smoothing; }
+    public void setSmoothing(double smoothing) { this.smoothing = smoothing; }
+    public int getLongWindow() { return longWindow; }
+    public void setLongWindow(int longWindow) { this.longWindow = longWindow; }
+    public Traffic getReads() { return reads; }
+    public void setReads(Traffic reads) { this.reads = reads; }
+    public Traffic getWrites() { return writes; }
+    public void setWrites(Traffic writes) { this.writes = writes; }
+
+    public AdaptiveConcurrencyLimit toLimit(Traffic traffic) {
+        return new AdaptiveConcurrencyLimit(traffic.getInitialLimit(), traffic.getMinLimit(), traffic.getMaxLimit(),
+            tolerance, smoothing, longWindow);
+    }
+
+    public static class Traffic {
+        private int initialLimit;
+        private int minLimit;
+        private int maxLimit;
+
+        public Traffic() {}
+
+        Traffic(int initialLimit, int minLimit, int maxLimit) {
+            this.initialLimit = initialLimit;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+        }
+
+        public int getInitialLimit() { return initialLimit; }
+        public void setInitialLimit(int initialLimit) { this.initialLimit = initialLimit; }
+        public int getMinLimit() { return minLimit; }
+        public void setMinLimit(int minLimit) { this.minLimit = minLimit; }
+        public int getMaxLimit() { return maxLimit; }
+        public void setMaxLimit(int maxLimit) { this.maxLimit = maxLimit; }
+    }
+}
@@ -0,0 +1,273 @@
+package com.versebank.accounts.infrastructure.web.stream;
+
+import com.versebank.accounts.domain.events.DomainEvent;
+import com.versebank.accounts.domain.events.MoneyMovementEvent;
+import com.versebank.accounts.infrastructure.web.dto.AccountStreamEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reparte los movimientos de cada cuenta entre sus suscriptores SSE.
+ * <p>
+ * Una suscripción inactiva es solo un {@link SseEmitter} (petición asíncrona del servlet, sin hilo) y un buffer
+ * vacío. Los envíos los hace un pool pequeño compartido, y solo cuando un suscriptor tiene mensajes pendientes.
+ * El buffer de cada suscriptor está acotado: si un consumidor lento lo llena, los movimientos pendientes se
+ * sustituyen por un único {@code BalanceSnapshot} con el saldo más reciente. El número total de suscriptores
+ * está limitado.
+ */
+@Component
+public class AccountEventStreamHub implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccountEventStreamHub.class);
+
+    // Mensajes que se envían a un suscriptor antes de ceder el hilo a otro
+    private static final int SEND_BATCH = 32;
+
+    private final Map<String, Set<Subscriber>> subscribersByAccount = new ConcurrentHashMap<>();
+    private final AtomicInteger subscribers = new AtomicInteger();
+    private final int maxSubscribers;
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final ExecutorService sender;
+    private final ScheduledExecutorService heartbeat;
+    private final Counter coalesced;
+    private final Counter rejected;
+
+    public AccountEventStreamHub(@Value("${versebank.accounts.stream.max-subscribers:10000}") int maxSubscribers,
+                                 @Value("${versebank.accounts.stream.buffer-size:16}") int bufferSize,
+                                 @Value("${versebank.accounts.stream.timeout-millis:1800000}") long timeoutMillis,
+                                 @Value("${versebank.accounts.stream.heartbeat-seconds:30}") long heartbeatSeconds,
+                                 @Value("${versebank.accounts.stream.sender-threads:2}") int senderThreads,
+                                 MeterRegistry meterRegistry) {
+        if (maxSubscribers <= 0 || bufferSize <= 0 || senderThreads <= 0) {
+            throw new IllegalArgumentException("Subscriber cap, buffer size and sender threads must be positive");
+        }
+        this.maxSubscribers = maxSubscribers;
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeoutMillis;
+        this.sender = Executors.newFixedThreadPool(senderThreads, daemonThreads("account-stream-sender-"));
+        if (heartbeatSeconds > 0) {
+            this.heartbeat = Executors.newSingleThreadScheduledExecutor(daemonThreads("account-stream-heartbeat-"));
+            this.heartbeat.scheduleAtFixedRate(this::heartbeat, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+        } else {
+            this.heartbeat = null;
+        }
+        this.coalesced = Counter.builder("versebank.accounts.stream.coalesced").register(meterRegistry);
+        this.rejected = Counter.builder("versebank.accounts.stream.rejected").register(meterRegistry);
+        Gauge.builder("versebank.accounts.stream.subscribers", subscribers, AtomicInteger::get).register(meterRegistry);
+    }
+
+    /**
+     * Abre un stream para la cuenta, empezando por su saldo actual
+     *
+     * @return vacío si se ha alcanzado el límite de suscriptores
+     */
+    public Optional<SseEmitter> open(String accountId, AccountStreamEvent initialSnapshot) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        return subscribe(accountId, emitter, initialSnapshot) ? Optional.of(emitter) : Optional.empty();
+    }
+
+    boolean subscribe(String accountId, SseEmitter emitter, AccountStreamEvent initialSnapshot) {
+        if (subscribers.incrementAndGet() > maxSubscribers) {
+            subscribers.decrementAndGet();
+            rejected.increment();
+            return false;
+        }
+        Subscriber subscriber = new Subscriber(accountId, emitter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+        subscribersByAccount.compute(accountId, (id, set) -> {
+            Set<Subscriber> accountSubscribers = set != null ? set : ConcurrentHashMap.newKeySet();
+            accountSubscribers.add(subscriber);
+            return accountSubscribers;
+        });
+        subscriber.offer(initialSnapshot);
+        return true;
+    }
+
+    /**
+     * Se invoca en el hilo que publica: solo busca suscriptores y encola, nunca escribe en la red
+     */
+    @EventListener
+    public void onDomainEvent(DomainEvent event) {
+        if (!(event instanceof MoneyMovementEvent movement)) {
+            return;
+        }
+        Set<Subscriber> accountSubscribers = subscribersByAccount.get(movement.getAccountId().getValue());
+        if (accountSubscribers == null || accountSubscribers.isEmpty()) {
+            return;
+        }
+        AccountStreamEvent message = new AccountStreamEvent(movement.getEventId(), movement.getEventType(),
+            movement.getAccountId().getValue(), movement.getAmount().getAmount(), movement.getNewBalance().getAmount(),
+            movement.getOccurredAt(), 0);
+        for (Subscriber subscriber : accountSubscribers) {
+            subscriber.offer(message);
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.get();
+    }
+
+    private void heartbeat() {
+        subscribersByAccount.values().forEach(accountSubscribers -> accountSubscribers.forEach(Subscriber::requestHeartbeat));
+    }
+
+    @Override
+    public void close() {
+        if (heartbeat != null) {
+            heartbeat.shutdownNow();
+        }
+        sender.shutdown();
+        subscribersByAccount.values().forEach(accountSubscribers -> accountSubscribers.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger index = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + index.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Suscriptor con su buffer acotado; como mucho tiene una tarea de envío pendiente en el pool
+     */
+    private final class Subscriber implements Runnable {
+
+        private final String accountId;
+        private final SseEmitter emitter;
+        // Protegido por this
+        private final ArrayDeque<AccountStreamEvent> buffer = new ArrayDeque<>(2);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile boolean heartbeatPending;
+
+        Subscriber(String accountId, SseEmitter emitter) {
+            this.accountId = accountId;
+            this.emitter = emitter;
+        }
+
+        void offer(AccountStreamEvent message) {
+            synchronized (this) {
+                if (buffer.size() >= bufferSize) {
+                    // Movimientos agrupados en total (incluidos los de un snapshot anterior) y los que se agrupan ahora
+                    int replaced = 1;
+                    int folded = 1;
+                    for (AccountStreamEvent pending : buffer) {
+                        if (AccountStreamEvent.BALANCE_SNAPSHOT.equals(pending.getType())) {
+                            replaced += pending.getCoalesced();
+                        } else {
+                            replaced++;
+                            folded++;
+                        }
+                    }
+                    buffer.clear();
+                    buffer.add(new AccountStreamEvent(message.getEventId(), AccountStreamEvent.BALANCE_SNAPSHOT, accountId,
+                        null, message.getBalance(), message.getOccurredAt(), replaced));
+                    coalesced.increment(folded);
+                } else {
+                    buffer.add(message);
+                }
+            }
+            schedule();
+        }
+
+        void requestHeartbeat() {
+            heartbeatPending = true;
+            schedule();
+        }
+
+        private void schedule() {
+            if (!closed.get() && scheduled.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this);
+                } catch (RejectedExecutionException e) {
+                    scheduled.set(false);
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                for (int sent = 0; sent < SEND_BATCH && !closed.get(); sent++) {
+                    AccountStreamEvent message;
+                    synchronized (this) {
+                        message = buffer.poll();
+                    }
+                    if (message == null) {
+                        break;
+                    }
+                    send(message);
+                }
+                if (heartbeatPending && !closed.get()) {
+                    heartbeatPending = false;
+                    emitter.send(SseEmitter.event().comment("keepalive"));
+                }
+            } catch (IOException | IllegalStateException e) {
+                logger.debug("Stream for account {} closed: {}", accountId, e.getMessage());
+                close();
+            } finally {
+                scheduled.set(false);
+            }
+            boolean pending;
+            synchronized (this) {
+                pending = !buffer.isEmpty();
+            }
+            if (pending) {
+                schedule();
+            }
+        }
+
+        private void send(AccountStreamEvent message) throws IOException {
+            SseEmitter.SseEventBuilder event = SseEmitter.event().name(message.getType()).data(message, MediaType.APPLICATION_JSON);
+            if (message.getEventId() != null) {
+                event.id(message.getEventId());
+            }
+            emitter.send(event);
+        }
+
+        /**
+         * Da de baja al suscriptor. El emisor lo completa el contenedor (fin, timeout o error) o {@link AccountEventStreamHub#close()}.
+         */
+        void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            subscribersByAccount.computeIfPresent(accountId, (id, set) -> {
+                set.remove(this);
+                return set.isEmpty() ? null : set;
+            });
+            subscribers.decrementAndGet();
+            synchronized (this) {
+                buffer.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.versebank.accounts.infrastructure.web.stream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Cuerpo de respuesta que serializa los elementos a medida que la fuente los entrega.
+ * <p>
+ * Con {@link Format#NDJSON} cada elemento es una línea JSON ({@code application/x-ndjson}); con
+ * {@link Format#JSON_ARRAY} sale un array JSON normal enviado por trozos. Solo se retiene el buffer del
+ * generador, así que la memoria no depende del número de elementos. Cada {@code flushEvery} elementos se vacía
+ * el buffer hacia el cliente, que empieza a recibir datos antes de que termine la consulta. Si la fuente falla
+ * a mitad, las cabeceras ya se han enviado y la respuesta queda truncada: en NDJSON el cliente lo detecta por
+ * una última línea incompleta, en el array porque no cierra.
+ */
+public final class JsonStreamingBody<T> implements StreamingResponseBody {
+
+    public enum Format {
+        NDJSON(MediaType.APPLICATION_NDJSON),
+        JSON_ARRAY(MediaType.APPLICATION_JSON);
+
+        private final MediaType mediaType;
+
+        Format(MediaType mediaType) {
+            this.mediaType = mediaType;
+        }
+
+        public MediaType mediaType() {
+            return mediaType;
+        }
+
+        /**
+         * NDJSON solo si el cliente lo pide expresamente en {@code Accept}
+         */
+        public static Format negotiate(String accept) {
+            if (accept != null) {
+                for (MediaType type : MediaType.parseMediaTypes(accept)) {
+                    if (type.isCompatibleWith(MediaType.APPLICATION_NDJSON) && !type.isWildcardType()) {
+                        return NDJSON;
+                    }
+                }
+            }
+            return JSON_ARRAY;
+        }
+    }
+
+    /**
+     * Fuente de elementos que los entrega de uno en uno, p. ej. recorriendo un cursor
+     */
+    @FunctionalInterface
+    public interface Source<T> {
+        void forEach(Consumer<? super T> sink);
+    }
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter writer;
+    private final Format format;
+    private final int flushEvery;
+    private final Source<T> source;
+
+    public JsonStreamingBody(ObjectMapper objectMapper, Format format, int flushEvery, Source<T> source) {
+        if (objectMapper == null || format == null || source == null) {
+            throw new NullPointerException("ObjectMapper, format and source cannot be null");
+        }
+        if (flushEvery <= 0) {
+            throw new IllegalArgumentException("Flush interval must be positive");
+        }
+        this.objectMapper = objectMapper;
+        // Los envíos los decide flushEvery, no cada elemento
+        this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.format = format;
+        this.flushEvery = flushEvery;
+        this.source = source;
+    }
+
+    public MediaType mediaType() {
+        return format.mediaType();
+    }
+
+    @Override
+    public void writeTo(OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            // Cerrar el generador no debe cerrar la respuesta: de eso se encarga el contenedor
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // En NDJSON el separador entre documentos es el salto de línea, no el espacio por defecto
+            generator.setRootValueSeparator(null);
+            if (format == Format.JSON_ARRAY) {
+                generator.writeStartArray();
+            }
+            int[] pending = {0};
+            try {
+                source.forEach(element -> {
+                    try {
+                        write(generator, element);
+                        if (++pending[0] == flushEvery) {
+                            pending[0] = 0;
+                            generator.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            if (format == Format.JSON_ARRAY) {
+                generator.writeEndArray();
+            }
+        }
+    }
+
+    private void write(JsonGenerator generator, T element) throws IOException {
+        writer.writeValue(generator, element);
+        if (format == Format.NDJSON) {
+            generator.writeRaw('\n');
+        }
+    }
+}
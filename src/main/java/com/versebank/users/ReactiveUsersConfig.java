@@ -0,0 +1,36 @@
+package com.versebank.users;
+
+import com.versebank.accounts.application.port.in.ReactiveAccountQueryPort;
+import com.versebank.users.application.ReactiveUserService;
+import com.versebank.users.infrastructure.persistence.ReactiveUserRepositoryAdapter;
+import com.versebank.users.infrastructure.web.ReactiveUserHandler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+/**
+ * Pila reactiva del slice de usuarios (perfil {@code reactive}).
+ * Usa el cliente R2DBC y el operador transaccional de la pila reactiva de cuentas.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveUsersConfig {
+
+    @Bean
+    public ReactiveUserService reactiveUserService(DatabaseClient databaseClient,
+                                                   ReactiveAccountQueryPort accountQueryPort,
+                                                   TransactionalOperator reactiveTransactionalOperator) {
+        return new ReactiveUserService(new ReactiveUserRepositoryAdapter(databaseClient), accountQueryPort,
+            reactiveTransactionalOperator);
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> userRoutes(ReactiveUserService reactiveUserService,
+                                                     ReactiveAccountQueryPort accountQueryPort) {
+        return new ReactiveUserHandler(reactiveUserService, accountQueryPort).routes();
+    }
+}
@@ -0,0 +1,94 @@
+package com.versebank.users.application;
+
+import com.versebank.accounts.application.port.in.ReactiveAccountQueryPort;
+import com.versebank.users.domain.Email;
+import com.versebank.users.domain.ReactiveUserRepository;
+import com.versebank.users.domain.User;
+import com.versebank.users.domain.UserId;
+import com.versebank.users.domain.exceptions.UserAlreadyExistsException;
+import com.versebank.users.infrastructure.web.dto.UserResponse;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+/**
+ * Mismos casos de uso que {@link UserService} sobre el repositorio y el puerto de consulta de cuentas reactivos
+ */
+public class ReactiveUserService {
+
+    private final ReactiveUserRepository userRepository;
+    private final ReactiveAccountQueryPort accountQueryPort;
+    private final TransactionalOperator transactionalOperator;
+
+    public ReactiveUserService(ReactiveUserRepository userRepository, ReactiveAccountQueryPort accountQueryPort,
+                               TransactionalOperator transactionalOperator) {
+        this.userRepository = Objects.requireNonNull(userRepository);
+        this.accountQueryPort = Objects.requireNonNull(accountQueryPort);
+        this.transactionalOperator = Objects.requireNonNull(transactionalOperator);
+    }
+
+    /**
+     * Termina con {@link UserAlreadyExistsException} si el email ya está registrado
+     */
+    public Mono<UserId> createUser(String name, String email) {
+        return Mono.defer(() -> {
+            Email emailVO = Email.of(email);
+            User newUser = User.create(name, email);
+            return userRepository.existsByEmail(emailVO)
+                    .flatMap(exists -> exists
+                        ? Mono.<User>error(new UserAlreadyExistsException("User with email " + email + " already exists"))
+                        : userRepository.save(newUser))
+                    .map(User::getId);
+        }).as(transactionalOperator::transactional);
+    }
+
+    public Mono<User> getUser(UserId userId) {
+        return userRepository.findById(userId);
+    }
+
+    public Mono<Void> linkAccountToUser(UserId userId, String accountId) {
+        return findExisting(userId)
+                .flatMap(user -> accountQueryPort.findByAccountId(accountId)
+                    .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("Account not found: " + accountId)))
+                    .flatMap(account -> {
+                        if (!account.getCustomerId().equals(userId.getValue())) {
+                            return Mono.error(new IllegalArgumentException("Account does not belong to user: " + userId.getValue()));
+                        }
+                        user.addAccount(accountId);
+                        return userRepository.save(user);
+                    }))
+                .then()
+                .as(transactionalOperator::transactional);
+    }
+
+    public Mono<Void> unlinkAccountFromUser(UserId userId, String accountId) {
+        return findExisting(userId)
+                .flatMap(user -> {
+                    user.removeAccount(accountId);
+                    return userRepository.save(user);
+                })
+                .then()
+                .as(transactionalOperator::transactional);
+    }
+
+    /**
+     * Obtiene un usuario con sus cuentas asociadas
+     */
+    public Mono<UserResponse> getUserWithAccounts(UserId userId) {
+        return userRepository.findById(userId)
+                .flatMap(user -> accountQueryPort.findAccountsByCustomerId(userId.getValue())
+                    .collectList()
+                    .map(accounts -> new UserResponse(
+                        user.getId().getValue(),
+                        user.getName(),
+                        user.getEmail().getValue(),
+                        accounts
+                    )));
+    }
+
+    private Mono<User> findExisting(UserId userId) {
+        return userRepository.findById(userId)
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("User not found: " + userId.getValue())));
+    }
+}
@@ -0,0 +1,16 @@
+package com.versebank.users.domain;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Variante reactiva de {@link UserRepository} para la pila WebFlux
+ */
+public interface ReactiveUserRepository {
+    Mono<User> findById(UserId userId);
+    Mono<Boolean> existsByEmail(Email email);
+
+    /**
+     * Crea o actualiza el usuario junto con sus cuentas vinculadas. Debe llamarse dentro de una transacción.
+     */
+    Mono<User> save(User user);
+}
@@ -0,0 +1,90 @@
+package com.versebank.users.infrastructure.persistence;
+
+import com.versebank.users.domain.Email;
+import com.versebank.users.domain.ReactiveUserRepository;
+import com.versebank.users.domain.User;
+import com.versebank.users.domain.UserId;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+/**
+ * Adaptador R2DBC sobre las tablas {@code users} y {@code user_account_ids} que define {@link UserJpaEntity}
+ */
+public class ReactiveUserRepositoryAdapter implements ReactiveUserRepository {
+
+    private static final String SELECT_USER = "SELECT id, name, email FROM users WHERE id = :id";
+    private static final String SELECT_ACCOUNT_IDS = "SELECT account_id FROM user_account_ids WHERE user_id = :userId";
+    private static final String COUNT_BY_EMAIL = "SELECT COUNT(*) FROM users WHERE email = :email";
+    private static final String UPDATE_USER = "UPDATE users SET name = :name, email = :email WHERE id = :id";
+    private static final String INSERT_USER = "INSERT INTO users (id, name, email) VALUES (:id, :name, :email)";
+    private static final String DELETE_ACCOUNT_IDS = "DELETE FROM user_account_ids WHERE user_id = :userId";
+    private static final String INSERT_ACCOUNT_ID =
+        "INSERT INTO user_account_ids (user_id, account_id) VALUES (:userId, :accountId)";
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveUserRepositoryAdapter(DatabaseClient databaseClient) {
+        this.databaseClient = Objects.requireNonNull(databaseClient);
+    }
+
+    @Override
+    public Mono<User> findById(UserId userId) {
+        return databaseClient.sql(SELECT_USER)
+                .bind("id", userId.getValue())
+                .map(row -> new User(
+                    UserId.fromString(row.get("id", String.class)),
+                    row.get("name", String.class),
+                    Email.of(row.get("email", String.class))))
+                .one()
+                .flatMap(user -> databaseClient.sql(SELECT_ACCOUNT_IDS)
+                    .bind("userId", userId.getValue())
+                    .map(row -> row.get("account_id", String.class))
+                    .all()
+                    .doOnNext(user::addAccount)
+                    .then(Mono.just(user)));
+    }
+
+    @Override
+    public Mono<Boolean> existsByEmail(Email email) {
+        return databaseClient.sql(COUNT_BY_EMAIL)
+                .bind("email", email.getValue())
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .map(count -> count > 0);
+    }
+
+    /**
+     * Actualiza el usuario o, si no existe, lo inserta; después sustituye sus cuentas vinculadas
+     */
+    @Override
+    public Mono<User> save(User user) {
+        String id = user.getId().getValue();
+        Mono<Long> upsert = databaseClient.sql(UPDATE_USER)
+                .bind("name", user.getName())
+                .bind("email", user.getEmail().getValue())
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated()
+                .flatMap(updated -> updated > 0 ? Mono.just(updated) : databaseClient.sql(INSERT_USER)
+                    .bind("id", id)
+                    .bind("name", user.getName())
+                    .bind("email", user.getEmail().getValue())
+                    .fetch()
+                    .rowsUpdated());
+        Mono<Long> replaceAccounts = databaseClient.sql(DELETE_ACCOUNT_IDS)
+                .bind("userId", id)
+                .fetch()
+                .rowsUpdated()
+                .thenMany(Flux.fromIterable(user.getAccountIds()))
+                .concatMap(accountId -> databaseClient.sql(INSERT_ACCOUNT_ID)
+                    .bind("userId", id)
+                    .bind("accountId", accountId)
+                    .fetch()
+                    .rowsUpdated())
+                .count();
+        return upsert.then(replaceAccounts).thenReturn(user);
+    }
+}
@@ -0,0 +1,92 @@
+package com.versebank.users.infrastructure.web;
+
+import com.versebank.accounts.application.port.in.AccountSummary;
+import com.versebank.accounts.application.port.in.ReactiveAccountQueryPort;
+import com.versebank.accounts.infrastructure.web.stream.JsonStreamingBody;
+import com.versebank.users.application.ReactiveUserService;
+import com.versebank.users.domain.UserId;
+import com.versebank.users.domain.exceptions.UserAlreadyExistsException;
+import com.versebank.users.infrastructure.web.dto.CreateUserRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.Objects;
+
+/**
+ * Manejadores WebFlux con las mismas rutas y respuestas que {@link UserController}
+ */
+public class ReactiveUserHandler {
+
+    private static final String BASE_PATH = "/api/users";
+
+    private final ReactiveUserService userService;
+    private final ReactiveAccountQueryPort accountQueryPort;
+
+    public ReactiveUserHandler(ReactiveUserService userService, ReactiveAccountQueryPort accountQueryPort) {
+        this.userService = Objects.requireNonNull(userService);
+        this.accountQueryPort = Objects.requireNonNull(accountQueryPort);
+    }
+
+    public RouterFunction<ServerResponse> routes() {
+        return RouterFunctions.route()
+            .POST(BASE_PATH, this::createUser)
+            .GET(BASE_PATH + "/{userId}", this::getUser)
+            .POST(BASE_PATH + "/{userId}/link-account/{accountId}", this::linkAccount)
+            .DELETE(BASE_PATH + "/{userId}/link-account/{accountId}", this::unlinkAccount)
+            .GET(BASE_PATH + "/{userId}/accounts", this::getUserAccounts)
+            .build();
+    }
+
+    Mono<ServerResponse> createUser(ServerRequest request) {
+        return request.bodyToMono(CreateUserRequest.class)
+            .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("Request body is required")))
+            .flatMap(body -> userService.createUser(body.getName(), body.getEmail()))
+            .flatMap(userId -> ServerResponse.created(URI.create(BASE_PATH + "/" + userId.getValue()))
+                .contentType(MediaType.TEXT_PLAIN)
+                .bodyValue(userId.getValue()))
+            .onErrorResume(UserAlreadyExistsException.class, e -> text(HttpStatus.BAD_REQUEST, e.getMessage()))
+            .onErrorResume(IllegalArgumentException.class, e -> text(HttpStatus.BAD_REQUEST, "Invalid input: " + e.getMessage()));
+    }
+
+    Mono<ServerResponse> getUser(ServerRequest request) {
+        return userService.getUserWithAccounts(UserId.fromString(request.pathVariable("userId")))
+            .flatMap(user -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(user))
+            .switchIfEmpty(Mono.defer(() -> ServerResponse.notFound().build()));
+    }
+
+    Mono<ServerResponse> linkAccount(ServerRequest request) {
+        return userService.linkAccountToUser(UserId.fromString(request.pathVariable("userId")), request.pathVariable("accountId"))
+            .then(text(HttpStatus.OK, "Account linked successfully"))
+            .onErrorResume(IllegalArgumentException.class, e -> text(HttpStatus.BAD_REQUEST, e.getMessage()));
+    }
+
+    Mono<ServerResponse> unlinkAccount(ServerRequest request) {
+        return userService.unlinkAccountFromUser(UserId.fromString(request.pathVariable("userId")), request.pathVariable("accountId"))
+            .then(text(HttpStatus.OK, "Account unlinked successfully"))
+            .onErrorResume(IllegalArgumentException.class, e -> text(HttpStatus.BAD_REQUEST, e.getMessage()));
+    }
+
+    /**
+     * Cuentas del usuario escritas a medida que se leen: un array JSON o, con {@code Accept: application/x-ndjson},
+     * una cuenta por línea
+     */
+    Mono<ServerResponse> getUserAccounts(ServerRequest request) {
+        String userId = request.pathVariable("userId");
+        JsonStreamingBody.Format format = JsonStreamingBody.Format.negotiate(request.headers().firstHeader(HttpHeaders.ACCEPT));
+        return userService.getUser(UserId.fromString(userId))
+            .flatMap(user -> ServerResponse.ok().contentType(format.mediaType())
+                .body(accountQueryPort.findAccountsByCustomerId(userId), AccountSummary.class))
+            .switchIfEmpty(Mono.defer(() -> ServerResponse.notFound().build()));
+    }
+
+    private static Mono<ServerResponse> text(HttpStatus status, String body) {
+        return ServerResponse.status(status).contentType(MediaType.TEXT_PLAIN).bodyValue(body);
+    }
+}
@@ -2,29 +2,38 @@ package com.versebank.users.infrastructure.web;
 
 import com.versebank.accounts.application.port.in.AccountQueryPort;
 import com.versebank.accounts.application.port.in.AccountSummary;
+import com.versebank.accounts.infrastructure.web.stream.JsonStreamingBody;
 import com.versebank.users.application.UserService;
 import com.versebank.users.domain.User;
 import com.versebank.users.domain.UserId;
 import com.versebank.users.domain.exceptions.UserAlreadyExistsException;
 import com.versebank.users.infrastructure.web.dto.CreateUserRequest;
 import com.versebank.users.infrastructure.web.dto.UserResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
-import java.util.List;
-import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/users")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class UserController {
 
+    // Cuentas serializadas entre dos envíos al cliente
+    static final int STREAM_FLUSH_EVERY = 100;
+
     private final UserService userService;
     private final AccountQueryPort accountQueryPort;
+    private final ObjectMapper objectMapper;
 
-    public UserController(UserService userService, AccountQueryPort accountQueryPort) {
+    public UserController(UserService userService, AccountQueryPort accountQueryPort, ObjectMapper objectMapper) {
         this.userService = userService;
         this.accountQueryPort = accountQueryPort;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
@@ -67,10 +76,19 @@ public class UserController {
         }
     }
 
+    /**
+     * Cuentas del usuario leídas de un cursor y escritas a medida que llegan: un array JSON por trozos o,
+     * con {@code Accept: application/x-ndjson}, una cuenta por línea
+     */
     @GetMapping("/{userId}/accounts")
-    public ResponseEntity<List<AccountSummary>> getUserAccounts(@PathVariable String userId) {
-        return userService.getUser(UserId.fromString(userId))
-                .map(user -> ResponseEntity.ok(accountQueryPort.findAccountsByCustomerId(userId)))
-                .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<StreamingResponseBody> getUserAccounts(@PathVariable String userId,
+                                                                 @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        if (userService.getUser(UserId.fromString(userId)).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        JsonStreamingBody<AccountSummary> body = new JsonStreamingBody<>(objectMapper,
+                JsonStreamingBody.Format.negotiate(accept), STREAM_FLUSH_EVERY,
+                sink -> accountQueryPort.forEachAccountByCustomerId(userId, sink::accept));
+        return ResponseEntity.ok().contentType(body.mediaType()).body(body);
     }
 }
@@ -0,0 +1,69 @@
+package com.versebank.accounts.application;
+
+import com.versebank.accounts.application.port.in.AccountBatch;
+import com.versebank.accounts.application.port.in.AccountSummary;
+import com.versebank.accounts.application.port.out.AccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for AccountQueryService
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AccountQueryService Tests")
+class AccountQueryServiceTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    private AccountQueryService accountQueryService;
+
+    @BeforeEach
+    void setUp() {
+        accountQueryService = new AccountQueryService(accountRepository);
+    }
+
+    @Test
+    @DisplayName("Should load several accounts at once keeping the requested order")
+    void shouldFindByAccountIdsInRequestedOrder() {
+        // Given: el repositorio las devuelve en otro orden
+        when(accountRepository.findSummariesById(anyCollection())).thenReturn(List.of(summary("acc-1"), summary("acc-3")));
+
+        // When
+        AccountBatch batch = accountQueryService.findByAccountIds(List.of("acc-3", "acc-2", "acc-1", "acc-3"));
+
+        // Then
+        assertThat(batch.accounts()).extracting(AccountSummary::getAccountId).containsExactly("acc-3", "acc-1");
+        assertThat(batch.missingIds()).containsExactly("acc-2");
+        verify(accountRepository).findSummariesById(argThat(ids -> Set.copyOf(ids).equals(Set.of("acc-1", "acc-2", "acc-3")) && ids.size() == 3));
+        verify(accountRepository, never()).findById(anyString());
+    }
+
+    @Test
+    @DisplayName("Should not query the repository for an empty id list")
+    void shouldReturnEmptyBatchForNoIds() {
+        // When
+        AccountBatch batch = accountQueryService.findByAccountIds(List.of());
+
+        // Then
+        assertThat(batch.accounts()).isEmpty();
+        assertThat(batch.missingIds()).isEmpty();
+        verifyNoInteractions(accountRepository);
+    }
+
+    private static AccountSummary summary(String id) {
+        return new AccountSummary(id, "customer-1", "CHECKING", BigDecimal.valueOf(100));
+    }
+}
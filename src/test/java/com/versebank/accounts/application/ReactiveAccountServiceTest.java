@@ -0,0 +1,199 @@
+package com.versebank.accounts.application;
+
+import com.versebank.accounts.application.port.in.AccountBatch;
+import com.versebank.accounts.application.port.in.AccountSummary;
+import com.versebank.accounts.application.port.in.OperationResult;
+import com.versebank.accounts.application.port.out.DomainEventPublisher;
+import com.versebank.accounts.application.port.out.ReactiveAccountRepository;
+import com.versebank.accounts.application.port.out.ReactiveAccountRepository.Versioned;
+import com.versebank.accounts.application.port.out.ReactiveNotificationPort;
+import com.versebank.accounts.domain.Account;
+import com.versebank.accounts.domain.AccountId;
+import com.versebank.accounts.domain.valueobjects.Balance;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.versebank.accounts.domain.valueobjects.AccountType.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for ReactiveAccountService
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveAccountService Tests")
+class ReactiveAccountServiceTest {
+
+    @Mock
+    private ReactiveAccountRepository accountRepository;
+
+    @Mock
+    private ReactiveNotificationPort notificationPort;
+
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    private ReactiveAccountService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        lenient().when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(notificationPort.notifyAccountOperation(anyString(), anyString(), anyString())).thenReturn(Mono.empty());
+        service = new ReactiveAccountService(accountRepository, notificationPort, eventPublisher, transactionalOperator, 2);
+    }
+
+    @Test
+    @DisplayName("Should transfer with the versions read and notify both accounts")
+    void shouldTransferAndNotify() {
+        // Given
+        when(accountRepository.findById("acc-1")).thenReturn(Mono.just(new Versioned(account("acc-1", 1000), 4)));
+        when(accountRepository.findById("acc-2")).thenReturn(Mono.just(new Versioned(account("acc-2", 500), 7)));
+        when(accountRepository.update(any(), anyLong())).thenReturn(Mono.empty());
+
+        // When
+        OperationResult result = service.transferMoney("acc-1", "acc-2", BigDecimal.valueOf(300), "Rent").block();
+
+        // Then
+        assertThat(result.isSuccess()).isTrue();
+        ArgumentCaptor<Account> saved = ArgumentCaptor.forClass(Account.class);
+        verify(accountRepository).update(saved.capture(), eq(4L));
+        verify(accountRepository).update(saved.capture(), eq(7L));
+        assertThat(saved.getAllValues().get(0).getBalance().getAmount()).isEqualByComparingTo("700");
+        assertThat(saved.getAllValues().get(1).getBalance().getAmount()).isEqualByComparingTo("800");
+        verify(eventPublisher, times(2)).publishPending(any(Account.class));
+        verify(notificationPort).notifyAccountOperation(eq("acc-1"), eq("TRANSFER_OUT"), contains("to account acc-2"));
+        verify(notificationPort).notifyAccountOperation(eq("acc-2"), eq("TRANSFER_IN"), contains("from account acc-1"));
+    }
+
+    @Test
+    @DisplayName("Should write notifications inside the transaction and publish events after it commits")
+    @SuppressWarnings("unchecked")
+    void shouldNotifyInsideTransactionAndPublishAfterCommit() {
+        // Given: la transacción simulada marca la confirmación antes de emitir el resultado
+        AtomicBoolean committed = new AtomicBoolean();
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation ->
+            invocation.<Mono<Object>>getArgument(0).delayUntil(outcome -> Mono.fromRunnable(() -> committed.set(true))));
+        List<Boolean> notifiedCommitted = new CopyOnWriteArrayList<>();
+        when(notificationPort.notifyAccountOperation(anyString(), anyString(), anyString()))
+            .thenReturn(Mono.fromRunnable(() -> notifiedCommitted.add(committed.get())));
+        List<Boolean> publishedCommitted = new CopyOnWriteArrayList<>();
+        when(eventPublisher.publishPending(any(Account.class))).thenAnswer(invocation -> {
+            publishedCommitted.add(committed.get());
+            return 1;
+        });
+        when(accountRepository.findById("acc-1")).thenReturn(Mono.just(new Versioned(account("acc-1", 1000), 0)));
+        when(accountRepository.findById("acc-2")).thenReturn(Mono.just(new Versioned(account("acc-2", 500), 0)));
+        when(accountRepository.update(any(), anyLong())).thenReturn(Mono.empty());
+
+        // When
+        service.transferMoney("acc-1", "acc-2", BigDecimal.valueOf(300), "Rent").block();
+
+        // Then
+        assertThat(notifiedCommitted).containsExactly(false, false);
+        assertThat(publishedCommitted).containsExactly(true, true);
+    }
+
+    @Test
+    @DisplayName("Should reject insufficient funds as a result, without saving or notifying")
+    void shouldRejectInsufficientFunds() {
+        // Given
+        when(accountRepository.findById("acc-1")).thenReturn(Mono.just(new Versioned(account("acc-1", 100), 0)));
+        when(accountRepository.findById("acc-2")).thenReturn(Mono.just(new Versioned(account("acc-2", 500), 0)));
+
+        // When
+        OperationResult result = service.transferMoney("acc-1", "acc-2", BigDecimal.valueOf(300), "Rent").block();
+
+        // Then
+        assertThat(result.status()).isEqualTo(OperationResult.Status.INSUFFICIENT_FUNDS);
+        verify(accountRepository, never()).update(any(), anyLong());
+        verifyNoInteractions(notificationPort, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should report a missing account with the same message as the blocking service")
+    void shouldReportMissingAccount() {
+        // Given
+        when(accountRepository.findById("missing")).thenReturn(Mono.empty());
+
+        // When
+        OperationResult result = service.depositMoney("missing", BigDecimal.TEN, "Cash").block();
+
+        // Then
+        assertThat(result.status()).isEqualTo(OperationResult.Status.ACCOUNT_NOT_FOUND);
+        assertThat(result.message()).isEqualTo("Account not found: missing");
+        verify(accountRepository, never()).update(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should re-read and retry when the account changed between read and update")
+    void shouldRetryOnVersionConflict() {
+        // Given: cada lectura devuelve una cuenta nueva con la versión actual
+        when(accountRepository.findById("acc-1")).thenAnswer(invocation -> Mono.just(new Versioned(account("acc-1", 1000), 1)))
+            .thenAnswer(invocation -> Mono.just(new Versioned(account("acc-1", 1200), 2)));
+        when(accountRepository.update(any(), anyLong()))
+            .thenReturn(Mono.error(new OptimisticLockingFailureException("conflict")))
+            .thenReturn(Mono.empty());
+
+        // When
+        service.depositMoney("acc-1", BigDecimal.TEN, "Cash").block();
+
+        // Then
+        ArgumentCaptor<Account> saved = ArgumentCaptor.forClass(Account.class);
+        verify(accountRepository).update(saved.capture(), eq(2L));
+        assertThat(saved.getValue().getBalance().getAmount()).isEqualByComparingTo("1210");
+        verify(notificationPort, times(1)).notifyAccountOperation(eq("acc-1"), eq("DEPOSIT"), anyString());
+    }
+
+    @Test
+    @DisplayName("Should give up after the configured retries and not notify")
+    void shouldGiveUpAfterRetries() {
+        // Given
+        when(accountRepository.findById("acc-1")).thenAnswer(invocation -> Mono.just(new Versioned(account("acc-1", 1000), 1)));
+        when(accountRepository.update(any(), anyLong())).thenReturn(Mono.error(new OptimisticLockingFailureException("conflict")));
+
+        // When / Then
+        assertThatThrownBy(() -> service.withdrawMoney("acc-1", BigDecimal.TEN, "Cash").block())
+            .isInstanceOf(OptimisticLockingFailureException.class);
+        verify(accountRepository, times(3)).findById("acc-1");
+        verifyNoInteractions(notificationPort, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should return batch results in request order with the missing ids")
+    void shouldBuildBatchInRequestOrder() {
+        // Given
+        when(accountRepository.findSummariesById(any())).thenReturn(Flux.just(
+            new AccountSummary("acc-2", "c", "SAVINGS", BigDecimal.ONE),
+            new AccountSummary("acc-1", "c", "SAVINGS", BigDecimal.TEN)));
+
+        // When
+        AccountBatch batch = service.findByAccountIds(List.of("acc-1", "missing", "acc-2", "acc-1")).block();
+
+        // Then
+        assertThat(batch.accounts()).extracting(AccountSummary::getAccountId).containsExactly("acc-1", "acc-2");
+        assertThat(batch.missingIds()).containsExactly("missing");
+    }
+
+    private static Account account(String id, long balance) {
+        return new Account(AccountId.of(id), "customer-" + id, SAVINGS, Balance.of(BigDecimal.valueOf(balance)));
+    }
+}
@@ -1,23 +1,26 @@
 package com.versebank.accounts.application;
 
 import com.versebank.accounts.application.port.in.AccountSummary;
+import com.versebank.accounts.application.port.in.OperationResult;
 import com.versebank.accounts.application.port.out.AccountRepository;
+import com.versebank.accounts.application.port.out.DomainEventPublisher;
 import com.versebank.accounts.application.port.out.NotificationPort;
 import com.versebank.accounts.domain.Account;
 import com.versebank.accounts.domain.AccountId;
-import org.springframework.context.ApplicationEventPublisher;
 import com.versebank.accounts.domain.valueobjects.AccountType;
 import com.versebank.accounts.domain.valueobjects.Balance;
 import com.versebank.accounts.domain.valueobjects.Transaction;
-import com.versebank.accounts.domain.exceptions.InsufficientFundsException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.math.BigDecimal;
 import java.util.Optional;
@@ -43,7 +46,7 @@ class TransferMoneyServiceTest {
     private NotificationPort notificationPort;
     
     @Mock
-    private ApplicationEventPublisher eventPublisher;
+    private DomainEventPublisher eventPublisher;
     
     private TransferMoneyService transferMoneyService;
     
@@ -54,7 +57,7 @@ class TransferMoneyServiceTest {
     
     @BeforeEach
     void setUp() {
-        transferMoneyService = new TransferMoneyService(accountRepository, notificationPort, eventPublisher);
+        transferMoneyService = new TransferMoneyService(accountRepository, notificationPort, eventPublisher, TransactionOperations.withoutTransaction());
         
         sourceAccountId = AccountId.of("source-account-123");
         targetAccountId = AccountId.of("target-account-456");
@@ -65,7 +68,7 @@ class TransferMoneyServiceTest {
     
     @Test
     @DisplayName("Should transfer money successfully")
-    void shouldTransferMoneySuccessfully() throws InsufficientFundsException {
+    void shouldTransferMoneySuccessfully() {
         // Given
         BigDecimal transferAmount = BigDecimal.valueOf(300);
         String description = "Payment for services";
@@ -74,7 +77,7 @@ class TransferMoneyServiceTest {
         when(accountRepository.findById("target-account-456")).thenReturn(Optional.of(targetAccount));
         
         // When
-        transferMoneyService.transferMoney(
+        OperationResult result = transferMoneyService.transferMoney(
             "source-account-123", 
             "target-account-456", 
             transferAmount, 
@@ -82,6 +85,7 @@ class TransferMoneyServiceTest {
         );
         
         // Then
+        assertThat(result.isSuccess()).isTrue();
         // Verify repository calls
         verify(accountRepository, times(2)).findById(anyString());
         verify(accountRepository, times(2)).save(any(Account.class));
@@ -106,18 +110,65 @@ class TransferMoneyServiceTest {
     }
     
     @Test
-    @DisplayName("Should throw exception when source account not found")
-    void shouldThrowExceptionWhenSourceAccountNotFound() {
+    @DisplayName("Should notify inside the transaction and publish events only after it commits")
+    void shouldPublishAfterCommit() {
+        // Given: una transacción que registra cuándo se confirma
+        TransactionOperations transactions = mock(TransactionOperations.class);
+        Runnable commit = mock(Runnable.class);
+        when(transactions.execute(any())).thenAnswer(invocation -> {
+            Object result = invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null);
+            commit.run();
+            return result;
+        });
+        transferMoneyService = new TransferMoneyService(accountRepository, notificationPort, eventPublisher, transactions);
+        when(accountRepository.findById("source-account-123")).thenReturn(Optional.of(sourceAccount));
+        when(accountRepository.findById("target-account-456")).thenReturn(Optional.of(targetAccount));
+        
+        // When
+        transferMoneyService.transferMoney("source-account-123", "target-account-456", BigDecimal.valueOf(100), "Ordered");
+        
+        // Then
+        InOrder order = inOrder(accountRepository, commit, eventPublisher, notificationPort);
+        order.verify(accountRepository).save(sourceAccount);
+        order.verify(accountRepository).save(targetAccount);
+        order.verify(notificationPort, times(2)).notifyAccountOperation(anyString(), anyString(), anyString());
+        order.verify(commit).run();
+        order.verify(eventPublisher).publishPending(sourceAccount);
+        order.verify(eventPublisher).publishPending(targetAccount);
+    }
+    
+    @Test
+    @DisplayName("Should reject a transfer to the same account as an invalid request, not as insufficient funds")
+    void shouldRejectSelfTransferAsInvalidRequest() {
+        // Given
+        when(accountRepository.findById("source-account-123")).thenReturn(Optional.of(sourceAccount));
+        
+        // When
+        OperationResult result = transferMoneyService.transferMoney("source-account-123", "source-account-123",
+            BigDecimal.valueOf(100), "To myself");
+        
+        // Then
+        assertThat(result.status()).isEqualTo(OperationResult.Status.INVALID_REQUEST);
+        assertThat(result.message()).isEqualTo("Source and target accounts must be different");
+        verify(accountRepository, never()).save(any(Account.class));
+        verify(notificationPort, never()).notifyAccountOperation(any(), any(), any());
+    }
+    
+    @Test
+    @DisplayName("Should reject transfer when source account not found")
+    void shouldRejectTransferWhenSourceAccountNotFound() {
         // Given
         BigDecimal amount = BigDecimal.valueOf(100);
         String description = "Test transfer";
         
         when(accountRepository.findById("non-existent-account")).thenReturn(Optional.empty());
         
-        // When & Then
-        assertThatThrownBy(() -> 
-            transferMoneyService.transferMoney("non-existent-account", "target-account-456", amount, description)
-        ).isInstanceOf(IllegalArgumentException.class);
+        // When
+        OperationResult result = transferMoneyService.transferMoney("non-existent-account", "target-account-456", amount, description);
+        
+        // Then
+        assertThat(result.status()).isEqualTo(OperationResult.Status.ACCOUNT_NOT_FOUND);
+        assertThat(result.message()).isEqualTo("Source account not found: non-existent-account");
         
         // Verify no repository saves occurred
         verify(accountRepository, never()).save(any(Account.class));
@@ -125,8 +176,8 @@ class TransferMoneyServiceTest {
     }
     
     @Test
-    @DisplayName("Should throw exception when target account not found")
-    void shouldThrowExceptionWhenTargetAccountNotFound() {
+    @DisplayName("Should reject transfer when target account not found")
+    void shouldRejectTransferWhenTargetAccountNotFound() {
         // Given
         BigDecimal amount = BigDecimal.valueOf(100);
         String description = "Test transfer";
@@ -134,16 +185,38 @@ class TransferMoneyServiceTest {
         when(accountRepository.findById("source-account-123")).thenReturn(Optional.of(sourceAccount));
         when(accountRepository.findById("non-existent-account")).thenReturn(Optional.empty());
         
-        // When & Then
-        assertThatThrownBy(() -> 
-            transferMoneyService.transferMoney("source-account-123", "non-existent-account", amount, description)
-        ).isInstanceOf(IllegalArgumentException.class);
+        // When
+        OperationResult result = transferMoneyService.transferMoney("source-account-123", "non-existent-account", amount, description);
+        
+        // Then
+        assertThat(result.status()).isEqualTo(OperationResult.Status.ACCOUNT_NOT_FOUND);
+        assertThat(result.message()).isEqualTo("Target account not found: non-existent-account");
         
         // Verify no repository saves occurred
         verify(accountRepository, never()).save(any(Account.class));
         verify(notificationPort, never()).notifyAccountOperation(any(), any(), any());
     }
     
+    @Test
+    @DisplayName("Should reject transfer without balance for amount and fee, leaving both accounts untouched")
+    void shouldRejectTransferWithInsufficientFunds() {
+        // Given
+        when(accountRepository.findById("source-account-123")).thenReturn(Optional.of(sourceAccount));
+        when(accountRepository.findById("target-account-456")).thenReturn(Optional.of(targetAccount));
+        
+        // When
+        OperationResult result = transferMoneyService.transferMoney(
+            "source-account-123", "target-account-456", BigDecimal.valueOf(5000), "Too much");
+        
+        // Then
+        assertThat(result.status()).isEqualTo(OperationResult.Status.INSUFFICIENT_FUNDS);
+        assertThat(sourceAccount.getBalance()).isEqualTo(Balance.of(BigDecimal.valueOf(1000)));
+        assertThat(targetAccount.getBalance()).isEqualTo(Balance.of(BigDecimal.valueOf(500)));
+        verify(accountRepository, never()).save(any(Account.class));
+        verify(eventPublisher, never()).publishPending(any());
+        verify(notificationPort, never()).notifyAccountOperation(any(), any(), any());
+    }
+    
     @Test
     @DisplayName("Should deposit money successfully")
     void shouldDepositMoneySuccessfully() {
@@ -176,8 +249,8 @@ class TransferMoneyServiceTest {
     }
     
     @Test
-    @DisplayName("Should throw exception when depositing to non-existent account")
-    void shouldThrowExceptionWhenDepositingToNonExistentAccount() {
+    @DisplayName("Should reject deposit to non-existent account")
+    void shouldRejectDepositToNonExistentAccount() {
         // Given
         String accountId = "non-existent-account";
         BigDecimal amount = BigDecimal.valueOf(100);
@@ -185,10 +258,11 @@ class TransferMoneyServiceTest {
         
         when(accountRepository.findById(accountId)).thenReturn(Optional.empty());
         
-        // When & Then
-        assertThatThrownBy(() -> 
-            transferMoneyService.depositMoney(accountId, amount, description)
-        ).isInstanceOf(IllegalArgumentException.class);
+        // When
+        OperationResult result = transferMoneyService.depositMoney(accountId, amount, description);
+        
+        // Then
+        assertThat(result.status()).isEqualTo(OperationResult.Status.ACCOUNT_NOT_FOUND);
         
         verify(accountRepository, never()).save(any(Account.class));
         verify(notificationPort, never()).notifyAccountOperation(any(), any(), any());
@@ -196,7 +270,7 @@ class TransferMoneyServiceTest {
     
     @Test
     @DisplayName("Should withdraw money successfully")
-    void shouldWithdrawMoneySuccessfully() throws InsufficientFundsException {
+    void shouldWithdrawMoneySuccessfully() {
         // Given
         String accountId = "account-123";
         BigDecimal withdrawalAmount = BigDecimal.valueOf(200);
@@ -226,7 +300,7 @@ class TransferMoneyServiceTest {
     }
     
     @Test
-    void shouldThrowExceptionWhenWithdrawingFromNonExistentAccount() {
+    void shouldRejectWithdrawalFromNonExistentAccount() {
         // Given
         String accountId = "non-existent-account";
         BigDecimal amount = BigDecimal.valueOf(100);
@@ -234,17 +308,18 @@ class TransferMoneyServiceTest {
         
         when(accountRepository.findById(accountId)).thenReturn(Optional.empty());
         
-        // When & Then
-        assertThatThrownBy(() -> 
-            transferMoneyService.withdrawMoney(accountId, amount, description)
-        ).isInstanceOf(IllegalArgumentException.class);
+        // When
+        OperationResult result = transferMoneyService.withdrawMoney(accountId, amount, description);
+        
+        // Then
+        assertThat(result.status()).isEqualTo(OperationResult.Status.ACCOUNT_NOT_FOUND);
         
         verify(accountRepository, never()).save(any(Account.class));
         verify(notificationPort, never()).notifyAccountOperation(any(), any(), any());
     }
     
     @Test
-    void shouldThrowInsufficientFundsExceptionWhenWithdrawing() throws InsufficientFundsException {
+    void shouldRejectWithdrawalWithInsufficientFunds() {
         // Given
         String accountId = "account-123";
         BigDecimal largeAmount = BigDecimal.valueOf(2000); // More than available balance
@@ -254,10 +329,12 @@ class TransferMoneyServiceTest {
         
         when(accountRepository.findById(accountId)).thenReturn(Optional.of(account));
         
-        // When & Then
-        assertThatThrownBy(() -> 
-            transferMoneyService.withdrawMoney(accountId, largeAmount, description)
-        ).isInstanceOf(InsufficientFundsException.class);
+        // When
+        OperationResult result = transferMoneyService.withdrawMoney(accountId, largeAmount, description);
+        
+        // Then
+        assertThat(result.status()).isEqualTo(OperationResult.Status.INSUFFICIENT_FUNDS);
+        assertThat(result.message()).isEqualTo("Insufficient funds for withdrawal");
         
         // Verify no changes occurred
         Balance originalBalance = Balance.of(BigDecimal.valueOf(1000));
@@ -323,20 +400,24 @@ class TransferMoneyServiceTest {
     void shouldHandleNullParametersInConstructor() {
         // When & Then
         assertThatThrownBy(() -> 
-            new TransferMoneyService(null, notificationPort, eventPublisher)
+            new TransferMoneyService(null, notificationPort, eventPublisher, TransactionOperations.withoutTransaction())
+        ).isInstanceOf(NullPointerException.class);
+        
+        assertThatThrownBy(() -> 
+            new TransferMoneyService(accountRepository, null, eventPublisher, TransactionOperations.withoutTransaction())
         ).isInstanceOf(NullPointerException.class);
         
         assertThatThrownBy(() -> 
-            new TransferMoneyService(accountRepository, null, eventPublisher)
+            new TransferMoneyService(accountRepository, notificationPort, null, TransactionOperations.withoutTransaction())
         ).isInstanceOf(NullPointerException.class);
         
         assertThatThrownBy(() -> 
-            new TransferMoneyService(accountRepository, notificationPort, null)
+            new TransferMoneyService(accountRepository, notificationPort, eventPublisher, null)
         ).isInstanceOf(NullPointerException.class);
     }
     
     @Test
-    void shouldSendCorrectNotificationsForTransfer() throws InsufficientFundsException {
+    void shouldSendCorrectNotificationsForTransfer() {
         // Given
         BigDecimal amount = BigDecimal.valueOf(150);
         String description = "Transfer test";
@@ -0,0 +1,86 @@
+package com.versebank.accounts.application.template;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Test suite for MessageTemplate
+ */
+@DisplayName("MessageTemplate Tests")
+class MessageTemplateTest {
+
+    @Test
+    @DisplayName("Should render placeholders in template order regardless of parameter order")
+    void shouldRenderPlaceholders() {
+        // Given
+        MessageTemplate template = MessageTemplate.compile("Transfer of {amount} to account {account} (fee: {fee})",
+            "account", "amount", "fee");
+
+        // When
+        String rendered = template.render("acc-002", new BigDecimal("100.50"), new BigDecimal("1.00"));
+
+        // Then
+        assertThat(rendered).isEqualTo("Transfer of 100.50 to account acc-002 (fee: 1.00)");
+    }
+
+    @Test
+    @DisplayName("Should render templates without placeholders, repeated placeholders and edge placeholders")
+    void shouldRenderEdgeCases() {
+        // Given
+        MessageTemplate constant = MessageTemplate.compile("No placeholders");
+        MessageTemplate repeated = MessageTemplate.compile("{a}-{a}", "a");
+        MessageTemplate edges = MessageTemplate.compile("{a}{b}", "a", "b");
+
+        // When & Then
+        assertThat(constant.render()).isEqualTo("No placeholders");
+        assertThat(repeated.render("x")).isEqualTo("x-x");
+        assertThat(edges.render("x", null)).isEqualTo("xnull");
+    }
+
+    @Test
+    @DisplayName("Should append to an existing builder")
+    void shouldAppendToBuilder() {
+        // Given
+        MessageTemplate template = MessageTemplate.compile("Deposit of {amount}", "amount");
+        StringBuilder out = new StringBuilder("Message: ");
+
+        // When
+        template.appendTo(out, 10).append('\n');
+
+        // Then
+        assertThat(out).hasToString("Message: Deposit of 10\n");
+    }
+
+    @Test
+    @DisplayName("Should not leak previous renders through the per-thread buffer")
+    void shouldReuseBufferSafely() {
+        // Given
+        MessageTemplate template = MessageTemplate.compile("[{value}]", "value");
+
+        // When
+        String large = template.render("x".repeat(10_000));
+        String small = template.render("y");
+
+        // Then
+        assertThat(large).hasSize(10_002);
+        assertThat(small).isEqualTo("[y]");
+    }
+
+    @Test
+    @DisplayName("Should reject unknown or unclosed placeholders and wrong argument counts")
+    void shouldRejectInvalidTemplates() {
+        // When & Then
+        assertThatThrownBy(() -> MessageTemplate.compile("Hello {name}", "user"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("{name}");
+        assertThatThrownBy(() -> MessageTemplate.compile("Hello {name", "name"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Unclosed");
+        assertThatThrownBy(() -> MessageTemplate.compile("Hello {name}", "name").render())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -346,6 +346,27 @@ class AccountDomainServiceTest {
         assertThat(interest).isEqualByComparingTo(BigDecimal.ZERO);
     }
     
+    @Test
+    void shouldCalculateDailyInterestInMinorUnits() {
+        // 2% anual sobre 100000.00 durante un día = 5.479... -> 5.48
+        assertThat(accountDomainService.calculateDailyInterest(10_000_000L)).isEqualTo(548L);
+        // 1000.00 -> 0.0547... -> 0.05
+        assertThat(accountDomainService.calculateDailyInterest(100_000L)).isEqualTo(5L);
+    }
+    
+    @Test
+    void shouldRoundDailyInterestHalfEven() {
+        // 91.25 -> 0.005 exacto, 273.75 -> 0.015 exacto
+        assertThat(accountDomainService.calculateDailyInterest(9_125L)).isEqualTo(0L);
+        assertThat(accountDomainService.calculateDailyInterest(27_375L)).isEqualTo(2L);
+    }
+    
+    @Test
+    void shouldNotAccrueDailyInterestOnNegativeOrZeroBalance() {
+        assertThat(accountDomainService.calculateDailyInterest(0L)).isZero();
+        assertThat(accountDomainService.calculateDailyInterest(-50_000L)).isZero();
+    }
+    
     @Test
     void shouldAllowOverdraftForCheckingAccount() {
         // Given
@@ -1,5 +1,6 @@
 package com.versebank.accounts.domain;
 
+import com.versebank.accounts.domain.events.DomainEvent;
 import com.versebank.accounts.domain.valueobjects.AccountType;
 import com.versebank.accounts.domain.valueobjects.Balance;
 import com.versebank.accounts.domain.valueobjects.Transaction;
@@ -8,6 +9,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
 import static com.versebank.accounts.domain.valueobjects.AccountType.*;
@@ -177,6 +180,36 @@ class AccountTest {
         assertThat(account.getBalance()).isEqualTo(initialBalance);
         assertThat(account.getTransactions()).isEmpty();
     }
+
+    @Test
+    void shouldRejectWithdrawalWithoutThrowingOrChangingState() {
+        // Given
+        Account account = new Account(accountId, customerId, accountType, initialBalance);
+        Transaction largeWithdrawal = Transaction.create(BigDecimal.valueOf(2000), "Large withdrawal", WITHDRAWAL);
+
+        // When
+        boolean withdrawn = account.tryWithdraw(largeWithdrawal);
+
+        // Then
+        assertThat(withdrawn).isFalse();
+        assertThat(account.getBalance()).isEqualTo(initialBalance);
+        assertThat(account.getTransactions()).isEmpty();
+        assertThat(account.hasDomainEvents()).isFalse();
+    }
+
+    @Test
+    void shouldThrowInsufficientFundsExceptionWithoutStackTrace() {
+        // Given
+        Account account = new Account(accountId, customerId, accountType, initialBalance);
+        Transaction largeWithdrawal = Transaction.create(BigDecimal.valueOf(2000), "Large withdrawal", WITHDRAWAL);
+
+        // When
+        Throwable thrown = catchThrowable(() -> account.withdraw(largeWithdrawal));
+
+        // Then
+        assertThat(thrown).isInstanceOf(InsufficientFundsException.class);
+        assertThat(thrown.getStackTrace()).isEmpty();
+    }
     
     @Test
     void shouldTransferMoneySuccessfully() throws InsufficientFundsException {
@@ -278,6 +311,66 @@ class AccountTest {
         assertThat(account.getDomainEvents()).isEmpty();
     }
     
+    @Test
+    void shouldExposePendingDomainEventsAsReadOnlyView() throws InsufficientFundsException {
+        // Given
+        Account account = new Account(accountId, customerId, accountType, initialBalance);
+        List<DomainEvent> pending = account.pendingDomainEvents();
+        
+        // When
+        account.deposit(Transaction.create(BigDecimal.valueOf(100), "Deposit", DEPOSIT));
+        account.withdraw(Transaction.create(BigDecimal.valueOf(50), "Withdrawal", WITHDRAWAL));
+        
+        // Then
+        assertThat(pending).extracting(DomainEvent::getEventType).containsExactly("MoneyDeposited", "MoneyWithdrawn");
+        assertThatThrownBy(pending::clear).isInstanceOf(UnsupportedOperationException.class);
+        account.clearDomainEvents();
+        assertThat(pending).isEmpty();
+    }
+    
+    @Test
+    void shouldDrainDomainEventsInOrderAndResetBuffer() throws InsufficientFundsException {
+        // Given
+        Account account = new Account(accountId, customerId, accountType, initialBalance);
+        account.deposit(Transaction.create(BigDecimal.valueOf(100), "Deposit", DEPOSIT));
+        account.withdraw(Transaction.create(BigDecimal.valueOf(50), "Withdrawal", WITHDRAWAL));
+        List<String> drained = new ArrayList<>();
+        
+        // When
+        int count = account.drainEvents(event -> drained.add(event.getEventType()));
+        
+        // Then
+        assertThat(count).isEqualTo(2);
+        assertThat(drained).containsExactly("MoneyDeposited", "MoneyWithdrawn");
+        assertThat(account.hasDomainEvents()).isFalse();
+        assertThat(account.drainEvents(event -> drained.add("unexpected"))).isZero();
+    }
+    
+    @Test
+    void shouldKeepDomainEventsWhenSinkFails() {
+        // Given
+        Account account = new Account(accountId, customerId, accountType, initialBalance);
+        account.deposit(Transaction.create(BigDecimal.valueOf(100), "Deposit", DEPOSIT));
+        
+        // When / Then
+        assertThatThrownBy(() -> account.drainEvents(event -> { throw new IllegalStateException("sink down"); }))
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(account.hasDomainEvents()).isTrue();
+        assertThatThrownBy(() -> account.drainEvents(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+    
+    @Test
+    void shouldChargeTransferFeeOnAmountNotBalance() {
+        // Given
+        Account businessAccount = new Account(accountId, customerId, BUSINESS, Balance.of(BigDecimal.valueOf(5000)));
+        
+        // When
+        BigDecimal fee = businessAccount.calculateTransferFee(BigDecimal.valueOf(200));
+        
+        // Then
+        assertThat(fee).isEqualByComparingTo(BigDecimal.valueOf(2));
+    }
+    
     @Test
     void shouldImplementEqualsAndHashCode() {
         // Given
@@ -0,0 +1,125 @@
+package com.versebank.accounts.domain.fees;
+
+import com.versebank.accounts.domain.valueobjects.AccountType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static com.versebank.accounts.domain.valueobjects.AccountType.*;
+
+/**
+ * Test suite for FeeSchedule compilation and evaluation
+ */
+@DisplayName("FeeSchedule Tests")
+class FeeScheduleTest {
+
+    @AfterEach
+    void tearDown() {
+        FeeSchedules.swap(FeeSchedule.defaultSchedule());
+    }
+
+    @Test
+    void shouldReproduceDefaultBusinessFee() {
+        // Given
+        FeeSchedule schedule = FeeSchedule.defaultSchedule();
+
+        // Then
+        assertThat(schedule.calculate(BUSINESS, BigDecimal.valueOf(500))).isEqualByComparingTo("5.00");
+        assertThat(schedule.calculate(BUSINESS, BigDecimal.valueOf(5000))).isEqualByComparingTo("10.00");
+        assertThat(schedule.calculate(CHECKING, BigDecimal.valueOf(5000))).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(schedule.calculate(SAVINGS, BigDecimal.valueOf(5000))).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    void shouldSelectTierByAmount() {
+        // Given
+        FeeSchedule schedule = FeeSchedule.compile(Map.of(CHECKING, List.of(
+            new FeeRule(null, new BigDecimal("0.5"), null, null, new BigDecimal("25")),
+            new FeeRule(new BigDecimal("100"), null, new BigDecimal("0.50"), null, null),
+            new FeeRule(new BigDecimal("1000"), new BigDecimal("1"), null, new BigDecimal("2"), null)
+        )));
+
+        // Then
+        assertThat(schedule.calculate(CHECKING, new BigDecimal("50"))).isEqualByComparingTo("0.50");
+        assertThat(schedule.calculate(CHECKING, new BigDecimal("100"))).isEqualByComparingTo("0.50");
+        assertThat(schedule.calculate(CHECKING, new BigDecimal("150"))).isEqualByComparingTo("2.00");
+        assertThat(schedule.calculate(CHECKING, new BigDecimal("1000"))).isEqualByComparingTo("10.00");
+        assertThat(schedule.calculate(CHECKING, new BigDecimal("2000"))).isEqualByComparingTo("10.00");
+        assertThat(schedule.calculate(CHECKING, new BigDecimal("100000"))).isEqualByComparingTo("25.00");
+    }
+
+    @Test
+    void shouldRoundHalfUpToCents() {
+        // Given
+        FeeSchedule schedule = FeeSchedule.compile(Map.of(BUSINESS, List.of(FeeRule.percentage(new BigDecimal("1.5"), null))));
+
+        // Then: 1.5% de 0.99 = 0.01485
+        assertThat(schedule.calculate(BUSINESS, new BigDecimal("0.99"))).isEqualByComparingTo("0.01");
+        // 1.5% de 1.00 = 0.015
+        assertThat(schedule.calculate(BUSINESS, new BigDecimal("1.00"))).isEqualByComparingTo("0.02");
+    }
+
+    @Test
+    void shouldNotOverflowForLargeAmounts() {
+        // Given
+        FeeSchedule schedule = FeeSchedule.compile(Map.of(BUSINESS, List.of(FeeRule.percentage(BigDecimal.TEN, null))));
+
+        // When
+        long fee = schedule.feeInMinorUnits(BUSINESS, Long.MAX_VALUE / 2);
+
+        // Then
+        assertThat(fee).isEqualTo(461_168_601_842_738_790L);
+    }
+
+    @Test
+    void shouldCalculateFeesInBulk() {
+        // Given
+        FeeSchedule schedule = FeeSchedule.defaultSchedule();
+        long[] amounts = {10_000, 100_000, 500_000, 0};
+        long[] fees = new long[amounts.length];
+
+        // When
+        schedule.feesInMinorUnits(BUSINESS, amounts, fees, amounts.length);
+
+        // Then
+        assertThat(fees).containsExactly(100, 1_000, 1_000, 0);
+    }
+
+    @Test
+    void shouldReturnZeroForNullInputs() {
+        FeeSchedule schedule = FeeSchedule.defaultSchedule();
+
+        assertThat(schedule.calculate(null, BigDecimal.TEN)).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(schedule.calculate(BUSINESS, null)).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    void shouldRejectInvalidRules() {
+        assertThatThrownBy(() -> FeeRule.percentage(new BigDecimal("101"), null))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new FeeRule(null, null, null, BigDecimal.TEN, BigDecimal.ONE))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FeeSchedule.compile(Map.of(BUSINESS, List.of(
+            FeeRule.percentage(BigDecimal.ONE, null), FeeRule.percentage(BigDecimal.TEN, null)))))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldSwapScheduleAtomically() {
+        // Given
+        FeeSchedule savingsFee = FeeSchedule.compile(Map.of(SAVINGS, List.of(FeeRule.percentage(BigDecimal.ONE, null))));
+
+        // When
+        FeeSchedule previous = FeeSchedules.swap(savingsFee);
+
+        // Then
+        assertThat(previous.calculate(SAVINGS, BigDecimal.valueOf(100))).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(AccountType.SAVINGS.calculateTransferFee(BigDecimal.valueOf(100))).isEqualByComparingTo("1.00");
+        assertThat(AccountType.BUSINESS.calculateTransferFee(BigDecimal.valueOf(100))).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+}
@@ -0,0 +1,170 @@
+package com.versebank.accounts.domain.monitoring;
+
+import com.versebank.accounts.domain.Account;
+import com.versebank.accounts.domain.events.DomainEvent;
+import com.versebank.accounts.domain.events.LargeTransactionDetectedEvent;
+import com.versebank.accounts.domain.events.MoneyDepositedEvent;
+import com.versebank.accounts.domain.events.VelocityLimitExceededEvent;
+import com.versebank.accounts.domain.valueobjects.Balance;
+import com.versebank.accounts.domain.valueobjects.Transaction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Map;
+
+import static com.versebank.accounts.domain.valueobjects.AccountType.*;
+import static com.versebank.accounts.domain.valueobjects.Transaction.TransactionType.DEPOSIT;
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Test suite for TransactionMonitor sliding windows and alerts
+ */
+@DisplayName("TransactionMonitor Tests")
+class TransactionMonitorTest {
+
+    // Ventana de 10 s en 10 intervalos de 1 s
+    private static final Duration WINDOW = Duration.ofSeconds(10);
+    private static final long T0 = 1_000_000L;
+
+    private final TransactionMonitor monitor = new TransactionMonitor(Map.of(
+        CHECKING, new TransactionThresholds(1_000_000, 3, 2_000_000),
+        BUSINESS, new TransactionThresholds(5_000_000, Long.MAX_VALUE, Long.MAX_VALUE)), WINDOW, 10);
+
+    @AfterEach
+    void tearDown() {
+        TransactionMonitors.use(TransactionMonitor.disabled());
+    }
+
+    @Test
+    void shouldFlagLargeTransactionsPerAccountType() {
+        // When / Then
+        assertThat(monitor.evaluate("acc-1", CHECKING, 999_999, T0)).isZero();
+        assertThat(monitor.evaluate("acc-1", CHECKING, 1_000_000, T0) & TransactionMonitor.LARGE_TRANSACTION).isNotZero();
+        assertThat(monitor.evaluate("acc-2", BUSINESS, 1_000_000, T0)).isZero();
+        assertThat(monitor.evaluate("acc-3", SAVINGS, Long.MAX_VALUE - 1, T0)).isZero();
+    }
+
+    @Test
+    void shouldFireVelocityAlertOnlyWhenCrossingThreshold() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            assertThat(monitor.evaluate("acc-1", CHECKING, 100, T0 + i)).isZero();
+        }
+
+        // When
+        int crossing = monitor.evaluate("acc-1", CHECKING, 100, T0 + 3);
+        int afterCrossing = monitor.evaluate("acc-1", CHECKING, 100, T0 + 4);
+
+        // Then
+        assertThat(crossing).isEqualTo(TransactionMonitor.VELOCITY_COUNT);
+        assertThat(afterCrossing).isZero();
+        assertThat(monitor.windowCount("acc-1", T0 + 4)).isEqualTo(5);
+        assertThat(monitor.windowAmount("acc-1", T0 + 4)).isEqualTo(500);
+    }
+
+    @Test
+    void shouldFireAmountAlertWhenWindowTotalExceedsThreshold() {
+        // When
+        int first = monitor.evaluate("acc-1", CHECKING, 1_500_000, T0);
+        int second = monitor.evaluate("acc-1", CHECKING, 600_000, T0 + 1_000);
+
+        // Then
+        assertThat(first).isEqualTo(TransactionMonitor.LARGE_TRANSACTION);
+        assertThat(second).isEqualTo(TransactionMonitor.VELOCITY_AMOUNT);
+    }
+
+    @Test
+    void shouldSlideWindowAndRearmAlerts() {
+        // Given
+        monitor.evaluate("acc-1", CHECKING, 100, T0);
+        monitor.evaluate("acc-1", CHECKING, 100, T0 + 5_000);
+
+        // Then: el primer intervalo sale de la ventana a los 10 s
+        assertThat(monitor.windowCount("acc-1", T0 + 9_999)).isEqualTo(2);
+        assertThat(monitor.windowCount("acc-1", T0 + 10_000)).isEqualTo(1);
+        assertThat(monitor.windowCount("acc-1", T0 + 60_000)).isZero();
+
+        // When: tras vaciarse la ventana, una nueva ráfaga vuelve a alertar
+        for (int i = 0; i < 3; i++) {
+            monitor.evaluate("acc-1", CHECKING, 100, T0 + 60_000);
+        }
+        assertThat(monitor.evaluate("acc-1", CHECKING, 100, T0 + 60_000)).isEqualTo(TransactionMonitor.VELOCITY_COUNT);
+    }
+
+    @Test
+    void shouldEvictIdleWindows() {
+        // Given
+        monitor.evaluate("acc-1", CHECKING, 100, T0);
+        monitor.evaluate("acc-2", CHECKING, 100, T0 + 8_000);
+
+        // When
+        int evicted = monitor.evictIdle(T0 + 10_000);
+
+        // Then
+        assertThat(evicted).isEqualTo(1);
+        assertThat(monitor.trackedAccounts()).isEqualTo(1);
+        assertThat(monitor.windowCount("acc-1", T0 + 10_000)).isZero();
+        assertThat(monitor.windowCount("acc-2", T0 + 10_000)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotTrackWindowsForAccountTypesWithoutVelocityLimits() {
+        // When
+        monitor.evaluate("acc-1", BUSINESS, 100, T0);
+        monitor.evaluate("acc-2", SAVINGS, 100, T0);
+
+        // Then
+        assertThat(monitor.trackedAccounts()).isZero();
+    }
+
+    @Test
+    void shouldNotAllocateOnceAccountWindowExists() {
+        // Given
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+        long threadId = Thread.currentThread().getId();
+        for (int i = 0; i < 20_000; i++) {
+            monitor.evaluate("acc-1", CHECKING, 100, T0 + i * 7L);
+        }
+
+        // When
+        long before = threads.getThreadAllocatedBytes(threadId);
+        long alerts = 0;
+        for (int i = 0; i < 100_000; i++) {
+            alerts += monitor.evaluate("acc-1", CHECKING, 100, T0 + i * 7L);
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        // Then: unos pocos bytes de ruido de la propia medición, nada proporcional a las evaluaciones
+        assertThat(alerts).isGreaterThanOrEqualTo(0);
+        assertThat(allocated).isLessThan(10_000);
+    }
+
+    @Test
+    void shouldEmitAlertEventsFromAccount() {
+        // Given
+        TransactionMonitors.use(new TransactionMonitor(Map.of(
+            CHECKING, new TransactionThresholds(100_000, 1, Long.MAX_VALUE)), WINDOW, 10));
+        Account account = Account.create("customer-1", CHECKING, Balance.of(BigDecimal.ZERO));
+
+        // When
+        account.deposit(Transaction.create(BigDecimal.valueOf(50), "small", DEPOSIT));
+        account.deposit(Transaction.create(BigDecimal.valueOf(1500), "large", DEPOSIT));
+
+        // Then
+        assertThat(account.getDomainEvents()).map(DomainEvent::getClass).containsExactly(
+            MoneyDepositedEvent.class,
+            MoneyDepositedEvent.class,
+            LargeTransactionDetectedEvent.class,
+            VelocityLimitExceededEvent.class);
+        VelocityLimitExceededEvent velocity = (VelocityLimitExceededEvent) account.getDomainEvents().get(3);
+        assertThat(velocity.getTransactionCount()).isEqualTo(2);
+        assertThat(velocity.getWindowAmount().getAmount()).isEqualByComparingTo("1550.00");
+    }
+}
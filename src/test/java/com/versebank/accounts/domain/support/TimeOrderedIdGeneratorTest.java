@@ -0,0 +1,120 @@
+package com.versebank.accounts.domain.support;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Test suite for TimeOrderedIdGenerator and DomainIds
+ */
+@DisplayName("TimeOrderedIdGenerator Tests")
+class TimeOrderedIdGeneratorTest {
+
+    private final TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator();
+
+    @AfterEach
+    void tearDown() {
+        DomainIds.use(new TimeOrderedIdGenerator());
+    }
+
+    @Test
+    void shouldGenerateVersion7Uuids() {
+        // When
+        UUID id = UUID.fromString(generator.nextId());
+
+        // Then
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldMatchCanonicalUuidFormat() {
+        // Given
+        UUID uuid = new UUID(0x0123456789abcdefL, 0xfedcba9876543210L);
+
+        // When
+        String formatted = TimeOrderedIdGenerator.format(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+
+        // Then
+        assertThat(formatted).isEqualTo(uuid.toString());
+    }
+
+    @Test
+    void shouldBeMonotonicWithinThread() {
+        // Given
+        List<String> ids = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 50_000; i++) {
+            ids.add(generator.nextId());
+        }
+
+        // Then
+        assertThat(ids).isSorted();
+        assertThat(new HashSet<>(ids)).hasSize(ids.size());
+    }
+
+    @Test
+    void shouldEmbedCurrentTimestamp() {
+        // Given
+        long before = System.currentTimeMillis();
+
+        // When
+        UUID id = generator.nextUuid();
+
+        // Then
+        long embeddedMillis = id.getMostSignificantBits() >>> 16;
+        assertThat(embeddedMillis).isBetween(before, System.currentTimeMillis() + 1);
+    }
+
+    @Test
+    void shouldGenerateUniqueIdsAcrossThreads() throws Exception {
+        // Given
+        int threads = 8;
+        int perThread = 20_000;
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // When
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        ids.add(generator.nextId());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        assertThat(ids).hasSize(threads * perThread);
+    }
+
+    @Test
+    void shouldAllowPluggingCustomGenerator() {
+        // Given
+        DomainIds.use(() -> "fixed-id");
+
+        // Then
+        assertThat(DomainIds.nextId()).isEqualTo("fixed-id");
+        assertThatThrownBy(() -> DomainIds.use(null)).isInstanceOf(NullPointerException.class);
+    }
+}
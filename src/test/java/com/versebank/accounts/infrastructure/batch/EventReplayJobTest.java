@@ -0,0 +1,242 @@
+package com.versebank.accounts.infrastructure.batch;
+
+import com.versebank.accounts.application.TransferMoneyService;
+import com.versebank.accounts.application.port.out.DomainEventHistory;
+import com.versebank.accounts.application.port.out.DomainEventPublisher;
+import com.versebank.accounts.application.port.out.NotificationPort;
+import com.versebank.accounts.domain.AccountId;
+import com.versebank.accounts.domain.events.DomainEvent;
+import com.versebank.accounts.domain.events.MoneyDepositedEvent;
+import com.versebank.accounts.domain.valueobjects.Balance;
+import com.versebank.accounts.infrastructure.events.codec.BinaryDomainEventCodec;
+import com.versebank.accounts.infrastructure.persistence.AccountJpaEntity;
+import com.versebank.accounts.infrastructure.persistence.AccountJpaRepository;
+import com.versebank.accounts.infrastructure.persistence.AccountRepositoryAdapter;
+import com.versebank.accounts.infrastructure.persistence.JdbcDomainEventStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.versebank.accounts.domain.valueobjects.AccountType.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for EventReplayJob partitioning, ordering, checkpointing and rebuilding from stored events
+ */
+@DisplayName("EventReplayJob Tests")
+class EventReplayJobTest {
+
+    private static final int ACCOUNTS = 1_050;
+    private static final int EVENTS_PER_ACCOUNT = 5;
+
+    private final TreeMap<String, List<DomainEvent>> store = new TreeMap<>();
+    private final DomainEventHistory history = new DomainEventHistory() {
+        @Override
+        public List<String> findEventStreamIdsAfter(String afterAccountId, int limit) {
+            return store.tailMap(afterAccountId, false).keySet().stream().limit(limit).toList();
+        }
+
+        @Override
+        public List<DomainEvent> getDomainEvents(String accountId) {
+            return store.getOrDefault(accountId, List.of());
+        }
+    };
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbc;
+    private RecordingProjection projection;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:replay-" + System.nanoTime(), "sa", "", true);
+        jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE batch_checkpoint (id VARCHAR(255) PRIMARY KEY, last_key VARCHAR(255), " +
+            "processed BIGINT NOT NULL, status VARCHAR(255) NOT NULL, updated_at TIMESTAMP NOT NULL)");
+
+        for (int i = 0; i < ACCOUNTS; i++) {
+            String accountId = String.format("acc-%05d", i);
+            List<DomainEvent> events = new ArrayList<>();
+            for (int n = 1; n <= EVENTS_PER_ACCOUNT; n++) {
+                events.add(new MoneyDepositedEvent(AccountId.of(accountId), Balance.of(BigDecimal.TEN), Balance.of(BigDecimal.valueOf(n * 10L))));
+            }
+            store.put(accountId, events);
+        }
+        projection = new RecordingProjection();
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.destroy();
+    }
+
+    @Test
+    void shouldReplayEveryAccountInOrderAcrossWorkers() {
+        // Given
+        EventReplayJob job = new EventReplayJob(history, List.of(projection), dataSource, 100, 4, 16);
+
+        // When
+        EventReplayReport report = job.run();
+
+        // Then
+        assertThat(report.accountsReplayed()).isEqualTo(ACCOUNTS);
+        assertThat(report.eventsReplayed()).isEqualTo((long) ACCOUNTS * EVENTS_PER_ACCOUNT);
+        assertThat(report.chunks()).isEqualTo(11);
+        assertThat(report.resumed()).isFalse();
+        assertThat(report.eventsPerSecond()).isPositive();
+        assertThat(projection.resets.get()).isEqualTo(1);
+        assertThat(projection.applied).hasSize(ACCOUNTS);
+        store.forEach((accountId, events) ->
+            assertThat(projection.applied.get(accountId)).containsExactlyElementsOf(events.stream().map(DomainEvent::getEventId).toList()));
+        // Cada cuenta se aplica en un único hilo
+        assertThat(projection.threads.values()).allSatisfy(threads -> assertThat(threads).hasSize(1));
+        assertThat(checkpoint()).containsEntry("STATUS", EventReplayJob.STATUS_COMPLETED).containsEntry("LAST_KEY", "acc-01049");
+    }
+
+    @Test
+    void shouldResumeAfterCheckpointWithoutResettingProjections() {
+        // Given
+        jdbc.update("INSERT INTO batch_checkpoint VALUES (?, 'acc-00299', 300, 'RUNNING', CURRENT_TIMESTAMP)", EventReplayJob.JOB_NAME);
+        EventReplayJob job = new EventReplayJob(history, List.of(projection), dataSource, 100, 2, 8);
+
+        // When
+        EventReplayReport report = job.run();
+
+        // Then
+        assertThat(report.resumed()).isTrue();
+        assertThat(report.resumedFrom()).isEqualTo("acc-00299");
+        assertThat(report.accountsReplayed()).isEqualTo(ACCOUNTS - 300);
+        assertThat(projection.resets.get()).isZero();
+        assertThat(projection.applied).doesNotContainKey("acc-00299").containsKey("acc-00300");
+        assertThat(checkpoint()).containsEntry("PROCESSED", (long) ACCOUNTS);
+    }
+
+    @Test
+    void shouldKeepLastContiguousCheckpointWhenProjectionFails() {
+        // Given
+        projection.failOn = "acc-00512";
+        EventReplayJob job = new EventReplayJob(history, List.of(projection), dataSource, 100, 4, 16);
+
+        // When / Then
+        assertThatThrownBy(job::run).isInstanceOf(IllegalStateException.class).hasMessageContaining("acc-00512");
+        assertThat(checkpoint()).containsEntry("STATUS", EventReplayJob.STATUS_FAILED).containsEntry("LAST_KEY", "acc-00499");
+
+        // When: la siguiente ejecución continúa tras el último bloque confirmado
+        projection.failOn = null;
+        EventReplayReport report = job.run();
+
+        // Then
+        assertThat(report.resumedFrom()).isEqualTo("acc-00499");
+        assertThat(report.accountsReplayed()).isEqualTo(ACCOUNTS - 500);
+        assertThat(checkpoint()).containsEntry("STATUS", EventReplayJob.STATUS_COMPLETED);
+    }
+
+    @Test
+    void shouldRebuildFromScratchAfterCompletedRun() {
+        // Given
+        EventReplayJob job = new EventReplayJob(history, List.of(projection), dataSource, 100, 4, 16);
+        job.run();
+
+        // When
+        EventReplayReport report = job.run();
+
+        // Then
+        assertThat(report.resumed()).isFalse();
+        assertThat(report.accountsReplayed()).isEqualTo(ACCOUNTS);
+        assertThat(projection.resets.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should rebuild the balance projection from the events stored by money movements")
+    void shouldRebuildBalancesFromEventsStoredByTransfers() {
+        // Given: movimientos hechos con el servicio sobre el histórico en base de datos
+        jdbc.execute("CREATE TABLE domain_events (id BIGINT AUTO_INCREMENT PRIMARY KEY, account_id VARCHAR(255) NOT NULL, " +
+            "event_id VARCHAR(255) NOT NULL, event_type VARCHAR(255) NOT NULL, occurred_at TIMESTAMP NOT NULL, " +
+            "payload VARBINARY(1024) NOT NULL)");
+        jdbc.execute("CREATE TABLE account_event_balances (account_id VARCHAR(255) PRIMARY KEY, " +
+            "balance DECIMAL(38, 2) NOT NULL, last_event_id VARCHAR(255) NOT NULL, last_event_at TIMESTAMP NOT NULL)");
+        Map<String, AccountJpaEntity> accounts = new HashMap<>();
+        accounts.put("acc-001", new AccountJpaEntity("acc-001", "user-001", SAVINGS, BigDecimal.valueOf(1000), LocalDateTime.now(), LocalDateTime.now()));
+        accounts.put("acc-002", new AccountJpaEntity("acc-002", "user-002", CHECKING, BigDecimal.valueOf(500), LocalDateTime.now(), LocalDateTime.now()));
+        AccountJpaRepository jpaRepository = mock(AccountJpaRepository.class);
+        when(jpaRepository.findById(anyString())).thenAnswer(invocation -> Optional.ofNullable(accounts.get(invocation.<String>getArgument(0))));
+        when(jpaRepository.save(any(AccountJpaEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        AccountRepositoryAdapter repository = new AccountRepositoryAdapter(jpaRepository,
+            new JdbcDomainEventStore(dataSource, BinaryDomainEventCodec.standard()));
+        TransferMoneyService service = new TransferMoneyService(repository, mock(NotificationPort.class),
+            mock(DomainEventPublisher.class), new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+        service.transferMoney("acc-001", "acc-002", BigDecimal.valueOf(100), "Rent");
+        service.depositMoney("acc-002", BigDecimal.valueOf(50), "Cash");
+        service.withdrawMoney("acc-001", BigDecimal.valueOf(20), "ATM");
+        EventReplayJob job = new EventReplayJob(repository, List.of(new AccountBalanceProjection(dataSource)), dataSource, 100, 2, 8);
+
+        // When
+        EventReplayReport report = job.run();
+
+        // Then: el saldo reconstruido coincide con el guardado en cada cuenta
+        assertThat(report.accountsReplayed()).isEqualTo(2);
+        assertThat(report.eventsReplayed()).isEqualTo(jdbc.queryForObject("SELECT COUNT(*) FROM domain_events", Long.class)).isPositive();
+        accounts.forEach((accountId, account) -> assertThat(
+            jdbc.queryForObject("SELECT balance FROM account_event_balances WHERE account_id = ?", BigDecimal.class, accountId))
+            .isEqualByComparingTo(account.getBalance()));
+    }
+
+    @Test
+    void shouldRejectInvalidConfiguration() {
+        assertThatThrownBy(() -> new EventReplayJob(null, List.of(), dataSource, 10, 1, 1))
+            .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new EventReplayJob(history, List.of(), dataSource, 10, 0, 1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Map<String, Object> checkpoint() {
+        return jdbc.queryForMap("SELECT last_key, processed, status FROM batch_checkpoint WHERE id = ?", EventReplayJob.JOB_NAME);
+    }
+
+    private static final class RecordingProjection implements EventProjection {
+
+        final AtomicInteger resets = new AtomicInteger();
+        final Map<String, List<String>> applied = new ConcurrentHashMap<>();
+        final Map<String, Set<String>> threads = new ConcurrentHashMap<>();
+        volatile String failOn;
+
+        @Override
+        public String name() {
+            return "recording";
+        }
+
+        @Override
+        public void reset() {
+            resets.incrementAndGet();
+            applied.clear();
+            threads.clear();
+        }
+
+        @Override
+        public void apply(String accountId, DomainEvent event) {
+            if (accountId.equals(failOn)) {
+                throw new IllegalStateException("Projection failed");
+            }
+            applied.computeIfAbsent(accountId, id -> new ArrayList<>()).add(event.getEventId());
+            threads.computeIfAbsent(accountId, id -> ConcurrentHashMap.newKeySet()).add(Thread.currentThread().getName());
+        }
+    }
+}
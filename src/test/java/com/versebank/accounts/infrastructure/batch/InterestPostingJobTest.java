@@ -0,0 +1,196 @@
+package com.versebank.accounts.infrastructure.batch;
+
+import com.versebank.accounts.application.port.out.DomainEventPublisher;
+import com.versebank.accounts.domain.AccountDomainService;
+import com.versebank.accounts.domain.events.DomainEvent;
+import com.versebank.accounts.domain.events.InterestPostedEvent;
+import com.versebank.accounts.infrastructure.events.codec.BinaryDomainEventCodec;
+import com.versebank.accounts.infrastructure.persistence.JdbcDomainEventStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for InterestPostingJob against an in-memory H2 schema
+ */
+@DisplayName("InterestPostingJob Tests")
+class InterestPostingJobTest {
+
+    private static final LocalDate POSTING_DATE = LocalDate.of(2024, 1, 15);
+    private static final int SAVINGS_ACCOUNTS = 1_050;
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbc;
+    private JdbcDomainEventStore eventStore;
+    private DomainEventPublisher eventPublisher;
+    private InterestPostingJob job;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:interest-" + System.nanoTime(), "sa", "", true);
+        jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE accounts (id VARCHAR(255) PRIMARY KEY, customer_id VARCHAR(255) NOT NULL, " +
+            "account_type VARCHAR(255) NOT NULL, balance DECIMAL(38,2) NOT NULL, created_at TIMESTAMP NOT NULL, updated_at TIMESTAMP NOT NULL, " +
+            "version BIGINT DEFAULT 0 NOT NULL)");
+        jdbc.execute("CREATE TABLE interest_ledger (id VARCHAR(255) PRIMARY KEY, account_id VARCHAR(255) NOT NULL, " +
+            "posting_date DATE NOT NULL, amount DECIMAL(38,2) NOT NULL, created_at TIMESTAMP NOT NULL, " +
+            "CONSTRAINT uk_interest_ledger_account_date UNIQUE (account_id, posting_date))");
+        jdbc.execute("CREATE TABLE batch_checkpoint (id VARCHAR(255) PRIMARY KEY, last_key VARCHAR(255), " +
+            "processed BIGINT NOT NULL, status VARCHAR(255) NOT NULL, updated_at TIMESTAMP NOT NULL)");
+        jdbc.execute("CREATE TABLE domain_events (id BIGINT AUTO_INCREMENT PRIMARY KEY, account_id VARCHAR(255) NOT NULL, " +
+            "event_id VARCHAR(255) NOT NULL, event_type VARCHAR(255) NOT NULL, occurred_at TIMESTAMP NOT NULL, " +
+            "payload VARBINARY(1024) NOT NULL)");
+        jdbc.execute("CREATE TABLE account_event_balances (account_id VARCHAR(255) PRIMARY KEY, " +
+            "balance DECIMAL(38, 2) NOT NULL, last_event_id VARCHAR(255) NOT NULL, last_event_at TIMESTAMP NOT NULL)");
+
+        LocalDateTime created = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<Object[]> rows = new java.util.ArrayList<>();
+        for (int i = 0; i < SAVINGS_ACCOUNTS; i++) {
+            rows.add(new Object[] {String.format("sav-%05d", i), "customer", "SAVINGS", new BigDecimal("100000.00"), created, created});
+        }
+        rows.add(new Object[] {"chk-00001", "customer", "CHECKING", new BigDecimal("100000.00"), created, created});
+        rows.add(new Object[] {"sav-tiny", "customer", "SAVINGS", new BigDecimal("1.00"), created, created});
+        jdbc.batchUpdate("INSERT INTO accounts (id, customer_id, account_type, balance, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)", rows);
+
+        eventStore = new JdbcDomainEventStore(dataSource, BinaryDomainEventCodec.standard());
+        eventPublisher = mock(DomainEventPublisher.class);
+        job = newJob(100, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.destroy();
+    }
+
+    @Test
+    void shouldPostDailyInterestToSavingsAccountsOnly() {
+        // When
+        InterestPostingReport report = job.run(POSTING_DATE);
+
+        // Then: 2% anual sobre 100000.00 = 5.48 diarios; 1.00 no devenga céntimos
+        assertThat(report.accountsScanned()).isEqualTo(SAVINGS_ACCOUNTS + 1);
+        assertThat(report.accountsPosted()).isEqualTo(SAVINGS_ACCOUNTS);
+        assertThat(report.totalInterest()).isEqualByComparingTo(new BigDecimal("5.48").multiply(BigDecimal.valueOf(SAVINGS_ACCOUNTS)));
+        assertThat(report.resumed()).isFalse();
+        assertThat(report.accountsPerSecond()).isPositive();
+        assertThat(balanceOf("sav-00000")).isEqualByComparingTo("100005.48");
+        assertThat(balanceOf("sav-01049")).isEqualByComparingTo("100005.48");
+        assertThat(balanceOf("chk-00001")).isEqualByComparingTo("100000.00");
+        assertThat(balanceOf("sav-tiny")).isEqualByComparingTo("1.00");
+        assertThat(jdbc.queryForObject("SELECT version FROM accounts WHERE id = 'sav-00000'", Long.class)).isEqualTo(1L);
+        assertThat(jdbc.queryForObject("SELECT version FROM accounts WHERE id = 'chk-00001'", Long.class)).isZero();
+        assertThat(ledgerEntries()).isEqualTo(SAVINGS_ACCOUNTS);
+        assertThat(checkpointStatus()).isEqualTo(InterestPostingJob.STATUS_COMPLETED);
+    }
+
+    @Test
+    void shouldNotPostTwiceWhenRerunForSameDate() {
+        // Given
+        job.run(POSTING_DATE);
+
+        // When
+        InterestPostingReport rerun = job.run(POSTING_DATE);
+
+        // Then
+        assertThat(rerun.accountsPosted()).isZero();
+        assertThat(balanceOf("sav-00500")).isEqualByComparingTo("100005.48");
+        assertThat(ledgerEntries()).isEqualTo(SAVINGS_ACCOUNTS);
+    }
+
+    @Test
+    void shouldResumeFromCheckpointWithoutDoublePosting() {
+        // Given: una ejecución anterior confirmó hasta sav-00299 y, fuera de orden, el bloque sav-00500..sav-00599
+        String checkpointId = InterestPostingJob.JOB_NAME + ":" + POSTING_DATE;
+        jdbc.update("INSERT INTO batch_checkpoint VALUES (?, 'sav-00299', 300, 'RUNNING', CURRENT_TIMESTAMP)", checkpointId);
+        jdbc.update("UPDATE accounts SET balance = balance + 5.48 WHERE id BETWEEN 'sav-00000' AND 'sav-00299' OR id BETWEEN 'sav-00500' AND 'sav-00599'");
+        jdbc.update("INSERT INTO interest_ledger SELECT 'prev-' || id, id, ?, 5.48, CURRENT_TIMESTAMP FROM accounts " +
+            "WHERE id BETWEEN 'sav-00000' AND 'sav-00299' OR id BETWEEN 'sav-00500' AND 'sav-00599'", POSTING_DATE);
+
+        // When
+        InterestPostingReport report = job.run(POSTING_DATE);
+
+        // Then
+        assertThat(report.resumed()).isTrue();
+        assertThat(report.resumedFrom()).isEqualTo("sav-00299");
+        assertThat(report.accountsPosted()).isEqualTo(SAVINGS_ACCOUNTS - 400);
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM accounts WHERE account_type = 'SAVINGS' AND balance = 100005.48", Integer.class))
+            .isEqualTo(SAVINGS_ACCOUNTS);
+        assertThat(ledgerEntries()).isEqualTo(SAVINGS_ACCOUNTS);
+        assertThat(checkpointStatus()).isEqualTo(InterestPostingJob.STATUS_COMPLETED);
+    }
+
+    @Test
+    void shouldRecordAndPublishAnInterestEventPerCreditedAccount() {
+        // When
+        job.run(POSTING_DATE);
+
+        // Then: cada abono queda en el histórico de su cuenta con el saldo resultante y se publica
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM domain_events WHERE event_type = 'InterestPosted'", Integer.class))
+            .isEqualTo(SAVINGS_ACCOUNTS);
+        assertThat(eventStore.getDomainEvents("sav-tiny")).isEmpty();
+        List<DomainEvent> history = eventStore.getDomainEvents("sav-00042");
+        assertThat(history).singleElement().isInstanceOfSatisfying(InterestPostedEvent.class, event -> {
+            assertThat(event.getAmount().getAmount()).isEqualByComparingTo("5.48");
+            assertThat(event.getNewBalance().getAmount()).isEqualByComparingTo("100005.48");
+        });
+        ArgumentCaptor<DomainEvent> published = ArgumentCaptor.forClass(DomainEvent.class);
+        verify(eventPublisher, times(SAVINGS_ACCOUNTS)).publish(published.capture());
+        assertThat(published.getAllValues()).allMatch(InterestPostedEvent.class::isInstance);
+    }
+
+    @Test
+    void shouldLetEventReplayRebuildBalancesIncludingInterest() {
+        // Given
+        job.run(POSTING_DATE);
+        EventReplayJob replay = new EventReplayJob(eventStore, List.of(new AccountBalanceProjection(dataSource)), dataSource, 100, 2, 8);
+
+        // When
+        replay.run();
+
+        // Then
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM account_event_balances b JOIN accounts a ON a.id = b.account_id " +
+            "WHERE a.balance = b.balance", Integer.class)).isEqualTo(SAVINGS_ACCOUNTS);
+    }
+
+    @Test
+    void shouldRejectInvalidConfiguration() {
+        assertThatThrownBy(() -> new InterestPostingJob(null, new DataSourceTransactionManager(dataSource), new AccountDomainService(),
+            eventStore, eventPublisher, 10, 1))
+            .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new InterestPostingJob(dataSource, new DataSourceTransactionManager(dataSource), new AccountDomainService(),
+            null, eventPublisher, 10, 1))
+            .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> newJob(0, 1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private InterestPostingJob newJob(int chunkSize, int parallelism) {
+        return new InterestPostingJob(dataSource, new DataSourceTransactionManager(dataSource), new AccountDomainService(),
+            eventStore, eventPublisher, chunkSize, parallelism);
+    }
+
+    private BigDecimal balanceOf(String accountId) {
+        return jdbc.queryForObject("SELECT balance FROM accounts WHERE id = ?", BigDecimal.class, accountId);
+    }
+
+    private int ledgerEntries() {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM interest_ledger", Integer.class);
+    }
+
+    private String checkpointStatus() {
+        return jdbc.queryForObject("SELECT status FROM batch_checkpoint", String.class);
+    }
+}
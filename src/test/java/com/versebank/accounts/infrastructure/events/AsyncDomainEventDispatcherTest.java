@@ -0,0 +1,218 @@
+package com.versebank.accounts.infrastructure.events;
+
+import com.versebank.accounts.domain.AccountId;
+import com.versebank.accounts.domain.events.DomainEvent;
+import com.versebank.accounts.domain.events.MoneyDepositedEvent;
+import com.versebank.accounts.domain.events.MoneyWithdrawnEvent;
+import com.versebank.accounts.domain.valueobjects.Balance;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Test suite for AsyncDomainEventDispatcher
+ */
+@DisplayName("AsyncDomainEventDispatcher Tests")
+class AsyncDomainEventDispatcherTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AsyncDomainEventDispatcher dispatcher;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = new AsyncDomainEventDispatcher(2, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        dispatcher.close(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void shouldDeliverMatchingEventsInOrderOffCallerThread() throws InterruptedException {
+        // Given
+        List<String> received = new CopyOnWriteArrayList<>();
+        List<String> threads = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(3);
+        dispatcher.register("deposits", MoneyDepositedEvent.class, event -> {
+            received.add(event.getAmount().getAmount().toPlainString());
+            threads.add(Thread.currentThread().getName());
+            done.countDown();
+        }, 16, BackpressurePolicy.BLOCK);
+
+        // When
+        dispatcher.dispatch(deposit(1));
+        dispatcher.dispatch(withdrawal(5));
+        dispatcher.dispatch(deposit(2));
+        dispatcher.dispatch(deposit(3));
+
+        // Then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(received).containsExactly("1", "2", "3");
+        assertThat(threads).allMatch(name -> name.startsWith("domain-events-"));
+    }
+
+    @Test
+    void shouldNotAddSlowHandlerLatencyToPublisher() {
+        // Given
+        dispatcher.register("slow", MoneyDepositedEvent.class, event -> awaitRelease(), 128, BackpressurePolicy.BLOCK);
+
+        // When
+        long start = System.nanoTime();
+        for (int i = 0; i < 100; i++) {
+            dispatcher.dispatch(deposit(i));
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Then
+        assertThat(elapsedMillis).isLessThan(1_000);
+        assertThat(dispatcher.queueDepth("slow")).isGreaterThanOrEqualTo(99);
+    }
+
+    @Test
+    void shouldDropOldestEventsWhenQueueIsFull() throws InterruptedException {
+        // Given
+        List<String> received = new CopyOnWriteArrayList<>();
+        CountDownLatch started = new CountDownLatch(1);
+        dispatcher.register("dropping", MoneyDepositedEvent.class, event -> {
+            started.countDown();
+            awaitRelease();
+            received.add(event.getAmount().getAmount().toPlainString());
+        }, 2, BackpressurePolicy.DROP_OLDEST);
+        dispatcher.dispatch(deposit(0));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When: 0 en curso, la cola de 2 recibe 1..4
+        for (int i = 1; i <= 4; i++) {
+            dispatcher.dispatch(deposit(i));
+        }
+        release.countDown();
+        dispatcher.close(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(received).containsExactly("0", "3", "4");
+        assertThat(meterRegistry.counter("versebank.events.dropped", "handler", "dropping").count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRunOnCallerThreadWhenQueueIsFull() throws InterruptedException {
+        // Given
+        List<String> callerThreadEvents = new CopyOnWriteArrayList<>();
+        CountDownLatch started = new CountDownLatch(1);
+        String caller = Thread.currentThread().getName();
+        dispatcher.register("caller-runs", MoneyDepositedEvent.class, event -> {
+            if (Thread.currentThread().getName().equals(caller)) {
+                callerThreadEvents.add(event.getAmount().getAmount().toPlainString());
+                return;
+            }
+            started.countDown();
+            awaitRelease();
+        }, 1, BackpressurePolicy.CALLER_RUNS);
+        dispatcher.dispatch(deposit(0));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        dispatcher.dispatch(deposit(1));
+        dispatcher.dispatch(deposit(2));
+
+        // Then
+        assertThat(callerThreadEvents).containsExactly("2");
+        assertThat(meterRegistry.counter("versebank.events.caller.runs", "handler", "caller-runs").count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldIsolateFailingHandlerAndRecordMetrics() throws InterruptedException {
+        // Given
+        CountDownLatch healthy = new CountDownLatch(2);
+        dispatcher.register("failing", MoneyDepositedEvent.class, event -> { throw new IllegalStateException("boom"); }, 8, BackpressurePolicy.BLOCK);
+        dispatcher.register("healthy", MoneyDepositedEvent.class, event -> healthy.countDown(), 8, BackpressurePolicy.BLOCK);
+
+        // When
+        dispatcher.dispatch(deposit(1));
+        dispatcher.dispatch(deposit(2));
+
+        // Then
+        assertThat(healthy.await(5, TimeUnit.SECONDS)).isTrue();
+        dispatcher.close(Duration.ofSeconds(5));
+        assertThat(meterRegistry.counter("versebank.events.handler.failures", "handler", "failing").count()).isEqualTo(2);
+        assertThat(meterRegistry.timer("versebank.events.handler.latency", "handler", "healthy").count()).isEqualTo(2);
+        assertThat(meterRegistry.get("versebank.events.queue.depth").tag("handler", "healthy").gauge().value()).isZero();
+    }
+
+    @Test
+    void shouldWaitForInterruptedHandlerBeforeDrainingOnClose() throws InterruptedException {
+        // Given: el primer evento sigue en curso un rato después de interrumpirlo
+        List<String> received = new CopyOnWriteArrayList<>();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        dispatcher.register("stubborn", MoneyDepositedEvent.class, event -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                if (started.getCount() > 0) {
+                    started.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                }
+            } catch (InterruptedException e) {
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException ignored) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            received.add(event.getAmount().getAmount().toPlainString());
+            running.decrementAndGet();
+        }, 8, BackpressurePolicy.BLOCK);
+        dispatcher.dispatch(deposit(0));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 1; i <= 3; i++) {
+            dispatcher.dispatch(deposit(i));
+        }
+
+        // When
+        dispatcher.close(Duration.ofMillis(300));
+
+        // Then
+        assertThat(received).containsExactly("0", "1", "2", "3");
+        assertThat(maxRunning.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectInvalidRegistration() {
+        assertThatThrownBy(() -> dispatcher.register("x", MoneyDepositedEvent.class, event -> {}, 0, BackpressurePolicy.BLOCK))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> dispatcher.register("x", MoneyDepositedEvent.class, null, 1, BackpressurePolicy.BLOCK))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static DomainEvent deposit(int amount) {
+        return new MoneyDepositedEvent(AccountId.of("acc-1"), Balance.of(BigDecimal.valueOf(amount)), Balance.of(BigDecimal.valueOf(1000)));
+    }
+
+    private static DomainEvent withdrawal(int amount) {
+        return new MoneyWithdrawnEvent(AccountId.of("acc-1"), Balance.of(BigDecimal.valueOf(amount)), Balance.of(BigDecimal.valueOf(1000)));
+    }
+}
@@ -0,0 +1,195 @@
+package com.versebank.accounts.infrastructure.events;
+
+import com.versebank.accounts.domain.Account;
+import com.versebank.accounts.domain.AccountId;
+import com.versebank.accounts.domain.events.DomainEvent;
+import com.versebank.accounts.domain.events.MoneyDepositedEvent;
+import com.versebank.accounts.domain.events.MoneyWithdrawnEvent;
+import com.versebank.accounts.domain.valueobjects.AccountType;
+import com.versebank.accounts.domain.valueobjects.Balance;
+import com.versebank.accounts.domain.valueobjects.Transaction;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Test suite for TypedEventBus and EventListenerRegistrar
+ */
+@DisplayName("TypedEventBus Tests")
+class TypedEventBusTest {
+
+    private final TypedEventBus bus = new TypedEventBus();
+    private final List<String> received = new ArrayList<>();
+
+    @Test
+    void shouldDispatchToExactAndSupertypeHandlersOnly() {
+        // Given
+        bus.install(List.of(
+            TypedEventBus.handler("deposits", MoneyDepositedEvent.class, event -> received.add("deposit")),
+            TypedEventBus.handler("all", DomainEvent.class, event -> received.add("any:" + event.getEventType())),
+            TypedEventBus.handler("withdrawals", MoneyWithdrawnEvent.class, event -> received.add("withdrawal"))
+        ));
+
+        // When
+        bus.publish(deposit());
+
+        // Then
+        assertThat(received).containsExactly("deposit", "any:MoneyDeposited");
+    }
+
+    @Test
+    void shouldResolveUnregisteredSubclassesOnce() {
+        // Given
+        bus.install(List.of(TypedEventBus.handler("all", DomainEvent.class, event -> received.add(event.getEventType()))));
+
+        // When
+        bus.publish(new AuditEvent());
+        bus.publish(new AuditEvent());
+
+        // Then
+        assertThat(received).containsExactly("Audit", "Audit");
+    }
+
+    @Test
+    void shouldInvokeAnnotatedMethodsThroughMethodHandles() throws NoSuchMethodException {
+        // Given
+        DepositListener listener = new DepositListener();
+        bus.install(List.of(TypedEventBus.handler(listener, DepositListener.class.getDeclaredMethod("on", MoneyDepositedEvent.class))));
+
+        // When
+        bus.publish(deposit());
+        bus.publish(new AuditEvent());
+
+        // Then
+        assertThat(listener.received).hasSize(1);
+    }
+
+    @Test
+    void shouldPublishPendingAccountEventsAsBatch() throws Exception {
+        // Given
+        bus.install(List.of(TypedEventBus.handler("all", DomainEvent.class, event -> received.add(event.getEventType()))));
+        Account account = new Account(AccountId.of("acc-1"), "customer-1", AccountType.CHECKING, Balance.of(BigDecimal.valueOf(100)));
+        account.deposit(Transaction.create(BigDecimal.TEN, "in", Transaction.TransactionType.DEPOSIT));
+        account.withdraw(Transaction.create(BigDecimal.ONE, "out", Transaction.TransactionType.WITHDRAWAL));
+
+        // When
+        int published = bus.publishPending(account);
+
+        // Then
+        assertThat(published).isEqualTo(2);
+        assertThat(received).containsExactly("MoneyDeposited", "MoneyWithdrawn");
+        assertThat(account.hasDomainEvents()).isFalse();
+    }
+
+    @Test
+    void shouldKeepDeliveringToRemainingHandlersWhenOneFails() {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        TypedEventBus meteredBus = new TypedEventBus(meterRegistry);
+        meteredBus.install(List.of(
+            TypedEventBus.handler("failing", MoneyDepositedEvent.class, event -> { throw new IllegalStateException("boom"); }),
+            TypedEventBus.handler("healthy", MoneyDepositedEvent.class, event -> received.add(event.getEventType()))
+        ));
+
+        // When
+        meteredBus.publish(deposit());
+        meteredBus.publish(deposit());
+
+        // Then
+        assertThat(received).containsExactly("MoneyDeposited", "MoneyDeposited");
+        assertThat(meterRegistry.counter("versebank.events.bus.failures", "handler", "failing").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("versebank.events.bus.failures", "handler", "healthy").count()).isZero();
+    }
+
+    @Test
+    void shouldRegisterSpringListenersAndKeepSpringDelivery() {
+        // Given
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(ListenerConfiguration.class)) {
+            TypedEventBus contextBus = context.getBean(TypedEventBus.class);
+            DepositListener listener = context.getBean(DepositListener.class);
+
+            // When
+            contextBus.publish(deposit());
+            context.publishEvent(deposit());
+
+            // Then
+            assertThat(contextBus.handlers()).extracting(TypedEventBus.EventHandler::name).containsExactly("DepositListener.on");
+            assertThat(listener.received).hasSize(2);
+        }
+    }
+
+    @Test
+    void shouldFailStartupForDomainEventListenersTheBusCannotFilter() {
+        assertThatThrownBy(() -> new AnnotationConfigApplicationContext(ConditionalListenerConfiguration.class))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("onlyDeposits");
+        assertThatThrownBy(() -> new AnnotationConfigApplicationContext(ClassesListenerConfiguration.class))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("onAnyMovement");
+    }
+
+    private static DomainEvent deposit() {
+        return new MoneyDepositedEvent(AccountId.of("acc-1"), Balance.of(BigDecimal.TEN), Balance.of(BigDecimal.valueOf(110)));
+    }
+
+    private static class AuditEvent extends DomainEvent {
+        AuditEvent() {
+            super("Audit");
+        }
+    }
+
+    static class DepositListener {
+        final List<MoneyDepositedEvent> received = new ArrayList<>();
+
+        @EventListener
+        public void on(MoneyDepositedEvent event) {
+            received.add(event);
+        }
+    }
+
+    static class ConditionalListener {
+        @EventListener(condition = "#event.eventType == 'MoneyDeposited'")
+        public void onlyDeposits(DomainEvent event) {
+        }
+    }
+
+    static class ClassesListener {
+        @EventListener(classes = {MoneyDepositedEvent.class, MoneyWithdrawnEvent.class})
+        public void onAnyMovement() {
+        }
+    }
+
+    @Configuration
+    static class ListenerConfiguration extends TypedEventBusConfiguration {
+        @Bean
+        DepositListener depositListener() {
+            return new DepositListener();
+        }
+    }
+
+    @Configuration
+    static class ConditionalListenerConfiguration extends TypedEventBusConfiguration {
+        @Bean
+        ConditionalListener conditionalListener() {
+            return new ConditionalListener();
+        }
+    }
+
+    @Configuration
+    static class ClassesListenerConfiguration extends TypedEventBusConfiguration {
+        @Bean
+        ClassesListener classesListener() {
+            return new ClassesListener();
+        }
+    }
+}
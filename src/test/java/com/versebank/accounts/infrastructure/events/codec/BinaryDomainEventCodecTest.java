@@ -0,0 +1,156 @@
+package com.versebank.accounts.infrastructure.events.codec;
+
+import com.versebank.accounts.domain.AccountId;
+import com.versebank.accounts.domain.events.AccountOpenedEvent;
+import com.versebank.accounts.domain.events.DomainEvent;
+import com.versebank.accounts.domain.events.InterestPostedEvent;
+import com.versebank.accounts.domain.events.LargeTransactionDetectedEvent;
+import com.versebank.accounts.domain.events.MoneyDepositedEvent;
+import com.versebank.accounts.domain.events.MoneyReceivedEvent;
+import com.versebank.accounts.domain.events.MoneyWithdrawnEvent;
+import com.versebank.accounts.domain.events.VelocityLimitExceededEvent;
+import com.versebank.accounts.domain.valueobjects.Balance;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Test suite for BinaryDomainEventCodec round trips and format validation
+ */
+@DisplayName("BinaryDomainEventCodec Tests")
+class BinaryDomainEventCodecTest {
+
+    private static final LocalDateTime OCCURRED_AT = LocalDateTime.of(2024, 3, 1, 10, 15, 30, 123_456_789);
+
+    private final BinaryDomainEventCodec codec = BinaryDomainEventCodec.standard();
+
+    @Test
+    void shouldRoundTripEveryDomainEventType() {
+        // Given
+        AccountId accountId = AccountId.generate();
+        List<DomainEvent> events = List.of(
+            new AccountOpenedEvent(accountId, "user-001", Balance.of(new BigDecimal("1000.00"))),
+            new MoneyDepositedEvent(accountId, Balance.of(new BigDecimal("10.50")), Balance.of(new BigDecimal("1010.50"))),
+            new MoneyWithdrawnEvent(accountId, Balance.of(new BigDecimal("0.01")), Balance.of(new BigDecimal("1010.49"))),
+            new MoneyReceivedEvent(accountId, Balance.of(BigDecimal.TEN), Balance.of(new BigDecimal("1020.49"))),
+            new LargeTransactionDetectedEvent(accountId, Balance.of(new BigDecimal("15000.00")), "DEPOSIT"),
+            new VelocityLimitExceededEvent(accountId, 21, Balance.of(new BigDecimal("20500.00")), Duration.ofMinutes(10)),
+            new InterestPostedEvent(accountId, Balance.of(new BigDecimal("0.07")), Balance.of(new BigDecimal("1020.56"))));
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+
+        // When
+        for (DomainEvent event : events) {
+            int before = buffer.position();
+            codec.encode(event, buffer);
+            assertThat(buffer.position() - before).isEqualTo(codec.encodedSize(event));
+        }
+        buffer.flip();
+
+        // Then
+        for (DomainEvent event : events) {
+            DomainEvent decoded = codec.decode(buffer);
+            assertThat(decoded).isInstanceOf(event.getClass());
+            assertThat(decoded).usingRecursiveComparison().isEqualTo(event);
+        }
+        assertThat(buffer.hasRemaining()).isFalse();
+    }
+
+    @Test
+    void shouldPreserveNonUuidIdsTimestampsAndWideDecimals() {
+        // Given
+        BigDecimal huge = new BigDecimal("123456789012345678901234567890.123456");
+        DomainEvent event = new AccountOpenedEvent("legacy-event-1", OCCURRED_AT, AccountId.of("acc-001"),
+            "cliente-ñandú-€-😀", Balance.of(huge));
+        ByteBuffer buffer = ByteBuffer.allocateDirect(256);
+
+        // When
+        codec.encode(event, buffer);
+        buffer.flip();
+        AccountOpenedEvent decoded = (AccountOpenedEvent) codec.decode(buffer);
+
+        // Then
+        assertThat(decoded.getEventId()).isEqualTo("legacy-event-1");
+        assertThat(decoded.getOccurredAt()).isEqualTo(OCCURRED_AT);
+        assertThat(decoded.getAccountId()).isEqualTo(AccountId.of("acc-001"));
+        assertThat(decoded.getCustomerId()).isEqualTo("cliente-ñandú-€-😀");
+        assertThat(decoded.getInitialBalance().getAmount()).isEqualTo(huge);
+        assertThat(buffer.position()).isEqualTo(codec.encodedSize(event));
+    }
+
+    @Test
+    void shouldEncodeUuidIdsInSixteenBytes() {
+        // Given
+        String uuid = "018e0f5c-7a1b-7c2d-8e3f-4a5b6c7d8e9f";
+        DomainEvent event = new MoneyDepositedEvent(uuid, OCCURRED_AT, AccountId.of(uuid),
+            Balance.of(BigDecimal.TEN), Balance.of(BigDecimal.TEN));
+
+        // Then: cabecera 14 + id 17 + cuenta 17 + dos importes de 10
+        assertThat(codec.encodedSize(event)).isEqualTo(14 + 17 + 17 + 20);
+        ByteBuffer buffer = ByteBuffer.allocate(codec.encodedSize(event));
+        codec.encode(event, buffer);
+        buffer.flip();
+        assertThat(codec.decode(buffer).getEventId()).isEqualTo(uuid);
+    }
+
+    @Test
+    void shouldReuseBufferAcrossEvents() {
+        // Given
+        ByteBuffer buffer = ByteBuffer.allocate(128);
+
+        for (int i = 0; i < 1_000; i++) {
+            DomainEvent event = new MoneyWithdrawnEvent(AccountId.of("acc-" + i), Balance.of(BigDecimal.valueOf(i, 2)),
+                Balance.of(BigDecimal.valueOf(100_000 - i, 2)));
+
+            // When
+            buffer.clear();
+            codec.encode(event, buffer);
+            buffer.flip();
+
+            // Then
+            assertThat(codec.decode(buffer)).usingRecursiveComparison().isEqualTo(event);
+        }
+    }
+
+    @Test
+    void shouldRejectUnknownVersionTagAndTruncatedInput() {
+        assertThatThrownBy(() -> codec.decode(ByteBuffer.wrap(new byte[] {2, 1})))
+            .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("version");
+        assertThatThrownBy(() -> codec.decode(ByteBuffer.wrap(new byte[] {BinaryDomainEventCodec.VERSION, 99})))
+            .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("tag");
+
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        codec.encode(new MoneyDepositedEvent(AccountId.of("acc-001"), Balance.of(BigDecimal.ONE), Balance.of(BigDecimal.ONE)), buffer);
+        buffer.flip().limit(buffer.limit() - 3);
+        assertThatThrownBy(() -> codec.decode(buffer))
+            .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("Truncated");
+    }
+
+    @Test
+    void shouldFailWhenBufferIsTooSmall() {
+        // Given
+        DomainEvent event = new MoneyDepositedEvent(AccountId.of("acc-001"), Balance.of(BigDecimal.ONE), Balance.of(BigDecimal.ONE));
+
+        // When / Then
+        assertThatThrownBy(() -> codec.encode(event, ByteBuffer.allocate(codec.encodedSize(event) - 1)))
+            .isInstanceOf(BufferOverflowException.class);
+    }
+
+    @Test
+    void shouldRejectDuplicateTagRegistrations() {
+        EventType<MoneyDepositedEvent> first = new EventType<>(7, MoneyDepositedEvent.class, (e, out) -> {}, (id, at, in) -> null, e -> 0);
+        EventType<MoneyWithdrawnEvent> sameTag = new EventType<>(7, MoneyWithdrawnEvent.class, (e, out) -> {}, (id, at, in) -> null, e -> 0);
+
+        assertThatThrownBy(() -> new BinaryDomainEventCodec(List.of(first, sameTag)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new EventType<>(0, MoneyDepositedEvent.class, (e, out) -> {}, (id, at, in) -> null, e -> 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,235 @@
+package com.versebank.accounts.infrastructure.gateway;
+
+import com.versebank.accounts.application.port.in.OperationResult;
+import com.versebank.accounts.application.port.in.TransferMoneyUseCase;
+import com.versebank.accounts.infrastructure.gateway.GatewayFrames.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for TcpCommandGateway over real loopback connections
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TcpCommandGateway Tests")
+@Timeout(10)
+class TcpCommandGatewayTest {
+
+    @Mock
+    private TransferMoneyUseCase transferMoneyUseCase;
+
+    private TcpCommandGateway gateway;
+    private SocketChannel client;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transferMoneyUseCase.transferMoney(any(), any(), any(), any())).thenReturn(OperationResult.success());
+        lenient().when(transferMoneyUseCase.depositMoney(any(), any(), any())).thenReturn(OperationResult.success());
+        lenient().when(transferMoneyUseCase.withdrawMoney(any(), any(), any())).thenReturn(OperationResult.success());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (client != null) {
+            client.close();
+        }
+        gateway.close();
+    }
+
+    @Test
+    @DisplayName("Should answer pipelined commands as they finish, correlated by request id")
+    void shouldAnswerPipelinedCommandsOutOfOrder() throws Exception {
+        // Given: el depósito no termina hasta que han llegado las otras dos respuestas
+        CountDownLatch othersAnswered = new CountDownLatch(1);
+        doAnswer(invocation -> awaitAndSucceed(othersAnswered))
+            .when(transferMoneyUseCase).depositMoney("acc-001", new BigDecimal("10.50"), "Cash");
+        when(transferMoneyUseCase.withdrawMoney(eq("acc-002"), any(), any()))
+            .thenReturn(OperationResult.insufficientFunds("Insufficient balance"));
+        connect(4, 16, 16);
+
+        // When
+        send(out -> {
+            GatewayFrames.writeDeposit(out, 1, "acc-001", new BigDecimal("10.50"), "Cash");
+            GatewayFrames.writeTransfer(out, 2, "acc-001", "acc-003", BigDecimal.TEN, "Rent");
+            GatewayFrames.writeWithdraw(out, 3, "acc-002", BigDecimal.valueOf(900), "ATM");
+        });
+        Response first = receive();
+        Response second = receive();
+        othersAnswered.countDown();
+        Response third = receive();
+
+        // Then
+        assertThat(first.requestId() + second.requestId()).isEqualTo(5);
+        Response withdrawal = first.requestId() == 3 ? first : second;
+        assertThat(withdrawal.status()).isEqualTo(GatewayFrames.INSUFFICIENT_FUNDS);
+        assertThat(withdrawal.message()).isEqualTo("Insufficient balance");
+        assertThat(third.requestId()).isEqualTo(1);
+        assertThat(third.isOk()).isTrue();
+        verify(transferMoneyUseCase).transferMoney("acc-001", "acc-003", BigDecimal.TEN, "Rent");
+    }
+
+    @Test
+    @DisplayName("Should map use case results and failures to response statuses")
+    void shouldMapFailuresToStatuses() throws Exception {
+        // Given
+        when(transferMoneyUseCase.depositMoney(eq("missing"), any(), any()))
+            .thenReturn(OperationResult.accountNotFound("Account not found: missing"));
+        doThrow(new OptimisticLockingFailureException("stale"))
+            .when(transferMoneyUseCase).depositMoney(eq("busy"), any(), any());
+        doThrow(new IllegalArgumentException("Amount must be positive"))
+            .when(transferMoneyUseCase).depositMoney(eq("negative"), any(), any());
+        connect(1, 16, 16);
+
+        // When
+        send(out -> GatewayFrames.writeDeposit(out, 7, "missing", BigDecimal.ONE, "Cash"));
+        Response notFound = receive();
+        send(out -> GatewayFrames.writeDeposit(out, 8, "busy", BigDecimal.ONE, "Cash"));
+        Response conflict = receive();
+        send(out -> GatewayFrames.writeDeposit(out, 9, "negative", BigDecimal.ONE, "Cash"));
+        Response invalid = receive();
+
+        // Then
+        assertThat(notFound.status()).isEqualTo(GatewayFrames.ACCOUNT_NOT_FOUND);
+        assertThat(notFound.message()).isEqualTo("Account not found: missing");
+        assertThat(invalid.status()).isEqualTo(GatewayFrames.INVALID_REQUEST);
+        assertThat(invalid.message()).isEqualTo("Amount must be positive");
+        assertThat(conflict.requestId()).isEqualTo(8);
+        assertThat(conflict.status()).isEqualTo(GatewayFrames.CONFLICT);
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown command and keep the connection open")
+    void shouldRejectUnknownCommand() throws Exception {
+        // Given
+        connect(1, 16, 16);
+
+        // When
+        send(out -> out.putInt(9).putLong(42).put((byte) 99));
+        Response rejected = receive();
+        send(out -> GatewayFrames.writeDeposit(out, 43, "acc-001", BigDecimal.ONE, "Cash"));
+        Response accepted = receive();
+
+        // Then
+        assertThat(rejected.requestId()).isEqualTo(42);
+        assertThat(rejected.status()).isEqualTo(GatewayFrames.INVALID_REQUEST);
+        assertThat(rejected.message()).isEqualTo("Unknown command: 99");
+        assertThat(accepted.isOk()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should close the connection when a frame length is out of range")
+    void shouldCloseOnInvalidFrameLength() throws Exception {
+        // Given
+        connect(1, 16, 16);
+
+        // When
+        send(out -> out.putInt(1_000_000).putLong(1));
+
+        // Then
+        assertThatThrownBy(this::receive).isInstanceOf(IOException.class);
+        verifyNoInteractions(transferMoneyUseCase);
+    }
+
+    @Test
+    @DisplayName("Should stop reading a connection while all its command slots are in use")
+    void shouldStopReadingWhenInFlightLimitIsReached() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> awaitAndSucceed(release))
+            .when(transferMoneyUseCase).depositMoney(eq("acc-001"), any(), any());
+        connect(4, 16, 1);
+
+        // When
+        send(out -> {
+            GatewayFrames.writeDeposit(out, 1, "acc-001", BigDecimal.ONE, "Cash");
+            GatewayFrames.writeDeposit(out, 2, "acc-002", BigDecimal.ONE, "Cash");
+        });
+
+        // Then
+        verify(transferMoneyUseCase, after(200).never()).depositMoney(eq("acc-002"), any(), any());
+        release.countDown();
+        assertThat(receive().requestId()).isEqualTo(1);
+        assertThat(receive().requestId()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should answer OVERLOADED when the worker queue is full")
+    void shouldAnswerOverloadedWhenQueueIsFull() throws Exception {
+        // Given: un hilo ocupado y una orden en cola
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> awaitAndSucceed(release))
+            .when(transferMoneyUseCase).depositMoney(any(), any(), any());
+        connect(1, 1, 16);
+
+        // When
+        send(out -> {
+            for (int id = 1; id <= 3; id++) {
+                GatewayFrames.writeDeposit(out, id, "acc-001", BigDecimal.ONE, "Cash");
+            }
+        });
+        Response overloaded = receive();
+        release.countDown();
+
+        // Then
+        assertThat(overloaded.requestId()).isEqualTo(3);
+        assertThat(overloaded.status()).isEqualTo(GatewayFrames.OVERLOADED);
+        assertThat(receive().isOk()).isTrue();
+        assertThat(receive().isOk()).isTrue();
+    }
+
+    private static OperationResult awaitAndSucceed(CountDownLatch latch) throws InterruptedException {
+        latch.await(5, TimeUnit.SECONDS);
+        return OperationResult.success();
+    }
+
+    private void connect(int workerThreads, int queueCapacity, int maxInFlight) throws IOException {
+        gateway = new TcpCommandGateway(transferMoneyUseCase, new InetSocketAddress("127.0.0.1", 0),
+            workerThreads, queueCapacity, maxInFlight, 4096, new SimpleMeterRegistry());
+        client = SocketChannel.open(new InetSocketAddress("127.0.0.1", gateway.getPort()));
+    }
+
+    private void send(Consumer<ByteBuffer> frames) throws IOException {
+        ByteBuffer out = ByteBuffer.allocate(4096);
+        frames.accept(out);
+        out.flip();
+        while (out.hasRemaining()) {
+            client.write(out);
+        }
+    }
+
+    private Response receive() throws IOException {
+        ByteBuffer length = readFully(GatewayFrames.LENGTH_SIZE);
+        return GatewayFrames.readResponse(readFully(length.getInt()));
+    }
+
+    private ByteBuffer readFully(int size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        while (buffer.hasRemaining()) {
+            if (client.read(buffer) < 0) {
+                throw new EOFException("Gateway closed the connection");
+            }
+        }
+        return buffer.flip();
+    }
+}
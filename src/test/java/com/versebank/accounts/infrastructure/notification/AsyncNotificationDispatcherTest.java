@@ -0,0 +1,210 @@
+package com.versebank.accounts.infrastructure.notification;
+
+import com.versebank.accounts.domain.events.DomainEvent;
+import com.versebank.accounts.infrastructure.events.BackpressurePolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Test suite for AsyncNotificationDispatcher
+ */
+@DisplayName("AsyncNotificationDispatcher Tests")
+class AsyncNotificationDispatcherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RecordingChannel channel = new RecordingChannel();
+    private AsyncNotificationDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        channel.release.countDown();
+        if (dispatcher != null) {
+            dispatcher.close(Duration.ofSeconds(5));
+        }
+    }
+
+    @Test
+    void shouldReturnImmediatelyAndDeliverInBatchesInOrder() {
+        // Given: el canal está bloqueado en la primera entrega, así que el resto se acumula en la cola
+        dispatcher = new AsyncNotificationDispatcher(channel, 100, 16, 1, BackpressurePolicy.BLOCK, meterRegistry);
+        dispatcher.notifyAccountOperation("acc-000", "TRANSFER", "first");
+        await().atMost(5, TimeUnit.SECONDS).until(() -> channel.batches.size() == 1);
+
+        // When
+        for (int i = 1; i <= 40; i++) {
+            dispatcher.notifyAccountOperation("acc-" + i, "TRANSFER", "details");
+        }
+        assertThat(dispatcher.queueDepth()).isEqualTo(40);
+        channel.release.countDown();
+
+        // Then
+        await().atMost(5, TimeUnit.SECONDS).until(() -> channel.delivered().size() == 41);
+        assertThat(channel.delivered()).extracting(Notification::recipient).startsWith("acc-000", "acc-1", "acc-2").endsWith("acc-40");
+        assertThat(channel.batches).extracting(List::size).contains(16);
+        assertThat(meterRegistry.get("versebank.notifications.batch.size").summary().max()).isEqualTo(16);
+        assertThat(meterRegistry.get("versebank.notifications.delivery.latency").timer().count()).isEqualTo(41);
+        assertThat(channel.threads).allMatch(name -> name.startsWith("notifications-"));
+    }
+
+    @Test
+    void shouldDropOldestWhenQueueIsFull() {
+        // Given
+        dispatcher = new AsyncNotificationDispatcher(channel, 2, 16, 1, BackpressurePolicy.DROP_OLDEST, meterRegistry);
+        dispatcher.sendSms("600000000", "blocking");
+        await().atMost(5, TimeUnit.SECONDS).until(() -> channel.batches.size() == 1);
+
+        // When
+        dispatcher.sendSms("600000001", "one");
+        dispatcher.sendSms("600000002", "two");
+        dispatcher.sendSms("600000003", "three");
+        channel.release.countDown();
+
+        // Then
+        await().atMost(5, TimeUnit.SECONDS).until(() -> channel.delivered().size() == 3);
+        assertThat(channel.delivered()).extracting(Notification::message).containsExactly("blocking", "two", "three");
+        assertThat(meterRegistry.get("versebank.notifications.dropped").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDeliverOnCallerThreadWhenQueueIsFull() {
+        // Given
+        dispatcher = new AsyncNotificationDispatcher(channel, 1, 16, 1, BackpressurePolicy.CALLER_RUNS, meterRegistry);
+        dispatcher.sendEmail("a@example.com", "s", "blocking");
+        await().atMost(5, TimeUnit.SECONDS).until(() -> channel.batches.size() == 1);
+        dispatcher.sendEmail("b@example.com", "s", "queued");
+        channel.release.countDown();
+        channel.block = false;
+
+        // When
+        String caller = Thread.currentThread().getName();
+        dispatcher.close(Duration.ofSeconds(5));
+        dispatcher.sendEmail("c@example.com", "s", "after close");
+
+        // Then
+        assertThat(channel.delivered()).extracting(Notification::message).containsExactly("blocking", "queued", "after close");
+        assertThat(channel.threads).contains(caller);
+        assertThat(meterRegistry.get("versebank.notifications.caller.runs").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDrainPendingNotificationsOnClose() {
+        // Given
+        channel.block = false;
+        dispatcher = new AsyncNotificationDispatcher(channel, 10_000, 64, 2, BackpressurePolicy.BLOCK, meterRegistry);
+        for (int i = 0; i < 5_000; i++) {
+            dispatcher.sendNotification("user-" + i, "subject", "message");
+        }
+
+        // When
+        dispatcher.close(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(channel.delivered()).hasSize(5_000);
+        assertThat(dispatcher.queueDepth()).isZero();
+    }
+
+    @Test
+    void shouldCountFailedBatchesAndKeepDelivering() {
+        // Given
+        channel.block = false;
+        channel.failOn = "boom";
+        dispatcher = new AsyncNotificationDispatcher(channel, 10, 1, 1, BackpressurePolicy.BLOCK, meterRegistry);
+
+        // When
+        dispatcher.sendSms("600000000", "boom");
+        dispatcher.sendSms("600000001", "ok");
+
+        // Then
+        await().atMost(5, TimeUnit.SECONDS).until(() -> channel.delivered().size() == 1);
+        assertThat(channel.delivered()).extracting(Notification::message).containsExactly("ok");
+        assertThat(meterRegistry.get("versebank.notifications.failures").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldEnqueueTransactionalNotificationsOnlyAfterCommit() {
+        // Given
+        dispatcher = new AsyncNotificationDispatcher(channel, 100, 16, 1, BackpressurePolicy.BLOCK, meterRegistry);
+        channel.release.countDown();
+        TransactionSynchronizationManager.initSynchronization();
+        List<TransactionSynchronization> committed;
+        try {
+            dispatcher.notifyAccountOperation("acc-001", "DEPOSIT", "committed");
+            committed = TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            dispatcher.notifyAccountOperation("acc-002", "DEPOSIT", "rolled back");
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // When
+        assertThat(dispatcher.queueDepth()).isZero();
+        committed.forEach(TransactionSynchronization::afterCommit);
+
+        // Then
+        await().atMost(5, TimeUnit.SECONDS).until(() -> channel.delivered().size() == 1);
+        assertThat(channel.delivered()).extracting(Notification::recipient).containsExactly("acc-001");
+    }
+
+    @Test
+    void shouldRejectInvalidConfiguration() {
+        assertThatThrownBy(() -> new AsyncNotificationDispatcher(null, 1, 1, 1, BackpressurePolicy.BLOCK, meterRegistry))
+            .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new AsyncNotificationDispatcher(channel, 0, 1, 1, BackpressurePolicy.BLOCK, meterRegistry))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Canal que registra los lotes recibidos; mientras {@code block} está activo, la primera entrega espera a {@code release}
+     */
+    private static final class RecordingChannel implements NotificationChannel {
+
+        final List<List<Notification>> batches = new CopyOnWriteArrayList<>();
+        final List<String> threads = new CopyOnWriteArrayList<>();
+        final CountDownLatch release = new CountDownLatch(1);
+        volatile boolean block = true;
+        volatile String failOn;
+
+        @Override
+        public void deliver(List<Notification> batch) {
+            if (batch.stream().anyMatch(n -> n.message() != null && n.message().equals(failOn))) {
+                throw new IllegalStateException("Channel unavailable");
+            }
+            batches.add(List.copyOf(batch));
+            threads.add(Thread.currentThread().getName());
+            if (block && batches.size() == 1) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        List<Notification> delivered() {
+            return batches.stream().flatMap(List::stream).toList();
+        }
+
+        @Override public void sendNotification(String recipient, String subject, String message) {}
+        @Override public void sendEmail(String email, String subject, String message) {}
+        @Override public void sendSms(String phoneNumber, String message) {}
+        @Override public void notifyAccountOperation(String accountId, String operation, String details) {}
+        @Override public void broadcastEvent(DomainEvent event) {}
+    }
+}
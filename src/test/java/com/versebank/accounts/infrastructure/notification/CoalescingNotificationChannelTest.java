@@ -0,0 +1,177 @@
+package com.versebank.accounts.infrastructure.notification;
+
+import com.versebank.accounts.domain.events.DomainEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Test suite for CoalescingNotificationChannel windows and digests
+ */
+@DisplayName("CoalescingNotificationChannel Tests")
+class CoalescingNotificationChannelTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(2);
+    private static final Duration MAX_DELAY = Duration.ofSeconds(10);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong clock = new AtomicLong();
+    private final RecordingChannel delegate = new RecordingChannel();
+    private final CoalescingNotificationChannel channel =
+        new CoalescingNotificationChannel(delegate, WINDOW, MAX_DELAY, meterRegistry, clock::get, false);
+
+    @Test
+    void shouldMergeBurstForSameAccountIntoOneDigest() {
+        // Given
+        for (int i = 0; i < 300; i++) {
+            channel.deliver(List.of(Notification.accountOperation("acc-001", "TRANSFER_IN", "Transfer of " + i + " from payroll")));
+            advance(5);
+        }
+        channel.deliver(List.of(Notification.accountOperation("acc-001", "TRANSFER_OUT", "Transfer of 50 to rent")));
+
+        // When: aún dentro de la ventana
+        assertThat(channel.flushDue()).isZero();
+        advance(2_000);
+        int delivered = channel.flushDue();
+
+        // Then
+        assertThat(delivered).isEqualTo(1);
+        Notification digest = delegate.delivered.get(0);
+        assertThat(digest.recipient()).isEqualTo("acc-001");
+        assertThat(digest.subject()).isEqualTo(NotificationDigest.OPERATION);
+        assertThat(digest.message()).isEqualTo("301 operations: TRANSFER_IN x300, TRANSFER_OUT x1 | last: Transfer of 50 to rent");
+        assertThat(meterRegistry.get("versebank.notifications.coalesced").counter().count()).isEqualTo(300);
+        assertThat(meterRegistry.get("versebank.notifications.digests").counter().count()).isEqualTo(1);
+        assertThat(channel.pendingAccounts()).isZero();
+    }
+
+    @Test
+    void shouldDeliverSingleOperationUnchanged() {
+        // Given
+        Notification operation = Notification.accountOperation("acc-001", "TRANSFER_IN", "Transfer of 10");
+        channel.deliver(List.of(operation));
+
+        // When
+        advance(2_000);
+        channel.flushDue();
+
+        // Then
+        assertThat(delegate.delivered).containsExactly(operation);
+    }
+
+    @Test
+    void shouldKeepAccountsSeparate() {
+        // Given
+        channel.deliver(List.of(
+            Notification.accountOperation("acc-001", "TRANSFER_OUT", "a"),
+            Notification.accountOperation("acc-002", "TRANSFER_IN", "b"),
+            Notification.accountOperation("acc-001", "TRANSFER_OUT", "c")));
+
+        // When
+        advance(2_000);
+        channel.flushDue();
+
+        // Then
+        assertThat(delegate.delivered).extracting(Notification::recipient).containsExactlyInAnyOrder("acc-001", "acc-002");
+    }
+
+    @Test
+    void shouldFlushContinuousBurstAtMaxDelay() {
+        // Given: una operación cada segundo nunca deja vencer la ventana de 2 s
+        for (int i = 0; i < 9; i++) {
+            channel.deliver(List.of(Notification.accountOperation("acc-001", "TRANSFER_IN", "op " + i)));
+            advance(1_000);
+            assertThat(channel.flushDue()).isZero();
+        }
+
+        // When
+        channel.deliver(List.of(Notification.accountOperation("acc-001", "TRANSFER_IN", "op 9")));
+        advance(1_000);
+
+        // Then
+        assertThat(channel.flushDue()).isEqualTo(1);
+        assertThat(delegate.delivered.get(0).message()).startsWith("10 operations");
+    }
+
+    @Test
+    void shouldPassOtherNotificationsThroughImmediately() {
+        // When
+        channel.sendEmail("user@example.com", "Welcome", "Hello");
+        channel.sendSms("600000000", "Code 1234");
+
+        // Then
+        assertThat(delegate.delivered).extracting(Notification::kind)
+            .containsExactly(Notification.Kind.EMAIL, Notification.Kind.SMS);
+        assertThat(channel.pendingAccounts()).isZero();
+    }
+
+    @Test
+    void shouldFlushPendingOnCloseAndPassThroughAfterwards() {
+        // Given
+        channel.notifyAccountOperation("acc-001", "TRANSFER_IN", "a");
+        channel.notifyAccountOperation("acc-001", "TRANSFER_IN", "b");
+
+        // When
+        channel.close();
+        channel.notifyAccountOperation("acc-001", "TRANSFER_IN", "c");
+
+        // Then
+        assertThat(delegate.delivered).extracting(Notification::message).containsExactly("2 operations: TRANSFER_IN x2 | last: b", "c");
+        assertThat(delegate.closed).isTrue();
+    }
+
+    @Test
+    void shouldFlushFromBackgroundTicker() {
+        // Given
+        CoalescingNotificationChannel ticking = new CoalescingNotificationChannel(delegate, Duration.ofMillis(50), Duration.ofMillis(200), meterRegistry);
+
+        // When
+        ticking.notifyAccountOperation("acc-001", "TRANSFER_IN", "a");
+        ticking.notifyAccountOperation("acc-001", "TRANSFER_IN", "b");
+
+        // Then
+        await().atMost(5, TimeUnit.SECONDS).until(() -> delegate.delivered.size() == 1);
+        ticking.close();
+    }
+
+    @Test
+    void shouldRejectMaxDelayShorterThanWindow() {
+        assertThatThrownBy(() -> new CoalescingNotificationChannel(delegate, Duration.ofSeconds(5), Duration.ofSeconds(1), meterRegistry))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void advance(long millis) {
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    private static final class RecordingChannel implements NotificationChannel {
+
+        final List<Notification> delivered = new CopyOnWriteArrayList<>();
+        volatile boolean closed;
+
+        @Override
+        public void deliver(List<Notification> batch) {
+            delivered.addAll(batch);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        @Override public void sendNotification(String recipient, String subject, String message) {}
+        @Override public void sendEmail(String email, String subject, String message) {}
+        @Override public void sendSms(String phoneNumber, String message) {}
+        @Override public void notifyAccountOperation(String accountId, String operation, String details) {}
+        @Override public void broadcastEvent(DomainEvent event) {}
+    }
+}
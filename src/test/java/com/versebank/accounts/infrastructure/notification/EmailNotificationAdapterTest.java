@@ -355,6 +355,48 @@ class EmailNotificationAdapterTest {
         assertThat(creationOutput).contains("Event: AccountCreated");
     }
     
+    @Test
+    @DisplayName("Should write a whole batch with the same format as single messages")
+    void shouldDeliverBatchWithSameFormatAsSingleMessages() {
+        // Given
+        emailNotificationAdapter.notifyAccountOperation("acc-001", "TRANSFER", "Transfer of 10");
+        emailNotificationAdapter.sendEmail("user@example.com", "Welcome", "Hello");
+        String expected = outContent.toString();
+        outContent.reset();
+
+        // When
+        emailNotificationAdapter.deliver(java.util.List.of(
+            Notification.accountOperation("acc-001", "TRANSFER", "Transfer of 10"),
+            Notification.email("user@example.com", "Welcome", "Hello")));
+
+        // Then
+        assertThat(outContent.toString()).isEqualTo(expected);
+    }
+    
+    @Test
+    @DisplayName("Should select the account operation template by channel and operation")
+    void shouldSelectTemplateByChannelAndOperation() {
+        // Given
+        NotificationTemplates templates = NotificationTemplates.of(java.util.Map.of(
+            NotificationTemplates.DEFAULT, java.util.Map.of("DEPOSIT", "Deposit on {accountId}: {details}"),
+            "email", java.util.Map.of("TRANSFER_IN", "{operation} for {accountId}: {details}"),
+            "sms", java.util.Map.of(NotificationTemplates.DEFAULT, "{details}")));
+        EmailNotificationAdapter adapter = new EmailNotificationAdapter(templates);
+
+        // When
+        adapter.notifyAccountOperation("acc-001", "TRANSFER_IN", "Transfer of 10");
+        adapter.notifyAccountOperation("acc-001", "DEPOSIT", "Deposit of 5");
+        adapter.notifyAccountOperation("acc-001", "WITHDRAWAL", "Withdrawal of 1");
+
+        // Then
+        assertThat(outContent.toString())
+            .contains("Message: TRANSFER_IN for acc-001: Transfer of 10")
+            .contains("Message: Deposit on acc-001: Deposit of 5")
+            .contains("Message: Account: acc-001 | Operation: WITHDRAWAL | Details: Withdrawal of 1");
+        assertThat(templates.renderAccountOperation("sms", "acc-001", "DEPOSIT", "Deposit of 5")).isEqualTo("Deposit of 5");
+        assertThat(templates.renderAccountOperation("push", "acc-001", "DEPOSIT", "Deposit of 5")).isEqualTo("Deposit on acc-001: Deposit of 5");
+    }
+
     // Helper class for testing domain events
     private static class TestDomainEvent extends DomainEvent {
         public TestDomainEvent(String eventType) {
@@ -0,0 +1,260 @@
+package com.versebank.accounts.infrastructure.notification;
+
+import com.versebank.accounts.domain.events.DomainEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Test suite for FanOutNotificationChannel with local stub channels
+ */
+@DisplayName("FanOutNotificationChannel Tests")
+class FanOutNotificationChannelTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong clock = new AtomicLong();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("Should deliver to every channel only the kinds it supports")
+    void shouldFanOutToAllChannels() {
+        // Given
+        StubChannel email = new StubChannel("email");
+        StubChannel sms = new StubChannel("sms", Notification.Kind.EMAIL);
+        FanOutNotificationChannel fanOut = fanOut(Duration.ofSeconds(1), email, sms);
+
+        // When
+        fanOut.deliver(List.of(
+            Notification.accountOperation("acc-001", "DEPOSIT", "Deposit of 10"),
+            Notification.email("user@example.com", "Welcome", "Hello")), Set.of()).join();
+
+        // Then
+        assertThat(email.delivered).extracting(Notification::kind)
+            .containsExactly(Notification.Kind.ACCOUNT_OPERATION, Notification.Kind.EMAIL);
+        assertThat(sms.delivered).extracting(Notification::kind).containsExactly(Notification.Kind.ACCOUNT_OPERATION);
+        assertThat(meterRegistry.get("versebank.notifications.channel.latency").tag("channel", "sms").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should return without waiting for a slow channel and count its timeout without interrupting it")
+    void shouldTimeOutSlowChannel() {
+        // Given
+        StubChannel fast = new StubChannel("email");
+        StubChannel slow = new StubChannel("sms").blockingOn(release);
+        FanOutNotificationChannel fanOut = new FanOutNotificationChannel(List.of(fast, slow), Duration.ofSeconds(5),
+            Map.of("sms", Duration.ofSeconds(1)), 16, 5, Duration.ofSeconds(30), channel -> null, meterRegistry, clock::get);
+
+        // When
+        long start = System.nanoTime();
+        CompletableFuture<Set<String>> outcome = fanOut.deliver(List.of(Notification.sms("600000000", "code")), Set.of());
+        long submitMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Then
+        assertThat(submitMillis).isLessThan(500);
+        assertThat(outcome.join()).containsExactly("sms");
+        assertThat(fast.delivered).hasSize(1);
+        assertThat(failures("sms", "timeout")).isEqualTo(1);
+        assertThat(failures("email", "timeout")).isZero();
+
+        // When: el canal lento termina después de su plazo
+        release.countDown();
+
+        // Then: el lote no se ha descartado
+        await().atMost(5, TimeUnit.SECONDS).until(() -> slow.delivered.size() == 1);
+        assertThat(failures("sms", "error")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should open the circuit of a failing channel and close it after a successful trial")
+    void shouldOpenAndCloseCircuit() {
+        // Given
+        StubChannel healthy = new StubChannel("email");
+        StubChannel failing = new StubChannel("sms").failing(true);
+        FanOutNotificationChannel fanOut = new FanOutNotificationChannel(List.of(healthy, failing), Duration.ofSeconds(1),
+            Map.of(), 16, 3, Duration.ofSeconds(30), channel -> null, meterRegistry, clock::get);
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            sendSms(fanOut, "code " + i);
+        }
+
+        // Then
+        assertThat(healthy.delivered).hasSize(5);
+        assertThat(failures("sms", "error")).isEqualTo(3);
+        assertThat(fanOut.circuitState("sms")).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(meterRegistry.get("versebank.notifications.channel.short.circuited").tag("channel", "sms").counter().count())
+            .isEqualTo(2);
+
+        // When: pasado el tiempo de apertura, la prueba va bien
+        failing.failing(false);
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+        sendSms(fanOut, "trial");
+
+        // Then
+        assertThat(fanOut.circuitState("sms")).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(failing.delivered).extracting(Notification::message).containsExactly("trial");
+    }
+
+    @Test
+    @DisplayName("Should reopen the circuit when the trial delivery fails")
+    void shouldReopenCircuitOnFailedTrial() {
+        // Given
+        StubChannel failing = new StubChannel("sms").failing(true);
+        FanOutNotificationChannel fanOut = new FanOutNotificationChannel(List.of(failing), Duration.ofSeconds(1),
+            Map.of(), 16, 1, Duration.ofSeconds(10), channel -> null, meterRegistry, clock::get);
+        sendSms(fanOut, "first");
+
+        // When
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        sendSms(fanOut, "trial");
+        sendSms(fanOut, "rejected");
+
+        // Then
+        assertThat(fanOut.circuitState("sms")).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(failures("sms", "error")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should apply each channel's own per-recipient limit and release what it held on close")
+    void shouldLimitEachChannelSeparately() {
+        // Given: tres fichas para el email y una para el SMS
+        StubChannel email = new StubChannel("email");
+        StubChannel sms = new StubChannel("sms");
+        FanOutNotificationChannel fanOut = new FanOutNotificationChannel(List.of(email, sms), Duration.ofSeconds(1), Map.of(), 16, 5,
+            Duration.ofSeconds(30), channel -> new RateLimitingNotificationChannel(channel, channel.name().equals("sms") ? 1 : 3, 1.0,
+                OverLimitPolicy.DEFER, 100, Duration.ofMinutes(1), meterRegistry, clock::get, false), meterRegistry, clock::get);
+
+        // When
+        for (int i = 1; i <= 3; i++) {
+            fanOut.deliver(List.of(Notification.notification("user-1", "Code", "code " + i)));
+        }
+
+        // Then
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+            assertThat(email.delivered).extracting(Notification::message).containsExactly("code 1", "code 2", "code 3");
+            assertThat(sms.delivered).extracting(Notification::message).containsExactly("code 1");
+        });
+        assertThat(fanOut.tryAcquire("email", Notification.notification("user-1", "Code", "code 4"))).isFalse();
+        assertThat(fanOut.tryAcquire("sms", Notification.notification("user-2", "Code", "code 1"))).isTrue();
+        assertThat(meterRegistry.get("versebank.notifications.throttled").tag("channel", "sms").tag("outcome", "deferred")
+            .counter().count()).isEqualTo(2);
+
+        // When
+        fanOut.close();
+
+        // Then
+        assertThat(sms.delivered).extracting(Notification::message).containsExactly("code 1", "code 2", "code 3");
+    }
+
+    @Test
+    @DisplayName("Should close every channel on close")
+    void shouldCloseChannels() {
+        // Given
+        StubChannel email = new StubChannel("email");
+        StubChannel sms = new StubChannel("sms");
+        FanOutNotificationChannel fanOut = fanOut(Duration.ofSeconds(1), email, sms);
+        fanOut.notifyAccountOperation("acc-001", "DEPOSIT", "Deposit of 10");
+
+        // When
+        fanOut.close();
+
+        // Then
+        assertThat(email.closed).isTrue();
+        assertThat(sms.closed).isTrue();
+    }
+
+    private FanOutNotificationChannel fanOut(Duration timeout, NotificationChannel... channels) {
+        return new FanOutNotificationChannel(List.of(channels), timeout, Map.of(), 16, 5, Duration.ofSeconds(30),
+            channel -> null, meterRegistry, clock::get);
+    }
+
+    private static void sendSms(FanOutNotificationChannel fanOut, String message) {
+        fanOut.deliver(List.of(Notification.sms("600000000", message)), Set.of()).join();
+    }
+
+    private double failures(String channel, String reason) {
+        return meterRegistry.get("versebank.notifications.channel.failures")
+            .tag("channel", channel).tag("reason", reason).counter().count();
+    }
+
+    private static final class StubChannel implements NotificationChannel {
+
+        private final String name;
+        private final List<Notification.Kind> unsupported;
+        final List<Notification> delivered = new CopyOnWriteArrayList<>();
+        private volatile CountDownLatch blocker;
+        private volatile boolean failing;
+        volatile boolean closed;
+
+        StubChannel(String name, Notification.Kind... unsupported) {
+            this.name = name;
+            this.unsupported = List.of(unsupported);
+        }
+
+        StubChannel blockingOn(CountDownLatch latch) {
+            this.blocker = latch;
+            return this;
+        }
+
+        StubChannel failing(boolean failing) {
+            this.failing = failing;
+            return this;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public boolean supports(Notification.Kind kind) {
+            return !unsupported.contains(kind);
+        }
+
+        @Override
+        public void deliver(List<Notification> batch) {
+            if (blocker != null) {
+                try {
+                    blocker.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+            if (failing) {
+                throw new IllegalStateException("Channel " + name + " is down");
+            }
+            delivered.addAll(batch);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        @Override public void sendNotification(String recipient, String subject, String message) {}
+        @Override public void sendEmail(String email, String subject, String message) {}
+        @Override public void sendSms(String phoneNumber, String message) {}
+        @Override public void notifyAccountOperation(String accountId, String operation, String details) {}
+        @Override public void broadcastEvent(DomainEvent event) {}
+    }
+}
@@ -0,0 +1,377 @@
+package com.versebank.accounts.infrastructure.notification;
+
+import com.versebank.accounts.application.port.out.NotificationPort;
+import com.versebank.accounts.domain.events.DomainEvent;
+import com.versebank.accounts.domain.support.DomainClocks;
+import com.versebank.accounts.domain.support.ManualDomainClock;
+import com.versebank.accounts.domain.support.SystemDomainClock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for NotificationOutbox and NotificationRelay against an in-memory H2 schema
+ */
+@DisplayName("NotificationOutbox Tests")
+class NotificationOutboxTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ManualDomainClock clock = new ManualDomainClock(LocalDateTime.of(2024, 1, 15, 10, 0));
+    private final NotificationPort fallback = mock(NotificationPort.class);
+    private final List<AutoCloseable> resources = new ArrayList<>();
+    private JdbcDataSource dataSource;
+    private JdbcTemplate jdbc;
+    private StubChannel email;
+    private StubChannel sms;
+
+    @BeforeEach
+    void setUp() {
+        DomainClocks.use(clock);
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:outbox-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE notification_outbox (id VARCHAR(255) PRIMARY KEY, kind VARCHAR(255) NOT NULL, " +
+            "recipient VARCHAR(255), subject VARCHAR(255), message VARCHAR(4000), status VARCHAR(255) NOT NULL, " +
+            "attempts INT NOT NULL, next_attempt_at TIMESTAMP NOT NULL, delivered_channels VARCHAR(255) NOT NULL, " +
+            "last_error VARCHAR(1000), created_at TIMESTAMP NOT NULL, updated_at TIMESTAMP NOT NULL)");
+        email = new StubChannel("email");
+        sms = new StubChannel("sms");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (AutoCloseable resource : resources) {
+            resource.close();
+        }
+        jdbc.execute("SHUTDOWN");
+        DomainClocks.use(new SystemDomainClock());
+    }
+
+    @Test
+    @DisplayName("Should persist concurrent notifications before returning to the caller")
+    void shouldPersistConcurrentAppends() throws InterruptedException {
+        // Given
+        NotificationOutbox outbox = outbox(dataSource);
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+
+        // When
+        for (int t = 0; t < 8; t++) {
+            int caller = t;
+            callers.execute(() -> {
+                for (int i = 0; i < 50; i++) {
+                    outbox.notifyAccountOperation("acc-" + caller, "DEPOSIT", "Deposit of " + i);
+                }
+            });
+        }
+        callers.shutdown();
+        assertThat(callers.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        // Then
+        assertThat(outbox.count(NotificationOutbox.STATUS_PENDING)).isEqualTo(400);
+        assertThat(meterRegistry.get("versebank.notifications.outbox.append.latency").timer().count()).isEqualTo(400);
+        verifyNoInteractions(fallback);
+    }
+
+    @Test
+    @DisplayName("Should delete delivered rows so they are never sent again")
+    void shouldAcknowledgeDeliveredRows() {
+        // Given
+        NotificationOutbox outbox = outbox(dataSource);
+        NotificationRelay relay = relay(outbox, email, sms);
+        outbox.sendSms("600000000", "code 1");
+        outbox.sendEmail("user@example.com", "Welcome", "Hello");
+
+        // When
+        int relayed = relay.relayOnce();
+        int relayedAgain = relay.relayOnce();
+
+        // Then
+        assertThat(relayed).isEqualTo(2);
+        assertThat(relayedAgain).isZero();
+        assertThat(email.messages()).containsExactly("code 1", "Hello");
+        assertThat(outbox.count(NotificationOutbox.STATUS_PENDING)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should retry with exponential backoff only on the channels that failed")
+    void shouldRetryFailedChannelsWithBackoff() {
+        // Given
+        NotificationOutbox outbox = outbox(dataSource);
+        NotificationRelay relay = relay(outbox, email, sms);
+        sms.failing = true;
+        outbox.notifyAccountOperation("acc-001", "DEPOSIT", "Deposit of 10");
+
+        // When
+        relay.relayOnce();
+
+        // Then: el email ya se entregó y el reintento espera la primera espera
+        assertThat(email.messages()).containsExactly("Deposit of 10");
+        assertThat(jdbc.queryForObject("SELECT delivered_channels FROM notification_outbox", String.class)).isEqualTo("email");
+        assertThat(relay.relayOnce()).isZero();
+
+        // When: vence la espera y el SMS se recupera
+        sms.failing = false;
+        clock.advance(Duration.ofSeconds(1));
+        relay.relayOnce();
+
+        // Then
+        assertThat(sms.messages()).containsExactly("Deposit of 10");
+        assertThat(email.messages()).containsExactly("Deposit of 10");
+        assertThat(outbox.count(NotificationOutbox.STATUS_PENDING)).isZero();
+        assertThat(relay.backoff(1)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(relay.backoff(4)).isEqualTo(Duration.ofSeconds(8));
+        assertThat(relay.backoff(40)).isEqualTo(Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("Should dead-letter notifications after the maximum number of attempts")
+    void shouldDeadLetterAfterMaxAttempts() {
+        // Given
+        NotificationOutbox outbox = outbox(dataSource);
+        NotificationRelay relay = relay(outbox, sms);
+        sms.failing = true;
+        outbox.sendSms("600000000", "code");
+
+        // When
+        for (int attempt = 0; attempt < 3; attempt++) {
+            relay.relayOnce();
+            clock.advance(Duration.ofMinutes(1));
+        }
+
+        // Then
+        assertThat(outbox.count(NotificationOutbox.STATUS_PENDING)).isZero();
+        assertThat(outbox.count(NotificationOutbox.STATUS_DEAD)).isEqualTo(1);
+        assertThat(relay.relayOnce()).isZero();
+        assertThat(meterRegistry.get("versebank.notifications.outbox.dead.letters").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should resume pending deliveries after a restart")
+    void shouldResumeAfterRestart() throws Exception {
+        // Given: se guardan antes de la caída, sin relé
+        NotificationOutbox beforeCrash = new NotificationOutbox(dataSource, new DataSourceTransactionManager(dataSource),
+            fallback, meterRegistry);
+        beforeCrash.notifyAccountOperation("acc-001", "TRANSFER_OUT", "Transfer of 10 to account acc-002");
+        beforeCrash.notifyAccountOperation("acc-002", "TRANSFER_IN", "Transfer of 10 from account acc-001");
+        beforeCrash.close();
+
+        // When
+        NotificationOutbox outbox = outbox(dataSource);
+        relay(outbox, email).relayOnce();
+
+        // Then
+        assertThat(email.messages()).containsExactly("Transfer of 10 to account acc-002", "Transfer of 10 from account acc-001");
+        assertThat(outbox.count(NotificationOutbox.STATUS_PENDING)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should deliver pending operations of the same account as one digest")
+    void shouldDigestPendingOperations() {
+        // Given
+        NotificationOutbox outbox = outbox(dataSource);
+        NotificationRelay relay = relay(outbox, email);
+        outbox.notifyAccountOperation("acc-001", "TRANSFER_IN", "Transfer of 1");
+        outbox.sendSms("600000000", "code");
+        outbox.notifyAccountOperation("acc-001", "TRANSFER_IN", "Transfer of 2");
+        outbox.notifyAccountOperation("acc-001", "TRANSFER_OUT", "Transfer of 3");
+
+        // When
+        relay.relayOnce();
+
+        // Then
+        assertThat(email.messages()).containsExactly("3 operations: TRANSFER_IN x2, TRANSFER_OUT x1 | last: Transfer of 3", "code");
+        assertThat(outbox.count(NotificationOutbox.STATUS_PENDING)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should deliver through the fallback port when the row cannot be persisted")
+    void shouldFallBackWhenPersistenceFails() {
+        // Given
+        JdbcDataSource missingTable = new JdbcDataSource();
+        missingTable.setURL("jdbc:h2:mem:outbox-missing-" + System.nanoTime());
+        NotificationOutbox outbox = outbox(missingTable);
+
+        // When
+        outbox.notifyAccountOperation("acc-001", "DEPOSIT", "Deposit of 10");
+
+        // Then
+        verify(fallback).notifyAccountOperation("acc-001", "DEPOSIT", "Deposit of 10");
+        assertThat(meterRegistry.get("versebank.notifications.outbox.fallbacks").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should write the row in the caller's transaction and wake the relay only after it commits")
+    void shouldJoinCallerTransaction() {
+        // Given
+        NotificationOutbox outbox = outbox(dataSource);
+        AtomicInteger wakeUps = new AtomicInteger();
+        outbox.onCommit(wakeUps::incrementAndGet);
+        TransactionTemplate transactions = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        // When
+        transactions.executeWithoutResult(status -> {
+            outbox.notifyAccountOperation("acc-001", "DEPOSIT", "Deposit of 10");
+            status.setRollbackOnly();
+        });
+        transactions.executeWithoutResult(status -> {
+            outbox.notifyAccountOperation("acc-001", "DEPOSIT", "Deposit of 20");
+            assertThat(wakeUps).hasValue(0);
+        });
+
+        // Then
+        assertThat(jdbc.queryForList("SELECT message FROM notification_outbox", String.class)).containsExactly("Deposit of 20");
+        assertThat(wakeUps).hasValue(1);
+        verifyNoInteractions(fallback);
+    }
+
+    @Test
+    @DisplayName("Should keep rate-limited rows in the table instead of acknowledging them")
+    void shouldPostponeRateLimitedRows() {
+        // Given: una ficha por destinatario y una por segundo
+        NotificationOutbox outbox = outbox(dataSource);
+        AtomicLong nanos = new AtomicLong();
+        NotificationRelay relay = new NotificationRelay(outbox, limitedFanOut(nanos, 1, email), 100, Duration.ofSeconds(1), 3,
+            Duration.ofSeconds(1), Duration.ofMinutes(1), meterRegistry, false);
+        outbox.sendSms("600000000", "code 1");
+        outbox.sendSms("600000000", "code 2");
+        outbox.notifyAccountOperation("acc-001", "TRANSFER_IN", "Transfer of 1");
+        outbox.notifyAccountOperation("acc-001", "TRANSFER_IN", "Transfer of 2");
+
+        // When
+        relay.relayOnce();
+
+        // Then: el segundo SMS sigue pendiente sin gastar intento; las operaciones comparten ficha
+        assertThat(email.messages()).containsExactly("code 1", "2 operations: TRANSFER_IN x2 | last: Transfer of 2");
+        assertThat(outbox.count(NotificationOutbox.STATUS_PENDING)).isEqualTo(1);
+        assertThat(jdbc.queryForObject("SELECT attempts FROM notification_outbox", Integer.class)).isZero();
+        assertThat(relay.relayOnce()).isZero();
+
+        // When: vence la espera y hay ficha
+        clock.advance(Duration.ofSeconds(1));
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        relay.relayOnce();
+
+        // Then
+        assertThat(email.messages()).containsExactly("code 1", "2 operations: TRANSFER_IN x2 | last: Transfer of 2", "code 2");
+        assertThat(outbox.count(NotificationOutbox.STATUS_PENDING)).isZero();
+        assertThat(meterRegistry.get("versebank.notifications.outbox.throttled").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should deliver to channels with tokens and reschedule only the throttled ones")
+    void shouldThrottleEachChannelSeparately() {
+        // Given: dos fichas por destinatario en el email y una en el SMS
+        NotificationOutbox outbox = outbox(dataSource);
+        AtomicLong nanos = new AtomicLong();
+        FanOutNotificationChannel fanOut = new FanOutNotificationChannel(List.of(email, sms), Duration.ofSeconds(5), Map.of(),
+            16, 100, Duration.ofSeconds(30), channel -> new RateLimitingNotificationChannel(channel,
+                channel.name().equals("sms") ? 1 : 2, 1.0, OverLimitPolicy.DEFER, 100, Duration.ofMinutes(1), meterRegistry, nanos::get, false),
+            meterRegistry);
+        resources.add(fanOut);
+        NotificationRelay relay = new NotificationRelay(outbox, fanOut, 100, Duration.ofSeconds(1), 3,
+            Duration.ofSeconds(1), Duration.ofMinutes(1), meterRegistry, false);
+        outbox.sendNotification("user-1", "Code", "code 1");
+        outbox.sendNotification("user-1", "Code", "code 2");
+
+        // When
+        relay.relayOnce();
+
+        // Then: el email entrega las dos; la segunda queda pendiente solo para el SMS, sin gastar intento
+        assertThat(email.messages()).containsExactly("code 1", "code 2");
+        assertThat(sms.messages()).containsExactly("code 1");
+        assertThat(jdbc.queryForObject("SELECT delivered_channels FROM notification_outbox", String.class)).isEqualTo("email");
+        assertThat(jdbc.queryForObject("SELECT attempts FROM notification_outbox", Integer.class)).isZero();
+        assertThat(jdbc.queryForObject("SELECT last_error FROM notification_outbox", String.class)).isEqualTo("Rate limited: sms");
+
+        // When: vence la espera y el SMS tiene ficha
+        clock.advance(Duration.ofSeconds(1));
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        relay.relayOnce();
+
+        // Then
+        assertThat(sms.messages()).containsExactly("code 1", "code 2");
+        assertThat(email.messages()).containsExactly("code 1", "code 2");
+        assertThat(outbox.count(NotificationOutbox.STATUS_PENDING)).isZero();
+    }
+
+    private NotificationOutbox outbox(JdbcDataSource source) {
+        NotificationOutbox outbox = new NotificationOutbox(source, new DataSourceTransactionManager(source), fallback, meterRegistry);
+        resources.add(outbox);
+        return outbox;
+    }
+
+    private NotificationRelay relay(NotificationOutbox outbox, NotificationChannel... channels) {
+        return new NotificationRelay(outbox, fanOut(channels), 100, Duration.ofSeconds(1), 3, Duration.ofSeconds(1),
+            Duration.ofMinutes(1), meterRegistry, false);
+    }
+
+    private FanOutNotificationChannel fanOut(NotificationChannel... channels) {
+        FanOutNotificationChannel fanOut = new FanOutNotificationChannel(List.of(channels), Duration.ofSeconds(5), Map.of(),
+            16, 100, Duration.ofSeconds(30), meterRegistry);
+        resources.add(fanOut);
+        return fanOut;
+    }
+
+    private FanOutNotificationChannel limitedFanOut(AtomicLong nanos, int burst, NotificationChannel... channels) {
+        FanOutNotificationChannel fanOut = new FanOutNotificationChannel(List.of(channels), Duration.ofSeconds(5), Map.of(),
+            16, 100, Duration.ofSeconds(30), channel -> new RateLimitingNotificationChannel(channel, burst, 1.0, OverLimitPolicy.DEFER,
+                100, Duration.ofMinutes(1), meterRegistry, nanos::get, false), meterRegistry);
+        resources.add(fanOut);
+        return fanOut;
+    }
+
+    private static final class StubChannel implements NotificationChannel {
+
+        private final String name;
+        private final List<Notification> delivered = new CopyOnWriteArrayList<>();
+        volatile boolean failing;
+
+        StubChannel(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public void deliver(List<Notification> batch) {
+            if (failing) {
+                throw new IllegalStateException("Channel " + name + " is down");
+            }
+            delivered.addAll(batch);
+        }
+
+        List<String> messages() {
+            return delivered.stream().map(Notification::message).toList();
+        }
+
+        @Override public void sendNotification(String recipient, String subject, String message) {}
+        @Override public void sendEmail(String email, String subject, String message) {}
+        @Override public void sendSms(String phoneNumber, String message) {}
+        @Override public void notifyAccountOperation(String accountId, String operation, String details) {}
+        @Override public void broadcastEvent(DomainEvent event) {}
+    }
+}
@@ -0,0 +1,223 @@
+package com.versebank.accounts.infrastructure.notification;
+
+import com.versebank.accounts.domain.events.DomainEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Test suite for RateLimitingNotificationChannel token buckets
+ */
+@DisplayName("RateLimitingNotificationChannel Tests")
+class RateLimitingNotificationChannelTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+    private final RecordingChannel delegate = new RecordingChannel();
+
+    @Test
+    void shouldAllowBurstThenDeferUntilTokensRefill() {
+        // Given: ráfaga de 3 y una ficha por segundo
+        RateLimitingNotificationChannel channel = limiter(3, 1.0, OverLimitPolicy.DEFER);
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            channel.sendSms("600000000", "code " + i);
+        }
+
+        // Then
+        assertThat(delegate.messages()).containsExactly("code 0", "code 1", "code 2");
+        assertThat(throttled("deferred")).isEqualTo(2);
+
+        advance(500);
+        assertThat(channel.releaseDeferred()).isZero();
+        advance(500);
+        assertThat(channel.releaseDeferred()).isEqualTo(1);
+        advance(1_000);
+        assertThat(channel.releaseDeferred()).isEqualTo(1);
+        assertThat(delegate.messages()).containsExactly("code 0", "code 1", "code 2", "code 3", "code 4");
+    }
+
+    @Test
+    void shouldLimitEachRecipientIndependently() {
+        // Given
+        RateLimitingNotificationChannel channel = limiter(1, 1.0, OverLimitPolicy.DROP);
+
+        // When
+        channel.sendSms("600000001", "a");
+        channel.sendSms("600000001", "b");
+        channel.sendSms("600000002", "c");
+
+        // Then
+        assertThat(delegate.messages()).containsExactly("a", "c");
+        assertThat(throttled("dropped")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReleaseDeferredAccountOperationsAsOneDigest() {
+        // Given
+        RateLimitingNotificationChannel channel = limiter(1, 1.0, OverLimitPolicy.DEFER);
+        channel.notifyAccountOperation("acc-001", "TRANSFER_IN", "first");
+        for (int i = 0; i < 50; i++) {
+            channel.notifyAccountOperation("acc-001", "TRANSFER_IN", "payroll " + i);
+        }
+
+        // When
+        advance(1_000);
+        int released = channel.releaseDeferred();
+
+        // Then
+        assertThat(released).isEqualTo(1);
+        assertThat(delegate.messages()).containsExactly("first", "50 operations: TRANSFER_IN x50 | last: payroll 49");
+        assertThat(meterRegistry.get("versebank.notifications.throttled.released").counter().count()).isEqualTo(50);
+    }
+
+    @Test
+    void shouldKeepOrderWhileMessagesAreDeferred() {
+        // Given
+        RateLimitingNotificationChannel channel = limiter(1, 1.0, OverLimitPolicy.DEFER);
+        channel.sendSms("600000000", "1");
+        channel.sendSms("600000000", "2");
+
+        // When: ya hay ficha, pero "2" sigue retenido
+        advance(1_000);
+        channel.sendSms("600000000", "3");
+        channel.releaseDeferred();
+        advance(1_000);
+        channel.releaseDeferred();
+
+        // Then
+        assertThat(delegate.messages()).containsExactly("1", "2", "3");
+    }
+
+    @Test
+    void shouldDropWhenDeferredCapacityIsExhausted() {
+        // Given
+        RateLimitingNotificationChannel channel = new RateLimitingNotificationChannel(delegate, 1, 1.0, OverLimitPolicy.DEFER, 2,
+            Duration.ofMinutes(1), meterRegistry, clock::get, false);
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            channel.sendSms("600000000", "m" + i);
+        }
+
+        // Then
+        assertThat(throttled("deferred")).isEqualTo(2);
+        assertThat(throttled("dropped")).isEqualTo(2);
+    }
+
+    @Test
+    void shouldEvictIdleFullBuckets() {
+        // Given
+        RateLimitingNotificationChannel channel = limiter(2, 1.0, OverLimitPolicy.DEFER);
+        channel.sendSms("600000001", "a");
+        channel.sendSms("600000002", "b");
+        assertThat(channel.trackedRecipients()).isEqualTo(2);
+
+        // When
+        advance(30_000);
+        channel.sendSms("600000002", "c");
+        advance(40_000);
+        channel.releaseDeferred();
+
+        // Then
+        assertThat(channel.trackedRecipients()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNeverGrantMoreThanBurstUnderContention() throws InterruptedException {
+        // Given
+        RateLimitingNotificationChannel channel = limiter(100, 0.001, OverLimitPolicy.DROP);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        for (int t = 0; t < 8; t++) {
+            pool.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < 1_000; i++) {
+                    channel.sendSms("600000000", "x");
+                }
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // Then
+        assertThat(delegate.delivered).hasSize(100);
+        assertThat(throttled("dropped")).isEqualTo(7_900);
+    }
+
+    @Test
+    void shouldFlushDeferredOnClose() {
+        // Given
+        RateLimitingNotificationChannel channel = limiter(1, 1.0, OverLimitPolicy.DEFER);
+        channel.sendEmail("user@example.com", "s", "1");
+        channel.sendEmail("user@example.com", "s", "2");
+
+        // When
+        channel.close();
+
+        // Then
+        assertThat(delegate.messages()).containsExactly("1", "2");
+        assertThat(delegate.closed).isTrue();
+    }
+
+    private RateLimitingNotificationChannel limiter(int burst, double perSecond, OverLimitPolicy policy) {
+        return new RateLimitingNotificationChannel(delegate, burst, perSecond, policy, 10_000, Duration.ofMinutes(1),
+            meterRegistry, clock::get, false);
+    }
+
+    private void advance(long millis) {
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    private double throttled(String outcome) {
+        return meterRegistry.get("versebank.notifications.throttled").tag("outcome", outcome).counter().count();
+    }
+
+    private static final class RecordingChannel implements NotificationChannel {
+
+        final List<Notification> delivered = new CopyOnWriteArrayList<>();
+        volatile boolean closed;
+
+        @Override
+        public void deliver(List<Notification> batch) {
+            delivered.addAll(batch);
+        }
+
+        List<String> messages() {
+            List<String> messages = new ArrayList<>();
+            delivered.forEach(notification -> messages.add(notification.message()));
+            return messages;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        @Override public void sendNotification(String recipient, String subject, String message) {}
+        @Override public void sendEmail(String email, String subject, String message) {}
+        @Override public void sendSms(String phoneNumber, String message) {}
+        @Override public void notifyAccountOperation(String accountId, String operation, String details) {}
+        @Override public void broadcastEvent(DomainEvent event) {}
+    }
+}
@@ -0,0 +1,78 @@
+package com.versebank.accounts.infrastructure.notification;
+
+import io.r2dbc.spi.ConnectionFactories;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for ReactiveNotificationOutbox against an in-memory H2 database over R2DBC
+ */
+@DisplayName("ReactiveNotificationOutbox Tests")
+class ReactiveNotificationOutboxTest {
+
+    private DatabaseClient databaseClient;
+    private TransactionalOperator transactionalOperator;
+    private NotificationOutbox outbox;
+    private ReactiveNotificationOutbox reactiveOutbox;
+
+    @BeforeEach
+    void setUp() {
+        databaseClient = DatabaseClient.create(ConnectionFactories.get(
+            "r2dbc:h2:mem:///reactive-outbox-" + System.nanoTime() + "?options=DB_CLOSE_DELAY=-1"));
+        databaseClient.sql("CREATE TABLE notification_outbox (id VARCHAR(255) PRIMARY KEY, kind VARCHAR(255) NOT NULL, " +
+            "recipient VARCHAR(255), subject VARCHAR(255), message VARCHAR(4000), status VARCHAR(255) NOT NULL, " +
+            "attempts INT NOT NULL, next_attempt_at TIMESTAMP NOT NULL, delivered_channels VARCHAR(255) NOT NULL, " +
+            "last_error VARCHAR(1000), created_at TIMESTAMP NOT NULL, updated_at TIMESTAMP NOT NULL)").then().block();
+        transactionalOperator = TransactionalOperator.create(new R2dbcTransactionManager(databaseClient.getConnectionFactory()));
+        outbox = mock(NotificationOutbox.class);
+        reactiveOutbox = new ReactiveNotificationOutbox(databaseClient, outbox);
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseClient.sql("SHUTDOWN").then().block();
+    }
+
+    @Test
+    @DisplayName("Should insert a pending row in the caller's transaction and wake the relay once it commits")
+    void shouldInsertPendingRowAndWakeRelayOnCommit() {
+        // When
+        transactionalOperator.transactional(reactiveOutbox.notifyAccountOperation("acc-001", "DEPOSIT", "Deposit of 20"))
+            .block();
+
+        // Then
+        assertThat(databaseClient.sql("SELECT kind, recipient, subject, message, status, attempts FROM notification_outbox")
+            .map(row -> List.of(row.get("kind", String.class), row.get("recipient", String.class),
+                row.get("subject", String.class), row.get("message", String.class), row.get("status", String.class),
+                String.valueOf(row.get("attempts", Integer.class))))
+            .all().collectList().block())
+            .containsExactly(List.of("ACCOUNT_OPERATION", "acc-001", "DEPOSIT", "Deposit of 20", "PENDING", "0"));
+        verify(outbox).committed();
+    }
+
+    @Test
+    @DisplayName("Should roll the row back with the transaction and not wake the relay")
+    void shouldRollBackWithTransaction() {
+        // Given
+        Mono<Void> failingMovement = reactiveOutbox.notifyAccountOperation("acc-001", "DEPOSIT", "Deposit of 20")
+            .then(Mono.error(new IllegalStateException("movement failed")));
+
+        // When / Then
+        assertThatThrownBy(() -> transactionalOperator.transactional(failingMovement).block())
+            .hasMessage("movement failed");
+        assertThat(databaseClient.sql("SELECT COUNT(*) AS total FROM notification_outbox")
+            .map(row -> row.get("total", Long.class)).one().block()).isZero();
+        verify(outbox, never()).committed();
+    }
+}
@@ -1,5 +1,6 @@
 package com.versebank.accounts.infrastructure.persistence;
 
+import com.versebank.accounts.application.port.in.AccountSummary;
 import com.versebank.accounts.domain.Account;
 import com.versebank.accounts.domain.AccountId;
 import com.versebank.accounts.domain.valueobjects.AccountType;
@@ -14,8 +15,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,6 +39,9 @@ class AccountRepositoryAdapterTest {
     @Mock
     private AccountJpaRepository jpaRepository;
     
+    @Mock
+    private JdbcDomainEventStore eventStore;
+    
     private AccountRepositoryAdapter accountRepositoryAdapter;
     
     private Account testAccount;
@@ -42,7 +49,7 @@ class AccountRepositoryAdapterTest {
     
     @BeforeEach
     void setUp() {
-        accountRepositoryAdapter = new AccountRepositoryAdapter(jpaRepository);
+        accountRepositoryAdapter = new AccountRepositoryAdapter(jpaRepository, eventStore);
         
         // Setup test account
         AccountId accountId = AccountId.of("test-account-123");
@@ -128,6 +135,42 @@ class AccountRepositoryAdapterTest {
         verify(jpaRepository).save(any(AccountJpaEntity.class));
     }
     
+    @Test
+    @DisplayName("Should reject saving an account that changed since the version it was read at")
+    void shouldRejectSaveOfStaleAccount() {
+        // Given: se lee en la versión 3 y otra escritura la lleva a la 4 antes de guardar
+        ReflectionTestUtils.setField(testJpaEntity, "version", 3L);
+        when(jpaRepository.findById("test-account-123")).thenReturn(Optional.of(testJpaEntity));
+        Account loaded = accountRepositoryAdapter.findById("test-account-123").orElseThrow();
+        loaded.deposit(Transaction.create(BigDecimal.valueOf(100), "Deposit", Transaction.TransactionType.DEPOSIT));
+        ReflectionTestUtils.setField(testJpaEntity, "version", 4L);
+        
+        // When / Then
+        assertThat(loaded.getVersion()).isEqualTo(3L);
+        assertThatThrownBy(() -> accountRepositoryAdapter.save(loaded))
+            .isInstanceOf(OptimisticLockingFailureException.class)
+            .hasMessageContaining("since version 3");
+        assertThat(testJpaEntity.getBalance()).isEqualByComparingTo("1000");
+        verify(jpaRepository, never()).save(any(AccountJpaEntity.class));
+        verifyNoInteractions(eventStore);
+    }
+    
+    @Test
+    void shouldStorePendingDomainEventsAndKeepThemForPublishingOnSave() {
+        // Given
+        when(jpaRepository.findById("test-account-123")).thenReturn(Optional.of(testJpaEntity));
+        when(jpaRepository.save(any(AccountJpaEntity.class))).thenReturn(testJpaEntity);
+        testAccount.deposit(Transaction.create(BigDecimal.valueOf(100), "Deposit", Transaction.TransactionType.DEPOSIT));
+        
+        // When
+        accountRepositoryAdapter.save(testAccount);
+        
+        // Then: se publican tras confirmar, así que la cuenta los conserva
+        assertThat(testAccount.hasDomainEvents()).isTrue();
+        verify(eventStore).append(eq("test-account-123"), argThat(events ->
+            events.size() == 1 && events.get(0).getEventType().equals("MoneyDeposited")));
+    }
+    
     @Test
     void shouldDeleteAccountById() {
         // Given
@@ -214,8 +257,7 @@ class AccountRepositoryAdapterTest {
         accountRepositoryAdapter.saveDomainEvent(event);
         
         // Then
-        // Note: Current implementation just prints to console
-        // In a real implementation, this would persist to an events table
+        verify(eventStore).append(event);
         verifyNoInteractions(jpaRepository); // Should not interact with account repository
     }
     
@@ -229,6 +271,7 @@ class AccountRepositoryAdapterTest {
         
         // Then
         assertThat(events).isEmpty();
+        verify(eventStore).getDomainEvents(accountId);
         verifyNoInteractions(jpaRepository); // Should not interact with account repository
     }
     
@@ -378,4 +421,45 @@ class AccountRepositoryAdapterTest {
             super(eventType);
         }
     }
+
+    @Test
+    @DisplayName("Should load many accounts with one IN query per chunk")
+    void shouldFindAllByIdInChunks() {
+        // Given
+        List<String> ids = java.util.stream.IntStream.range(0, AccountRepositoryAdapter.IN_CHUNK_SIZE * 2 + 500)
+            .mapToObj(i -> "acc-" + i).toList();
+        when(jpaRepository.findAllById(anyIterable())).thenReturn(List.of(testJpaEntity));
+
+        // When
+        List<AccountSummary> accounts = accountRepositoryAdapter.findSummariesById(ids);
+
+        // Then
+        assertThat(accounts).hasSize(3);
+        verify(jpaRepository).findAllById(ids.subList(0, 1000));
+        verify(jpaRepository).findAllById(ids.subList(1000, 2000));
+        verify(jpaRepository).findAllById(ids.subList(2000, 2500));
+    }
+
+    @Test
+    @DisplayName("Should walk a customer's accounts from the cursor and close it")
+    void shouldStreamAccountsByCustomerId() {
+        // Given
+        java.util.concurrent.atomic.AtomicBoolean closed = new java.util.concurrent.atomic.AtomicBoolean();
+        LocalDateTime created = LocalDateTime.of(2024, 1, 1, 0, 0);
+        when(jpaRepository.streamByCustomerId("customer-1")).thenReturn(java.util.stream.Stream.of(
+                new AccountRow("acc-1", "customer-1", AccountType.SAVINGS, BigDecimal.ONE, 3L, created, created),
+                new AccountRow("acc-2", "customer-1", AccountType.CHECKING, BigDecimal.TEN, 0L, created, created))
+            .onClose(() -> closed.set(true)));
+        List<AccountSummary> seen = new java.util.ArrayList<>();
+
+        // When
+        long count = accountRepositoryAdapter.forEachSummaryByCustomerId("customer-1", seen::add);
+
+        // Then
+        assertThat(count).isEqualTo(2);
+        assertThat(seen).extracting(AccountSummary::getAccountId).containsExactly("acc-1", "acc-2");
+        assertThat(seen.get(0).getVersion()).isEqualTo(3);
+        assertThat(seen.get(0).getCreatedAt()).isEqualTo(created);
+        assertThat(closed).isTrue();
+    }
 }
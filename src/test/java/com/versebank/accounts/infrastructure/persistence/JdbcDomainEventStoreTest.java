@@ -0,0 +1,103 @@
+package com.versebank.accounts.infrastructure.persistence;
+
+import com.versebank.accounts.domain.AccountId;
+import com.versebank.accounts.domain.events.AccountOpenedEvent;
+import com.versebank.accounts.domain.events.DomainEvent;
+import com.versebank.accounts.domain.events.MoneyDepositedEvent;
+import com.versebank.accounts.domain.events.MoneyWithdrawnEvent;
+import com.versebank.accounts.domain.valueobjects.Balance;
+import com.versebank.accounts.infrastructure.events.codec.BinaryDomainEventCodec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Test suite for JdbcDomainEventStore against an in-memory H2 database
+ */
+@DisplayName("JdbcDomainEventStore Tests")
+class JdbcDomainEventStoreTest {
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcDomainEventStore store;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:domain-events-" + System.nanoTime(), "sa", "", true);
+        dataSource.setAutoCommit(true);
+        new JdbcTemplate(dataSource).execute("CREATE TABLE domain_events (id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+            "account_id VARCHAR(255) NOT NULL, event_id VARCHAR(255) NOT NULL, event_type VARCHAR(255) NOT NULL, " +
+            "occurred_at TIMESTAMP NOT NULL, payload VARBINARY(1024) NOT NULL)");
+        store = new JdbcDomainEventStore(dataSource, BinaryDomainEventCodec.standard());
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.destroy();
+    }
+
+    @Test
+    @DisplayName("Should read back each account's events decoded and in the order they were written")
+    void shouldRoundTripEventsInOrder() {
+        // Given
+        AccountId accountId = AccountId.of("acc-001");
+        DomainEvent opened = new AccountOpenedEvent(accountId, "user-001", balance(100));
+        DomainEvent deposited = new MoneyDepositedEvent(accountId, balance(50), balance(150));
+        DomainEvent withdrawn = new MoneyWithdrawnEvent(accountId, balance(30), balance(120));
+
+        // When
+        store.append("acc-001", List.of(opened, deposited));
+        store.append("acc-002", List.of(new MoneyDepositedEvent(AccountId.of("acc-002"), balance(1), balance(1))));
+        store.append(withdrawn);
+
+        // Then
+        List<DomainEvent> events = store.getDomainEvents("acc-001");
+        assertThat(events).containsExactly(opened, deposited, withdrawn);
+        assertThat(((MoneyWithdrawnEvent) events.get(2)).getNewBalance()).isEqualTo(balance(120));
+        assertThat(events.get(0).getOccurredAt()).isEqualTo(opened.getOccurredAt());
+        assertThat(store.getDomainEvents("missing")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should page through the accounts with events in id order")
+    void shouldPageEventStreamIds() {
+        // Given
+        for (String accountId : List.of("acc-003", "acc-001", "acc-002", "acc-001")) {
+            store.append(accountId, List.of(new MoneyDepositedEvent(AccountId.of(accountId), balance(1), balance(1))));
+        }
+
+        // When / Then
+        assertThat(store.findEventStreamIdsAfter("", 2)).containsExactly("acc-001", "acc-002");
+        assertThat(store.findEventStreamIdsAfter("acc-002", 2)).containsExactly("acc-003");
+        assertThat(store.findEventStreamIdsAfter("acc-003", 2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should discard the events when the surrounding transaction rolls back")
+    void shouldJoinCallerTransaction() {
+        // Given
+        TransactionTemplate transactions = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        // When
+        transactions.executeWithoutResult(status -> {
+            store.append("acc-001", List.of(new MoneyDepositedEvent(AccountId.of("acc-001"), balance(1), balance(1))));
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(store.getDomainEvents("acc-001")).isEmpty();
+    }
+
+    private static Balance balance(long amount) {
+        return Balance.of(BigDecimal.valueOf(amount));
+    }
+}
@@ -0,0 +1,144 @@
+package com.versebank.accounts.infrastructure.persistence;
+
+import com.versebank.accounts.application.port.in.AccountSummary;
+import com.versebank.accounts.application.port.out.ReactiveAccountRepository.Versioned;
+import com.versebank.accounts.domain.valueobjects.Transaction;
+import io.r2dbc.spi.ConnectionFactories;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.scheduler.Schedulers;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.versebank.accounts.domain.valueobjects.AccountType.*;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Test suite for ReactiveAccountRepositoryAdapter against an in-memory H2 database over R2DBC
+ */
+@DisplayName("ReactiveAccountRepositoryAdapter Tests")
+class ReactiveAccountRepositoryAdapterTest {
+
+    private DatabaseClient databaseClient;
+    private ReactiveAccountRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        databaseClient = DatabaseClient.create(ConnectionFactories.get(
+            "r2dbc:h2:mem:///reactive-accounts-" + System.nanoTime() + "?options=DB_CLOSE_DELAY=-1"));
+        execute("CREATE TABLE accounts (id VARCHAR(255) PRIMARY KEY, customer_id VARCHAR(255) NOT NULL, " +
+            "account_type VARCHAR(255) NOT NULL, balance DECIMAL(38, 2) NOT NULL, version BIGINT NOT NULL, " +
+            "created_at TIMESTAMP NOT NULL, updated_at TIMESTAMP NOT NULL)");
+        execute("CREATE TABLE domain_events (id BIGINT AUTO_INCREMENT PRIMARY KEY, account_id VARCHAR(255) NOT NULL, " +
+            "event_id VARCHAR(255) NOT NULL, event_type VARCHAR(255) NOT NULL, occurred_at TIMESTAMP NOT NULL, " +
+            "payload VARBINARY(1024) NOT NULL)");
+        execute("INSERT INTO accounts VALUES ('acc-002', 'user-001', 'CHECKING', 500.00, 3, LOCALTIMESTAMP, LOCALTIMESTAMP)");
+        execute("INSERT INTO accounts VALUES ('acc-001', 'user-001', 'SAVINGS', 1000.00, 0, LOCALTIMESTAMP, LOCALTIMESTAMP)");
+        adapter = new ReactiveAccountRepositoryAdapter(databaseClient);
+    }
+
+    @AfterEach
+    void tearDown() {
+        execute("SHUTDOWN");
+    }
+
+    @Test
+    @DisplayName("Should load the account with the version it was read at")
+    void shouldFindAccountWithVersion() {
+        // When
+        Versioned loaded = adapter.findById("acc-002").block();
+
+        // Then
+        assertThat(loaded.version()).isEqualTo(3);
+        assertThat(loaded.account().getAccountType()).isEqualTo(CHECKING);
+        assertThat(loaded.account().getBalance().getAmount()).isEqualByComparingTo("500");
+        assertThat(adapter.findById("missing").blockOptional()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should save the balance and its pending events and bump the version when it has not changed")
+    void shouldUpdateWithMatchingVersion() {
+        // Given
+        Versioned loaded = adapter.findById("acc-001").block();
+        loaded.account().deposit(Transaction.create(BigDecimal.valueOf(25), "Cash", Transaction.TransactionType.DEPOSIT));
+
+        // When
+        adapter.update(loaded.account(), loaded.version()).block();
+
+        // Then
+        AccountSummary saved = adapter.findSummaryById("acc-001").block();
+        assertThat(saved.getBalance()).isEqualByComparingTo("1025");
+        assertThat(saved.getVersion()).isEqualTo(1);
+        assertThat(adapter.findVersionById("acc-001").block()).isEqualTo(1);
+        assertThat(databaseClient.sql("SELECT event_type FROM domain_events WHERE account_id = 'acc-001'")
+            .map(row -> row.get("event_type", String.class)).all().collectList().block())
+            .containsExactly("MoneyDeposited");
+    }
+
+    @Test
+    @DisplayName("Should save pending events from a non-blocking thread, as the Netty event loop does")
+    void shouldUpdateFromNonBlockingThread() {
+        // Given
+        Versioned loaded = adapter.findById("acc-001").block();
+        loaded.account().deposit(Transaction.create(BigDecimal.valueOf(25), "Cash", Transaction.TransactionType.DEPOSIT));
+
+        // When
+        adapter.update(loaded.account(), loaded.version()).subscribeOn(Schedulers.parallel()).block();
+
+        // Then
+        assertThat(databaseClient.sql("SELECT COUNT(*) AS total FROM domain_events")
+            .map(row -> row.get("total", Long.class)).one().block()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject an update made with a stale version")
+    void shouldRejectStaleVersion() {
+        // Given: dos lecturas de la misma versión
+        Versioned first = adapter.findById("acc-001").block();
+        Versioned second = adapter.findById("acc-001").block();
+        adapter.update(first.account(), first.version()).block();
+
+        // When / Then
+        assertThatThrownBy(() -> adapter.update(second.account(), second.version()).block())
+            .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(adapter.findVersionById("acc-001").block()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should emit the customer's accounts ordered by id")
+    void shouldStreamCustomerAccountsInOrder() {
+        // When
+        List<AccountSummary> accounts = adapter.findSummariesByCustomerId("user-001").collectList().block();
+
+        // Then
+        assertThat(accounts).extracting(AccountSummary::getAccountId).containsExactly("acc-001", "acc-002");
+        assertThat(accounts.get(1).getVersion()).isEqualTo(3);
+        assertThat(accounts.get(0).getCreatedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should look up more ids than fit in one IN query")
+    void shouldChunkLargeIdSets() {
+        // Given
+        execute("INSERT INTO accounts SELECT 'bulk-' || X, 'bulk', 'SAVINGS', 1.00, 0, LOCALTIMESTAMP, LOCALTIMESTAMP " +
+            "FROM SYSTEM_RANGE(1, 1500)");
+        List<String> ids = IntStream.rangeClosed(1, 1600).mapToObj(i -> "bulk-" + i).toList();
+
+        // When
+        List<AccountSummary> found = adapter.findSummariesById(ids).collectList().block();
+
+        // Then
+        assertThat(found).hasSize(1500);
+        assertThat(found.get(0).getBalance()).isEqualByComparingTo("1");
+    }
+
+    private void execute(String sql) {
+        databaseClient.sql(sql).fetch().rowsUpdated().block();
+    }
+}
@@ -0,0 +1,216 @@
+package com.versebank.accounts.infrastructure.query;
+
+import com.versebank.accounts.application.TransferMoneyService;
+import com.versebank.accounts.application.port.in.AccountQueryPort;
+import com.versebank.accounts.application.port.in.AccountSummary;
+import com.versebank.accounts.application.port.out.AccountRepository;
+import com.versebank.accounts.application.port.out.DomainEventPublisher;
+import com.versebank.accounts.application.port.out.NotificationPort;
+import com.versebank.accounts.domain.Account;
+import com.versebank.accounts.domain.AccountId;
+import com.versebank.accounts.domain.events.DomainEvent;
+import com.versebank.accounts.domain.events.MoneyDepositedEvent;
+import com.versebank.accounts.domain.valueobjects.Balance;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.versebank.accounts.domain.valueobjects.AccountType.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for SingleFlightAccountQueryPort
+ */
+@DisplayName("SingleFlightAccountQueryPort Tests")
+class SingleFlightAccountQueryPortTest {
+
+    private static final AccountSummary ACCOUNT = new AccountSummary("acc-001", "customer-1", "SAVINGS", BigDecimal.TEN);
+
+    private final AccountQueryPort delegate = mock(AccountQueryPort.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong nanos = new AtomicLong();
+
+    @Test
+    @DisplayName("Should share one in-flight load among concurrent lookups of the same account")
+    void shouldCoalesceConcurrentLookups() throws Exception {
+        // Given: la primera lectura se queda bloqueada hasta que todos los demás hilos esperan
+        SingleFlightAccountQueryPort port = port(Duration.ZERO);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.findByAccountId("acc-001")).thenAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return Optional.of(ACCOUNT);
+        });
+        ExecutorService callers = Executors.newFixedThreadPool(16);
+        List<Future<Optional<AccountSummary>>> results = new ArrayList<>();
+
+        // When
+        try {
+            for (int i = 0; i < 16; i++) {
+                results.add(callers.submit(() -> port.findByAccountId("acc-001")));
+            }
+            await().atMost(Duration.ofSeconds(10)).until(() -> count("coalesced", "account") == 15);
+            release.countDown();
+            for (Future<Optional<AccountSummary>> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS)).contains(ACCOUNT);
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+
+        // Then
+        verify(delegate, times(1)).findByAccountId("acc-001");
+        assertThat(count("executed", "account")).isEqualTo(1);
+
+        // When: ya terminada y sin ventana, la siguiente lectura vuelve a la base de datos
+        port.findByAccountId("acc-001");
+
+        // Then
+        verify(delegate, times(2)).findByAccountId("acc-001");
+    }
+
+    @Test
+    @DisplayName("Should reuse a completed load within the window and forget it after a money movement")
+    void shouldReuseWithinWindowUntilMovement() {
+        // Given
+        SingleFlightAccountQueryPort port = port(Duration.ofMillis(50));
+        when(delegate.findVersionByAccountId("acc-001")).thenReturn(Optional.of(3L)).thenReturn(Optional.of(4L)).thenReturn(Optional.of(5L));
+
+        // When
+        Optional<Long> first = port.findVersionByAccountId("acc-001");
+        nanos.addAndGet(Duration.ofMillis(40).toNanos());
+        Optional<Long> withinWindow = port.findVersionByAccountId("acc-001");
+        nanos.addAndGet(Duration.ofMillis(20).toNanos());
+        Optional<Long> afterWindow = port.findVersionByAccountId("acc-001");
+        port.onDomainEvent(new MoneyDepositedEvent(AccountId.of("acc-001"), Balance.of(BigDecimal.ONE), Balance.of(BigDecimal.TEN)));
+        Optional<Long> afterMovement = port.findVersionByAccountId("acc-001");
+
+        // Then
+        assertThat(first).contains(3L);
+        assertThat(withinWindow).contains(3L);
+        assertThat(afterWindow).contains(4L);
+        assertThat(afterMovement).contains(5L);
+        assertThat(count("executed", "version")).isEqualTo(3);
+        assertThat(count("coalesced", "version")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should drop a cached balance only after the transfer that changed it commits")
+    void shouldInvalidateAfterTransferCommits() {
+        // Given: saldos confirmados en una base de datos simulada, con ventana para reutilizar lecturas
+        Map<String, BigDecimal> committed = new HashMap<>(Map.of("acc-001", BigDecimal.valueOf(1000), "acc-002", BigDecimal.valueOf(500)));
+        Map<String, BigDecimal> uncommitted = new HashMap<>();
+        when(delegate.findByAccountId(anyString())).thenAnswer(invocation -> {
+            String accountId = invocation.getArgument(0);
+            return Optional.of(new AccountSummary(accountId, "customer-1", "SAVINGS", committed.get(accountId)));
+        });
+        SingleFlightAccountQueryPort port = port(Duration.ofMinutes(1));
+        AccountRepository repository = mock(AccountRepository.class);
+        when(repository.findById(anyString())).thenAnswer(invocation -> {
+            String accountId = invocation.getArgument(0);
+            return Optional.of(new Account(AccountId.of(accountId), "customer-1", SAVINGS, Balance.of(committed.get(accountId))));
+        });
+        when(repository.save(any(Account.class))).thenAnswer(invocation -> {
+            Account account = invocation.getArgument(0);
+            uncommitted.put(account.getId().getValue(), account.getBalance().getAmount());
+            return account;
+        });
+        // Una lectura concurrente llega justo antes de confirmar y vuelve a guardar el saldo que ve
+        TransactionOperations transactions = new TransactionOperations() {
+            @Override
+            public <T> T execute(TransactionCallback<T> action) {
+                T result = action.doInTransaction(null);
+                port.findByAccountId("acc-001");
+                committed.putAll(uncommitted);
+                return result;
+            }
+        };
+        DomainEventPublisher publisher = new DomainEventPublisher() {
+            @Override
+            public void publish(DomainEvent event) {
+                port.onDomainEvent(event);
+            }
+
+            @Override
+            public int publishPending(Account account) {
+                return account.drainEvents(port::onDomainEvent);
+            }
+        };
+        TransferMoneyService service = new TransferMoneyService(repository, mock(NotificationPort.class), publisher, transactions);
+        assertThat(port.findByAccountId("acc-001")).map(AccountSummary::getBalance).contains(BigDecimal.valueOf(1000));
+
+        // When
+        service.transferMoney("acc-001", "acc-002", BigDecimal.valueOf(100), "Rent");
+
+        // Then
+        assertThat(port.findByAccountId("acc-001").orElseThrow().getBalance()).isEqualByComparingTo(committed.get("acc-001"))
+            .isLessThan(BigDecimal.valueOf(1000));
+    }
+
+    @Test
+    @DisplayName("Should defer the invalidation of a movement published inside a transaction until it completes")
+    void shouldDeferInvalidationInsideTransaction() {
+        // Given
+        SingleFlightAccountQueryPort port = port(Duration.ofMinutes(1));
+        when(delegate.findVersionByAccountId("acc-001")).thenReturn(Optional.of(3L)).thenReturn(Optional.of(4L));
+        port.findVersionByAccountId("acc-001");
+
+        // When
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            port.onDomainEvent(new MoneyDepositedEvent(AccountId.of("acc-001"), Balance.of(BigDecimal.ONE), Balance.of(BigDecimal.TEN)));
+
+            // Then: hasta que termina la transacción se sigue sirviendo lo agrupado
+            assertThat(port.findVersionByAccountId("acc-001")).contains(3L);
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(port.findVersionByAccountId("acc-001")).contains(4L);
+    }
+
+    @Test
+    @DisplayName("Should not keep failed loads")
+    void shouldNotCacheFailures() {
+        // Given
+        SingleFlightAccountQueryPort port = port(Duration.ofMinutes(1));
+        when(delegate.findByAccountId("acc-001"))
+            .thenThrow(new IllegalStateException("database unavailable"))
+            .thenReturn(Optional.of(ACCOUNT));
+
+        // When / Then
+        assertThatThrownBy(() -> port.findByAccountId("acc-001")).hasMessage("database unavailable");
+        assertThat(port.findByAccountId("acc-001")).contains(ACCOUNT);
+        assertThat(port.findByAccountId("acc-001")).contains(ACCOUNT);
+        verify(delegate, times(2)).findByAccountId("acc-001");
+    }
+
+    private SingleFlightAccountQueryPort port(Duration window) {
+        return new SingleFlightAccountQueryPort(delegate, window, meterRegistry, nanos::get);
+    }
+
+    private double count(String name, String operation) {
+        return meterRegistry.get("versebank.accounts.query." + name).tag("operation", operation).counter().count();
+    }
+}
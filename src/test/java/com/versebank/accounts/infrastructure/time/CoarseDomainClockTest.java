@@ -0,0 +1,121 @@
+package com.versebank.accounts.infrastructure.time;
+
+import com.versebank.accounts.domain.events.DomainEvent;
+import com.versebank.accounts.domain.support.DomainClocks;
+import com.versebank.accounts.domain.support.ManualDomainClock;
+import com.versebank.accounts.domain.support.SystemDomainClock;
+import com.versebank.accounts.domain.valueobjects.Transaction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Test suite for CoarseDomainClock and the domain clock wiring
+ */
+@DisplayName("CoarseDomainClock Tests")
+class CoarseDomainClockTest {
+
+    @AfterEach
+    void tearDown() {
+        DomainClocks.use(new SystemDomainClock());
+    }
+
+    @Test
+    void shouldServeCachedTimeUntilRefreshed() {
+        // Given
+        MutableClock source = new MutableClock(Instant.parse("2024-01-15T10:30:00Z"));
+
+        try (CoarseDomainClock clock = new CoarseDomainClock(source, Duration.ofHours(1))) {
+            LocalDateTime first = clock.now();
+
+            // When
+            source.instant = source.instant.plusMillis(5);
+            LocalDateTime beforeTick = clock.now();
+            clock.refresh();
+
+            // Then
+            assertThat(beforeTick).isSameAs(first);
+            assertThat(clock.now()).isEqualTo(LocalDateTime.of(2024, 1, 15, 10, 30, 0, 5_000_000));
+            assertThat(clock.currentTimeMillis()).isEqualTo(source.instant.toEpochMilli());
+        }
+    }
+
+    @Test
+    void shouldAdvanceWithTickerThread() throws InterruptedException {
+        try (CoarseDomainClock clock = new CoarseDomainClock(Duration.ofMillis(1))) {
+            long start = clock.currentTimeMillis();
+
+            Thread.sleep(50);
+
+            assertThat(clock.currentTimeMillis()).isGreaterThan(start);
+        }
+    }
+
+    @Test
+    void shouldRestoreSystemClockWhenClosed() {
+        // Given
+        CoarseDomainClock clock = new CoarseDomainClock(Duration.ofMillis(1));
+        DomainClocks.use(clock);
+
+        // When
+        clock.close();
+
+        // Then
+        assertThat(DomainClocks.current()).isInstanceOf(SystemDomainClock.class);
+    }
+
+    @Test
+    void shouldRejectNonPositiveTick() {
+        assertThatThrownBy(() -> new CoarseDomainClock(Duration.ZERO))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldStampTransactionsAndEventsWithInstalledClock() {
+        // Given
+        LocalDateTime fixed = LocalDateTime.of(2024, 3, 1, 9, 0);
+        ManualDomainClock manualClock = new ManualDomainClock(fixed);
+        DomainClocks.use(manualClock);
+
+        // When
+        Transaction transaction = Transaction.create(BigDecimal.TEN, "Deposit", Transaction.TransactionType.DEPOSIT);
+        manualClock.advance(Duration.ofMinutes(1));
+        DomainEvent event = new DomainEvent("TestEvent") {};
+
+        // Then
+        assertThat(transaction.getTimestamp()).isEqualTo(fixed);
+        assertThat(event.getOccurredAt()).isEqualTo(fixed.plusMinutes(1));
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -1,14 +1,18 @@
 package com.versebank.accounts.infrastructure.web;
 
 import com.versebank.accounts.application.port.in.TransferMoneyUseCase;
+import com.versebank.accounts.application.port.in.AccountBatch;
 import com.versebank.accounts.application.port.in.AccountQueryPort;
 import com.versebank.accounts.application.port.in.AccountSummary;
+import com.versebank.accounts.application.port.in.OperationResult;
 import com.versebank.accounts.domain.Account;
 import com.versebank.accounts.domain.AccountId;
 import com.versebank.accounts.domain.valueobjects.AccountType;
 import com.versebank.accounts.domain.valueobjects.Balance;
-import com.versebank.accounts.domain.exceptions.InsufficientFundsException;
+import com.versebank.accounts.infrastructure.web.dto.AccountBatchRequest;
+import com.versebank.accounts.infrastructure.web.dto.AccountBatchResponse;
 import com.versebank.accounts.infrastructure.web.dto.AccountResponse;
+import com.versebank.accounts.infrastructure.web.dto.ErrorResponse;
 import com.versebank.accounts.infrastructure.web.dto.TransferRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,10 +21,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -61,9 +69,11 @@ class AccountControllerTest {
             BigDecimal.valueOf(200),
             "Payment for services"
         );
+        when(transferMoneyUseCase.transferMoney(anyString(), anyString(), any(BigDecimal.class), anyString()))
+            .thenReturn(OperationResult.success());
         
         // When
-        ResponseEntity<String> response = accountController.transferMoney(request);
+        ResponseEntity<?> response = accountController.transferMoney(request);
         
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -71,8 +81,8 @@ class AccountControllerTest {
     }
     
     @Test
-    @DisplayName("Should return bad request when insufficient funds")
-    void shouldReturnBadRequestWhenInsufficientFunds() throws InsufficientFundsException {
+    @DisplayName("Should return unprocessable entity when insufficient funds")
+    void shouldReturnUnprocessableEntityWhenInsufficientFunds() {
         // Given
         TransferRequest request = new TransferRequest(
             "source-account-123",
@@ -81,20 +91,64 @@ class AccountControllerTest {
             "Large transfer"
         );
         
-        doThrow(new InsufficientFundsException("Insufficient funds in account"))
-            .when(transferMoneyUseCase).transferMoney(anyString(), anyString(), any(BigDecimal.class), anyString());
+        when(transferMoneyUseCase.transferMoney(anyString(), anyString(), any(BigDecimal.class), anyString()))
+            .thenReturn(OperationResult.insufficientFunds("Insufficient funds in account"));
         
         // When
-        ResponseEntity<String> response = accountController.transferMoney(request);
+        ResponseEntity<?> response = accountController.transferMoney(request);
+        
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+        assertError(response, "INSUFFICIENT_FUNDS", "Insufficient funds in account");
+    }
+    
+    @Test
+    @DisplayName("Should return bad request for a transfer to the same account")
+    void shouldReturnBadRequestForSelfTransfer() {
+        // Given
+        TransferRequest request = new TransferRequest(
+            "source-account-123",
+            "source-account-123",
+            BigDecimal.valueOf(100),
+            "To myself"
+        );
+        
+        when(transferMoneyUseCase.transferMoney(anyString(), anyString(), any(BigDecimal.class), anyString()))
+            .thenReturn(OperationResult.invalidRequest("Source and target accounts must be different"));
+        
+        // When
+        ResponseEntity<?> response = accountController.transferMoney(request);
         
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
-        assertThat(response.getBody()).contains("Insufficient funds");
+        assertError(response, "INVALID_REQUEST", "Source and target accounts must be different");
+    }
+    
+    @Test
+    @DisplayName("Should return not found when an account of the transfer does not exist")
+    void shouldReturnNotFoundWhenTransferAccountDoesNotExist() {
+        // Given
+        TransferRequest request = new TransferRequest(
+            "source-account-123",
+            "missing",
+            BigDecimal.valueOf(200),
+            "Transfer"
+        );
+        
+        when(transferMoneyUseCase.transferMoney(anyString(), anyString(), any(BigDecimal.class), anyString()))
+            .thenReturn(OperationResult.accountNotFound("Target account not found: missing"));
+        
+        // When
+        ResponseEntity<?> response = accountController.transferMoney(request);
+        
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertError(response, "ACCOUNT_NOT_FOUND", "Target account not found: missing");
     }
     
     @Test
     @DisplayName("Should return bad request when invalid request")
-    void shouldReturnBadRequestWhenInvalidRequest() throws InsufficientFundsException {
+    void shouldReturnBadRequestWhenInvalidRequest() {
         // Given
         TransferRequest request = new TransferRequest(
             "source-account-123",
@@ -107,11 +161,26 @@ class AccountControllerTest {
             .when(transferMoneyUseCase).transferMoney(anyString(), anyString(), any(BigDecimal.class), anyString());
         
         // When
-        ResponseEntity<String> response = accountController.transferMoney(request);
+        ResponseEntity<?> response = accountController.transferMoney(request);
         
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
-        assertThat(response.getBody()).contains("Invalid request");
+        assertError(response, "INVALID_REQUEST", "Invalid account ID");
+    }
+    
+    @Test
+    @DisplayName("Should return conflict when the account was modified concurrently")
+    void shouldReturnConflictOnConcurrentModification() {
+        // Given
+        doThrow(new OptimisticLockingFailureException("stale"))
+            .when(transferMoneyUseCase).depositMoney(anyString(), any(BigDecimal.class), anyString());
+        
+        // When
+        ResponseEntity<?> response = accountController.depositMoney("account-123", BigDecimal.TEN, "Deposit");
+        
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertError(response, "CONCURRENT_MODIFICATION", "stale");
     }
     
     @Test
@@ -120,9 +189,10 @@ class AccountControllerTest {
         String accountId = "account-123";
         BigDecimal amount = BigDecimal.valueOf(500);
         String description = "Cash deposit";
+        when(transferMoneyUseCase.depositMoney(accountId, amount, description)).thenReturn(OperationResult.success());
         
         // When
-        ResponseEntity<String> response = accountController.depositMoney(accountId, amount, description);
+        ResponseEntity<?> response = accountController.depositMoney(accountId, amount, description);
         
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -130,32 +200,33 @@ class AccountControllerTest {
     }
     
     @Test
-    void shouldReturnBadRequestWhenDepositFails() {
+    void shouldReturnNotFoundWhenDepositAccountDoesNotExist() {
         // Given
         String accountId = "non-existent-account";
         BigDecimal amount = BigDecimal.valueOf(100);
         String description = "Deposit";
         
-        doThrow(new IllegalArgumentException("Account not found"))
-            .when(transferMoneyUseCase).depositMoney(anyString(), any(BigDecimal.class), anyString());
+        when(transferMoneyUseCase.depositMoney(anyString(), any(BigDecimal.class), anyString()))
+            .thenReturn(OperationResult.accountNotFound("Account not found: non-existent-account"));
         
         // When
-        ResponseEntity<String> response = accountController.depositMoney(accountId, amount, description);
+        ResponseEntity<?> response = accountController.depositMoney(accountId, amount, description);
         
         // Then
-        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
-        assertThat(response.getBody()).contains("Invalid request");
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertError(response, "ACCOUNT_NOT_FOUND", "Account not found: non-existent-account");
     }
     
     @Test
-    void shouldWithdrawMoneySuccessfully() throws InsufficientFundsException {
+    void shouldWithdrawMoneySuccessfully() {
         // Given
         String accountId = "account-123";
         BigDecimal amount = BigDecimal.valueOf(200);
         String description = "ATM withdrawal";
+        when(transferMoneyUseCase.withdrawMoney(accountId, amount, description)).thenReturn(OperationResult.success());
         
         // When
-        ResponseEntity<String> response = accountController.withdrawMoney(accountId, amount, description);
+        ResponseEntity<?> response = accountController.withdrawMoney(accountId, amount, description);
         
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -163,39 +234,39 @@ class AccountControllerTest {
     }
     
     @Test
-    void shouldReturnBadRequestWhenWithdrawalInsufficientFunds() throws InsufficientFundsException {
+    void shouldReturnUnprocessableEntityWhenWithdrawalInsufficientFunds() {
         // Given
         String accountId = "account-123";
         BigDecimal amount = BigDecimal.valueOf(2000);
         String description = "Large withdrawal";
         
-        doThrow(new InsufficientFundsException("Insufficient funds"))
-            .when(transferMoneyUseCase).withdrawMoney(anyString(), any(BigDecimal.class), anyString());
+        when(transferMoneyUseCase.withdrawMoney(anyString(), any(BigDecimal.class), anyString()))
+            .thenReturn(OperationResult.insufficientFunds("Insufficient funds"));
         
         // When
-        ResponseEntity<String> response = accountController.withdrawMoney(accountId, amount, description);
+        ResponseEntity<?> response = accountController.withdrawMoney(accountId, amount, description);
         
         // Then
-        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
-        assertThat(response.getBody()).contains("Insufficient funds");
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+        assertError(response, "INSUFFICIENT_FUNDS", "Insufficient funds");
     }
     
     @Test
-    void shouldReturnBadRequestWhenWithdrawalFails() throws InsufficientFundsException {
+    void shouldReturnBadRequestWhenWithdrawalFails() {
         // Given
-        String accountId = "non-existent-account";
-        BigDecimal amount = BigDecimal.valueOf(100);
+        String accountId = "account-123";
+        BigDecimal amount = BigDecimal.valueOf(-100);
         String description = "Withdrawal";
         
-        doThrow(new IllegalArgumentException("Account not found"))
+        doThrow(new IllegalArgumentException("Amount must be positive"))
             .when(transferMoneyUseCase).withdrawMoney(anyString(), any(BigDecimal.class), anyString());
         
         // When
-        ResponseEntity<String> response = accountController.withdrawMoney(accountId, amount, description);
+        ResponseEntity<?> response = accountController.withdrawMoney(accountId, amount, description);
         
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
-        assertThat(response.getBody()).contains("Invalid request");
+        assertError(response, "INVALID_REQUEST", "Amount must be positive");
     }
     
     @Test
@@ -207,7 +278,7 @@ class AccountControllerTest {
         when(accountQueryPort.findByAccountId(accountId)).thenReturn(Optional.of(accountSummary));
         
         // When
-        ResponseEntity<AccountResponse> response = accountController.getAccount(accountId);
+        ResponseEntity<AccountResponse> response = accountController.getAccount(accountId, null);
         
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -228,7 +299,7 @@ class AccountControllerTest {
         when(accountQueryPort.findByAccountId(accountId)).thenReturn(Optional.empty());
         
         // When
-        ResponseEntity<AccountResponse> response = accountController.getAccount(accountId);
+        ResponseEntity<AccountResponse> response = accountController.getAccount(accountId, null);
         
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
@@ -244,7 +315,7 @@ class AccountControllerTest {
         when(accountQueryPort.findByAccountId(accountId)).thenReturn(Optional.of(accountSummary));
         
         // When
-        ResponseEntity<BigDecimal> response = accountController.getBalance(accountId);
+        ResponseEntity<BigDecimal> response = accountController.getBalance(accountId, null);
         
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -259,7 +330,7 @@ class AccountControllerTest {
         when(accountQueryPort.findByAccountId(accountId)).thenReturn(Optional.empty());
         
         // When
-        ResponseEntity<BigDecimal> response = accountController.getBalance(accountId);
+        ResponseEntity<BigDecimal> response = accountController.getBalance(accountId, null);
         
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
@@ -297,4 +368,108 @@ class AccountControllerTest {
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isFalse();
     }
+
+    @Test
+    @DisplayName("Should return several accounts in the requested order and report missing ids")
+    void shouldGetAccountsInRequestedOrder() {
+        // Given
+        when(accountQueryPort.findByAccountIds(List.of("acc-2", "acc-404", "acc-1"))).thenReturn(new AccountBatch(
+            List.of(new AccountSummary("acc-2", "customer-1", "SAVINGS", BigDecimal.TEN),
+                    new AccountSummary("acc-1", "customer-1", "CHECKING", BigDecimal.ONE)),
+            List.of("acc-404")));
+
+        // When
+        ResponseEntity<AccountBatchResponse> response = accountController.getAccounts(List.of("acc-2", " acc-404", "acc-1", ""));
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().getAccounts()).extracting(AccountResponse::getId).containsExactly("acc-2", "acc-1");
+        assertThat(response.getBody().getMissing()).containsExactly("acc-404");
+    }
+
+    @Test
+    @DisplayName("Should accept large id sets in the request body and reject oversized ones")
+    void shouldGetAccountsFromRequestBody() {
+        // Given
+        List<String> ids = java.util.stream.IntStream.range(0, AccountController.MAX_BATCH_IDS)
+            .mapToObj(i -> "acc-" + i).toList();
+        when(accountQueryPort.findByAccountIds(ids)).thenReturn(new AccountBatch(List.of(), ids));
+        List<String> tooMany = new java.util.ArrayList<>(ids);
+        tooMany.add("one-more");
+
+        // When
+        ResponseEntity<AccountBatchResponse> response = accountController.getAccounts(new AccountBatchRequest(ids));
+        ResponseEntity<AccountBatchResponse> rejected = accountController.getAccounts(new AccountBatchRequest(tooMany));
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().getMissing()).hasSize(AccountController.MAX_BATCH_IDS);
+        assertThat(rejected.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        verify(accountQueryPort, times(1)).findByAccountIds(anyList());
+    }
+
+    @Test
+    @DisplayName("Should return stored timestamps with a version ETag and revalidation headers")
+    void shouldReturnStoredTimestampsAndEtag() {
+        // Given
+        LocalDateTime created = LocalDateTime.of(2023, 5, 1, 9, 0);
+        LocalDateTime updated = LocalDateTime.of(2024, 1, 10, 18, 45);
+        when(accountQueryPort.findByAccountId("acc-1")).thenReturn(Optional.of(
+            new AccountSummary("acc-1", "customer-1", "SAVINGS", BigDecimal.TEN, 7, created, updated)));
+
+        // When
+        ResponseEntity<AccountResponse> response = accountController.getAccount("acc-1", null);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"7\"");
+        assertThat(response.getHeaders().getCacheControl()).isEqualTo("no-cache, private");
+        assertThat(response.getBody().getCreatedAt()).isEqualTo(created);
+        assertThat(response.getBody().getUpdatedAt()).isEqualTo(updated);
+        verify(accountQueryPort, never()).findVersionByAccountId(anyString());
+    }
+
+    @Test
+    @DisplayName("Should answer 304 from the version alone when the ETag still matches")
+    void shouldReturnNotModifiedWhenEtagMatches() {
+        // Given
+        when(accountQueryPort.findVersionByAccountId("acc-1")).thenReturn(Optional.of(7L));
+
+        // When
+        ResponseEntity<AccountResponse> account = accountController.getAccount("acc-1", "\"7\"");
+        ResponseEntity<BigDecimal> balance = accountController.getBalance("acc-1", "\"3\", W/\"7\"");
+
+        // Then
+        assertThat(account.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(account.getBody()).isNull();
+        assertThat(account.getHeaders().getFirst(HttpHeaders.ETAG)).isEqualTo("\"7\"");
+        assertThat(balance.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        verify(accountQueryPort, never()).findByAccountId(anyString());
+    }
+
+    @Test
+    @DisplayName("Should return the full balance when the ETag is stale")
+    void shouldReturnBalanceWhenEtagIsStale() {
+        // Given
+        when(accountQueryPort.findVersionByAccountId("acc-1")).thenReturn(Optional.of(8L));
+        when(accountQueryPort.findByAccountId("acc-1")).thenReturn(Optional.of(
+            new AccountSummary("acc-1", "customer-1", "SAVINGS", BigDecimal.ONE, 8, null, null)));
+
+        // When
+        ResponseEntity<BigDecimal> response = accountController.getBalance("acc-1", "\"7\"");
+        ResponseEntity<BigDecimal> missing = accountController.getBalance("acc-404", "\"7\"");
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(BigDecimal.ONE);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"8\"");
+        assertThat(missing.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    private static void assertError(ResponseEntity<?> response, String code, String message) {
+        assertThat(response.getBody()).isInstanceOfSatisfying(ErrorResponse.class, error -> {
+            assertThat(error.getCode()).isEqualTo(code);
+            assertThat(error.getMessage()).isEqualTo(message);
+        });
+    }
 }
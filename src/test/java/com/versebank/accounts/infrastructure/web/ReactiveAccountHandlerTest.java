@@ -0,0 +1,141 @@
+package com.versebank.accounts.infrastructure.web;
+
+import com.versebank.accounts.application.port.in.AccountBatch;
+import com.versebank.accounts.application.port.in.AccountSummary;
+import com.versebank.accounts.application.port.in.OperationResult;
+import com.versebank.accounts.application.port.in.ReactiveAccountQueryPort;
+import com.versebank.accounts.application.port.in.ReactiveTransferMoneyUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for ReactiveAccountHandler routes
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveAccountHandler Tests")
+class ReactiveAccountHandlerTest {
+
+    @Mock
+    private ReactiveTransferMoneyUseCase transferMoneyUseCase;
+
+    @Mock
+    private ReactiveAccountQueryPort accountQueryPort;
+
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        client = WebTestClient.bindToRouterFunction(new ReactiveAccountHandler(transferMoneyUseCase, accountQueryPort).routes()).build();
+    }
+
+    @Test
+    @DisplayName("Should answer a transfer with the same messages as the MVC controller")
+    void shouldMapTransferOutcomes() {
+        // Given
+        when(transferMoneyUseCase.transferMoney("acc-1", "acc-2", BigDecimal.TEN, "Rent")).thenReturn(Mono.just(OperationResult.success()));
+        when(transferMoneyUseCase.transferMoney("acc-1", "acc-2", BigDecimal.valueOf(5000), "Rent"))
+            .thenReturn(Mono.just(OperationResult.insufficientFunds("not enough")));
+        when(transferMoneyUseCase.transferMoney("acc-1", "acc-3", BigDecimal.TEN, "Rent"))
+            .thenReturn(Mono.error(new OptimisticLockingFailureException("busy")));
+        when(transferMoneyUseCase.transferMoney("acc-1", "missing", BigDecimal.TEN, "Rent"))
+            .thenReturn(Mono.just(OperationResult.accountNotFound("Target account not found: missing")));
+
+        // When / Then
+        transfer("acc-2", 10).expectStatus().isOk().expectBody(String.class).isEqualTo("Transfer completed successfully");
+        transfer("acc-2", 5000).expectStatus().isEqualTo(422).expectBody()
+            .jsonPath("$.code").isEqualTo("INSUFFICIENT_FUNDS")
+            .jsonPath("$.message").isEqualTo("not enough");
+        transfer("acc-3", 10).expectStatus().isEqualTo(409).expectBody()
+            .jsonPath("$.code").isEqualTo("CONCURRENT_MODIFICATION")
+            .jsonPath("$.message").isEqualTo("busy");
+        transfer("missing", 10).expectStatus().isNotFound().expectBody()
+            .jsonPath("$.code").isEqualTo("ACCOUNT_NOT_FOUND")
+            .jsonPath("$.message").isEqualTo("Target account not found: missing");
+    }
+
+    @Test
+    @DisplayName("Should reject a deposit without amount before calling the use case")
+    void shouldRejectMissingParameter() {
+        // When / Then
+        client.post().uri("/api/accounts/acc-1/deposit?description=Cash").exchange()
+            .expectStatus().isBadRequest()
+            .expectBody()
+            .jsonPath("$.code").isEqualTo("INVALID_REQUEST")
+            .jsonPath("$.message").isEqualTo("Required parameter 'amount' is not present");
+        verifyNoInteractions(transferMoneyUseCase);
+    }
+
+    @Test
+    @DisplayName("Should answer 304 from the version alone when the ETag still matches")
+    void shouldAnswerNotModified() {
+        // Given
+        when(accountQueryPort.findVersionByAccountId("acc-1")).thenReturn(Mono.just(4L));
+
+        // When / Then
+        client.get().uri("/api/accounts/acc-1").header(HttpHeaders.IF_NONE_MATCH, "W/\"4\"").exchange()
+            .expectStatus().isNotModified()
+            .expectHeader().valueEquals(HttpHeaders.ETAG, "\"4\"")
+            .expectHeader().valueEquals(HttpHeaders.CACHE_CONTROL, "no-cache, private");
+        verify(accountQueryPort, never()).findByAccountId(any());
+    }
+
+    @Test
+    @DisplayName("Should return the account with its ETag when the client copy is stale")
+    void shouldReturnAccountWithEtag() {
+        // Given
+        when(accountQueryPort.findVersionByAccountId("acc-1")).thenReturn(Mono.just(5L));
+        when(accountQueryPort.findByAccountId("acc-1")).thenReturn(Mono.just(summary("acc-1", 5)));
+        when(accountQueryPort.findByAccountId("missing")).thenReturn(Mono.empty());
+
+        // When / Then
+        client.get().uri("/api/accounts/acc-1/balance").header(HttpHeaders.IF_NONE_MATCH, "\"4\"").exchange()
+            .expectStatus().isOk()
+            .expectHeader().valueEquals(HttpHeaders.ETAG, "\"5\"")
+            .expectBody(BigDecimal.class).isEqualTo(BigDecimal.valueOf(250));
+        client.get().uri("/api/accounts/missing").exchange().expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("Should split comma separated ids and report the missing ones")
+    void shouldServeBatchQueries() {
+        // Given
+        when(accountQueryPort.findByAccountIds(List.of("acc-1", "zzz", "acc-2")))
+            .thenReturn(Mono.just(new AccountBatch(List.of(summary("acc-1", 0)), List.of("zzz", "acc-2"))));
+
+        // When / Then
+        client.get().uri("/api/accounts?ids=acc-1, zzz&ids=acc-2").exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.accounts[0].id").isEqualTo("acc-1")
+            .jsonPath("$.missing.length()").isEqualTo(2);
+    }
+
+    private WebTestClient.ResponseSpec transfer(String targetAccountId, int amount) {
+        return client.post().uri("/api/accounts/transfer")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue("{\"sourceAccountId\":\"acc-1\",\"targetAccountId\":\"" + targetAccountId +
+                "\",\"amount\":" + amount + ",\"description\":\"Rent\"}")
+            .exchange();
+    }
+
+    private static AccountSummary summary(String accountId, long version) {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 15, 10, 0);
+        return new AccountSummary(accountId, "customer-1", "SAVINGS", BigDecimal.valueOf(250), version, createdAt, createdAt);
+    }
+}
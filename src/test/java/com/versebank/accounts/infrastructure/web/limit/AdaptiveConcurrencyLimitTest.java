@@ -0,0 +1,103 @@
+package com.versebank.accounts.infrastructure.web.limit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Test suite for AdaptiveConcurrencyLimit
+ */
+@DisplayName("AdaptiveConcurrencyLimit Tests")
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    @DisplayName("Should reject acquisitions beyond the current limit")
+    void shouldRejectBeyondLimit() {
+        // Given
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 10, 1.5, 0.2, 100);
+
+        // When / Then
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.tryAcquire()).isFalse();
+        assertThat(limit.saturated()).isTrue();
+        limit.release(FAST, false);
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.inFlight()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should grow under demand while latency is stable and shrink when it rises")
+    void shouldFollowLatency() {
+        // Given
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 5, 200, 1.5, 0.2, 100);
+
+        // When: demanda alta con latencia estable
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(FAST, limit.limit());
+        }
+        int grown = limit.limit();
+
+        // When: la base de datos se vuelve lenta
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(SLOW, limit.limit());
+        }
+        int shrunk = limit.limit();
+
+        // Then
+        assertThat(grown).isGreaterThan(20);
+        assertThat(shrunk).isLessThan(grown / 2).isGreaterThanOrEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should not grow when the limit is not being used")
+    void shouldNotGrowWithoutDemand() {
+        // Given
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 5, 200, 1.5, 0.2, 100);
+
+        // When
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(FAST, 3);
+        }
+
+        // Then
+        assertThat(limit.limit()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("Should recover once latency returns to normal after a slow period")
+    void shouldRecoverAfterSlowPeriod() {
+        // Given: el límite se ha reducido durante un episodio lento
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 5, 200, 1.5, 0.2, 100);
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(FAST, limit.limit());
+        }
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(SLOW, limit.limit());
+        }
+        int afterSlow = limit.limit();
+
+        // When
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(FAST, limit.limit());
+        }
+
+        // Then
+        assertThat(limit.limit()).isGreaterThan(afterSlow * 2);
+    }
+
+    @Test
+    @DisplayName("Should reject inconsistent bounds")
+    void shouldRejectInvalidBounds() {
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimit(1, 5, 10, 1.5, 0.2, 100))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimit(5, 5, 10, 0.5, 0.2, 100))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
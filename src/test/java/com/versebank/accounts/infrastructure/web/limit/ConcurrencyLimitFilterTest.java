@@ -0,0 +1,129 @@
+package com.versebank.accounts.infrastructure.web.limit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Test suite for ConcurrencyLimitFilter
+ */
+@DisplayName("ConcurrencyLimitFilter Tests")
+class ConcurrencyLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AdaptiveConcurrencyLimit reads = new AdaptiveConcurrencyLimit(1, 1, 10, 1.5, 0.2, 100);
+    private final AdaptiveConcurrencyLimit writes = new AdaptiveConcurrencyLimit(1, 1, 10, 1.5, 0.2, 100);
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(reads, writes, Duration.ofSeconds(2), meterRegistry);
+
+    @Test
+    @DisplayName("Should shed excess reads with 503 and Retry-After while money movements keep their own limit")
+    void shouldShedExcessReads() throws Exception {
+        // Given: una lectura ocupa la única plaza de lectura
+        assertThat(reads.tryAcquire()).isTrue();
+
+        // When
+        MockHttpServletResponse read = perform("GET", "/api/accounts/acc-001");
+        MockHttpServletResponse transfer = perform("POST", "/api/accounts/transfer");
+
+        // Then
+        assertThat(read.getStatus()).isEqualTo(503);
+        assertThat(read.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(transfer.getStatus()).isEqualTo(200);
+        assertThat(count("rejected", "read")).isEqualTo(1);
+        assertThat(count("admitted", "write")).isEqualTo(1);
+        assertThat(writes.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject reads while money movements are saturated")
+    void shouldPrioritizeMoneyMovements() throws Exception {
+        // Given
+        assertThat(writes.tryAcquire()).isTrue();
+
+        // When
+        MockHttpServletResponse read = perform("GET", "/api/users/user-001/accounts");
+        MockHttpServletResponse deposit = perform("POST", "/api/accounts/acc-001/deposit");
+
+        // Then
+        assertThat(read.getStatus()).isEqualTo(503);
+        assertThat(deposit.getStatus()).isEqualTo(503);
+        assertThat(count("rejected", "read")).isEqualTo(1);
+        assertThat(count("rejected", "write")).isEqualTo(1);
+        assertThat(reads.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should release the slot when the request fails and leave event streams unlimited")
+    void shouldReleaseOnFailureAndSkipEventStreams() throws Exception {
+        // Given
+        FilterChain failing = (request, response) -> {
+            throw new IllegalStateException("boom");
+        };
+        assertThat(reads.tryAcquire()).isTrue();
+
+        // When
+        MockHttpServletResponse stream = perform("GET", "/api/accounts/acc-001/events");
+        reads.release(1, false);
+        assertThatThrownBy(() -> filter.doFilter(request("GET", "/api/accounts/acc-001"), new MockHttpServletResponse(), failing))
+            .hasMessage("boom");
+
+        // Then
+        assertThat(stream.getStatus()).isEqualTo(200);
+        assertThat(reads.inFlight()).isZero();
+        assertThat(meterRegistry.get("versebank.web.concurrency.limit").tag("traffic", "read").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should classify only transfers, deposits and withdrawals as money movements")
+    void shouldClassifyMoneyMovements() {
+        assertThat(ConcurrencyLimitFilter.isMoneyMovement(request("POST", "/api/accounts/transfer"))).isTrue();
+        assertThat(ConcurrencyLimitFilter.isMoneyMovement(request("POST", "/api/accounts/acc-1/withdraw"))).isTrue();
+        assertThat(ConcurrencyLimitFilter.isMoneyMovement(request("POST", "/api/accounts/batch"))).isFalse();
+        assertThat(ConcurrencyLimitFilter.isMoneyMovement(request("GET", "/api/accounts/transfer"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should keep the slot of a streaming response until the async request completes")
+    void shouldReleaseStreamingResponseOnAsyncCompletion() throws Exception {
+        // Given
+        MockHttpServletRequest request = request("GET", "/api/users/user-001/accounts");
+        request.setAsyncSupported(true);
+        FilterChain streaming = (req, res) -> req.startAsync();
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), streaming);
+
+        // Then: la cadena ha vuelto pero la respuesta sigue escribiéndose
+        assertThat(reads.inFlight()).isEqualTo(1);
+
+        // When
+        ((MockAsyncContext) request.getAsyncContext()).complete();
+
+        // Then
+        assertThat(reads.inFlight()).isZero();
+    }
+
+    private MockHttpServletResponse perform(String method, String uri) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(method, uri), response, new MockFilterChain());
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String method, String uri) {
+        return new MockHttpServletRequest(method, uri);
+    }
+
+    private double count(String name, String traffic) {
+        return meterRegistry.get("versebank.web.concurrency." + name).tag("traffic", traffic).counter().count();
+    }
+}
@@ -0,0 +1,178 @@
+package com.versebank.accounts.infrastructure.web.stream;
+
+import com.versebank.accounts.domain.AccountId;
+import com.versebank.accounts.domain.events.MoneyDepositedEvent;
+import com.versebank.accounts.domain.events.MoneyWithdrawnEvent;
+import com.versebank.accounts.domain.valueobjects.Balance;
+import com.versebank.accounts.infrastructure.web.dto.AccountStreamEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Test suite for AccountEventStreamHub
+ */
+@DisplayName("AccountEventStreamHub Tests")
+class AccountEventStreamHubTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AccountEventStreamHub hub;
+
+    @AfterEach
+    void tearDown() {
+        hub.close();
+    }
+
+    @Test
+    void shouldStreamInitialSnapshotAndAccountMovements() {
+        // Given
+        hub = new AccountEventStreamHub(10, 16, 60_000, 0, 1, meterRegistry);
+        CapturingEmitter emitter = new CapturingEmitter(null);
+        hub.subscribe("acc-1", emitter, snapshot("acc-1", 100));
+
+        // When
+        hub.onDomainEvent(deposit("acc-1", 10, 110));
+        hub.onDomainEvent(deposit("acc-2", 10, 510));
+        hub.onDomainEvent(withdrawal("acc-1", 5, 105));
+
+        // Then
+        await().atMost(5, TimeUnit.SECONDS).until(() -> emitter.messages.size() == 3);
+        assertThat(emitter.messages).extracting(AccountStreamEvent::getType)
+            .containsExactly("BalanceSnapshot", "MoneyDeposited", "MoneyWithdrawn");
+        assertThat(emitter.messages).extracting(AccountStreamEvent::getBalance)
+            .containsExactly(BigDecimal.valueOf(100), BigDecimal.valueOf(110), BigDecimal.valueOf(105));
+    }
+
+    @Test
+    void shouldCoalesceToLatestBalanceForSlowConsumer() throws InterruptedException {
+        // Given: el envío del saldo inicial queda bloqueado y el buffer admite 2 mensajes
+        hub = new AccountEventStreamHub(10, 2, 60_000, 0, 1, meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        CapturingEmitter emitter = new CapturingEmitter(release);
+        hub.subscribe("acc-1", emitter, snapshot("acc-1", 100));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> emitter.sending);
+
+        // When
+        for (int i = 1; i <= 5; i++) {
+            hub.onDomainEvent(deposit("acc-1", 1, 100 + i));
+        }
+        release.countDown();
+
+        // Then: los 5 depósitos quedan en un único snapshot con el último saldo
+        await().atMost(5, TimeUnit.SECONDS).until(() -> emitter.messages.size() == 2);
+        AccountStreamEvent coalesced = emitter.messages.get(1);
+        assertThat(coalesced.getType()).isEqualTo(AccountStreamEvent.BALANCE_SNAPSHOT);
+        assertThat(coalesced.getBalance()).isEqualByComparingTo("105");
+        assertThat(coalesced.getCoalesced()).isEqualTo(5);
+        assertThat(meterRegistry.counter("versebank.accounts.stream.coalesced").count()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldCapConcurrentSubscribers() {
+        // Given
+        hub = new AccountEventStreamHub(2, 16, 60_000, 0, 1, meterRegistry);
+
+        // When
+        boolean first = hub.subscribe("acc-1", new CapturingEmitter(null), snapshot("acc-1", 100));
+        boolean second = hub.subscribe("acc-2", new CapturingEmitter(null), snapshot("acc-2", 100));
+        boolean third = hub.subscribe("acc-1", new CapturingEmitter(null), snapshot("acc-1", 100));
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(hub.subscriberCount()).isEqualTo(2);
+        assertThat(meterRegistry.counter("versebank.accounts.stream.rejected").count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReleaseSubscriptionWhenClientIsGone() {
+        // Given
+        hub = new AccountEventStreamHub(1, 16, 60_000, 0, 1, meterRegistry);
+        SseEmitter broken = new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        // When
+        hub.subscribe("acc-1", broken, snapshot("acc-1", 100));
+
+        // Then
+        await().atMost(5, TimeUnit.SECONDS).until(() -> hub.subscriberCount() == 0);
+        assertThat(hub.subscribe("acc-1", new CapturingEmitter(null), snapshot("acc-1", 100))).isTrue();
+    }
+
+    @Test
+    void shouldKeepIdleSubscribersWithoutThreads() {
+        // Given
+        hub = new AccountEventStreamHub(10_000, 16, 60_000, 0, 2, meterRegistry);
+        for (int i = 0; i < 5_000; i++) {
+            hub.subscribe("acc-" + i, new CapturingEmitter(null), snapshot("acc-" + i, 100));
+        }
+
+        // When
+        await().atMost(5, TimeUnit.SECONDS).until(() -> hub.subscriberCount() == 5_000);
+        long streamThreads = Thread.getAllStackTraces().keySet().stream()
+            .filter(thread -> thread.getName().startsWith("account-stream-sender-"))
+            .count();
+
+        // Then
+        assertThat(streamThreads).isLessThanOrEqualTo(2);
+    }
+
+    private static AccountStreamEvent snapshot(String accountId, int balance) {
+        return new AccountStreamEvent(null, AccountStreamEvent.BALANCE_SNAPSHOT, accountId, null, BigDecimal.valueOf(balance), null, 0);
+    }
+
+    private static MoneyDepositedEvent deposit(String accountId, int amount, int newBalance) {
+        return new MoneyDepositedEvent(AccountId.of(accountId), Balance.of(BigDecimal.valueOf(amount)), Balance.of(BigDecimal.valueOf(newBalance)));
+    }
+
+    private static MoneyWithdrawnEvent withdrawal(String accountId, int amount, int newBalance) {
+        return new MoneyWithdrawnEvent(AccountId.of(accountId), Balance.of(BigDecimal.valueOf(amount)), Balance.of(BigDecimal.valueOf(newBalance)));
+    }
+
+    /**
+     * Emisor que guarda los mensajes enviados; opcionalmente bloquea el primer envío hasta que se libere
+     */
+    private static class CapturingEmitter extends SseEmitter {
+        final List<AccountStreamEvent> messages = new CopyOnWriteArrayList<>();
+        private final CountDownLatch release;
+        volatile boolean sending;
+
+        CapturingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sending = true;
+            if (release != null) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            builder.build().stream()
+                .map(part -> part.getData())
+                .filter(AccountStreamEvent.class::isInstance)
+                .map(AccountStreamEvent.class::cast)
+                .forEach(messages::add);
+        }
+    }
+}
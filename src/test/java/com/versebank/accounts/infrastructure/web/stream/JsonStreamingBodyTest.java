@@ -0,0 +1,121 @@
+package com.versebank.accounts.infrastructure.web.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Test suite for JsonStreamingBody
+ */
+@DisplayName("JsonStreamingBody Tests")
+class JsonStreamingBodyTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    record Item(String id, int amount) {}
+
+    @Test
+    @DisplayName("Should write one JSON document per line in NDJSON")
+    void shouldWriteNdjson() throws IOException {
+        // Given
+        JsonStreamingBody<Item> body = new JsonStreamingBody<>(objectMapper, JsonStreamingBody.Format.NDJSON, 100,
+            sink -> List.of(new Item("a", 1), new Item("b", 2)).forEach(sink));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        body.writeTo(out);
+
+        // Then
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("{\"id\":\"a\",\"amount\":1}\n{\"id\":\"b\",\"amount\":2}\n");
+        assertThat(body.mediaType()).isEqualTo(MediaType.APPLICATION_NDJSON);
+    }
+
+    @Test
+    @DisplayName("Should write a regular JSON array, also when the source is empty")
+    void shouldWriteJsonArray() throws IOException {
+        // Given
+        ByteArrayOutputStream full = new ByteArrayOutputStream();
+        ByteArrayOutputStream empty = new ByteArrayOutputStream();
+
+        // When
+        new JsonStreamingBody<Item>(objectMapper, JsonStreamingBody.Format.JSON_ARRAY, 100,
+            sink -> List.of(new Item("a", 1), new Item("b", 2)).forEach(sink)).writeTo(full);
+        new JsonStreamingBody<Item>(objectMapper, JsonStreamingBody.Format.JSON_ARRAY, 100, sink -> {}).writeTo(empty);
+
+        // Then
+        Item[] items = objectMapper.readValue(full.toByteArray(), Item[].class);
+        assertThat(items).containsExactly(new Item("a", 1), new Item("b", 2));
+        assertThat(empty.toString(StandardCharsets.UTF_8)).isEqualTo("[]");
+    }
+
+    @Test
+    @DisplayName("Should flush to the client every N elements while the source is still producing")
+    void shouldFlushIncrementally() throws IOException {
+        // Given: registra cuántos bytes han llegado al cliente cada vez que la fuente entrega un elemento
+        FlushRecordingStream out = new FlushRecordingStream();
+        List<Integer> receivedBeforeElement = new ArrayList<>();
+        JsonStreamingBody<Item> body = new JsonStreamingBody<>(objectMapper, JsonStreamingBody.Format.NDJSON, 10,
+            sink -> IntStream.range(0, 25).forEach(i -> {
+                receivedBeforeElement.add(out.flushedLines());
+                sink.accept(new Item("id-" + i, i));
+            }));
+
+        // When
+        body.writeTo(out);
+
+        // Then
+        assertThat(out.flushes).isEqualTo(3);
+        assertThat(receivedBeforeElement.get(10)).isEqualTo(10);
+        assertThat(receivedBeforeElement.get(20)).isEqualTo(20);
+        assertThat(out.flushedLines()).isEqualTo(25);
+        assertThat(out.closed).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should negotiate NDJSON only when the client asks for it explicitly")
+    void shouldNegotiateFormat() {
+        assertThat(JsonStreamingBody.Format.negotiate("application/x-ndjson")).isEqualTo(JsonStreamingBody.Format.NDJSON);
+        assertThat(JsonStreamingBody.Format.negotiate("application/json, application/x-ndjson;q=0.5"))
+            .isEqualTo(JsonStreamingBody.Format.NDJSON);
+        assertThat(JsonStreamingBody.Format.negotiate("*/*")).isEqualTo(JsonStreamingBody.Format.JSON_ARRAY);
+        assertThat(JsonStreamingBody.Format.negotiate(null)).isEqualTo(JsonStreamingBody.Format.JSON_ARRAY);
+    }
+
+    private static final class FlushRecordingStream extends ByteArrayOutputStream {
+        int flushes;
+        boolean closed;
+        private int flushedSize;
+
+        @Override
+        public void flush() {
+            flushes++;
+            flushedSize = size();
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        int flushedLines() {
+            int lines = 0;
+            byte[] bytes = toByteArray();
+            for (int i = 0; i < flushedSize; i++) {
+                if (bytes[i] == '\n') {
+                    lines++;
+                }
+            }
+            return lines;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.versebank.benchmarks;
+
+import com.versebank.accounts.domain.AccountId;
+import com.versebank.accounts.domain.events.AccountOpenedEvent;
+import com.versebank.accounts.domain.events.DomainEvent;
+import com.versebank.accounts.domain.events.MoneyDepositedEvent;
+import com.versebank.accounts.domain.events.MoneyWithdrawnEvent;
+import com.versebank.accounts.domain.valueobjects.Balance;
+import com.versebank.accounts.infrastructure.events.TypedEventBus;
+import com.versebank.accounts.infrastructure.events.TypedEventBusConfiguration;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coste de publicar los eventos de una operación con el ApplicationEventPublisher de Spring frente al bus tipado.
+ * Ambos entregan a los mismos métodos {@code @EventListener}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventBusBenchmark {
+
+    private AnnotationConfigApplicationContext context;
+    private TypedEventBus bus;
+    private DomainEvent withdrawal;
+    private DomainEvent deposit;
+
+    @Setup
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(Listeners.class);
+        bus = context.getBean(TypedEventBus.class);
+        AccountId accountId = AccountId.of("acc-001");
+        withdrawal = new MoneyWithdrawnEvent(accountId, Balance.of(BigDecimal.TEN), Balance.of(BigDecimal.valueOf(90)));
+        deposit = new MoneyDepositedEvent(accountId, Balance.of(BigDecimal.TEN), Balance.of(BigDecimal.valueOf(110)));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void springApplicationEventPublisher() {
+        context.publishEvent(withdrawal);
+        context.publishEvent(deposit);
+    }
+
+    @Benchmark
+    public void typedEventBus() {
+        bus.publish(withdrawal);
+        bus.publish(deposit);
+    }
+
+    @Configuration
+    public static class Listeners extends TypedEventBusConfiguration {
+
+        @Bean
+        public AccountListeners accountListeners() {
+            return new AccountListeners();
+        }
+    }
+
+    /**
+     * Varios listeners, como en la aplicación, para que Spring tenga que resolver por tipo
+     */
+    public static class AccountListeners {
+        // Escritura volátil para que el JIT no elimine la entrega
+        private volatile Object last;
+
+        @EventListener
+        public void onDeposit(MoneyDepositedEvent event) { last = event; }
+
+        @EventListener
+        public void onWithdrawal(MoneyWithdrawnEvent event) { last = event; }
+
+        @EventListener
+        public void onOpened(AccountOpenedEvent event) { last = event; }
+
+        @EventListener
+        public void onAny(DomainEvent event) { last = event; }
+
+        @EventListener
+        public void onRefresh(ContextRefreshedEvent event) { last = event; }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(EventBusBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,82 @@
+package com.versebank.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.versebank.accounts.domain.AccountId;
+import com.versebank.accounts.domain.events.DomainEvent;
+import com.versebank.accounts.domain.events.MoneyDepositedEvent;
+import com.versebank.accounts.domain.valueobjects.Balance;
+import com.versebank.accounts.infrastructure.events.codec.BinaryDomainEventCodec;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Codificación y decodificación de un evento de movimiento con el códec binario frente a JSON con Jackson.
+ * Jackson decodifica a árbol, porque los eventos no tienen constructor para deserializar: es una cota
+ * inferior de su coste real. El tamaño de cada codificación se imprime en el setup.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class EventCodecBenchmark {
+
+    private BinaryDomainEventCodec codec;
+    private ObjectMapper objectMapper;
+    private DomainEvent event;
+    private ByteBuffer encodeBuffer;
+    private ByteBuffer encoded;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        codec = BinaryDomainEventCodec.standard();
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        event = new MoneyDepositedEvent(AccountId.generate(), Balance.of(new BigDecimal("125.40")), Balance.of(new BigDecimal("10250.75")));
+        encodeBuffer = ByteBuffer.allocate(256);
+        encoded = ByteBuffer.allocate(codec.encodedSize(event));
+        codec.encode(event, encoded);
+        encoded.flip();
+        json = objectMapper.writeValueAsBytes(event);
+        System.out.printf("%nEncoded size: binary=%d bytes, json=%d bytes%n", encoded.remaining(), json.length);
+    }
+
+    @Benchmark
+    public ByteBuffer binaryEncode() {
+        encodeBuffer.clear();
+        codec.encode(event, encodeBuffer);
+        return encodeBuffer;
+    }
+
+    @Benchmark
+    public byte[] jacksonEncode() throws IOException {
+        return objectMapper.writeValueAsBytes(event);
+    }
+
+    @Benchmark
+    public DomainEvent binaryDecode() {
+        encoded.rewind();
+        return codec.decode(encoded);
+    }
+
+    @Benchmark
+    public JsonNode jacksonDecodeTree() throws IOException {
+        return objectMapper.readTree(json);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(EventCodecBenchmark.class.getSimpleName()).build()).run();
+    }
+}
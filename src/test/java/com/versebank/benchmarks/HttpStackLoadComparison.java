@@ -0,0 +1,118 @@
+package com.versebank.benchmarks;
+
+import com.versebank.AccountsApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Carga HTTP sobre la pila bloqueante (Tomcat + JPA) y la reactiva (Netty + R2DBC, perfil {@code reactive}).
+ * Arranca cada una en un puerto libre con su propia base de datos, mantiene {@code concurrency} peticiones en
+ * vuelo (9 lecturas por cada depósito) y muestra rendimiento, latencias e hilos vivos.
+ * No es un test: se ejecuta a mano con {@code main [concurrency] [seconds]}.
+ */
+public class HttpStackLoadComparison {
+
+    private static final String[] ACCOUNT_IDS = {"acc-001", "acc-002", "acc-003"};
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = args.length > 0 ? Integer.parseInt(args[0]) : 256;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).connectTimeout(Duration.ofSeconds(5)).build();
+
+        for (String profile : new String[] {"default", "reactive"}) {
+            try (ConfigurableApplicationContext context = start(profile)) {
+                String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+                run(client, baseUrl, concurrency, 5);   // calentamiento
+                Result result = run(client, baseUrl, concurrency, seconds);
+                System.out.printf("%-9s %8.0f req/s  p50 %6.2f ms  p99 %7.2f ms  errores %d  hilos %d%n",
+                    profile, result.throughput(), result.p50Millis(), result.p99Millis(), result.errors(), result.threads());
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext start(String profile) {
+        String database = "loadcmp-" + profile;
+        return new SpringApplicationBuilder(AccountsApplication.class)
+            .profiles(profile)
+            .initializers(context -> context.getBeanFactory().registerSingleton("testClassesExcludeFilter", new TestClassesExcludeFilter()))
+            // Como argumentos: las propiedades por defecto del builder no prevalecen sobre application.yml
+            .run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:" + database,
+                "--versebank.reactive.r2dbc-url=r2dbc:h2:mem:///" + database,
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                // Se compara la pila, no los mecanismos de protección que solo existen en la bloqueante
+                "--versebank.web.concurrency-limit.enabled=false",
+                "--versebank.accounts.query.coalescing.enabled=false");
+    }
+
+    private static Result run(HttpClient client, String baseUrl, int concurrency, int seconds) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(concurrency);
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger errors = new AtomicInteger();
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        long startedAt = System.nanoTime();
+        int peakThreads = 0;
+
+        for (int i = 0; System.nanoTime() < deadline; i++) {
+            inFlight.acquire();
+            HttpRequest request = request(baseUrl, i);
+            long sentAt = System.nanoTime();
+            CompletableFuture<HttpResponse<Void>> response = client.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+            response.whenComplete((result, failure) -> {
+                latencies.add(System.nanoTime() - sentAt);
+                if (failure != null || result.statusCode() >= 400) {
+                    errors.incrementAndGet();
+                }
+                inFlight.release();
+            });
+            if (i % 1000 == 0) {
+                peakThreads = Math.max(peakThreads, ManagementFactory.getThreadMXBean().getThreadCount());
+            }
+        }
+        inFlight.acquire(concurrency);
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1e9;
+
+        List<Long> sorted;
+        synchronized (latencies) {
+            sorted = new ArrayList<>(latencies);
+        }
+        Collections.sort(sorted);
+        return new Result(sorted.size() / elapsedSeconds, percentile(sorted, 0.50), percentile(sorted, 0.99),
+            errors.get(), peakThreads);
+    }
+
+    private static HttpRequest request(String baseUrl, int i) {
+        String accountId = ACCOUNT_IDS[i % ACCOUNT_IDS.length];
+        if (i % 10 == 9) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + "/api/accounts/" + accountId + "/deposit?amount=1&description=load"))
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+        }
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/accounts/" + accountId)).GET().build();
+    }
+
+    private static double percentile(List<Long> sorted, double quantile) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        return sorted.get((int) Math.min(sorted.size() - 1, Math.round(quantile * sorted.size()))) / 1e6;
+    }
+
+    private record Result(double throughput, double p50Millis, double p99Millis, int errors, int threads) {
+    }
+}
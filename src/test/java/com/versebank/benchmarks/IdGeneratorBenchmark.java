@@ -0,0 +1,90 @@
+package com.versebank.benchmarks;
+
+import com.versebank.accounts.domain.support.TimeOrderedIdGenerator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Coste de generación de identificadores y rendimiento de inserción en una tabla indexada por id.
+ * Ejecutar con: mvn test-compile y lanzar el main desde el IDE o con el classpath de test.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IdGeneratorBenchmark {
+
+    private final TimeOrderedIdGenerator timeOrdered = new TimeOrderedIdGenerator();
+
+    @Benchmark
+    @Threads(4)
+    public String randomUuid() {
+        return UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String timeOrderedId() {
+        return timeOrdered.nextId();
+    }
+
+    /**
+     * Inserta lotes de filas en una tabla H2 con clave primaria textual, como la tabla de cuentas
+     */
+    @State(Scope.Thread)
+    public static class IndexedTable {
+
+        @Param({"random", "time-ordered"})
+        public String strategy;
+
+        private static final int ROWS_PER_BATCH = 1_000;
+
+        private Connection connection;
+        private PreparedStatement insert;
+        private Supplier<String> ids;
+
+        @Setup(Level.Iteration)
+        public void setUp() throws SQLException {
+            connection = DriverManager.getConnection("jdbc:h2:mem:ids-" + System.nanoTime());
+            try (Statement ddl = connection.createStatement()) {
+                ddl.execute("CREATE TABLE ledger (id VARCHAR(36) PRIMARY KEY, amount DECIMAL(19,2))");
+            }
+            insert = connection.prepareStatement("INSERT INTO ledger (id, amount) VALUES (?, 1.00)");
+            TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator();
+            ids = "random".equals(strategy) ? () -> UUID.randomUUID().toString() : generator::nextId;
+        }
+
+        @TearDown(Level.Iteration)
+        public void tearDown() throws SQLException {
+            connection.close();
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(IndexedTable.ROWS_PER_BATCH)
+    public int insertIntoIndexedTable(IndexedTable table) throws SQLException {
+        for (int i = 0; i < IndexedTable.ROWS_PER_BATCH; i++) {
+            table.insert.setString(1, table.ids.get());
+            table.insert.addBatch();
+        }
+        return table.insert.executeBatch().length;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(IdGeneratorBenchmark.class.getSimpleName()).build()).run();
+    }
+}
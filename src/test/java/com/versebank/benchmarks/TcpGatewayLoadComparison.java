@@ -0,0 +1,257 @@
+package com.versebank.benchmarks;
+
+import com.versebank.AccountsApplication;
+import com.versebank.accounts.application.port.out.AccountRepository;
+import com.versebank.accounts.domain.Account;
+import com.versebank.accounts.domain.AccountId;
+import com.versebank.accounts.domain.valueobjects.AccountType;
+import com.versebank.accounts.domain.valueobjects.Balance;
+import com.versebank.accounts.infrastructure.gateway.GatewayFrames;
+import com.versebank.accounts.infrastructure.gateway.TcpCommandGateway;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SocketChannel;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Depósitos por {@code POST /api/accounts/{id}/deposit} frente a las mismas órdenes por el gateway TCP binario,
+ * contra una única instancia con {@code accounts} cuentas y {@code concurrency} peticiones en vuelo en ambos casos.
+ * En TCP se reparten entre {@code connections} conexiones con pipelining.
+ * No es un test: se ejecuta a mano con {@code main [concurrency] [seconds] [connections] [accounts]}.
+ */
+public class TcpGatewayLoadComparison {
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = args.length > 0 ? Integer.parseInt(args[0]) : 256;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        int connections = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+        int accounts = args.length > 3 ? Integer.parseInt(args[3]) : 1000;
+
+        try (ConfigurableApplicationContext context = start()) {
+            AccountRepository accountRepository = context.getBean(AccountRepository.class);
+            for (int i = 0; i < accounts; i++) {
+                accountRepository.save(new Account(AccountId.of(accountId(i)), "load", AccountType.SAVINGS,
+                    Balance.of(BigDecimal.valueOf(1_000_000))));
+            }
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            int gatewayPort = context.getBean(TcpCommandGateway.class).getPort();
+
+            Load rest = new RestLoad(baseUrl, accounts);
+            Load tcp = new TcpLoad(gatewayPort, accounts, connections);
+            for (Load load : List.of(rest, tcp)) {
+                load.run(concurrency, 5);   // calentamiento
+                Result result = load.run(concurrency, seconds);
+                System.out.printf("%-5s %8.0f ops/s  p50 %6.2f ms  p99 %7.2f ms  errores %d%n",
+                    load.name(), result.throughput(), result.p50Millis(), result.p99Millis(), result.errors());
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(AccountsApplication.class)
+            .initializers(context -> context.getBeanFactory().registerSingleton("testClassesExcludeFilter", new TestClassesExcludeFilter()))
+            // Como argumentos: las propiedades por defecto del builder no prevalecen sobre application.yml
+            .run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:tcp-gateway-load",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--versebank.web.concurrency-limit.enabled=false",
+                "--versebank.gateway.tcp.enabled=true",
+                "--versebank.gateway.tcp.host=127.0.0.1",
+                "--versebank.gateway.tcp.port=0");
+    }
+
+    private static String accountId(int i) {
+        return "load-" + i;
+    }
+
+    private interface Load {
+
+        String name();
+
+        Result run(int concurrency, int seconds) throws Exception;
+    }
+
+    private record RestLoad(String baseUrl, int accounts) implements Load {
+
+        private static final HttpClient CLIENT = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).connectTimeout(Duration.ofSeconds(5)).build();
+
+        @Override
+        public String name() {
+            return "REST";
+        }
+
+        @Override
+        public Result run(int concurrency, int seconds) throws InterruptedException {
+            Semaphore inFlight = new Semaphore(concurrency);
+            Recorder recorder = new Recorder();
+            long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+            for (int i = 0; System.nanoTime() < deadline; i++) {
+                inFlight.acquire();
+                URI uri = URI.create(baseUrl + "/api/accounts/" + accountId(i % accounts) + "/deposit?amount=1&description=load");
+                long sentAt = System.nanoTime();
+                CLIENT.sendAsync(HttpRequest.newBuilder(uri).POST(HttpRequest.BodyPublishers.noBody()).build(),
+                        HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        recorder.record(sentAt, failure == null && response.statusCode() < 400);
+                        inFlight.release();
+                    });
+            }
+            inFlight.acquire(concurrency);
+            return recorder.result();
+        }
+    }
+
+    /**
+     * Un hilo escribe y otro lee en cada conexión; las respuestas se emparejan con su envío por identificador
+     */
+    private record TcpLoad(int port, int accounts, int connections) implements Load {
+
+        @Override
+        public String name() {
+            return "TCP";
+        }
+
+        @Override
+        public Result run(int concurrency, int seconds) throws Exception {
+            Recorder recorder = new Recorder();
+            long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+            AtomicLong requestIds = new AtomicLong();
+            AtomicInteger pending = new AtomicInteger();
+            Map<Long, Long> sentAt = new ConcurrentHashMap<>();
+            List<SocketChannel> channels = new ArrayList<>();
+            List<Thread> writers = new ArrayList<>();
+            List<Thread> readers = new ArrayList<>();
+            int window = Math.max(1, concurrency / connections);
+            for (int c = 0; c < connections; c++) {
+                SocketChannel channel = SocketChannel.open(new InetSocketAddress("127.0.0.1", port));
+                channel.socket().setTcpNoDelay(true);
+                channels.add(channel);
+                Semaphore connectionWindow = new Semaphore(window);
+                writers.add(new Thread(() -> write(channel, connectionWindow, sentAt, pending, requestIds, deadline)));
+                readers.add(new Thread(() -> read(channel, connectionWindow, sentAt, pending, recorder)));
+            }
+            writers.forEach(Thread::start);
+            readers.forEach(Thread::start);
+            for (Thread writer : writers) {
+                writer.join();
+            }
+            // Se esperan las respuestas pendientes antes de cerrar, lo que desbloquea a los lectores
+            long drainDeadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (pending.get() > 0 && System.nanoTime() < drainDeadline) {
+                Thread.sleep(10);
+            }
+            for (SocketChannel channel : channels) {
+                channel.close();
+            }
+            for (Thread reader : readers) {
+                reader.join();
+            }
+            return recorder.result();
+        }
+
+        private void write(SocketChannel channel, Semaphore window, Map<Long, Long> sentAt, AtomicInteger pending,
+                           AtomicLong requestIds, long deadline) {
+            ByteBuffer out = ByteBuffer.allocateDirect(64 * 1024);
+            try {
+                while (System.nanoTime() < deadline) {
+                    window.acquire();
+                    // Agrupa en una escritura todas las órdenes que caben en la ventana
+                    do {
+                        long requestId = requestIds.incrementAndGet();
+                        sentAt.put(requestId, System.nanoTime());
+                        pending.incrementAndGet();
+                        GatewayFrames.writeDeposit(out, requestId, accountId((int) (requestId % accounts)), BigDecimal.ONE, "load");
+                    } while (out.remaining() > 1024 && window.tryAcquire());
+                    out.flip();
+                    while (out.hasRemaining()) {
+                        channel.write(out);
+                    }
+                    out.clear();
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void read(SocketChannel channel, Semaphore window, Map<Long, Long> sentAt, AtomicInteger pending,
+                          Recorder recorder) {
+            ByteBuffer in = ByteBuffer.allocateDirect(64 * 1024);
+            try {
+                while (channel.read(in) >= 0) {
+                    in.flip();
+                    while (in.remaining() >= GatewayFrames.LENGTH_SIZE
+                        && in.remaining() >= GatewayFrames.LENGTH_SIZE + in.getInt(in.position())) {
+                        int frameEnd = in.position() + GatewayFrames.LENGTH_SIZE + in.getInt();
+                        int limit = in.limit();
+                        GatewayFrames.Response response = GatewayFrames.readResponse(in.limit(frameEnd));
+                        in.limit(limit).position(frameEnd);
+                        recorder.record(sentAt.remove(response.requestId()), response.isOk());
+                        pending.decrementAndGet();
+                        window.release();
+                    }
+                    in.compact();
+                }
+            } catch (ClosedChannelException e) {
+                // Cerrada tras recibir todas las respuestas
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static final class Recorder {
+
+        private final List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicInteger errors = new AtomicInteger();
+        private final long startedAt = System.nanoTime();
+
+        void record(long sentAt, boolean ok) {
+            latencies.add(System.nanoTime() - sentAt);
+            if (!ok) {
+                errors.incrementAndGet();
+            }
+        }
+
+        Result result() {
+            double elapsedSeconds = (System.nanoTime() - startedAt) / 1e9;
+            List<Long> sorted;
+            synchronized (latencies) {
+                sorted = new ArrayList<>(latencies);
+            }
+            Collections.sort(sorted);
+            return new Result(sorted.size() / elapsedSeconds, percentile(sorted, 0.50), percentile(sorted, 0.99), errors.get());
+        }
+
+        private static double percentile(List<Long> sorted, double quantile) {
+            if (sorted.isEmpty()) {
+                return 0;
+            }
+            return sorted.get((int) Math.min(sorted.size() - 1, Math.round(quantile * sorted.size()))) / 1e6;
+        }
+    }
+
+    private record Result(double throughput, double p50Millis, double p99Millis, int errors) {
+    }
+}
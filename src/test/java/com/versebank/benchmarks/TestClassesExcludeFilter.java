@@ -0,0 +1,29 @@
+package com.versebank.benchmarks;
+
+import org.springframework.boot.context.TypeExcludeFilter;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+
+import java.io.IOException;
+
+/**
+ * Deja fuera del escaneo de componentes las configuraciones de los tests, que también están en el classpath
+ * cuando se arranca la aplicación desde un benchmark
+ */
+final class TestClassesExcludeFilter extends TypeExcludeFilter {
+
+    @Override
+    public boolean match(MetadataReader metadataReader, MetadataReaderFactory metadataReaderFactory) throws IOException {
+        return metadataReader.getResource().getURL().getPath().contains("/test-classes/");
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof TestClassesExcludeFilter;
+    }
+
+    @Override
+    public int hashCode() {
+        return TestClassesExcludeFilter.class.hashCode();
+    }
+}